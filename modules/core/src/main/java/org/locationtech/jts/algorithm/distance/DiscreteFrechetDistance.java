@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.distance;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Computes the discrete Fréchet distance between two {@link Geometry}s,
+ * using the vertices of each geometry in order
+ * (so the geometries are usually {@link org.locationtech.jts.geom.LineString}s,
+ * such as trajectories).
+ * <p>
+ * The discrete Fréchet distance is the minimum, over all monotone
+ * couplings of the vertices of the geometries,
+ * of the maximum distance between coupled vertices.
+ * It is sometimes described as the shortest leash which allows
+ * a person and a dog to walk along the two lines,
+ * moving only forwards from vertex to vertex.
+ * Unlike the Hausdorff distance, it takes account of the order of the vertices,
+ * so it distinguishes lines which are close but which run
+ * in different directions.
+ * Always
+ * <pre>
+ *    DHD(a, b) &lt;= DFD(a, b)
+ * </pre>
+ * <p>
+ * The distance is computed by dynamic programming
+ * in time O(n m) and space O(min(n, m)).
+ * Testing whether the distance is within a given threshold
+ * ({@link #isWithinDistance(double)}) is usually much faster,
+ * since it checks envelope-based lower bounds first,
+ * and only evaluates the part of the coupling grid which
+ * is within the threshold, terminating as soon as no coupling is possible.
+ * <p>
+ * If either geometry is empty the distance is 0.
+ *
+ * @see DiscreteHausdorffDistance
+ */
+public class DiscreteFrechetDistance
+{
+  /**
+   * Computes the discrete Fréchet distance between two geometries.
+   *
+   * @param g0 a geometry
+   * @param g1 a geometry
+   * @return the discrete Fréchet distance
+   */
+  public static double distance(Geometry g0, Geometry g1)
+  {
+    DiscreteFrechetDistance dist = new DiscreteFrechetDistance(g0, g1);
+    return dist.distance();
+  }
+
+  /**
+   * Tests whether the discrete Fréchet distance between two geometries
+   * is less than or equal to a given distance.
+   *
+   * @param g0 a geometry
+   * @param g1 a geometry
+   * @param maximumDistance the distance to test
+   * @return true if the distance is within the given distance
+   */
+  public static boolean isWithinDistance(Geometry g0, Geometry g1, double maximumDistance)
+  {
+    DiscreteFrechetDistance dist = new DiscreteFrechetDistance(g0, g1);
+    return dist.isWithinDistance(maximumDistance);
+  }
+
+  private Geometry g0;
+  private Geometry g1;
+
+  public DiscreteFrechetDistance(Geometry g0, Geometry g1)
+  {
+    this.g0 = g0;
+    this.g1 = g1;
+  }
+
+  /**
+   * Computes the discrete Fréchet distance between the geometries.
+   *
+   * @return the discrete Fréchet distance
+   */
+  public double distance()
+  {
+    Coordinate[] pts0 = g0.getCoordinates();
+    Coordinate[] pts1 = g1.getCoordinates();
+    if (pts0.length == 0 || pts1.length == 0) return 0.0;
+    // the row is along the shorter sequence
+    if (pts1.length > pts0.length) {
+      Coordinate[] temp = pts0;
+      pts0 = pts1;
+      pts1 = temp;
+    }
+
+    /**
+     * dist[j] is the distance of the best coupling
+     * of the initial sections of the sequences ending at pts0[i] and pts1[j]
+     */
+    int m = pts1.length;
+    double[] dist = new double[m];
+    dist[0] = pts0[0].distance(pts1[0]);
+    for (int j = 1; j < m; j++) {
+      dist[j] = Math.max(dist[j - 1], pts0[0].distance(pts1[j]));
+    }
+    for (int i = 1; i < pts0.length; i++) {
+      double diag = dist[0];
+      dist[0] = Math.max(dist[0], pts0[i].distance(pts1[0]));
+      for (int j = 1; j < m; j++) {
+        double prev = Math.min(diag, Math.min(dist[j], dist[j - 1]));
+        diag = dist[j];
+        dist[j] = Math.max(prev, pts0[i].distance(pts1[j]));
+      }
+    }
+    return dist[m - 1];
+  }
+
+  /**
+   * Tests whether the discrete Fréchet distance between the geometries
+   * is less than or equal to a given distance.
+   * The result is the same as testing the value of {@link #distance()},
+   * but is usually computed much faster.
+   *
+   * @param maximumDistance the distance to test
+   * @return true if the distance is within the given distance
+   */
+  public boolean isWithinDistance(double maximumDistance)
+  {
+    Coordinate[] pts0 = g0.getCoordinates();
+    Coordinate[] pts1 = g1.getCoordinates();
+    if (pts0.length == 0 || pts1.length == 0) return 0.0 <= maximumDistance;
+
+    // the start and end vertices are always coupled
+    if (pts0[0].distance(pts1[0]) > maximumDistance) return false;
+    if (pts0[pts0.length - 1].distance(pts1[pts1.length - 1]) > maximumDistance) return false;
+    /**
+     * Every vertex must be within the distance of a vertex of the other geometry,
+     * so the envelopes must be within the distance of each other in every direction.
+     */
+    if (! isEnvelopeWithinDistance(g0.getEnvelopeInternal(), g1.getEnvelopeInternal(), maximumDistance))
+      return false;
+
+    if (pts1.length > pts0.length) {
+      Coordinate[] temp = pts0;
+      pts0 = pts1;
+      pts1 = temp;
+    }
+
+    /**
+     * isCoupled[j] indicates whether pts0[i] and pts1[j] can be coupled
+     * with the sections before them within the distance.
+     * In each row the coupled vertices lie in the range [lo, hi],
+     * and the range can only move forward.
+     */
+    int m = pts1.length;
+    boolean[] isCoupled = new boolean[m];
+    int lo = 0;
+    int hi = 0;
+    isCoupled[0] = true;
+    while (hi + 1 < m && pts0[0].distance(pts1[hi + 1]) <= maximumDistance) {
+      hi++;
+      isCoupled[hi] = true;
+    }
+
+    for (int i = 1; i < pts0.length; i++) {
+      int newLo = -1;
+      int newHi = -1;
+      boolean isDiagCoupled = false;
+      boolean isLeftCoupled = false;
+      for (int j = lo; j < m; j++) {
+        // beyond the previous range a vertex can only be reached diagonally or along the row
+        if (j > hi && ! isLeftCoupled && ! isDiagCoupled)
+          break;
+        boolean isAboveCoupled = j <= hi && isCoupled[j];
+        boolean isReachable = isAboveCoupled || isDiagCoupled || isLeftCoupled;
+        boolean isNowCoupled = isReachable
+            && pts0[i].distance(pts1[j]) <= maximumDistance;
+        isDiagCoupled = isAboveCoupled;
+        isCoupled[j] = isNowCoupled;
+        isLeftCoupled = isNowCoupled;
+        if (isNowCoupled) {
+          if (newLo < 0) newLo = j;
+          newHi = j;
+        }
+      }
+      // no coupling is possible
+      if (newLo < 0) return false;
+      lo = newLo;
+      hi = newHi;
+    }
+    return hi == m - 1 && isCoupled[m - 1];
+  }
+
+  private static boolean isEnvelopeWithinDistance(Envelope env0, Envelope env1, double distance)
+  {
+    return Math.abs(env0.getMinX() - env1.getMinX()) <= distance
+        && Math.abs(env0.getMaxX() - env1.getMaxX()) <= distance
+        && Math.abs(env0.getMinY() - env1.getMinY()) <= distance
+        && Math.abs(env0.getMaxY() - env1.getMaxY()) <= distance;
+  }
+}
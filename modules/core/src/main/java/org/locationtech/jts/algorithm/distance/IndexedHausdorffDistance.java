@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.distance;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryComponentFilter;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.ItemPointDistance;
+import org.locationtech.jts.index.strtree.PointDistanceSearch;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Computes the same discrete Hausdorff distance as {@link DiscreteHausdorffDistance},
+ * using spatial indexes and branch-and-bound pruning
+ * to provide much better performance for large geometries.
+ * <p>
+ * The facets (segments and points) of each geometry are indexed in an {@link STRtree}.
+ * The distance from each discrete point of one geometry
+ * to the other geometry is found by a nearest-facet search of the index.
+ * Points which cannot increase the current maximum distance
+ * are pruned without computing their exact distance:
+ * <ul>
+ * <li>the search for a point terminates as soon as a facet is found
+ * which is no further from the point than the current maximum
+ * <li>the search is skipped entirely for a point whose distance
+ * is bounded by the distance of a previously searched point
+ * plus the distance between the points
+ * </ul>
+ * The computed distance and the points which determine it are the same as
+ * those computed by {@link DiscreteHausdorffDistance}.
+ *
+ * @see DiscreteHausdorffDistance
+ */
+public class IndexedHausdorffDistance
+{
+  public static double distance(Geometry g0, Geometry g1)
+  {
+    IndexedHausdorffDistance dist = new IndexedHausdorffDistance(g0, g1);
+    return dist.distance();
+  }
+
+  public static double distance(Geometry g0, Geometry g1, double densifyFrac)
+  {
+    IndexedHausdorffDistance dist = new IndexedHausdorffDistance(g0, g1);
+    dist.setDensifyFraction(densifyFrac);
+    return dist.distance();
+  }
+
+  /**
+   * Allows for round-off in the bounds used for pruning,
+   * so that a point or facet is never pruned if its computed distance
+   * might affect the result.
+   */
+  private static final double BOUND_FACTOR = 1.0 + 1.0E-12;
+
+  private Geometry g0;
+  private Geometry g1;
+  private PointPairDistance ptDist = new PointPairDistance();
+
+  /**
+   * Value of 0.0 indicates that no densification should take place
+   */
+  private double densifyFrac = 0.0;
+
+  public IndexedHausdorffDistance(Geometry g0, Geometry g1)
+  {
+    this.g0 = g0;
+    this.g1 = g1;
+  }
+
+  /**
+   * Sets the fraction by which to densify each segment.
+   * Each segment will be (virtually) split into a number of equal-length
+   * subsegments, whose fraction of the total length is closest
+   * to the given fraction.
+   *
+   * @param densifyFrac
+   * @see DiscreteHausdorffDistance#setDensifyFraction(double)
+   */
+  public void setDensifyFraction(double densifyFrac)
+  {
+    if (densifyFrac > 1.0
+        || densifyFrac <= 0.0)
+      throw new IllegalArgumentException("Fraction is not in range (0.0 - 1.0]");
+
+    this.densifyFrac = densifyFrac;
+  }
+
+  public double distance()
+  {
+    compute(g0, g1);
+    return ptDist.getDistance();
+  }
+
+  public double orientedDistance()
+  {
+    computeOrientedDistance(g0, g1, ptDist);
+    return ptDist.getDistance();
+  }
+
+  public Coordinate[] getCoordinates() { return ptDist.getCoordinates(); }
+
+  private void compute(Geometry g0, Geometry g1)
+  {
+    computeOrientedDistance(g0, g1, ptDist);
+    computeOrientedDistance(g1, g0, ptDist);
+  }
+
+  private void computeOrientedDistance(Geometry discreteGeom, Geometry geom, PointPairDistance ptDist)
+  {
+    // an empty geometry has no facets to index
+    if (geom.isEmpty()) {
+      computeOrientedDistanceDiscrete(discreteGeom, geom, ptDist);
+      return;
+    }
+    /**
+     * Points which are no further from geom than the distance
+     * already found cannot change the result, so they can be pruned
+     */
+    double maxDist = ptDist.getDistance();
+    if (Double.isNaN(maxDist)) maxDist = -1.0;
+    MaxPointDistanceFilter distFilter = new MaxPointDistanceFilter(
+        new FacetDistance(geom), maxDist, 0);
+    discreteGeom.apply(distFilter);
+    ptDist.setMaximum(distFilter.getMaxPointDistance());
+
+    if (densifyFrac > 0) {
+      int numSubSegs = (int) Math.rint(1.0/densifyFrac);
+      MaxPointDistanceFilter fracFilter = new MaxPointDistanceFilter(
+          distFilter.getFacetDistance(), distFilter.getMaxDistance(), numSubSegs);
+      discreteGeom.apply(fracFilter);
+      ptDist.setMaximum(fracFilter.getMaxPointDistance());
+    }
+  }
+
+  private void computeOrientedDistanceDiscrete(Geometry discreteGeom, Geometry geom, PointPairDistance ptDist)
+  {
+    DiscreteHausdorffDistance.MaxPointDistanceFilter distFilter
+      = new DiscreteHausdorffDistance.MaxPointDistanceFilter(geom);
+    discreteGeom.apply(distFilter);
+    ptDist.setMaximum(distFilter.getMaxPointDistance());
+
+    if (densifyFrac > 0) {
+      DiscreteHausdorffDistance.MaxDensifiedByFractionDistanceFilter fracFilter
+        = new DiscreteHausdorffDistance.MaxDensifiedByFractionDistanceFilter(geom, densifyFrac);
+      discreteGeom.apply(fracFilter);
+      ptDist.setMaximum(fracFilter.getMaxPointDistance());
+    }
+  }
+
+  /**
+   * Finds the maximum distance from the discrete points of a geometry
+   * to an indexed geometry.
+   * The points are either the vertices of the geometry,
+   * or the points densifying its segments.
+   * Only points whose distance is greater than a given initial distance are recorded.
+   */
+  private static class MaxPointDistanceFilter
+      implements CoordinateSequenceFilter
+  {
+    private PointPairDistance maxPtDist = new PointPairDistance();
+    private FacetDistance facetDist;
+    private double maxDist;
+    private int numSubSegs;
+
+    // the last point for which the facet distance was computed
+    private Coordinate anchorPt = null;
+    private double anchorDist;
+
+    /**
+     * Creates a filter for the vertices of a geometry (if numSubSegs is 0),
+     * or for the points densifying its segments.
+     */
+    MaxPointDistanceFilter(FacetDistance facetDist, double initMaxDist, int numSubSegs)
+    {
+      this.facetDist = facetDist;
+      this.maxDist = initMaxDist;
+      this.numSubSegs = numSubSegs;
+    }
+
+    public void filter(CoordinateSequence seq, int index)
+    {
+      if (numSubSegs == 0) {
+        checkPoint(seq.getCoordinate(index));
+        return;
+      }
+      /**
+       * This logic also handles skipping Point geometries
+       */
+      if (index == 0)
+        return;
+
+      Coordinate p0 = seq.getCoordinate(index - 1);
+      Coordinate p1 = seq.getCoordinate(index);
+
+      double delx = (p1.x - p0.x)/numSubSegs;
+      double dely = (p1.y - p0.y)/numSubSegs;
+
+      for (int i = 0; i < numSubSegs; i++) {
+        double x = p0.x + i*delx;
+        double y = p0.y + i*dely;
+        checkPoint(new Coordinate(x, y));
+      }
+    }
+
+    private void checkPoint(Coordinate pt)
+    {
+      /**
+       * The distance of the point is at most the distance of the anchor point
+       * plus the distance between the points.
+       * If this is less than the current maximum the point can be skipped.
+       */
+      if (anchorPt != null
+          && (anchorDist + anchorPt.distance(pt)) * BOUND_FACTOR < maxDist)
+        return;
+
+      double dist = facetDist.distance(pt, maxDist);
+      anchorPt = pt;
+      anchorDist = dist;
+      if (dist > maxDist) {
+        maxDist = dist;
+        maxPtDist.setMaximum(facetDist.getNearestPoint(), pt);
+      }
+    }
+
+    public boolean isGeometryChanged() { return false; }
+
+    public boolean isDone() { return false; }
+
+    FacetDistance getFacetDistance() { return facetDist; }
+
+    double getMaxDistance() { return maxDist; }
+
+    public PointPairDistance getMaxPointDistance() { return maxPtDist; }
+  }
+
+  /**
+   * Computes the distance from points to the facets of a geometry,
+   * using a {@link PointDistanceSearch} of an {@link STRtree} of the facets.
+   * The nearest points and distances are computed in the same way as {@link DistanceToPoint},
+   * and the first facet in the geometry is chosen if several are equally near.
+   */
+  private static class FacetDistance
+      implements ItemPointDistance
+  {
+    // 6 seems to be a good facet sequence size
+    private static final int FACET_SEQUENCE_SIZE = 6;
+    private static final int STR_TREE_NODE_CAPACITY = 4;
+
+    private PointDistanceSearch search;
+    private LineSegment seg = new LineSegment();
+
+    // the nearest facet found by the current search
+    private double minDist;
+    private int minIndex;
+    private Coordinate minPt = new Coordinate();
+
+    FacetDistance(Geometry geom)
+    {
+      search = new PointDistanceSearch(buildTree(geom), this);
+    }
+
+    private static STRtree buildTree(Geometry geom)
+    {
+      final STRtree tree = new STRtree(STR_TREE_NODE_CAPACITY);
+      geom.apply(new GeometryComponentFilter() {
+        private int facetIndex = 0;
+
+        public void filter(Geometry geom) {
+          if (! (geom instanceof LineString || geom instanceof Point)) return;
+          if (geom.isEmpty()) return;
+          Coordinate[] pts = geom.getCoordinates();
+          if (geom instanceof Point) {
+            add(new FacetSequence(pts, 0, 0, facetIndex++));
+            return;
+          }
+          for (int i = 0; i < pts.length - 1; i += FACET_SEQUENCE_SIZE) {
+            int end = Math.min(i + FACET_SEQUENCE_SIZE, pts.length - 1);
+            add(new FacetSequence(pts, i, end, facetIndex));
+            facetIndex += end - i;
+          }
+        }
+
+        private void add(FacetSequence facets) {
+          tree.insert(facets.getEnvelope(), facets);
+        }
+      });
+      tree.build();
+      return tree;
+    }
+
+    /**
+     * Computes the distance from a point to the nearest facet.
+     * The search terminates early if a facet is found within a given distance,
+     * in which case the distance to that facet is returned.
+     *
+     * @param pt the point to compute the distance for
+     * @param exitDist the distance at which to terminate the search
+     * @return the distance to the nearest facet,
+     *   or the distance to a facet within exitDist
+     */
+    double distance(Coordinate pt, double exitDist)
+    {
+      minDist = Double.POSITIVE_INFINITY;
+      minIndex = Integer.MAX_VALUE;
+      search.distance(pt, Double.POSITIVE_INFINITY, exitDist);
+      return minDist;
+    }
+
+    /**
+     * Gets the nearest point found by the last search.
+     *
+     * @return the nearest point on the facets
+     */
+    Coordinate getNearestPoint() { return minPt; }
+
+    /**
+     * Computes the distance from a point to a sequence of facets,
+     * and records the nearest facet if it is the nearest found so far.
+     */
+    public double distance(Object item, Coordinate pt)
+    {
+      FacetSequence facets = (FacetSequence) item;
+      Coordinate[] pts = facets.pts;
+      if (facets.start == facets.end) {
+        return update(pts[facets.start], pt, facets.facetIndex);
+      }
+      double dist = Double.POSITIVE_INFINITY;
+      for (int i = facets.start; i < facets.end; i++) {
+        seg.setCoordinates(pts[i], pts[i + 1]);
+        dist = Math.min(dist, update(seg.closestPoint(pt), pt, facets.facetIndex + i - facets.start));
+      }
+      return dist;
+    }
+
+    private double update(Coordinate nearestPt, Coordinate pt, int facetIndex)
+    {
+      double dist = nearestPt.distance(pt);
+      if (dist < minDist || (dist == minDist && facetIndex < minIndex)) {
+        minDist = dist;
+        minIndex = facetIndex;
+        // the nearest point may be an endpoint of the reused segment
+        minPt.setCoordinate(nearestPt);
+      }
+      return dist;
+    }
+  }
+
+  /**
+   * A section of the segments of a line, or a single point.
+   * Facets are numbered in the order in which they occur in the geometry.
+   */
+  private static class FacetSequence
+  {
+    private Coordinate[] pts;
+    // the index of the start point and of the end point of the last segment
+    private int start;
+    private int end;
+    // the index of the first facet in the geometry
+    private int facetIndex;
+
+    FacetSequence(Coordinate[] pts, int start, int end, int facetIndex)
+    {
+      this.pts = pts;
+      this.start = start;
+      this.end = end;
+      this.facetIndex = facetIndex;
+    }
+
+    Envelope getEnvelope()
+    {
+      Envelope env = new Envelope();
+      for (int i = start; i <= end; i++) {
+        env.expandToInclude(pts[i]);
+      }
+      return env;
+    }
+  }
+}
@@ -0,0 +1,497 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.locate;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.util.LinearComponentExtracter;
+
+/**
+ * Determines the {@link Location} of {@link Coordinate}s relative to
+ * an areal geometry, using a precomputed uniform grid for efficiency.
+ * This algorithm is suitable for use in cases where
+ * very many points will be tested against a large area.
+ * <p>
+ * The grid covers the envelope of the geometry.
+ * Each grid cell is classified as lying wholly in the interior,
+ * wholly in the exterior, or intersecting the boundary of the geometry.
+ * Points in interior or exterior cells are located with a single array lookup.
+ * Points in boundary cells are located by counting the crossings
+ * of the boundary segments in the cell
+ * by a line from the point to the cell centre (whose location is precomputed).
+ * If this line passes through a boundary vertex
+ * the point is located using an {@link IndexedPointInAreaLocator}.
+ * <p>
+ * The number of grid cells can be limited, to bound the memory used.
+ * Each cell uses 5 bytes, plus 4 bytes for every boundary segment
+ * intersecting it.
+ * By default the number of cells is equal to the number of boundary segments.
+ * <p>
+ * The Location is computed precisely, in that points
+ * located on the geometry boundary or segments will
+ * return {@link Location#BOUNDARY}.
+ * <p>
+ * {@link Polygonal} and {@link LinearRing} geometries
+ * are supported.
+ * <p>
+ * Thread-safe and immutable.
+ *
+ * @see IndexedPointInAreaLocator
+ */
+public class GridPointInAreaLocator
+  implements PointOnGeometryLocator
+{
+  /**
+   * The default limit on the number of grid cells
+   */
+  public static final int DEFAULT_MAX_CELLS = 1 << 22;
+
+  private static final byte CELL_INTERIOR = 0;
+  private static final byte CELL_EXTERIOR = 1;
+  private static final byte CELL_BOUNDARY_REF_INTERIOR = 2;
+  private static final byte CELL_BOUNDARY_REF_EXTERIOR = 3;
+  private static final byte CELL_BOUNDARY_REF_UNKNOWN = 4;
+
+  /**
+   * The fraction of a cell size by which cells are expanded
+   * when assigning segments, to ensure points are
+   * always located in a cell containing all nearby segments.
+   */
+  private static final double CELL_TOLERANCE_FACTOR = 1e-6;
+
+  private final Geometry geom;
+  private final Coordinate[] segP0;
+  private final Coordinate[] segP1;
+
+  private final Envelope env;
+  private final boolean isGridded;
+  private final int nx;
+  private final int ny;
+  private final double cellWidth;
+  private final double cellHeight;
+  private final double tolX;
+  private final double tolY;
+
+  private final byte[] cellLoc;
+  // cell segments, stored in compressed row format
+  private final int[] cellStart;
+  private final int[] cellSegs;
+
+  // created lazily, since it is only needed for degenerate cases
+  private volatile PointOnGeometryLocator exactLocator = null;
+
+  /**
+   * Creates a new locator for a given {@link Geometry},
+   * with the number of grid cells equal to the number of boundary segments
+   * (up to {@link #DEFAULT_MAX_CELLS}).
+   * {@link Polygonal} and {@link LinearRing} geometries
+   * are supported.
+   *
+   * @param g the Geometry to locate in
+   */
+  public GridPointInAreaLocator(Geometry g)
+  {
+    this(g, -1);
+  }
+
+  /**
+   * Creates a new locator for a given {@link Geometry},
+   * using at most the given number of grid cells.
+   * {@link Polygonal} and {@link LinearRing} geometries
+   * are supported.
+   *
+   * @param g the Geometry to locate in
+   * @param maxCells the maximum number of grid cells to use, or -1 to use the default
+   */
+  public GridPointInAreaLocator(Geometry g, int maxCells)
+  {
+    if (! (g instanceof Polygonal  || g instanceof LinearRing))
+      throw new IllegalArgumentException("Argument must be Polygonal or LinearRing");
+    geom = g;
+    List lines = LinearComponentExtracter.getLines(g);
+    int nSegs = countSegments(lines);
+    segP0 = new Coordinate[nSegs];
+    segP1 = new Coordinate[nSegs];
+    extractSegments(lines);
+    if (maxCells < 0)
+      maxCells = Math.min(nSegs, DEFAULT_MAX_CELLS);
+    maxCells = Math.max(1, maxCells);
+
+    env = g.getEnvelopeInternal();
+    isGridded = ! env.isNull() && env.getWidth() > 0 && env.getHeight() > 0;
+    if (! isGridded) {
+      nx = 0;
+      ny = 0;
+      cellWidth = 0;
+      cellHeight = 0;
+      tolX = 0;
+      tolY = 0;
+      cellStart = null;
+      cellSegs = null;
+      cellLoc = null;
+      return;
+    }
+    double aspect = env.getWidth() / env.getHeight();
+    int cols = (int) Math.sqrt(maxCells * aspect);
+    nx = Math.max(1, Math.min(cols, maxCells));
+    ny = Math.max(1, maxCells / nx);
+    cellWidth = env.getWidth() / nx;
+    cellHeight = env.getHeight() / ny;
+    tolX = cellWidth * CELL_TOLERANCE_FACTOR
+        + 4 * Math.ulp(Math.max(Math.abs(env.getMinX()), Math.abs(env.getMaxX())));
+    tolY = cellHeight * CELL_TOLERANCE_FACTOR
+        + 4 * Math.ulp(Math.max(Math.abs(env.getMinY()), Math.abs(env.getMaxY())));
+    cellStart = new int[nx * ny + 1];
+    cellSegs = buildCellSegments();
+    cellLoc = classifyCells();
+  }
+
+  /**
+   * Determines the {@link Location} of a point in an areal {@link Geometry}.
+   *
+   * @param p the point to test
+   * @return the location of the point in the geometry
+   */
+  public int locate(Coordinate p)
+  {
+    if (! isGridded)
+      return getExactLocator().locate(p);
+    if (! env.contains(p))
+      return Location.EXTERIOR;
+
+    int ix = cellIndex(p.x, env.getMinX(), cellWidth, nx);
+    int iy = cellIndex(p.y, env.getMinY(), cellHeight, ny);
+    int cell = iy * nx + ix;
+    switch (cellLoc[cell]) {
+    case CELL_INTERIOR: return Location.INTERIOR;
+    case CELL_EXTERIOR: return Location.EXTERIOR;
+    case CELL_BOUNDARY_REF_UNKNOWN: return getExactLocator().locate(p);
+    }
+    return locateInCell(p, cell, ix, iy);
+  }
+
+  /**
+   * Gets the number of cells in the grid.
+   *
+   * @return the number of grid cells
+   */
+  public int getNumCells()
+  {
+    return isGridded ? nx * ny : 0;
+  }
+
+  private PointOnGeometryLocator getExactLocator()
+  {
+    // double-checked locking, so that threads only synchronize during creation
+    PointOnGeometryLocator locator = exactLocator;
+    if (locator == null) {
+      synchronized (this) {
+        locator = exactLocator;
+        if (locator == null) {
+          locator = new IndexedPointInAreaLocator(geom);
+          exactLocator = locator;
+        }
+      }
+    }
+    return locator;
+  }
+
+  /**
+   * Locates a point lying in a boundary cell,
+   * by counting the crossings of the cell segments
+   * by the line from the point to the cell centre.
+   *
+   * @param p the point to locate
+   * @param cell the index of the cell containing the point
+   * @param ix the column of the cell
+   * @param iy the row of the cell
+   * @return the location of the point
+   */
+  private int locateInCell(Coordinate p, int cell, int ix, int iy)
+  {
+    Coordinate c = cellCentre(ix, iy);
+    int crossings = 0;
+    for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+      int s = cellSegs[i];
+      Coordinate a = segP0[s];
+      Coordinate b = segP1[s];
+
+      int orientP = Orientation.index(a, b, p);
+      if (orientP == Orientation.COLLINEAR && isInBox(p, a, b))
+        return Location.BOUNDARY;
+
+      int orientA = Orientation.index(p, c, a);
+      int orientB = Orientation.index(p, c, b);
+      /**
+       * If the line passes through a segment vertex,
+       * counting crossings is not reliable.
+       */
+      if ((orientA == Orientation.COLLINEAR && isInBox(a, p, c))
+          || (orientB == Orientation.COLLINEAR && isInBox(b, p, c)))
+        return getExactLocator().locate(p);
+
+      // check for a proper crossing
+      if (orientA == Orientation.COLLINEAR
+          || orientB == Orientation.COLLINEAR
+          || orientA == orientB)
+        continue;
+      int orientC = Orientation.index(a, b, c);
+      if (orientP == Orientation.COLLINEAR
+          || orientC == Orientation.COLLINEAR
+          || orientP == orientC)
+        continue;
+      crossings++;
+    }
+    boolean isCentreInterior = cellLoc[cell] == CELL_BOUNDARY_REF_INTERIOR;
+    boolean isInterior = (crossings % 2 == 1) ? ! isCentreInterior : isCentreInterior;
+    return isInterior ? Location.INTERIOR : Location.EXTERIOR;
+  }
+
+  private static boolean isInBox(Coordinate p, Coordinate a, Coordinate b)
+  {
+    return p.x >= Math.min(a.x, b.x) && p.x <= Math.max(a.x, b.x)
+        && p.y >= Math.min(a.y, b.y) && p.y <= Math.max(a.y, b.y);
+  }
+
+  private Coordinate cellCentre(int ix, int iy)
+  {
+    return new Coordinate(
+        env.getMinX() + (ix + 0.5) * cellWidth,
+        env.getMinY() + (iy + 0.5) * cellHeight);
+  }
+
+  private static int cellIndex(double ord, double min, double cellSize, int n)
+  {
+    int i = (int) Math.floor((ord - min) / cellSize);
+    if (i < 0) return 0;
+    if (i >= n) return n - 1;
+    return i;
+  }
+
+  private static int countSegments(List lines)
+  {
+    int nSegs = 0;
+    for (Iterator i = lines.iterator(); i.hasNext(); ) {
+      LineString line = (LineString) i.next();
+      nSegs += Math.max(0, line.getNumPoints() - 1);
+    }
+    return nSegs;
+  }
+
+  private void extractSegments(List lines)
+  {
+    int s = 0;
+    for (Iterator i = lines.iterator(); i.hasNext(); ) {
+      LineString line = (LineString) i.next();
+      Coordinate[] pts = line.getCoordinates();
+      for (int j = 1; j < pts.length; j++) {
+        segP0[s] = pts[j - 1];
+        segP1[s] = pts[j];
+        s++;
+      }
+    }
+  }
+
+  /**
+   * Assigns the segments to the cells they intersect,
+   * filling in the cell start positions.
+   *
+   * @return the segments of each cell, in cell order
+   */
+  private int[] buildCellSegments()
+  {
+    int nCells = nx * ny;
+    // count segments in each cell, then fill
+    for (int s = 0; s < segP0.length; s++) {
+      addSegment(s, cellStart, null);
+    }
+    int total = 0;
+    for (int i = 0; i < nCells; i++) {
+      int count = cellStart[i];
+      cellStart[i] = total;
+      total += count;
+    }
+    cellStart[nCells] = total;
+    int[] segs = new int[total];
+    int[] fill = new int[nCells];
+    System.arraycopy(cellStart, 0, fill, 0, nCells);
+    for (int s = 0; s < segP0.length; s++) {
+      addSegment(s, fill, segs);
+    }
+    return segs;
+  }
+
+  /**
+   * Adds a segment to the cells it intersects.
+   * If the segment array is null, the cell counts are incremented.
+   *
+   * @param s the segment index
+   * @param cellPos the cell counts or insertion positions
+   * @param segs the cell segment array, or null to count only
+   */
+  private void addSegment(int s, int[] cellPos, int[] segs)
+  {
+    Coordinate p0 = segP0[s];
+    Coordinate p1 = segP1[s];
+    int ix0 = cellIndex(Math.min(p0.x, p1.x) - tolX, env.getMinX(), cellWidth, nx);
+    int ix1 = cellIndex(Math.max(p0.x, p1.x) + tolX, env.getMinX(), cellWidth, nx);
+    int iy0 = cellIndex(Math.min(p0.y, p1.y) - tolY, env.getMinY(), cellHeight, ny);
+    int iy1 = cellIndex(Math.max(p0.y, p1.y) + tolY, env.getMinY(), cellHeight, ny);
+    boolean isSingleCell = ix0 == ix1 && iy0 == iy1;
+    for (int iy = iy0; iy <= iy1; iy++) {
+      for (int ix = ix0; ix <= ix1; ix++) {
+        if (! isSingleCell && ! isSegmentInCell(p0, p1, ix, iy))
+          continue;
+        int cell = iy * nx + ix;
+        if (segs == null) {
+          cellPos[cell]++;
+        }
+        else {
+          segs[cellPos[cell]++] = s;
+        }
+      }
+    }
+  }
+
+  /**
+   * Tests whether a segment intersects the (expanded) rectangle of a cell.
+   * The segment envelope is assumed to intersect the cell,
+   * so it is enough to test whether all cell corners lie on one side of the segment line.
+   */
+  private boolean isSegmentInCell(Coordinate p0, Coordinate p1, int ix, int iy)
+  {
+    double x0 = env.getMinX() + ix * cellWidth - tolX;
+    double x1 = env.getMinX() + (ix + 1) * cellWidth + tolX;
+    double y0 = env.getMinY() + iy * cellHeight - tolY;
+    double y1 = env.getMinY() + (iy + 1) * cellHeight + tolY;
+    int o1 = Orientation.index(p0, p1, new Coordinate(x0, y0));
+    if (o1 == Orientation.COLLINEAR) return true;
+    if (Orientation.index(p0, p1, new Coordinate(x1, y0)) != o1) return true;
+    if (Orientation.index(p0, p1, new Coordinate(x0, y1)) != o1) return true;
+    if (Orientation.index(p0, p1, new Coordinate(x1, y1)) != o1) return true;
+    return false;
+  }
+
+  /**
+   * Computes the location of every cell centre,
+   * by sweeping a horizontal line through the centres of each row of cells
+   * and counting the boundary crossings to the left of each centre.
+   *
+   * @return the location codes of the cells
+   */
+  private byte[] classifyCells()
+  {
+    byte[] loc = new byte[nx * ny];
+    int[] rowStamp = new int[segP0.length];
+    Arrays.fill(rowStamp, -1);
+    double[] crossX = new double[segP0.length];
+
+    for (int iy = 0; iy < ny; iy++) {
+      double yc = env.getMinY() + (iy + 0.5) * cellHeight;
+
+      // find all segments crossing the row centre line
+      int nCross = 0;
+      for (int ix = 0; ix < nx; ix++) {
+        int cell = iy * nx + ix;
+        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+          int s = cellSegs[i];
+          if (rowStamp[s] == iy) continue;
+          rowStamp[s] = iy;
+          if (isCrossing(s, yc)) {
+            crossX[nCross++] = crossingX(s, yc);
+          }
+        }
+      }
+      Arrays.sort(crossX, 0, nCross);
+
+      for (int ix = 0; ix < nx; ix++) {
+        int cell = iy * nx + ix;
+        Coordinate c = cellCentre(ix, iy);
+        int nLeft = countLess(crossX, nCross, c.x);
+
+        if (cellStart[cell] == cellStart[cell + 1]) {
+          loc[cell] = (nLeft % 2 == 1) ? CELL_INTERIOR : CELL_EXTERIOR;
+          continue;
+        }
+        /**
+         * For boundary cells, the crossings of the cell segments
+         * are recomputed robustly, since they may lie very close to the centre.
+         */
+        boolean isOnBoundary = false;
+        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+          int s = cellSegs[i];
+          Coordinate a = segP0[s];
+          Coordinate b = segP1[s];
+          int orient = Orientation.index(a, b, c);
+          if (orient == Orientation.COLLINEAR && isInBox(c, a, b)) {
+            isOnBoundary = true;
+            break;
+          }
+          if (! isCrossing(s, yc)) continue;
+          if (crossingX(s, yc) < c.x) nLeft--;
+          // crossing is to the left if the centre is to the right of the upwards segment
+          int orientUp = a.y < b.y ? orient : -orient;
+          if (orientUp == Orientation.RIGHT) nLeft++;
+        }
+        if (isOnBoundary) {
+          loc[cell] = CELL_BOUNDARY_REF_UNKNOWN;
+        }
+        else {
+          loc[cell] = (nLeft % 2 == 1) ? CELL_BOUNDARY_REF_INTERIOR : CELL_BOUNDARY_REF_EXTERIOR;
+        }
+      }
+    }
+    return loc;
+  }
+
+  /**
+   * Tests whether a segment crosses a horizontal line,
+   * using the half-open rule for vertices lying on the line.
+   */
+  private boolean isCrossing(int s, double y)
+  {
+    return (segP0[s].y > y) != (segP1[s].y > y);
+  }
+
+  private double crossingX(int s, double y)
+  {
+    Coordinate p0 = segP0[s];
+    Coordinate p1 = segP1[s];
+    double x = p0.x + (y - p0.y) * (p1.x - p0.x) / (p1.y - p0.y);
+    // ensure round-off does not move the crossing outside the segment
+    return Math.max(Math.min(p0.x, p1.x), Math.min(x, Math.max(p0.x, p1.x)));
+  }
+
+  private static int countLess(double[] x, int n, double val)
+  {
+    int lo = 0;
+    int hi = n;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (x[mid] < val)
+        lo = mid + 1;
+      else
+        hi = mid;
+    }
+    return lo;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.match;
+
+import org.locationtech.jts.algorithm.distance.DiscreteFrechetDistance;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Measures the degree of similarity between two {@link Geometry}s
+ * using the discrete Fréchet distance metric.
+ * The measure is normalized to lie in the range [0, 1].
+ * Higher measures indicate a great degree of similarity.
+ * <p>
+ * The measure is computed by computing the discrete Fréchet distance
+ * between the input geometries, and then normalizing
+ * this by dividing it by the diagonal distance across
+ * the envelope of the combined geometries.
+ * Since the Fréchet distance takes account of the order of vertices,
+ * this is suitable for comparing trajectories.
+ *
+ * @see DiscreteFrechetDistance
+ */
+public class FrechetSimilarityMeasure
+	implements SimilarityMeasure
+{
+	public FrechetSimilarityMeasure()
+	{
+	}
+
+	public double measure(Geometry g1, Geometry g2)
+	{
+		double distance = DiscreteFrechetDistance.distance(g1, g2);
+		double envSize = combinedDiagonalSize(g1, g2);
+		if (envSize == 0.0) return 1.0;
+		// normalize so that more similarity produces a measure closer to 1
+		return 1 - distance / envSize;
+	}
+
+	/**
+	 * Tests whether the similarity measure between two geometries
+	 * is at least a given value.
+	 * This is much faster than computing the measure,
+	 * since the Fréchet distance computation can terminate early.
+	 *
+	 * @param g1 a geometry
+	 * @param g2 a geometry
+	 * @param minimumMeasure the smallest measure value accepted
+	 * @return true if the measure is at least the given value
+	 */
+	public boolean isSimilar(Geometry g1, Geometry g2, double minimumMeasure)
+	{
+		double envSize = combinedDiagonalSize(g1, g2);
+		if (envSize == 0.0) return 1.0 >= minimumMeasure;
+		double maxDistance = (1 - minimumMeasure) * envSize;
+		return DiscreteFrechetDistance.isWithinDistance(g1, g2, maxDistance);
+	}
+
+	private static double combinedDiagonalSize(Geometry g1, Geometry g2)
+	{
+		Envelope env = new Envelope(g1.getEnvelopeInternal());
+		env.expandToInclude(g2.getEnvelopeInternal());
+		return HausdorffSimilarityMeasure.diagonalSize(env);
+	}
+}
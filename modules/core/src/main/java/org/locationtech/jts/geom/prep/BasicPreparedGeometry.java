@@ -18,7 +18,10 @@ import org.locationtech.jts.algorithm.PointLocator;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.IntersectionMatrix;
 import org.locationtech.jts.geom.util.ComponentCoordinateExtracter;
+import org.locationtech.jts.operation.distance.DistanceOp;
+import org.locationtech.jts.operation.distance.IndexedFacetDistance;
 
 
 /**
@@ -32,10 +35,13 @@ import org.locationtech.jts.geom.util.ComponentCoordinateExtracter;
  *
  */
 class BasicPreparedGeometry 
-  implements PreparedGeometry
+  implements ExtendedPreparedGeometry
 {
   private final Geometry baseGeom;
   private final List representativePts;  // List<Coordinate>
+  // created lazily, since it is expensive.
+  // Volatile to ensure safe publication to other threads
+  private volatile IndexedFacetDistance facetDistance = null;
 
   public BasicPreparedGeometry(Geometry geom) 
   {
@@ -180,6 +186,22 @@ class BasicPreparedGeometry
     return baseGeom.overlaps(g);
   }
   
+  /**
+   * Default implementation.
+   */
+  public IntersectionMatrix relate(Geometry g)
+  {
+    return baseGeom.relate(g);
+  }
+  
+  /**
+   * Default implementation.
+   */
+  public boolean relate(Geometry g, String intersectionPattern)
+  {
+    return baseGeom.relate(g, intersectionPattern);
+  }
+  
   /**
    * Default implementation.
    */
@@ -196,6 +218,81 @@ class BasicPreparedGeometry
     return baseGeom.within(g);
   }
   
+  /**
+   * Gets the indexed facet distance finder for this geometry.
+   * 
+   * @return the facet distance finder
+   */
+  protected IndexedFacetDistance getFacetDistance()
+  {
+    // double-checked locking, so that threads only synchronize during creation
+    IndexedFacetDistance dist = facetDistance;
+    if (dist == null) {
+      synchronized (this) {
+        dist = facetDistance;
+        if (dist == null) {
+          dist = new IndexedFacetDistance(baseGeom);
+          facetDistance = dist;
+        }
+      }
+    }
+    return dist;
+  }
+  
+  /**
+   * Tests whether the distance between the geometries
+   * may be zero due to an areal geometry containing the other.
+   * In this case the distance between facets is not the geometry distance.
+   * 
+   * @param g a Geometry
+   * @return true if either geometry is areal and the geometries intersect
+   */
+  private boolean isArealIntersection(Geometry g)
+  {
+    if (baseGeom.getDimension() < 2 && g.getDimension() < 2)
+      return false;
+    return intersects(g);
+  }
+  
+  /**
+   * Computes the distance using the cached facet index of this geometry.
+   */
+  public double distance(Geometry g)
+  {
+    if (baseGeom.isEmpty() || g.isEmpty())
+      return baseGeom.distance(g);
+    if (isArealIntersection(g))
+      return 0.0;
+    return getFacetDistance().distance(g);
+  }
+  
+  /**
+   * Tests the distance using the cached facet index of this geometry.
+   * The search terminates as soon as facets within the distance are found.
+   */
+  public boolean isWithinDistance(Geometry g, double distance)
+  {
+    if (baseGeom.isEmpty() || g.isEmpty())
+      return baseGeom.isWithinDistance(g, distance);
+    // short-circuit test
+    double envDist = baseGeom.getEnvelopeInternal().distance(g.getEnvelopeInternal());
+    if (envDist > distance)
+      return false;
+    if (isArealIntersection(g))
+      return true;
+    return getFacetDistance().isWithinDistance(g, distance);
+  }
+  
+  /**
+   * Computes the nearest points using the cached facet index of this geometry.
+   */
+  public Coordinate[] nearestPoints(Geometry g)
+  {
+    if (baseGeom.isEmpty() || g.isEmpty() || isArealIntersection(g))
+      return DistanceOp.nearestPoints(baseGeom, g);
+    return getFacetDistance().nearestPoints(g);
+  }
+  
   public String toString()
   {
   	return baseGeom.toString();
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.IntersectionMatrix;
+
+/**
+ * A {@link PreparedGeometry} which also provides
+ * relate and distance operations.
+ * These are kept out of the {@link PreparedGeometry} interface
+ * so that existing implementations of it remain valid.
+ * <p>
+ * All prepared geometries created by {@link PreparedGeometryFactory}
+ * implement this interface, so they can be cast to it.
+ *
+ * @see PreparedGeometryFactory
+ */
+public interface ExtendedPreparedGeometry
+  extends PreparedGeometry
+{
+	/**
+	 * Computes the DE-9IM {@link IntersectionMatrix}
+	 * for the base {@link Geometry} and a given geometry.
+	 *
+	 * @param geom the Geometry to test
+	 * @return the intersection matrix for the two geometries
+	 *
+	 * @see Geometry#relate(Geometry)
+	 */
+	IntersectionMatrix relate(Geometry geom);
+
+	/**
+	 * Tests whether the DE-9IM {@link IntersectionMatrix}
+	 * for the base {@link Geometry} and a given geometry
+	 * matches an intersection pattern.
+	 *
+	 * @param geom the Geometry to test
+	 * @param intersectionPattern the pattern to match
+	 * @return true if the intersection matrix matches the pattern
+	 *
+	 * @see Geometry#relate(Geometry, String)
+	 */
+	boolean relate(Geometry geom, String intersectionPattern);
+
+	/**
+	 * Computes the distance between the base {@link Geometry} and a given geometry.
+	 *
+	 * @param geom the Geometry to compute the distance to
+	 * @return the distance between the geometries
+	 *
+	 * @see Geometry#distance(Geometry)
+	 */
+	double distance(Geometry geom);
+
+	/**
+	 * Tests whether the distance between the base {@link Geometry}
+	 * and a given geometry is less than or equal to a specified value.
+	 *
+	 * @param geom the Geometry to test
+	 * @param distance the distance to compare against
+	 * @return true if the geometries are within the given distance
+	 *
+	 * @see Geometry#isWithinDistance(Geometry, double)
+	 */
+	boolean isWithinDistance(Geometry geom, double distance);
+
+	/**
+	 * Computes the nearest points of the base {@link Geometry}
+	 * and a given geometry.
+	 * The first point lies on the base geometry,
+	 * and the second on the given geometry.
+	 *
+	 * @param geom the Geometry to find the nearest points to
+	 * @return the pair of nearest points
+	 *
+	 * @see org.locationtech.jts.operation.distance.DistanceOp#nearestPoints(Geometry, Geometry)
+	 */
+	Coordinate[] nearestPoints(Geometry geom);
+
+}
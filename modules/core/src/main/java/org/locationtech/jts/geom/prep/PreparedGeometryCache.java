@@ -0,0 +1,425 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A bounded cache of {@link PreparedGeometry}s,
+ * for use when predicates are evaluated repeatedly against
+ * a working set of geometries which is too large to keep fully prepared.
+ * <p>
+ * Geometries are keyed either by object identity
+ * (using {@link #get(Geometry)}) or by a caller-supplied id
+ * (using {@link #get(Object, Geometry)}).
+ * A geometry is prepared (via a {@link PreparedGeometryFactory})
+ * only once it has been requested a given number of times
+ * (the <i>prepare threshold</i>).
+ * Until then, requests return an unprepared {@link PreparedGeometry}
+ * which simply delegates to the {@link Geometry} methods,
+ * so that geometries which are used only once do not pay the cost of indexing.
+ * <p>
+ * The size of the cache is bounded by the total number of vertices
+ * of the cached geometries, since this determines the memory used
+ * by the prepared indexes.
+ * When the bound is exceeded the least-recently-used geometries are evicted.
+ * The recency of an entry is recorded with a timestamp on each access,
+ * so the eviction order is approximate when requests occur concurrently.
+ * Geometries with more vertices than the cache bound are never cached.
+ * <p>
+ * The cache is thread-safe.
+ * Lookups do not lock, so concurrent requests for cached geometries
+ * proceed in parallel.
+ * Only eviction is serialized, and the prepared indexes are
+ * built lazily when a predicate is first evaluated.
+ */
+public class PreparedGeometryCache
+{
+  /**
+   * The default number of requests for a geometry before it is prepared
+   */
+  public static final int DEFAULT_PREPARE_THRESHOLD = 2;
+
+  /**
+   * The default maximum number of not-yet-prepared geometries
+   * for which request counts are tracked
+   */
+  public static final int DEFAULT_MAX_TRACKED = 100000;
+
+  private final long maxVertices;
+  private final int prepareThreshold;
+  private final int maxTracked;
+  private final PreparedGeometryFactory factory = new PreparedGeometryFactory();
+
+  // Map<Object, CacheEntry>
+  private final ConcurrentHashMap prepared = new ConcurrentHashMap();
+  // Map<Object, Tracked>, approximately bounded to the maximum tracked count
+  private final ConcurrentHashMap tracked = new ConcurrentHashMap();
+  private final ReentrantLock evictLock = new ReentrantLock();
+
+  private final AtomicLong vertexCount = new AtomicLong();
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * Creates a new cache with a given maximum number of vertices,
+   * using the default prepare threshold.
+   *
+   * @param maxVertices the maximum total number of vertices in cached geometries
+   */
+  public PreparedGeometryCache(long maxVertices)
+  {
+    this(maxVertices, DEFAULT_PREPARE_THRESHOLD, DEFAULT_MAX_TRACKED);
+  }
+
+  /**
+   * Creates a new cache with a given maximum number of vertices
+   * and prepare threshold.
+   *
+   * @param maxVertices the maximum total number of vertices in cached geometries
+   * @param prepareThreshold the number of requests for a geometry before it is prepared
+   * @param maxTracked the maximum number of unprepared geometries for which request counts are kept
+   */
+  public PreparedGeometryCache(long maxVertices, int prepareThreshold, int maxTracked)
+  {
+    if (prepareThreshold < 1)
+      throw new IllegalArgumentException("Prepare threshold must be at least 1");
+    this.maxVertices = maxVertices;
+    this.prepareThreshold = prepareThreshold;
+    this.maxTracked = maxTracked;
+  }
+
+  /**
+   * Gets a {@link PreparedGeometry} for a geometry,
+   * using the geometry object identity as the cache key.
+   *
+   * @param geom the geometry to look up
+   * @return a PreparedGeometry for the geometry
+   */
+  public PreparedGeometry get(Geometry geom)
+  {
+    return get(new IdentityKey(geom), geom);
+  }
+
+  /**
+   * Gets a {@link PreparedGeometry} for a geometry with a given id.
+   * If the cached geometry for the id is not the given geometry
+   * (i.e. the geometry for the id has changed)
+   * the cached entry is replaced.
+   * <p>
+   * The id must implement <code>equals</code> and <code>hashCode</code>.
+   *
+   * @param id the id of the geometry
+   * @param geom the geometry to look up
+   * @return a PreparedGeometry for the geometry
+   */
+  public PreparedGeometry get(Object id, Geometry geom)
+  {
+    CacheEntry entry = (CacheEntry) prepared.get(id);
+    if (entry != null) {
+      if (entry.pg.getGeometry() == geom) {
+        entry.lastAccess = System.nanoTime();
+        hitCount.increment();
+        return entry.pg;
+      }
+      // stale entry
+      removeEntry(id, entry);
+    }
+    missCount.increment();
+
+    int nVertices = geom.getNumPoints();
+    boolean isTooLarge = nVertices > maxVertices;
+    if (isTooLarge || prepareThreshold > 1) {
+      Tracked t = track(id, geom);
+      if (isTooLarge || t.count.incrementAndGet() < prepareThreshold) {
+        return t.pg;
+      }
+      tracked.remove(id, t);
+    }
+
+    CacheEntry newEntry = new CacheEntry(factory.create(geom), nVertices);
+    CacheEntry current = (CacheEntry) prepared.putIfAbsent(id, newEntry);
+    if (current != null) {
+      // another thread prepared the geometry concurrently
+      if (current.pg.getGeometry() == geom)
+        return current.pg;
+      // replace a stale entry added concurrently, unless that race is lost too
+      removeEntry(id, current);
+      if (prepared.putIfAbsent(id, newEntry) != null)
+        return newEntry.pg;
+    }
+    if (vertexCount.addAndGet(nVertices) > maxVertices)
+      evict();
+    return newEntry.pg;
+  }
+
+  /**
+   * Gets the request tracking record for a geometry which is not prepared,
+   * creating it if required.
+   * The record holds the unprepared geometry returned for the requests,
+   * so that it is not recreated for each one.
+   *
+   * @param id the geometry id
+   * @param geom the geometry
+   * @return the tracking record for the geometry
+   */
+  private Tracked track(Object id, Geometry geom)
+  {
+    Tracked t = (Tracked) tracked.get(id);
+    if (t != null && t.pg.getGeometry() == geom)
+      return t;
+    Tracked newTracked = new Tracked(geom);
+    if (t == null) {
+      t = (Tracked) tracked.putIfAbsent(id, newTracked);
+      if (t != null && t.pg.getGeometry() == geom)
+        return t;
+    }
+    tracked.put(id, newTracked);
+    trimTracked();
+    return newTracked;
+  }
+
+  /**
+   * Removes arbitrary tracking records until
+   * the number of records is within the tracked bound.
+   */
+  private void trimTracked()
+  {
+    Iterator it = tracked.keySet().iterator();
+    while (tracked.size() > maxTracked && it.hasNext()) {
+      it.next();
+      it.remove();
+    }
+  }
+
+  /**
+   * Evicts least-recently-used entries until the cache is within its vertex bound.
+   * If another thread is already evicting the request does not wait.
+   * Instead, the evicting thread checks the bound again once it has finished.
+   */
+  private void evict()
+  {
+    while (vertexCount.get() > maxVertices && evictLock.tryLock()) {
+      boolean isEvicted = false;
+      try {
+        // snapshot the access times, since they may change during sorting
+        List candidates = new ArrayList(prepared.size());
+        for (Iterator it = prepared.entrySet().iterator(); it.hasNext(); ) {
+          Map.Entry e = (Map.Entry) it.next();
+          candidates.add(new EvictionCandidate(e.getKey(), (CacheEntry) e.getValue()));
+        }
+        Collections.sort(candidates);
+        for (int i = 0; i < candidates.size() && vertexCount.get() > maxVertices; i++) {
+          EvictionCandidate c = (EvictionCandidate) candidates.get(i);
+          if (removeEntry(c.id, c.entry)) {
+            evictionCount.increment();
+            isEvicted = true;
+          }
+        }
+      }
+      finally {
+        evictLock.unlock();
+      }
+      // the remaining excess is due to concurrent removals in progress
+      if (! isEvicted) return;
+    }
+  }
+
+  /**
+   * Removes an entry from the cache, if it is still present.
+   *
+   * @param id the geometry id
+   * @param entry the entry to remove
+   * @return true if the entry was removed
+   */
+  private boolean removeEntry(Object id, CacheEntry entry)
+  {
+    if (! prepared.remove(id, entry)) return false;
+    vertexCount.addAndGet(-entry.numVertices);
+    return true;
+  }
+
+  /**
+   * Removes the entry for a geometry id from the cache, if present.
+   *
+   * @param id the geometry id
+   */
+  public void remove(Object id)
+  {
+    tracked.remove(id);
+    CacheEntry entry = (CacheEntry) prepared.get(id);
+    if (entry != null) {
+      removeEntry(id, entry);
+    }
+  }
+
+  /**
+   * Removes the entry for a geometry keyed by identity, if present.
+   *
+   * @param geom the geometry
+   */
+  public void remove(Geometry geom)
+  {
+    remove(new IdentityKey(geom));
+  }
+
+  /**
+   * Removes all entries from the cache.
+   * The statistics are not reset.
+   */
+  public void clear()
+  {
+    tracked.clear();
+    for (Iterator it = prepared.keySet().iterator(); it.hasNext(); ) {
+      remove(it.next());
+    }
+  }
+
+  /**
+   * Gets the number of prepared geometries in the cache.
+   *
+   * @return the number of cached geometries
+   */
+  public int size() { return prepared.size(); }
+
+  /**
+   * Gets the total number of vertices in the cached geometries.
+   *
+   * @return the number of cached vertices
+   */
+  public long getVertexCount() { return vertexCount.get(); }
+
+  /**
+   * Gets the number of requests which returned a cached prepared geometry.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() { return hitCount.sum(); }
+
+  /**
+   * Gets the number of requests which did not find a cached prepared geometry.
+   *
+   * @return the miss count
+   */
+  public long getMissCount() { return missCount.sum(); }
+
+  /**
+   * Gets the number of prepared geometries evicted from the cache
+   * to keep it within its bound.
+   *
+   * @return the eviction count
+   */
+  public long getEvictionCount() { return evictionCount.sum(); }
+
+  public String toString()
+  {
+    return "PreparedGeometryCache[size=" + size()
+        + ", vertices=" + getVertexCount()
+        + ", hits=" + getHitCount()
+        + ", misses=" + getMissCount()
+        + ", evictions=" + getEvictionCount() + "]";
+  }
+
+  /**
+   * A cached prepared geometry with its access time.
+   */
+  private static class CacheEntry
+  {
+    final PreparedGeometry pg;
+    final int numVertices;
+    volatile long lastAccess;
+
+    CacheEntry(PreparedGeometry pg, int numVertices)
+    {
+      this.pg = pg;
+      this.numVertices = numVertices;
+      this.lastAccess = System.nanoTime();
+    }
+  }
+
+  /**
+   * A cache entry with its access time at the start of an eviction,
+   * ordered by that time.
+   */
+  private static class EvictionCandidate
+    implements Comparable
+  {
+    final Object id;
+    final CacheEntry entry;
+    final long lastAccess;
+
+    EvictionCandidate(Object id, CacheEntry entry)
+    {
+      this.id = id;
+      this.entry = entry;
+      this.lastAccess = entry.lastAccess;
+    }
+
+    public int compareTo(Object o)
+    {
+      // nanoTime values must be compared by difference
+      long diff = lastAccess - ((EvictionCandidate) o).lastAccess;
+      return diff < 0 ? -1 : (diff > 0 ? 1 : 0);
+    }
+  }
+
+  /**
+   * The request count for a geometry which is not yet prepared,
+   * with the unprepared geometry returned for its requests.
+   */
+  private static class Tracked
+  {
+    final PreparedGeometry pg;
+    final AtomicInteger count = new AtomicInteger();
+
+    Tracked(Geometry geom)
+    {
+      pg = new BasicPreparedGeometry(geom);
+    }
+  }
+
+  /**
+   * A key which compares geometries by object identity.
+   */
+  private static class IdentityKey
+  {
+    private final Geometry geom;
+
+    IdentityKey(Geometry geom)
+    {
+      this.geom = geom;
+    }
+
+    public int hashCode()
+    {
+      return System.identityHashCode(geom);
+    }
+
+    public boolean equals(Object o)
+    {
+      if (! (o instanceof IdentityKey)) return false;
+      return geom == ((IdentityKey) o).geom;
+    }
+  }
+}
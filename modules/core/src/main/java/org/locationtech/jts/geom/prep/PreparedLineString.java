@@ -27,13 +27,14 @@ import org.locationtech.jts.noding.SegmentStringUtil;
 public class PreparedLineString
   extends BasicPreparedGeometry
 {
-  private FastSegmentSetIntersectionFinder segIntFinder = null;
+  // volatile to ensure safe publication to other threads
+  private volatile FastSegmentSetIntersectionFinder segIntFinder = null;
 
   public PreparedLineString(Lineal line) {
     super((Geometry) line);
   }
 
-  public synchronized FastSegmentSetIntersectionFinder getIntersectionFinder()
+  public FastSegmentSetIntersectionFinder getIntersectionFinder()
   {
   	/**
   	 * MD - Another option would be to use a simple scan for 
@@ -41,9 +42,18 @@ public class PreparedLineString
   	 * However, testing indicates that there is no particular advantage 
   	 * to this approach.
   	 */
-  	if (segIntFinder == null)
-  		segIntFinder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
-    return segIntFinder;
+  	// double-checked locking, so that threads only synchronize during creation
+  	FastSegmentSetIntersectionFinder finder = segIntFinder;
+  	if (finder == null) {
+  	  synchronized (this) {
+  	    finder = segIntFinder;
+  	    if (finder == null) {
+  	      finder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
+  	      segIntFinder = finder;
+  	    }
+  	  }
+  	}
+    return finder;
   }
   
   public boolean intersects(Geometry g)
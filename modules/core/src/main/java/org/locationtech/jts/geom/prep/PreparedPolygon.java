@@ -15,6 +15,7 @@ package org.locationtech.jts.geom.prep;
 import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
 import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.IntersectionMatrix;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.Polygonal;
@@ -39,9 +40,10 @@ public class PreparedPolygon
   extends BasicPreparedGeometry
 {
 	private final boolean isRectangle;
-	// create these lazily, since they are expensive
-	private FastSegmentSetIntersectionFinder segIntFinder = null;
-	private PointOnGeometryLocator pia = null;
+	// create these lazily, since they are expensive.
+	// Volatile to ensure safe publication to other threads
+	private volatile FastSegmentSetIntersectionFinder segIntFinder = null;
+	private volatile PointOnGeometryLocator pia = null;
 
   public PreparedPolygon(Polygonal poly) {
     super((Geometry) poly);
@@ -53,7 +55,7 @@ public class PreparedPolygon
    * 
    * @return the intersection finder
    */
-  public synchronized FastSegmentSetIntersectionFinder getIntersectionFinder()
+  public FastSegmentSetIntersectionFinder getIntersectionFinder()
   {
   	/**
   	 * MD - Another option would be to use a simple scan for 
@@ -61,17 +63,39 @@ public class PreparedPolygon
   	 * However, testing indicates that there is no particular advantage 
   	 * to this approach.
   	 */
-  	if (segIntFinder == null)
-  		segIntFinder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
-  	return segIntFinder;
+  	// double-checked locking, so that threads only synchronize during creation
+  	FastSegmentSetIntersectionFinder finder = segIntFinder;
+  	if (finder == null) {
+  	  synchronized (this) {
+  	    finder = segIntFinder;
+  	    if (finder == null) {
+  	      finder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
+  	      segIntFinder = finder;
+  	    }
+  	  }
+  	}
+  	return finder;
   }
   
-  public synchronized PointOnGeometryLocator getPointLocator()
+  /**
+   * Gets the indexed point locator for this geometry.
+   * 
+   * @return the point locator
+   */
+  public PointOnGeometryLocator getPointLocator()
   {
-  	if (pia == null)
-      pia = new IndexedPointInAreaLocator(getGeometry());
- 		
-    return pia;
+    // double-checked locking, so that threads only synchronize during creation
+    PointOnGeometryLocator locator = pia;
+    if (locator == null) {
+      synchronized (this) {
+        locator = pia;
+        if (locator == null) {
+          locator = new IndexedPointInAreaLocator(getGeometry());
+          pia = locator;
+        }
+      }
+    }
+    return locator;
   }
   
   public boolean intersects(Geometry g)
@@ -120,4 +144,43 @@ public class PreparedPolygon
     }
     return PreparedPolygonCovers.covers(this, g);
   }
+  
+  /**
+   * Computes the DE-9IM matrix using the prepared indexes
+   * when the test geometry does not interact with the polygon boundary.
+   * Otherwise the matrix is computed by the full {@link Geometry#relate(Geometry)}.
+   */
+  public IntersectionMatrix relate(Geometry g)
+  {
+    return PreparedPolygonRelate.relate(this, g);
+  }
+  
+  public boolean relate(Geometry g, String intersectionPattern)
+  {
+    return PreparedPolygonRelate.relate(this, g, intersectionPattern);
+  }
+  
+  public boolean crosses(Geometry g)
+  {
+    // short-circuit test
+    if (! envelopesIntersect(g))
+      return false;
+    return relate(g).isCrosses(getGeometry().getDimension(), g.getDimension());
+  }
+  
+  public boolean overlaps(Geometry g)
+  {
+    // short-circuit test
+    if (! envelopesIntersect(g))
+      return false;
+    return relate(g).isOverlaps(getGeometry().getDimension(), g.getDimension());
+  }
+  
+  public boolean touches(Geometry g)
+  {
+    // short-circuit test
+    if (! envelopesIntersect(g))
+      return false;
+    return relate(g).isTouches(getGeometry().getDimension(), g.getDimension());
+  }
 }
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Dimension;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.IntersectionMatrix;
+import org.locationtech.jts.geom.Lineal;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.Puntal;
+import org.locationtech.jts.noding.SegmentStringUtil;
+import org.locationtech.jts.operation.relate.RelateOp;
+
+/**
+ * Computes the DE-9IM {@link IntersectionMatrix}
+ * for a {@link PreparedPolygon} relative to all other {@link Geometry} classes.
+ * Uses the cached segment index and point locator of the prepared polygon
+ * to compute the full matrix directly in the following situations:
+ * <ul>
+ * <li>the test geometry is {@link Puntal}
+ * <li>the test geometry is disjoint from the polygon
+ * <li>the test geometry lies wholly in the interior of the polygon
+ * </ul>
+ * In all other situations the full topology is computed via {@link RelateOp},
+ * at the cost of an unprepared relate plus the prepared segment intersection test.
+ * This includes every test geometry which touches or crosses the polygon boundary,
+ * and every polygonal test geometry which contains part of the target.
+ * So the optimization is effective mainly for filtering many small or distant
+ * geometries against a large polygon;
+ * it does not speed up relating geometries which share boundary
+ * (e.g. adjacent polygons in a coverage).
+ * <p>
+ * When evaluating a relate pattern, the pattern is first checked against
+ * the envelopes of the inputs, so that
+ * patterns which cannot possibly match are rejected without computing any topology.
+ */
+class PreparedPolygonRelate
+  extends PreparedPolygonPredicate
+{
+  /**
+   * Computes the DE-9IM matrix between a {@link PreparedPolygon}
+   * and a {@link Geometry}.
+   *
+   * @param prep the prepared polygon
+   * @param geom a test geometry
+   * @return the intersection matrix for the polygon and the geometry
+   */
+  public static IntersectionMatrix relate(PreparedPolygon prep, Geometry geom)
+  {
+    PreparedPolygonRelate op = new PreparedPolygonRelate(prep);
+    return op.relate(geom);
+  }
+
+  /**
+   * Tests whether the DE-9IM matrix between a {@link PreparedPolygon}
+   * and a {@link Geometry} matches a pattern.
+   *
+   * @param prep the prepared polygon
+   * @param geom a test geometry
+   * @param intersectionPattern the pattern to match
+   * @return true if the intersection matrix matches the pattern
+   */
+  public static boolean relate(PreparedPolygon prep, Geometry geom, String intersectionPattern)
+  {
+    PreparedPolygonRelate op = new PreparedPolygonRelate(prep);
+    return op.relate(geom, intersectionPattern);
+  }
+
+  /**
+   * Creates an instance of this operation.
+   *
+   * @param prepPoly the PreparedPolygon to evaluate
+   */
+  public PreparedPolygonRelate(PreparedPolygon prepPoly)
+  {
+    super(prepPoly);
+  }
+
+  /**
+   * Computes the DE-9IM matrix between this PreparedPolygon and a given geometry.
+   *
+   * @param geom the test geometry
+   * @return the intersection matrix
+   */
+  public IntersectionMatrix relate(Geometry geom)
+  {
+    IntersectionMatrix im = computeFastIM(geom);
+    if (im != null) return im;
+    return fullRelate(geom);
+  }
+
+  /**
+   * Tests whether the DE-9IM matrix between this PreparedPolygon
+   * and a given geometry matches a pattern.
+   *
+   * @param geom the test geometry
+   * @param intersectionPattern the pattern to match
+   * @return true if the intersection matrix matches the pattern
+   */
+  public boolean relate(Geometry geom, String intersectionPattern)
+  {
+    // let the full relate report unsupported arguments
+    if (isHeterogeneousCollection(geom))
+      return fullRelate(geom).matches(intersectionPattern);
+    if (intersectionPattern.length() != 9) {
+      throw new IllegalArgumentException("Should be length 9: " + intersectionPattern);
+    }
+    if (! isEnvelopeCompatible(geom, intersectionPattern))
+      return false;
+    return relate(geom).matches(intersectionPattern);
+  }
+
+  /**
+   * Tests whether a pattern can possibly match,
+   * given the envelopes of the inputs.
+   *
+   * @param geom the test geometry
+   * @param pattern the pattern to match
+   * @return false if the pattern cannot match
+   */
+  private boolean isEnvelopeCompatible(Geometry geom, String pattern)
+  {
+    Geometry target = prepPoly.getGeometry();
+    if (target.isEmpty() || geom.isEmpty())
+      return true;
+    Envelope targetEnv = target.getEnvelopeInternal();
+    Envelope testEnv = geom.getEnvelopeInternal();
+
+    // any interaction between interiors or boundaries requires envelopes to intersect
+    if (isRequiredNonEmpty(pattern, Location.INTERIOR, Location.INTERIOR)
+        || isRequiredNonEmpty(pattern, Location.INTERIOR, Location.BOUNDARY)
+        || isRequiredNonEmpty(pattern, Location.BOUNDARY, Location.INTERIOR)
+        || isRequiredNonEmpty(pattern, Location.BOUNDARY, Location.BOUNDARY)) {
+      if (! targetEnv.intersects(testEnv)) return false;
+    }
+    // the target interior is covered by the test geometry
+    if (isRequiredEmpty(pattern, Location.INTERIOR, Location.EXTERIOR)) {
+      if (! testEnv.covers(targetEnv)) return false;
+    }
+    // the test interior is covered by the target geometry
+    if (isRequiredEmpty(pattern, Location.EXTERIOR, Location.INTERIOR)) {
+      if (! targetEnv.covers(testEnv)) return false;
+    }
+    return true;
+  }
+
+  private static boolean isRequiredEmpty(String pattern, int locA, int locB)
+  {
+    return pattern.charAt(3 * locA + locB) == Dimension.SYM_FALSE;
+  }
+
+  private static boolean isRequiredNonEmpty(String pattern, int locA, int locB)
+  {
+    char sym = pattern.charAt(3 * locA + locB);
+    return sym == Dimension.SYM_TRUE
+        || sym == Dimension.SYM_P || sym == Dimension.SYM_L || sym == Dimension.SYM_A;
+  }
+
+  /**
+   * Computes the intersection matrix using only the prepared
+   * indexes, if possible.
+   *
+   * @param geom the test geometry
+   * @return the intersection matrix, or null if it cannot be determined
+   */
+  private IntersectionMatrix computeFastIM(Geometry geom)
+  {
+    Geometry target = prepPoly.getGeometry();
+    // let the full relate handle (and report) unsupported or degenerate cases
+    if (target.isEmpty() || geom.isEmpty()) return null;
+    if (isHeterogeneousCollection(geom)) return null;
+
+    /**
+     * RelateOp uses the nominal boundary dimension when the envelopes are disjoint,
+     * so that is matched here
+     */
+    if (! target.getEnvelopeInternal().intersects(geom.getEnvelopeInternal()))
+      return disjointIM(geom, geom.getBoundaryDimension());
+
+    if (geom instanceof Puntal)
+      return puntalIM(geom);
+
+    List lineSegStr = SegmentStringUtil.extractSegmentStrings(geom);
+    boolean segsIntersect = prepPoly.getIntersectionFinder().intersects(lineSegStr);
+    if (segsIntersect)
+      return null;
+
+    /**
+     * Given that no segments intersect,
+     * each test component lies wholly in either the interior or exterior of the target
+     * and the target components are either all inside the test area or all outside it.
+     */
+    boolean isTargetInTestArea = geom instanceof Polygonal
+        && isAnyTargetComponentInAreaTest(geom, prepPoly.getRepresentativePoints());
+    if (isTargetInTestArea)
+      return null;
+
+    if (isAllTestComponentsInTargetInterior(geom))
+      return interiorIM(geom);
+    if (! isAnyTestComponentInTarget(geom))
+      return disjointIM(geom, boundaryDimension(geom));
+    return null;
+  }
+
+  private static boolean isHeterogeneousCollection(Geometry geom)
+  {
+    return geom instanceof GeometryCollection
+        && ! (geom instanceof Puntal)
+        && ! (geom instanceof Lineal)
+        && ! (geom instanceof Polygonal);
+  }
+
+  /**
+   * Creates the matrix for the case where the test geometry
+   * is disjoint from the target.
+   *
+   * @param geom the test geometry
+   * @param boundaryDim the dimension of the boundary of the test geometry
+   * @return the intersection matrix
+   */
+  private IntersectionMatrix disjointIM(Geometry geom, int boundaryDim)
+  {
+    Geometry target = prepPoly.getGeometry();
+    IntersectionMatrix im = new IntersectionMatrix();
+    im.set(Location.EXTERIOR, Location.EXTERIOR, 2);
+    im.set(Location.INTERIOR, Location.EXTERIOR, target.getDimension());
+    im.set(Location.BOUNDARY, Location.EXTERIOR, target.getBoundaryDimension());
+    im.set(Location.EXTERIOR, Location.INTERIOR, geom.getDimension());
+    im.set(Location.EXTERIOR, Location.BOUNDARY, boundaryDim);
+    return im;
+  }
+
+  /**
+   * Creates the matrix for the case where the test geometry
+   * lies wholly in the interior of the target.
+   *
+   * @param geom the test geometry
+   * @return the intersection matrix
+   */
+  private IntersectionMatrix interiorIM(Geometry geom)
+  {
+    Geometry target = prepPoly.getGeometry();
+    IntersectionMatrix im = new IntersectionMatrix();
+    im.set(Location.EXTERIOR, Location.EXTERIOR, 2);
+    im.set(Location.INTERIOR, Location.INTERIOR, geom.getDimension());
+    im.set(Location.INTERIOR, Location.BOUNDARY, boundaryDimension(geom));
+    im.set(Location.INTERIOR, Location.EXTERIOR, target.getDimension());
+    im.set(Location.BOUNDARY, Location.EXTERIOR, target.getBoundaryDimension());
+    return im;
+  }
+
+  /**
+   * Computes the dimension of the boundary of a test geometry
+   * under the Mod-2 rule used by {@link RelateOp}.
+   * A lineal geometry whose components are not all closed may still
+   * have an empty boundary (e.g. two lines which together form a ring),
+   * so the boundary emptiness is checked explicitly.
+   *
+   * @param geom the test geometry
+   * @return the dimension of the boundary of the geometry
+   */
+  private static int boundaryDimension(Geometry geom)
+  {
+    if (geom instanceof Lineal && geom.getBoundary().isEmpty())
+      return Dimension.FALSE;
+    return geom.getBoundaryDimension();
+  }
+
+  /**
+   * Computes the matrix for a {@link Puntal} test geometry
+   * by locating each point against the target.
+   *
+   * @param geom the test geometry
+   * @return the intersection matrix
+   */
+  private IntersectionMatrix puntalIM(Geometry geom)
+  {
+    Geometry target = prepPoly.getGeometry();
+    IntersectionMatrix im = new IntersectionMatrix();
+    im.set(Location.EXTERIOR, Location.EXTERIOR, 2);
+    im.set(Location.INTERIOR, Location.EXTERIOR, target.getDimension());
+    im.set(Location.BOUNDARY, Location.EXTERIOR, target.getBoundaryDimension());
+
+    Coordinate[] pts = geom.getCoordinates();
+    for (int i = 0; i < pts.length; i++) {
+      int loc = prepPoly.getPointLocator().locate(pts[i]);
+      im.setAtLeast(loc, Location.INTERIOR, 0);
+    }
+    return im;
+  }
+
+  /**
+   * Computes the full topological relationship.
+   * Used when short-circuit tests are not conclusive.
+   *
+   * @param geom the test geometry
+   * @return the intersection matrix
+   */
+  private IntersectionMatrix fullRelate(Geometry geom)
+  {
+    return prepPoly.getGeometry().relate(geom);
+  }
+}
@@ -38,7 +38,11 @@ import org.locationtech.jts.io.WKTWriter;
 public class SortedPackedIntervalRTree 
 {
   private List leaves = new ArrayList();
-	private IntervalRTreeNode root = null;
+	/**
+	 * Built lazily on first query.
+	 * Volatile so that the tree is safely published to querying threads. 
+	 */
+	private volatile IntervalRTreeNode root = null;
 	
 	public SortedPackedIntervalRTree()
 	{
@@ -346,4 +346,59 @@ public class KdTree {
       
     });
   }
-}
\ No newline at end of file
+
+  /**
+   * Finds the node in the index which is nearest to a point.
+   * If several nodes are equally near, one of them is returned.
+   * 
+   * @param p
+   *          the query point
+   * @return the nearest node, or null if the index is empty
+   */
+  public KdNode nearestNeighbor(Coordinate p) {
+    NearestNeighborSearch search = new NearestNeighborSearch(p);
+    search.searchNode(root, true);
+    return search.getNode();
+  }
+
+  static private class NearestNeighborSearch {
+
+    private Coordinate p;
+    private KdNode nearestNode = null;
+    private double nearestDistSq = Double.POSITIVE_INFINITY;
+
+    public NearestNeighborSearch(Coordinate p) {
+      this.p = p;
+    }
+
+    public KdNode getNode() {
+      return nearestNode;
+    }
+
+    void searchNode(KdNode currentNode, boolean odd) {
+      if (currentNode == null)
+        return;
+
+      double dx = p.x - currentNode.getX();
+      double dy = p.y - currentNode.getY();
+      double distSq = dx * dx + dy * dy;
+      if (distSq < nearestDistSq) {
+        nearestNode = currentNode;
+        nearestDistSq = distSq;
+      }
+
+      /**
+       * Search the side of the splitting line containing the point first.
+       * The other side only needs to be searched if the 
+       * splitting line is closer than the nearest node found.
+       */
+      double diff = odd ? dx : dy;
+      KdNode near = diff < 0 ? currentNode.getLeft() : currentNode.getRight();
+      KdNode far = diff < 0 ? currentNode.getRight() : currentNode.getLeft();
+      searchNode(near, !odd);
+      if (diff * diff < nearestDistSq) {
+        searchNode(far, !odd);
+      }
+    }
+  }
+}
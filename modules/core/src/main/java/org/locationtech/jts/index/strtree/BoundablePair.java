@@ -14,6 +14,7 @@ package org.locationtech.jts.index.strtree;
 import java.util.Iterator;
 import java.util.List;
 
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.util.PriorityQueue;
 
@@ -83,21 +84,17 @@ class BoundablePair
   }
 
   
-  /*
-  public double getMaximumDistance()
-  {
-  	if (maxDistance < 0.0)
-  		maxDistance = maxDistance();
-  	return maxDistance;
-  }
-  */
-  
-  /*
-  private double maxDistance()
+  /**
+   * Computes the maximum distance between any
+   * two items of the pair of nodes.
+   * 
+   * @return the maximum distance between items in the pair
+   */
+  public double maximumDistance()
   {
     return maximumDistance( 
         (Envelope) boundable1.getBounds(),
-        (Envelope) boundable2.getBounds());      	
+        (Envelope) boundable2.getBounds());       
   }
   
   private static double maximumDistance(Envelope env1, Envelope env2)
@@ -110,7 +107,6 @@ class BoundablePair
     Coordinate max = new Coordinate(maxx, maxy);
     return min.distance(max);
   }
-  */
   
   /**
    * Gets the minimum possible distance between the Boundables in
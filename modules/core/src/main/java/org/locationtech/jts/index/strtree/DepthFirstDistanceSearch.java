@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.index.strtree;
+
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * The depth-first Branch-and-Bound search shared by
+ * {@link PointDistanceSearch} and {@link ItemDistanceSearch}.
+ * Subclasses supply the distance from the query to an envelope
+ * and to an item.
+ * <p>
+ * The buffers used to order the children of nodes are kept
+ * for each tree level, and reused by all searches.
+ */
+abstract class DepthFirstDistanceSearch
+{
+  /**
+   * Allows for round-off in the distances used for pruning,
+   * so that an item is never pruned if its computed distance
+   * might be the minimum.
+   */
+  private static final double BOUND_FACTOR = 1.0 + 1.0E-12;
+
+  private double[][] childDist = new double[0][];
+  private int[][] childOrder = new int[0][];
+
+  // the state of the current search
+  private double minDist;
+  private double exitDist;
+  private boolean isFound;
+
+  /**
+   * Computes the distance from the query to the nearest item
+   * within a maximum distance.
+   *
+   * @param root the root node of the tree to search
+   * @param maxDistance the maximum distance to search
+   * @param exitDistance the distance at which to terminate the search
+   * @return the distance to the nearest item found,
+   *   or the maximum distance if no item is within it
+   */
+  double search(AbstractNode root, double maxDistance, double exitDistance)
+  {
+    minDist = maxDistance;
+    exitDist = exitDistance;
+    isFound = false;
+    int height = root.getLevel() + 1;
+    if (childDist.length < height) {
+      double[][] newDist = new double[height][];
+      int[][] newOrder = new int[height][];
+      System.arraycopy(childDist, 0, newDist, 0, childDist.length);
+      System.arraycopy(childOrder, 0, newOrder, 0, childOrder.length);
+      childDist = newDist;
+      childOrder = newOrder;
+    }
+    search(root);
+    return minDist;
+  }
+
+  /**
+   * Tests whether the last search found an item within the maximum distance.
+   *
+   * @return true if an item was found
+   */
+  boolean isFound()
+  {
+    return isFound;
+  }
+
+  /**
+   * Computes the distance from the query to an envelope.
+   * This must not be greater than the distance to any item in the envelope.
+   *
+   * @param env an envelope of a tree node or item
+   * @return the distance from the query to the envelope
+   */
+  abstract double boundsDistance(Envelope env);
+
+  /**
+   * Computes the distance from the query to an item.
+   *
+   * @param item an item of the tree
+   * @return the distance from the query to the item
+   */
+  abstract double itemDistance(ItemBoundable item);
+
+  private void search(AbstractNode node)
+  {
+    List children = node.getChildBoundables();
+    int n = children.size();
+    int level = node.getLevel();
+    if (childDist[level] == null || childDist[level].length < n) {
+      childDist[level] = new double[n];
+      childOrder[level] = new int[n];
+    }
+    double[] dist = childDist[level];
+    int[] order = childOrder[level];
+
+    // visit children in order of distance, so that the nearest items are found first
+    for (int i = 0; i < n; i++) {
+      Envelope env = (Envelope) ((Boundable) children.get(i)).getBounds();
+      double d = boundsDistance(env);
+      int j = i;
+      while (j > 0 && dist[j - 1] > d) {
+        dist[j] = dist[j - 1];
+        order[j] = order[j - 1];
+        j--;
+      }
+      dist[j] = d;
+      order[j] = i;
+    }
+
+    for (int i = 0; i < n; i++) {
+      // the remaining children cannot contain a nearer item
+      if (dist[i] > minDist * BOUND_FACTOR) return;
+      Boundable child = (Boundable) children.get(order[i]);
+      if (child instanceof AbstractNode) {
+        search((AbstractNode) child);
+      }
+      else {
+        double d = itemDistance((ItemBoundable) child);
+        if (d <= minDist) {
+          minDist = d;
+          isFound = true;
+        }
+      }
+      if (minDist <= exitDist) return;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.index.strtree;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Finds the distance from a query item to the nearest item in an {@link STRtree},
+ * by a depth-first Branch-and-Bound search.
+ * The distance between items is computed by an {@link ItemDistance}.
+ * This is the same search as {@link PointDistanceSearch},
+ * with the query given by an {@link ItemBoundable} rather than a point.
+ * <p>
+ * The search is limited to a maximum distance,
+ * so that nodes further than that from the query are never visited.
+ * This allows computing many bounded distances cheaply,
+ * for instance from each of the items of one tree to another tree.
+ * <p>
+ * The buffers used to order the children of nodes are reused by all searches,
+ * including searches of different trees.
+ * This means that an instance is not thread-safe.
+ * Threads should use separate instances (which may share the trees).
+ */
+public class ItemDistanceSearch
+  extends DepthFirstDistanceSearch
+{
+  private ItemDistance itemDist;
+
+  // the query of the current search
+  private ItemBoundable query;
+  private Envelope queryEnv;
+
+  /**
+   * Creates a new search using a given item distance function.
+   *
+   * @param itemDist the distance function for the items
+   */
+  public ItemDistanceSearch(ItemDistance itemDist)
+  {
+    this.itemDist = itemDist;
+  }
+
+  /**
+   * Computes the distance from an item to the nearest item of a tree
+   * within a maximum distance.
+   * The search terminates early if an item is found within a given exit distance,
+   * in which case the distance to that item is returned.
+   * <p>
+   * The root is passed rather than the tree,
+   * since getting the root of a tree synchronizes on the tree.
+   *
+   * @param root the root node of the tree to search (see {@link AbstractSTRtree#getRoot()})
+   * @param item the query item
+   * @param maxDistance the maximum distance to search
+   * @param exitDistance the distance at which to terminate the search
+   * @return the distance to the nearest item, if it is not greater than the maximum distance,
+   *   or the distance to an item within the exit distance,
+   *   or {@link Double#POSITIVE_INFINITY} if no item is within the maximum distance
+   */
+  public double distance(AbstractNode root, ItemBoundable item,
+      double maxDistance, double exitDistance)
+  {
+    query = item;
+    queryEnv = (Envelope) item.getBounds();
+    double dist = search(root, maxDistance, exitDistance);
+    return isFound() ? dist : Double.POSITIVE_INFINITY;
+  }
+
+  double boundsDistance(Envelope env)
+  {
+    return queryEnv.distance(env);
+  }
+
+  double itemDistance(ItemBoundable item)
+  {
+    return itemDist.distance(query, item);
+  }
+}
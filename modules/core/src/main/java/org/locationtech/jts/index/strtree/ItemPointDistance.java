@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.index.strtree;
+
+import org.locationtech.jts.geom.Coordinate;
+
+/**
+ * A function method which computes the distance
+ * from a point to an item in an {@link STRtree}.
+ * Used by {@link PointDistanceSearch}.
+ */
+public interface ItemPointDistance 
+{
+  /**
+   * Computes the distance from a point to an item.
+   * 
+   * @param item the item
+   * @param pt the point
+   * @return the distance from the point to the item
+   */
+  double distance(Object item, Coordinate pt);
+
+}
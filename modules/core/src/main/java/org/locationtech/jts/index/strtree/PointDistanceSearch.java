@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.index.strtree;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Finds the distance from a point to the nearest item in an {@link STRtree},
+ * by a depth-first Branch-and-Bound search.
+ * The distance to an item is computed by an {@link ItemPointDistance}.
+ * The children of each node are visited in order of the distance
+ * from the point to their envelopes,
+ * and nodes which are further than the nearest item found so far are pruned.
+ * Envelopes are pruned only if they are further away by more than
+ * a small tolerance, to allow for round-off in the item distances.
+ * This means that all items at the minimum distance are visited, 
+ * so the item distance function can choose between equally near items.
+ * <p>
+ * The buffers used to order the children of nodes are reused by all searches.
+ * This makes searches for many points much faster than
+ * {@link STRtree#nearestNeighbour(Envelope, Object, ItemDistance)},
+ * but it means that an instance is not thread-safe.
+ * Threads should use separate instances (which may share the tree).
+ */
+public class PointDistanceSearch 
+  extends DepthFirstDistanceSearch
+{
+  /**
+   * Computes the distance from a point to the nearest point of an {@link Envelope}.
+   * 
+   * @param env an envelope
+   * @param pt a point
+   * @return the distance from the point to the envelope
+   */
+  public static double distance(Envelope env, Coordinate pt)
+  {
+    double dx = 0.0;
+    if (pt.x < env.getMinX()) dx = env.getMinX() - pt.x;
+    else if (pt.x > env.getMaxX()) dx = pt.x - env.getMaxX();
+    double dy = 0.0;
+    if (pt.y < env.getMinY()) dy = env.getMinY() - pt.y;
+    else if (pt.y > env.getMaxY()) dy = pt.y - env.getMaxY();
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
+  private AbstractNode root;
+  private ItemPointDistance itemDist;
+
+  // the query point of the current search
+  private Coordinate pt;
+
+  /**
+   * Creates a new search of a tree.
+   * The tree is built if it has not been already.
+   * 
+   * @param tree the tree to search
+   * @param itemDist the distance function for the items of the tree
+   */
+  public PointDistanceSearch(STRtree tree, ItemPointDistance itemDist)
+  {
+    this.itemDist = itemDist;
+    root = tree.getRoot();
+  }
+
+  /**
+   * Computes the distance from a point to the nearest item.
+   * 
+   * @param pt the point
+   * @return the distance to the nearest item, 
+   *   or {@link Double#POSITIVE_INFINITY} if the tree is empty
+   */
+  public double distance(Coordinate pt)
+  {
+    return distance(pt, Double.POSITIVE_INFINITY, 0.0);
+  }
+
+  /**
+   * Computes the distance from a point to the nearest item
+   * within a maximum distance.
+   * Items whose envelopes are further than the maximum distance are not visited.
+   * The search terminates early if an item is found within a given exit distance,
+   * in which case the distance to that item is returned.
+   * A negative exit distance means the search never terminates early.
+   * 
+   * @param pt the point
+   * @param maxDistance the maximum distance to search
+   * @param exitDistance the distance at which to terminate the search
+   * @return the distance to the nearest item, if it is not greater than the maximum distance,
+   *   or the distance to an item within the exit distance,
+   *   or the maximum distance if no item is within it
+   */
+  public double distance(Coordinate pt, double maxDistance, double exitDistance)
+  {
+    this.pt = pt;
+    return search(root, maxDistance, exitDistance);
+  }
+
+  double boundsDistance(Envelope env)
+  {
+    return distance(env, pt);
+  }
+
+  double itemDistance(ItemBoundable item)
+  {
+    return itemDist.distance(item.getItem(), pt);
+  }
+}
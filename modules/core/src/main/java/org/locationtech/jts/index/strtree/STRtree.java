@@ -333,6 +333,82 @@ implements SpatialIndex, Serializable
     return nearestNeighbour(bp);
   }
   
+  /**
+   * Tests whether some two items from this tree and another tree
+   * lie within a given distance.
+   * {@link ItemDistance} is used to compute the distance between items.
+   * A Branch-and-Bound tree traversal algorithm is used,
+   * which terminates as soon as a pair of items within the distance is found
+   * and prunes pairs of nodes which are further apart than the distance.
+   * 
+   * @param tree another tree
+   * @param itemDist a distance metric applicable to the items in the trees
+   * @param maxDistance the distance limit for the search
+   * @return true if there are items within the distance
+   */
+  public boolean isWithinDistance(STRtree tree, ItemDistance itemDist, double maxDistance)
+  {
+    if (isEmpty() || tree.isEmpty()) return false;
+    BoundablePair bp = new BoundablePair(this.getRoot(), tree.getRoot(), itemDist);
+    return isWithinDistance(bp, maxDistance);
+  }
+  
+  private boolean isWithinDistance(BoundablePair initBndPair, double maxDistance) 
+  {
+    // initialize internal structures
+    PriorityQueue priQ = new PriorityQueue();
+
+    // initialize queue
+    priQ.add(initBndPair);
+
+    while (! priQ.isEmpty()) {
+      // pop head of queue and expand one side of pair
+      BoundablePair bndPair = (BoundablePair) priQ.poll();
+      double currentDistance = bndPair.getDistance();
+      
+      /**
+       * If the distance for the first node in the queue
+       * is > the max distance, all other nodes
+       * in the queue must also have a greater distance.
+       * So no items are within the distance.
+       */
+      if (currentDistance > maxDistance) 
+        return false;  
+
+      /**
+       * If the maximum distance between the nodes
+       * is less than the maxDistance,
+       * then all items in the nodes must be 
+       * closer than the max distance.
+       * Then can terminate with a result of true.
+       * 
+       * NOTE: using Envelope MinMaxDistance 
+       * would provide a tighter bound,
+       * but not much performance improvement has been observed 
+       */
+      if (bndPair.maximumDistance() <= maxDistance)
+        return true;
+      
+      /**
+       * If the pair items are leaves
+       * then their actual distance is an upper bound.
+       * Since the pair distance is not greater than maxDistance,
+       * the items are within the distance.
+       */
+      if (bndPair.isLeaves()) {
+        return true;
+      }
+      
+      /**
+       * Otherwise, expand one side of the pair,
+       * and insert the expanded pairs into the queue.
+       * The choice of which side to expand is determined heuristically.
+       */
+      bndPair.expandToQueue(priQ, Double.POSITIVE_INFINITY);
+    }
+    return false;
+  }
+  
   private Object[] nearestNeighbour(BoundablePair initBndPair) 
   {
     return nearestNeighbour(initBndPair, Double.POSITIVE_INFINITY);
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.linearref;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A {@link LengthIndexedLine} which precomputes the cumulative lengths
+ * of the line segments and a spatial index of them.
+ * This allows index values to be located and points to be projected
+ * onto the line in logarithmic time, rather than in time proportional to the
+ * number of segments.
+ * It is intended for referencing many points along long lines.
+ * The results are the same as those computed by {@link LengthIndexedLine}.
+ * <p>
+ * The line geometry must not be modified after the index is created.
+ * Instances may be used by multiple threads concurrently.
+ *
+ * @see IndexedLocationIndexedLine
+ */
+public class IndexedLengthIndexedLine
+  extends LengthIndexedLine
+{
+  private Geometry linearGeom;
+  private double length;
+  private LinearSegmentIndex segIndex;
+
+  /**
+   * Constructs an object which allows a linear {@link Geometry}
+   * to be linearly referenced using length as an index,
+   * building the index of its segments.
+   *
+   * @param linearGeom the linear geometry to reference along
+   */
+  public IndexedLengthIndexedLine(Geometry linearGeom) {
+    super(linearGeom);
+    this.linearGeom = linearGeom;
+    length = linearGeom.getLength();
+    segIndex = new LinearSegmentIndex(linearGeom);
+  }
+
+  public Coordinate extractPoint(double index)
+  {
+    LinearLocation loc = locationOf(index, true);
+    return loc.getCoordinate(linearGeom);
+  }
+
+  public Coordinate extractPoint(double index, double offsetDistance)
+  {
+    LinearLocation loc = locationOf(index, true);
+    LinearLocation locLow = loc.toLowest(linearGeom);
+    return locLow.getSegment(linearGeom).pointAlongOffset(locLow.getSegmentFraction(), offsetDistance);
+  }
+
+  public Geometry extractLine(double startIndex, double endIndex)
+  {
+    double startIndex2 = clampIndex(startIndex);
+    double endIndex2 = clampIndex(endIndex);
+    // if extracted line is zero-length, resolve start lower as well to ensure they are equal
+    boolean resolveStartLower = startIndex2 == endIndex2;
+    LinearLocation startLoc = locationOf(startIndex2, resolveStartLower);
+    LinearLocation endLoc = locationOf(endIndex2, true);
+    return ExtractLineByLocation.extract(linearGeom, startLoc, endLoc);
+  }
+
+  /**
+   * Computes the {@link LinearLocation} of a length index on the line.
+   * Ambiguous indexes are resolved to the lowest possible location value.
+   *
+   * @param index a length index
+   * @return the location of the index
+   */
+  public LinearLocation locationOf(double index)
+  {
+    return locationOf(index, true);
+  }
+
+  private LinearLocation locationOf(double index, boolean resolveLower)
+  {
+    return segIndex.getLocation(index, length, resolveLower);
+  }
+
+  /**
+   * Computes the length index of a {@link LinearLocation} on the line.
+   *
+   * @param loc a location on the line
+   * @return the length index of the location
+   */
+  public double lengthOf(LinearLocation loc)
+  {
+    return segIndex.getLength(loc);
+  }
+
+  public double indexOf(Coordinate pt)
+  {
+    return segIndex.indexOf(pt, -1.0);
+  }
+
+  public double indexOfAfter(Coordinate pt, double minIndex)
+  {
+    return segIndex.indexOfAfter(pt, minIndex, length);
+  }
+
+  public double[] indicesOf(Geometry subLine)
+  {
+    LinearLocation[] locIndex = segIndex.indicesOf(subLine);
+    double[] indices = new double[] {
+      segIndex.getLength(locIndex[0]),
+      segIndex.getLength(locIndex[1])
+      };
+    return indices;
+  }
+
+  public double project(Coordinate pt)
+  {
+    return segIndex.indexOf(pt, -1.0);
+  }
+
+  public double getEndIndex()
+  {
+    return length;
+  }
+
+  public double clampIndex(double index)
+  {
+    double posIndex = index;
+    if (index < 0.0) posIndex = length + index;
+
+    double startIndex = getStartIndex();
+    if (posIndex < startIndex) return startIndex;
+
+    double endIndex = getEndIndex();
+    if (posIndex > endIndex) return endIndex;
+
+    return posIndex;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.linearref;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A {@link LocationIndexedLine} which precomputes a spatial index
+ * of the line segments,
+ * so that points can be projected onto the line in logarithmic time
+ * rather than in time proportional to the number of segments.
+ * It is intended for referencing many points along long lines.
+ * The results are the same as those computed by {@link LocationIndexedLine}.
+ * <p>
+ * The line geometry must not be modified after the index is created.
+ * Instances may be used by multiple threads concurrently.
+ *
+ * @see IndexedLengthIndexedLine
+ */
+public class IndexedLocationIndexedLine
+  extends LocationIndexedLine
+{
+  private LinearSegmentIndex segIndex;
+
+  /**
+   * Constructs an object which allows linear referencing along
+   * a given linear {@link Geometry},
+   * building the index of its segments.
+   *
+   * @param linearGeom the linear geometry to reference along
+   */
+  public IndexedLocationIndexedLine(Geometry linearGeom)
+  {
+    super(linearGeom);
+    segIndex = new LinearSegmentIndex(linearGeom);
+  }
+
+  public LinearLocation indexOf(Coordinate pt)
+  {
+    return segIndex.locationOf(pt, null);
+  }
+
+  public LinearLocation indexOfAfter(Coordinate pt, LinearLocation minIndex)
+  {
+    return segIndex.locationOfAfter(pt, minIndex);
+  }
+
+  public LinearLocation[] indicesOf(Geometry subLine)
+  {
+    return segIndex.indicesOf(subLine);
+  }
+
+  public LinearLocation project(Coordinate pt)
+  {
+    return segIndex.locationOf(pt, null);
+  }
+}
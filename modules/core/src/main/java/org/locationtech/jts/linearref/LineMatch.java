@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.linearref;
+
+/**
+ * The result of matching a point to a set of lines
+ * by a {@link LineMatcher}.
+ * Records the index of the line the point was matched to,
+ * the location on the line nearest to the point,
+ * and the distance from the point to the line.
+ *
+ * @see LineMatcher
+ */
+public class LineMatch
+{
+  private int lineIndex;
+  private LinearLocation location;
+  private double distance;
+
+  /**
+   * Creates a new match.
+   *
+   * @param lineIndex the index of the matched line
+   * @param location the location on the matched line nearest to the point
+   * @param distance the distance from the point to the line
+   */
+  public LineMatch(int lineIndex, LinearLocation location, double distance)
+  {
+    this.lineIndex = lineIndex;
+    this.location = location;
+    this.distance = distance;
+  }
+
+  /**
+   * Gets the index of the matched line in the array of lines
+   * provided to the {@link LineMatcher}.
+   *
+   * @return the index of the matched line
+   */
+  public int getLineIndex() { return lineIndex; }
+
+  /**
+   * Gets the location on the matched line nearest to the point.
+   *
+   * @return the location of the match
+   */
+  public LinearLocation getLocation() { return location; }
+
+  /**
+   * Gets the distance from the point to the matched line.
+   *
+   * @return the distance to the line
+   */
+  public double getDistance() { return distance; }
+
+  public String toString()
+  {
+    return "LineMatch[" + lineIndex + ", " + location + ", " + distance + "]";
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.linearref;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.index.strtree.PointDistanceSearch;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.util.TaskUtil;
+
+/**
+ * Matches points to the nearest of a set of linear {@link Geometry}s
+ * (for instance, snapping GPS positions to a road network).
+ * Each match is reported as a {@link LineMatch}, containing the index of the
+ * nearest line, the {@link LinearLocation} of the nearest point on it,
+ * and the distance to it.
+ * Only lines within a given maximum distance of a point are matched.
+ * <p>
+ * The lines are indexed by envelope in an {@link STRtree}.
+ * For each point the lines whose envelopes are within the maximum distance
+ * are tested in order of envelope distance,
+ * stopping when the envelope of the next line is further away than the nearest
+ * line found so far.
+ * Each line is projected onto using an {@link IndexedLocationIndexedLine},
+ * which is created when the line is first required and reused for all later points.
+ * If several lines are equally near to a point, the one with the lowest index is matched.
+ * <p>
+ * Sequences of points are processed in batches.
+ * If an {@link ExecutorService} is {@link #setExecutor(ExecutorService) provided}
+ * the batches are processed in parallel by it.
+ * Otherwise all batches are processed in the calling thread.
+ * The executor is not shut down by this class.
+ *
+ * @see LineMatch
+ */
+public class LineMatcher
+{
+  /**
+   * The default number of points processed by each task
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private Geometry[] lines;
+  private AtomicReferenceArray indexedLines;
+  private STRtree lineIndex = new STRtree();
+  private ExecutorService executor = null;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+
+  /**
+   * Creates a new matcher for a set of lines.
+   * The lines must be {@link org.locationtech.jts.geom.LineString}s
+   * or {@link org.locationtech.jts.geom.MultiLineString}s.
+   * Empty lines are never matched.
+   *
+   * @param lines the lines to match points to
+   */
+  public LineMatcher(Geometry[] lines)
+  {
+    this.lines = lines;
+    indexedLines = new AtomicReferenceArray(lines.length);
+    for (int i = 0; i < lines.length; i++) {
+      if (lines[i].isEmpty()) continue;
+      lineIndex.insert(lines[i].getEnvelopeInternal(), Integer.valueOf(i));
+    }
+    // build the tree now, so that it is not built concurrently by queries
+    lineIndex.build();
+  }
+
+  /**
+   * Sets the executor used to process batches in parallel.
+   * If the executor is <tt>null</tt> (the default)
+   * the points are matched in the calling thread.
+   *
+   * @param executor the executor to use, or null
+   */
+  public void setExecutor(ExecutorService executor)
+  {
+    this.executor = executor;
+  }
+
+  /**
+   * Sets the number of points processed by each task.
+   * Larger batches reduce the overhead of task scheduling,
+   * at the cost of coarser load balancing.
+   *
+   * @param batchSize the batch size
+   */
+  public void setBatchSize(int batchSize)
+  {
+    if (batchSize < 1)
+      throw new IllegalArgumentException("Batch size must be at least 1");
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Matches a point to the nearest line within a maximum distance.
+   *
+   * @param pt the point to match
+   * @param maxDistance the maximum distance to a matched line
+   * @return the match for the point, or null if there is no line within the maximum distance
+   */
+  public LineMatch match(Coordinate pt, double maxDistance)
+  {
+    if (maxDistance < 0.0) return null;
+
+    Envelope searchEnv = new Envelope(pt);
+    searchEnv.expandBy(maxDistance);
+    List candidates = lineIndex.query(searchEnv);
+    int n = candidates.size();
+    if (n == 0) return null;
+
+    // sort the candidates by envelope distance, and then by index
+    int[] candIndex = new int[n];
+    double[] candDist = new double[n];
+    for (int k = 0; k < n; k++) {
+      int i = ((Integer) candidates.get(k)).intValue();
+      double d = PointDistanceSearch.distance(lines[i].getEnvelopeInternal(), pt);
+      int j = k;
+      while (j > 0 && (candDist[j - 1] > d
+          || (candDist[j - 1] == d && candIndex[j - 1] > i))) {
+        candDist[j] = candDist[j - 1];
+        candIndex[j] = candIndex[j - 1];
+        j--;
+      }
+      candDist[j] = d;
+      candIndex[j] = i;
+    }
+
+    LineMatch minMatch = null;
+    double minDistance = maxDistance;
+    for (int k = 0; k < n; k++) {
+      if (candDist[k] > minDistance) break;
+      int i = candIndex[k];
+      LinearLocation loc = getIndexedLine(i).project(pt);
+      double dist = pt.distance(loc.getCoordinate(lines[i]));
+      if (dist > minDistance) continue;
+      if (minMatch != null
+          && (dist > minMatch.getDistance()
+              || (dist == minMatch.getDistance() && i > minMatch.getLineIndex())))
+        continue;
+      minMatch = new LineMatch(i, loc, dist);
+      minDistance = dist;
+    }
+    return minMatch;
+  }
+
+  /**
+   * Matches the points in a sequence to the nearest lines
+   * within a maximum distance.
+   *
+   * @param pts the points to match
+   * @param maxDistance the maximum distance to a matched line
+   * @return the matches, in the order of the points,
+   *    with null for points which have no line within the maximum distance
+   */
+  public LineMatch[] match(CoordinateSequence pts, double maxDistance)
+  {
+    LineMatch[] result = new LineMatch[pts.size()];
+    List tasks = new ArrayList();
+    for (int start = 0; start < pts.size(); start += batchSize) {
+      int end = Math.min(start + batchSize, pts.size());
+      tasks.add(new BatchTask(pts, start, end, maxDistance, result));
+    }
+    TaskUtil.execute(executor, tasks);
+    return result;
+  }
+
+  /**
+   * Gets the indexed line for a line,
+   * creating it if required.
+   * The indexed lines are published without locking.
+   * Threads may occasionally both create an instance for the same line,
+   * in which case only the first one stored is used.
+   */
+  private IndexedLocationIndexedLine getIndexedLine(int i)
+  {
+    IndexedLocationIndexedLine line = (IndexedLocationIndexedLine) indexedLines.get(i);
+    if (line != null) return line;
+    line = new IndexedLocationIndexedLine(lines[i]);
+    if (indexedLines.compareAndSet(i, null, line))
+      return line;
+    return (IndexedLocationIndexedLine) indexedLines.get(i);
+  }
+
+  /**
+   * Matches a contiguous range of points.
+   */
+  private class BatchTask implements Callable
+  {
+    private CoordinateSequence pts;
+    private int start;
+    private int end;
+    private double maxDistance;
+    private LineMatch[] result;
+
+    BatchTask(CoordinateSequence pts, int start, int end, double maxDistance, LineMatch[] result)
+    {
+      this.pts = pts;
+      this.start = start;
+      this.end = end;
+      this.maxDistance = maxDistance;
+      this.result = result;
+    }
+
+    public Object call()
+    {
+      Coordinate pt = new Coordinate();
+      for (int i = start; i < end; i++) {
+        pts.getCoordinate(i, pt);
+        result[i] = match(pt, maxDistance);
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,583 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.linearref;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.util.Assert;
+
+/**
+ * Precomputes the cumulative lengths and a spatial index
+ * of the segments of a linear {@link Geometry},
+ * allowing length indexes, {@link LinearLocation}s and
+ * the nearest points to a point to be computed in logarithmic time.
+ * <p>
+ * The results are the same as those computed by
+ * {@link LengthLocationMap}, {@link LengthIndexOfPoint} and {@link LocationIndexOfPoint},
+ * which scan the entire geometry.
+ * In particular, the lengths are accumulated in the same order,
+ * and if several segments are equally near to a point the
+ * one closest to the start of the geometry is chosen.
+ * <p>
+ * The spatial index is a hierarchy of the envelopes of
+ * runs of consecutive segments.
+ * Since consecutive segments are usually close together
+ * the envelopes are small, and since each envelope contains a range of segments
+ * searches can also prune by length index or location.
+ * <p>
+ * Once created, an index may be queried from multiple threads concurrently.
+ */
+class LinearSegmentIndex
+{
+  // the number of children of each node of the envelope hierarchy
+  private static final int NODE_SIZE = 8;
+
+  /**
+   * Allows for round-off in the envelope distances used for pruning,
+   * so that a segment which might be nearest is never pruned.
+   */
+  private static final double BOUND_FACTOR = 1.0 + 1.0E-12;
+
+  private Geometry linearGeom;
+
+  /**
+   * The positions of the iteration over the geometry
+   * (segments and line ends), in the order of {@link LinearIterator}.
+   * The key is the length at the end of the position,
+   * which is non-decreasing.
+   */
+  private int numPos = 0;
+  private int[] posComp;
+  private int[] posVertex;
+  private boolean[] posIsSegment;
+  private double[] posKey;
+
+  // the segments, in order
+  private int numSeg = 0;
+  private int[] segComp;
+  private int[] segVertex;
+  private Coordinate[] segStart;
+  private Coordinate[] segEnd;
+  private double[] segLength;
+  private double[] segStartLength;
+
+  // the index of the first segment and the number of segments of each component
+  private int[] compFirstSeg;
+  private int[] compNumSeg;
+  private double totalLength = 0.0;
+
+  /**
+   * The envelopes of the nodes of each level of the hierarchy,
+   * as (minX, minY, maxX, maxY).
+   * Level 0 nodes contain segments, and higher level nodes contain the nodes below.
+   */
+  private double[][] nodeEnv;
+  private int[] numNodes;
+
+  public LinearSegmentIndex(Geometry linearGeom)
+  {
+    this.linearGeom = linearGeom;
+    build();
+    buildHierarchy();
+  }
+
+  private void build()
+  {
+    int size = 0;
+    for (LinearIterator it = new LinearIterator(linearGeom); it.hasNext(); it.next()) {
+      size++;
+    }
+    posComp = new int[size];
+    posVertex = new int[size];
+    posIsSegment = new boolean[size];
+    posKey = new double[size];
+    segComp = new int[size];
+    segVertex = new int[size];
+    segStart = new Coordinate[size];
+    segEnd = new Coordinate[size];
+    segLength = new double[size];
+    segStartLength = new double[size];
+    int numComp = linearGeom.getNumGeometries();
+    compFirstSeg = new int[numComp];
+    compNumSeg = new int[numComp];
+
+    for (LinearIterator it = new LinearIterator(linearGeom); it.hasNext(); it.next()) {
+      int comp = it.getComponentIndex();
+      posComp[numPos] = comp;
+      posVertex[numPos] = it.getVertexIndex();
+      if (it.isEndOfLine()) {
+        posKey[numPos] = totalLength;
+      }
+      else {
+        if (compNumSeg[comp] == 0)
+          compFirstSeg[comp] = numSeg;
+        compNumSeg[comp]++;
+        Coordinate p0 = it.getSegmentStart();
+        Coordinate p1 = it.getSegmentEnd();
+        double len = p1.distance(p0);
+        segComp[numSeg] = comp;
+        segVertex[numSeg] = it.getVertexIndex();
+        segStart[numSeg] = p0;
+        segEnd[numSeg] = p1;
+        segLength[numSeg] = len;
+        segStartLength[numSeg] = totalLength;
+        numSeg++;
+
+        totalLength += len;
+        posIsSegment[numPos] = true;
+        posKey[numPos] = totalLength;
+      }
+      numPos++;
+    }
+  }
+
+  private void buildHierarchy()
+  {
+    int numLevels = 1;
+    for (int n = numNodes(numSeg); n > 1; n = numNodes(n)) {
+      numLevels++;
+    }
+    nodeEnv = new double[numLevels][];
+    numNodes = new int[numLevels];
+
+    int n = numNodes(numSeg);
+    double[] env = new double[4 * n];
+    for (int i = 0; i < numSeg; i++) {
+      int node = i / NODE_SIZE;
+      expand(env, node, i % NODE_SIZE == 0, segStart[i].x, segStart[i].y);
+      expand(env, node, false, segEnd[i].x, segEnd[i].y);
+    }
+    nodeEnv[0] = env;
+    numNodes[0] = n;
+
+    for (int level = 1; level < numLevels; level++) {
+      double[] childEnv = nodeEnv[level - 1];
+      n = numNodes(numNodes[level - 1]);
+      env = new double[4 * n];
+      for (int i = 0; i < numNodes[level - 1]; i++) {
+        int node = i / NODE_SIZE;
+        expand(env, node, i % NODE_SIZE == 0, childEnv[4 * i], childEnv[4 * i + 1]);
+        expand(env, node, false, childEnv[4 * i + 2], childEnv[4 * i + 3]);
+      }
+      nodeEnv[level] = env;
+      numNodes[level] = n;
+    }
+  }
+
+  private static int numNodes(int numChildren)
+  {
+    return (numChildren + NODE_SIZE - 1) / NODE_SIZE;
+  }
+
+  private static void expand(double[] env, int node, boolean isInit, double x, double y)
+  {
+    int i = 4 * node;
+    if (isInit) {
+      env[i] = x;
+      env[i + 1] = y;
+      env[i + 2] = x;
+      env[i + 3] = y;
+      return;
+    }
+    if (x < env[i]) env[i] = x;
+    if (y < env[i + 1]) env[i + 1] = y;
+    if (x > env[i + 2]) env[i + 2] = x;
+    if (y > env[i + 3]) env[i + 3] = y;
+  }
+
+  //=======  Length and location mapping  =========
+
+  /**
+   * Computes the {@link LinearLocation} for a length along the line,
+   * in the same way as {@link LengthLocationMap#getLocation(double, boolean)}.
+   *
+   * @param length the length index
+   * @param lineLength the length of the line
+   * @param resolveLower whether to return the lowest location for a length
+   *    at the end of a component
+   * @return the location for the length
+   */
+  public LinearLocation getLocation(double length, double lineLength, boolean resolveLower)
+  {
+    double forwardLength = length;
+
+    // negative values are measured from end of geometry
+    if (length < 0.0) {
+      forwardLength = lineLength + length;
+    }
+    LinearLocation loc = getLocationForward(forwardLength);
+    if (resolveLower) {
+      return loc;
+    }
+    return resolveHigher(loc);
+  }
+
+  private LinearLocation getLocationForward(double length)
+  {
+    if (length <= 0.0)
+      return new LinearLocation();
+
+    /**
+     * The location is at the first position which is either
+     * a line end at the length, or a segment ending beyond the length.
+     * Since the keys are non-decreasing, this is found by binary search
+     * for the first position with key not less than the length.
+     */
+    int lo = 0;
+    int hi = numPos;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (posKey[mid] < length)
+        lo = mid + 1;
+      else
+        hi = mid;
+    }
+    for (int i = lo; i < numPos; i++) {
+      if (! posIsSegment[i]) {
+        if (posKey[i] == length) {
+          return new LinearLocation(posComp[i], posVertex[i], 0.0);
+        }
+      }
+      else if (posKey[i] > length) {
+        // the segment index is the same as the vertex index
+        int seg = findSegment(posComp[i], posVertex[i]);
+        double frac = (length - segStartLength[seg]) / segLength[seg];
+        return new LinearLocation(posComp[i], posVertex[i], frac);
+      }
+    }
+    // length is longer than line - return end location
+    return LinearLocation.getEndLocation(linearGeom);
+  }
+
+  private LinearLocation resolveHigher(LinearLocation loc)
+  {
+    if (! loc.isEndpoint(linearGeom))
+      return loc;
+    int compIndex = loc.getComponentIndex();
+    // if last component can't resolve any higher
+    if (compIndex >= linearGeom.getNumGeometries() - 1) return loc;
+
+    do {
+      compIndex++;
+    } while (compIndex < linearGeom.getNumGeometries() - 1
+        && linearGeom.getGeometryN(compIndex).getLength() == 0);
+    // resolve to next higher location
+    return new LinearLocation(compIndex, 0, 0.0);
+  }
+
+  /**
+   * Computes the length along the line of a location,
+   * in the same way as {@link LengthLocationMap#getLength(LinearLocation)}.
+   *
+   * @param loc a location on the line
+   * @return the length of the location
+   */
+  public double getLength(LinearLocation loc)
+  {
+    int seg = findSegment(loc.getComponentIndex(), loc.getSegmentIndex());
+    if (seg < 0)
+      return totalLength;
+    return segStartLength[seg] + segLength[seg] * loc.getSegmentFraction();
+  }
+
+  private int findSegment(int comp, int vertex)
+  {
+    if (comp < 0 || comp >= compNumSeg.length) return -1;
+    if (vertex < 0 || vertex >= compNumSeg[comp]) return -1;
+    return compFirstSeg[comp] + vertex;
+  }
+
+  //=======  Nearest point  =========
+
+  /**
+   * Computes the length index of the point on the line nearest to a given point,
+   * which is after a given minimum index,
+   * in the same way as {@link LengthIndexOfPoint}.
+   *
+   * @param pt the point to project
+   * @param minIndex the index the result must be greater than, or -1.0
+   * @return the length index of the nearest point, or minIndex if there is none
+   */
+  public double indexOf(Coordinate pt, double minIndex)
+  {
+    NearestSegmentSearch search = new NearestSegmentSearch(pt, minIndex, null, false);
+    int seg = search.find();
+    if (seg < 0) return minIndex;
+    return search.getMeasure();
+  }
+
+  /**
+   * Computes the length index of the point on the line nearest to a given point,
+   * which is after a given minimum index,
+   * in the same way as {@link LengthIndexOfPoint#indexOfAfter(Coordinate, double)}.
+   *
+   * @param pt the point to project
+   * @param minIndex the index the result must be greater than or equal to
+   * @param lineLength the length of the line
+   * @return the length index of the nearest point
+   */
+  public double indexOfAfter(Coordinate pt, double minIndex, double lineLength)
+  {
+    if (minIndex < 0.0) return indexOf(pt, -1.0);
+
+    // sanity check for minIndex at or past end of line
+    double endIndex = lineLength;
+    if (endIndex < minIndex)
+      return endIndex;
+
+    double closestAfter = indexOf(pt, minIndex);
+    Assert.isTrue(closestAfter >= minIndex,
+                  "computed index is before specified minimum index");
+    return closestAfter;
+  }
+
+  /**
+   * Computes the location of the point on the line nearest to a given point,
+   * which is after a given minimum location,
+   * in the same way as {@link LocationIndexOfPoint}.
+   *
+   * @param pt the point to project
+   * @param minLoc the location the result must be after, or null
+   * @return the location of the nearest point
+   */
+  public LinearLocation locationOf(Coordinate pt, LinearLocation minLoc)
+  {
+    NearestSegmentSearch search = new NearestSegmentSearch(pt, -1.0, minLoc, true);
+    int seg = search.find();
+    if (seg < 0) {
+      // no minimum was found past minLocation, so return it
+      return new LinearLocation(minLoc);
+    }
+    return new LinearLocation(segComp[seg], segVertex[seg], search.getSegmentFraction());
+  }
+
+  /**
+   * Computes the location of the point on the line nearest to a given point,
+   * which is after a given minimum location,
+   * in the same way as {@link LocationIndexOfPoint#indexOfAfter(Coordinate, LinearLocation)}.
+   *
+   * @param pt the point to project
+   * @param minLoc the location the result must be at or after, or null
+   * @return the location of the nearest point
+   */
+  public LinearLocation locationOfAfter(Coordinate pt, LinearLocation minLoc)
+  {
+    if (minLoc == null) return locationOf(pt, null);
+
+    // sanity check for minLocation at or past end of line
+    LinearLocation endLoc = LinearLocation.getEndLocation(linearGeom);
+    if (endLoc.compareTo(minLoc) <= 0)
+      return endLoc;
+
+    LinearLocation closestAfter = locationOf(pt, minLoc);
+    Assert.isTrue(closestAfter.compareTo(minLoc) >= 0,
+                  "computed location is before specified minimum location");
+    return closestAfter;
+  }
+
+  /**
+   * Computes the locations of the start and end points of a subline,
+   * in the same way as {@link LocationIndexOfLine}.
+   *
+   * @param subLine a subline of the line
+   * @return the locations of the start and end of the subline
+   */
+  public LinearLocation[] indicesOf(Geometry subLine)
+  {
+    Coordinate startPt = ((LineString) subLine.getGeometryN(0)).getCoordinateN(0);
+    LineString lastLine = (LineString) subLine.getGeometryN(subLine.getNumGeometries() - 1);
+    Coordinate endPt = lastLine.getCoordinateN(lastLine.getNumPoints() - 1);
+
+    LinearLocation[] subLineLoc = new LinearLocation[2];
+    subLineLoc[0] = locationOf(startPt, null);
+
+    // check for case where subline is zero length
+    if (subLine.getLength() == 0.0) {
+      subLineLoc[1] = subLineLoc[0].copy();
+    }
+    else  {
+      subLineLoc[1] = locationOfAfter(endPt, subLineLoc[0]);
+    }
+    return subLineLoc;
+  }
+
+  /**
+   * Searches the envelope hierarchy for the nearest segment to a point
+   * which satisfies a minimum length index or location.
+   * The children of each node are visited in order of distance,
+   * and nodes which are further than the nearest segment found,
+   * or which lie entirely before the minimum, are pruned.
+   */
+  private class NearestSegmentSearch
+  {
+    private Coordinate pt;
+    private double minIndex;
+    private LinearLocation minLoc;
+    private boolean isLocation;
+
+    private LineSegment seg = new LineSegment();
+    private double[] childDist = new double[nodeEnv.length * NODE_SIZE];
+    private int[] childOrder = new int[nodeEnv.length * NODE_SIZE];
+
+    private double minDistance = Double.MAX_VALUE;
+    private int minSeg = -1;
+    private double minMeasure;
+    private double minFrac;
+
+    NearestSegmentSearch(Coordinate pt, double minIndex, LinearLocation minLoc, boolean isLocation)
+    {
+      this.pt = pt;
+      this.minIndex = minIndex;
+      this.minLoc = minLoc;
+      this.isLocation = isLocation;
+    }
+
+    int find()
+    {
+      if (numSeg == 0) return -1;
+      int top = nodeEnv.length - 1;
+      searchNode(top, 0);
+      return minSeg;
+    }
+
+    double getMeasure() { return minMeasure; }
+
+    double getSegmentFraction() { return minFrac; }
+
+    private void searchNode(int level, int node)
+    {
+      // the children are the nodes of the level below, or the segments
+      int numChildren = level == 0 ? numSeg : numNodes[level - 1];
+      int start = node * NODE_SIZE;
+      int end = Math.min(start + NODE_SIZE, numChildren);
+      int n = end - start;
+      int offset = level * NODE_SIZE;
+
+      for (int i = 0; i < n; i++) {
+        int child = start + i;
+        double d = level == 0
+            ? segmentEnvelopeDistance(child)
+            : envelopeDistance(nodeEnv[level - 1], child);
+        int j = i;
+        while (j > 0 && childDist[offset + j - 1] > d) {
+          childDist[offset + j] = childDist[offset + j - 1];
+          childOrder[offset + j] = childOrder[offset + j - 1];
+          j--;
+        }
+        childDist[offset + j] = d;
+        childOrder[offset + j] = child;
+      }
+
+      for (int i = 0; i < n; i++) {
+        if (childDist[offset + i] > minDistance * BOUND_FACTOR) return;
+        int child = childOrder[offset + i];
+        if (level == 0) {
+          checkSegment(child);
+        }
+        else if (! isBeforeMinimum(lastSegment(level - 1, child))) {
+          searchNode(level - 1, child);
+        }
+      }
+    }
+
+    /**
+     * Gets the index of the last segment contained in a node.
+     */
+    private int lastSegment(int level, int node)
+    {
+      long last = node;
+      for (int i = 0; i <= level; i++) {
+        last = last * NODE_SIZE + NODE_SIZE - 1;
+      }
+      return (int) Math.min(last, numSeg - 1);
+    }
+
+    /**
+     * Tests whether no point of a segment (or of any segment before it)
+     * can be after the minimum index or location.
+     */
+    private boolean isBeforeMinimum(int segIndex)
+    {
+      if (isLocation) {
+        return minLoc != null
+            && minLoc.compareLocationValues(segComp[segIndex], segVertex[segIndex], 1.0) >= 0;
+      }
+      return segStartLength[segIndex] + segLength[segIndex] <= minIndex;
+    }
+
+    private void checkSegment(int i)
+    {
+      seg.p0 = segStart[i];
+      seg.p1 = segEnd[i];
+      double segDistance = seg.distance(pt);
+      // segments later in the line only replace an equally near segment
+      if (segDistance > minDistance
+          || (segDistance == minDistance && i > minSeg))
+        return;
+
+      if (isLocation) {
+        double segFrac = seg.segmentFraction(pt);
+        if (minLoc != null
+            && minLoc.compareLocationValues(segComp[i], segVertex[i], segFrac) >= 0)
+          return;
+        minFrac = segFrac;
+      }
+      else {
+        double measure = segmentNearestMeasure(seg, pt, segStartLength[i]);
+        if (measure <= minIndex)
+          return;
+        minMeasure = measure;
+      }
+      minDistance = segDistance;
+      minSeg = i;
+    }
+
+    private double segmentEnvelopeDistance(int i)
+    {
+      Coordinate p0 = segStart[i];
+      Coordinate p1 = segEnd[i];
+      return distance(Math.min(p0.x, p1.x), Math.min(p0.y, p1.y),
+          Math.max(p0.x, p1.x), Math.max(p0.y, p1.y));
+    }
+
+    private double envelopeDistance(double[] env, int node)
+    {
+      int i = 4 * node;
+      return distance(env[i], env[i + 1], env[i + 2], env[i + 3]);
+    }
+
+    private double distance(double minX, double minY, double maxX, double maxY)
+    {
+      double dx = 0.0;
+      if (pt.x < minX) dx = minX - pt.x;
+      else if (pt.x > maxX) dx = pt.x - maxX;
+      double dy = 0.0;
+      if (pt.y < minY) dy = minY - pt.y;
+      else if (pt.y > maxY) dy = pt.y - maxY;
+      return Math.sqrt(dx * dx + dy * dy);
+    }
+  }
+
+  private static double segmentNearestMeasure(LineSegment seg, Coordinate inputPt,
+                            double segmentStartMeasure)
+  {
+    double projFactor = seg.projectionFactor(inputPt);
+    if (projFactor <= 0.0)
+      return segmentStartMeasure;
+    if (projFactor <= 1.0)
+      return segmentStartMeasure + projFactor * seg.getLength();
+    // projFactor > 1.0
+    return segmentStartMeasure + seg.getLength();
+  }
+}
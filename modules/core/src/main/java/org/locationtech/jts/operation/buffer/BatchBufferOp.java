@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.buffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+import org.locationtech.jts.util.TaskUtil;
+
+/**
+ * Computes the buffers of a collection of geometries
+ * using a single set of {@link BufferParameters}.
+ * <p>
+ * The input is split into batches of geometries.
+ * Each batch is buffered by a single {@link BufferBuilder},
+ * which is reused for all the geometries in the batch
+ * rather than being created for every geometry.
+ * The results are the same as those computed by
+ * {@link BufferOp#bufferOp(Geometry, double, BufferParameters)}.
+ * In particular, if the fast floating-precision buffer fails for a geometry
+ * the computation is retried using reduced precision in the same way as {@link BufferOp}
+ * (and the snap-rounding mode of the parameters is respected).
+ * <p>
+ * If an {@link ExecutorService} is {@link #setExecutor(ExecutorService) provided}
+ * the batches are buffered in parallel by it.
+ * Otherwise all batches are buffered in the calling thread.
+ * The executor is not shut down by this class.
+ * <p>
+ * The buffers can also be {@link #bufferUnion(Collection, double) unioned}.
+ * In this case the buffers of each batch are unioned by the batch task,
+ * and the batch results are then unioned together.
+ */
+public class BatchBufferOp
+{
+  /**
+   * The default number of geometries buffered by each task
+   */
+  public static final int DEFAULT_BATCH_SIZE = 100;
+
+  /**
+   * Computes the buffers of a collection of geometries in the calling thread.
+   *
+   * @param geoms a collection of geometries
+   * @param distance the buffer distance
+   * @param params the buffer parameters to use
+   * @return an array of the buffers, in the order of the input geometries
+   */
+  public static Geometry[] buffer(Collection geoms, double distance, BufferParameters params)
+  {
+    BatchBufferOp op = new BatchBufferOp(params);
+    return op.buffer(geoms, distance);
+  }
+
+  private BufferParameters bufParams;
+  private ExecutorService executor = null;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+
+  /**
+   * Creates a new batch buffer operation
+   * using the given buffer parameters.
+   *
+   * @param bufParams the buffer parameters to use
+   */
+  public BatchBufferOp(BufferParameters bufParams)
+  {
+    this.bufParams = bufParams;
+  }
+
+  /**
+   * Sets the executor used to buffer batches in parallel.
+   * If the executor is <tt>null</tt> (the default)
+   * the buffers are computed in the calling thread.
+   *
+   * @param executor the executor to use, or null
+   */
+  public void setExecutor(ExecutorService executor)
+  {
+    this.executor = executor;
+  }
+
+  /**
+   * Sets the number of geometries buffered by each task.
+   * Larger batches reduce the overhead of task scheduling,
+   * at the cost of coarser load balancing.
+   *
+   * @param batchSize the batch size
+   */
+  public void setBatchSize(int batchSize)
+  {
+    if (batchSize < 1)
+      throw new IllegalArgumentException("Batch size must be at least 1");
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Computes the buffers of a collection of geometries.
+   *
+   * @param geoms a collection of geometries
+   * @param distance the buffer distance
+   * @return an array of the buffers, in the order of the input geometries
+   */
+  public Geometry[] buffer(Collection geoms, double distance)
+  {
+    Geometry[] input = (Geometry[]) geoms.toArray(new Geometry[0]);
+    Geometry[] result = new Geometry[input.length];
+    List tasks = new ArrayList();
+    for (int start = 0; start < input.length; start += batchSize) {
+      int end = Math.min(start + batchSize, input.length);
+      tasks.add(new BatchTask(input, start, end, distance, result, false));
+    }
+    TaskUtil.execute(executor, tasks);
+    return result;
+  }
+
+  /**
+   * Computes the union of the buffers of a collection of geometries.
+   * If the collection is empty, <tt>null</tt> is returned
+   * (since no geometry factory is available).
+   *
+   * @param geoms a collection of geometries
+   * @param distance the buffer distance
+   * @return the union of the buffers, or null if the collection is empty
+   */
+  public Geometry bufferUnion(Collection geoms, double distance)
+  {
+    Geometry[] input = (Geometry[]) geoms.toArray(new Geometry[0]);
+    if (input.length == 0) return null;
+    List tasks = new ArrayList();
+    for (int start = 0; start < input.length; start += batchSize) {
+      int end = Math.min(start + batchSize, input.length);
+      tasks.add(new BatchTask(input, start, end, distance, null, true));
+    }
+    List batchUnions = TaskUtil.execute(executor, tasks);
+    return UnaryUnionOp.union(batchUnions, input[0].getFactory());
+  }
+
+  /**
+   * Buffers a range of the input geometries,
+   * reusing a single {@link BufferBuilder}.
+   */
+  private class BatchTask implements Callable
+  {
+    private Geometry[] input;
+    private int start;
+    private int end;
+    private double distance;
+    private Geometry[] result;
+    private boolean isUnion;
+
+    BatchTask(Geometry[] input, int start, int end, double distance,
+        Geometry[] result, boolean isUnion)
+    {
+      this.input = input;
+      this.start = start;
+      this.end = end;
+      this.distance = distance;
+      this.result = result;
+      this.isUnion = isUnion;
+    }
+
+    public Object call()
+    {
+      BufferBuilder builder = new BufferBuilder(bufParams);
+      Geometry[] buffers = result;
+      int offset = 0;
+      if (isUnion) {
+        buffers = new Geometry[end - start];
+        offset = start;
+      }
+      for (int i = start; i < end; i++) {
+        buffers[i - offset] = bufferOne(builder, input[i]);
+      }
+      if (isUnion) {
+        return UnaryUnionOp.union(Arrays.asList(buffers), input[start].getFactory());
+      }
+      return null;
+    }
+
+    private Geometry bufferOne(BufferBuilder builder, Geometry g)
+    {
+      BufferOp op = new BufferOp(g, bufParams);
+      op.setOriginalPrecisionBuilder(builder);
+      return op.getResultGeometry(distance);
+    }
+  }
+}
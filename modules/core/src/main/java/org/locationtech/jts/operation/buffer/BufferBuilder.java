@@ -81,7 +81,8 @@ class BufferBuilder
   private Noder workingNoder;
   private GeometryFactory geomFact;
   private PlanarGraph graph;
-  private EdgeList edgeList     = new EdgeList();
+  private EdgeList edgeList;
+  private OffsetCurveBuilder curveBuilder;
 
   /**
    * Creates a new BufferBuilder,
@@ -117,20 +118,44 @@ class BufferBuilder
   public void setNoder(Noder noder) { workingNoder = noder; }
 
 
+  /**
+   * Computes the buffer of a geometry.
+   * A builder may be used to buffer several geometries in turn
+   * (but not concurrently), which allows reusing the curve builder
+   * when the geometries share the same precision model.
+   *
+   * @param g the geometry to buffer
+   * @param distance the buffer distance
+   * @return the buffer of the geometry
+   */
   public Geometry buffer(Geometry g, double distance)
   {
     PrecisionModel precisionModel = workingPrecisionModel;
     if (precisionModel == null)
       precisionModel = g.getPrecisionModel();
 
-    // factory must be the same as the one used by the input
-    geomFact = g.getFactory();
-
-    OffsetCurveBuilder curveBuilder = new OffsetCurveBuilder(precisionModel, bufParams);
-    
-    OffsetCurveSetBuilder curveSetBuilder = new OffsetCurveSetBuilder(g, distance, curveBuilder);
+    OffsetCurveSetBuilder curveSetBuilder = new OffsetCurveSetBuilder(g, distance, 
+        getCurveBuilder(precisionModel));
 
     List bufferSegStrList = curveSetBuilder.getCurves();
+    // factory must be the same as the one used by the input
+    return bufferCurves(bufferSegStrList, precisionModel, g.getFactory());
+  }
+
+  /**
+   * Computes the buffer polygon formed by a set of raw offset curves.
+   * The curves are {@link SegmentString}s labelled with the locations
+   * on their left and right sides.
+   * 
+   * @param bufferSegStrList the raw offset curves
+   * @param precisionModel the precision model to use
+   * @param geomFact the factory for the result geometry
+   * @return the buffer geometry
+   */
+  Geometry bufferCurves(List bufferSegStrList, PrecisionModel precisionModel, GeometryFactory geomFact)
+  {
+    this.geomFact = geomFact;
+    edgeList = new EdgeList();
 
     // short-circuit test
     if (bufferSegStrList.size() <= 0) {
@@ -165,6 +190,15 @@ class BufferBuilder
     return resultGeom;
   }
 
+  private OffsetCurveBuilder getCurveBuilder(PrecisionModel precisionModel)
+  {
+    if (curveBuilder == null 
+        || ! curveBuilder.getPrecisionModel().equals(precisionModel)) {
+      curveBuilder = new OffsetCurveBuilder(precisionModel, bufParams);
+    }
+    return curveBuilder;
+  }
+
   private Noder getNoder(PrecisionModel precisionModel)
   {
     if (workingNoder != null) return workingNoder;
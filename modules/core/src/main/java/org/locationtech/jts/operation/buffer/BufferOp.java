@@ -69,6 +69,16 @@ import org.locationtech.jts.noding.snapround.MCIndexSnapRounder;
  * with a {@link BufferParameters#DEFAULT_SIMPLIFY_FACTOR default} used otherwise.
  * Note that if the buffer distance is zero then so is the computed simplify tolerance, 
  * no matter what the simplify factor.
+ * <p>
+ * By default the buffer is computed using fast floating-precision noding,
+ * and recomputed using snap-rounding at successively lower precisions 
+ * if this fails.
+ * Alternatively the floating-precision pass can be skipped,
+ * so that snap-rounding is used from the start
+ * (see {@link BufferParameters#setSnapRounding(boolean)}).
+ * The number of passes needed to compute a buffer
+ * can be obtained via {@link #getPassCount()}
+ * on a <code>BufferOp</code> instance.
  *
  * @version 1.7
  */
@@ -121,7 +131,7 @@ public class BufferOp
    *
    * @return a scale factor for the buffer computation
    */
-  private static double precisionScaleFactor(Geometry g,
+  static double precisionScaleFactor(Geometry g,
       double distance,
     int maxPrecisionDigits)
   {
@@ -241,6 +251,8 @@ public class BufferOp
   private double distance;
   
   private BufferParameters bufParams = new BufferParameters();
+  private BufferBuilder originalPrecisionBuilder = null;
+  private int passCount = 0;
 
   private Geometry resultGeometry = null;
   private RuntimeException saveException;   // debugging only
@@ -288,6 +300,17 @@ public class BufferOp
     bufParams.setQuadrantSegments(quadrantSegments);
   }
 
+  /**
+   * Sets a builder to use for the floating-precision pass.
+   * This allows a builder to be reused for many geometries.
+   * 
+   * @param bufBuilder the builder to use
+   */
+  void setOriginalPrecisionBuilder(BufferBuilder bufBuilder)
+  {
+    originalPrecisionBuilder = bufBuilder;
+  }
+
   /**
    * Returns the buffer computed for a geometry for a given buffer distance.
    *
@@ -301,10 +324,30 @@ public class BufferOp
     return resultGeometry;
   }
 
+  /**
+   * Gets the number of passes (attempts to build the buffer)
+   * made by the last call to {@link #getResultGeometry(double)}.
+   * A count greater than one indicates that the buffer
+   * had to be recomputed at a reduced precision.
+   * <p>
+   * The count is only available from an instance of this class;
+   * it is not reported by {@link Geometry#buffer(double)}
+   * or the static <code>bufferOp</code> methods.
+   *
+   * @return the number of buffer passes
+   */
+  public int getPassCount()
+  {
+    return passCount;
+  }
+
   private void computeGeometry()
   {
-    bufferOriginalPrecision();
-    if (resultGeometry != null) return;
+    passCount = 0;
+    if (! bufParams.isSnapRounding()) {
+      bufferOriginalPrecision();
+      if (resultGeometry != null) return;
+    }
 
     PrecisionModel argPM = argGeom.getFactory().getPrecisionModel();
     if (argPM.getType() == PrecisionModel.FIXED)
@@ -336,7 +379,10 @@ public class BufferOp
   {
     try {
       // use fast noding by default
-      BufferBuilder bufBuilder = new BufferBuilder(bufParams);
+      BufferBuilder bufBuilder = originalPrecisionBuilder;
+      if (bufBuilder == null)
+        bufBuilder = new BufferBuilder(bufParams);
+      passCount++;
       resultGeometry = bufBuilder.buffer(argGeom, distance);
     }
     catch (RuntimeException ex) {
@@ -364,6 +410,7 @@ public class BufferOp
 
     BufferBuilder bufBuilder = new BufferBuilder(bufParams);
     bufBuilder.setWorkingPrecisionModel(fixedPM);
+    passCount++;
     bufBuilder.setNoder(noder);
     // this may throw an exception, if robustness errors are encountered
     resultGeometry = bufBuilder.buffer(argGeom, distance);
@@ -82,6 +82,7 @@ public class BufferParameters
   private double mitreLimit = DEFAULT_MITRE_LIMIT;
   private boolean isSingleSided = false;
   private double simplifyFactor = DEFAULT_SIMPLIFY_FACTOR;
+  private boolean isSnapRounding = false;
   
   /**
    * Creates a default set of parameters
@@ -342,4 +343,41 @@ public class BufferParameters
   {
     this.simplifyFactor = simplifyFactor < 0 ? 0 : simplifyFactor;
   }
+
+  /**
+   * Tests whether the buffer is computed using snap-rounding noding.
+   * 
+   * @return true if snap-rounding noding is used
+   */
+  public boolean isSnapRounding() {
+    return isSnapRounding;
+  }
+  
+  /**
+   * Sets whether the buffer is computed using snap-rounding noding
+   * from the start.
+   * <p>
+   * By default the buffer is first computed using fast floating-precision noding.
+   * If this fails due to robustness problems the computation is 
+   * repeated using snap-rounding at successively lower precisions,
+   * which for some inputs requires many passes.
+   * In snap-rounding mode the floating-precision pass is skipped,
+   * and the buffer is computed directly by that same sequence of snap-rounded passes.
+   * The first of these uses a precision of 12 significant digits,
+   * relative to the magnitude of the input coordinates plus the buffer distance.
+   * This usually succeeds, but if it does not
+   * the lower precisions are tried in turn as in the default mode.
+   * Snap-rounding mode avoids a wasted pass for inputs which are known 
+   * to cause the fast noding to fail,
+   * but is slower for inputs which the fast noding handles successfully.
+   * <p>
+   * If the input geometry has a fixed precision model
+   * the noding is always snap-rounded at that precision.
+   * 
+   * @param isSnapRounding true if snap-rounding noding should be used
+   */
+  public void setSnapRounding(boolean isSnapRounding)
+  {
+    this.isSnapRounding = isSnapRounding;
+  }
 }
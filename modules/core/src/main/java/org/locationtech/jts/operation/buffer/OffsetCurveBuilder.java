@@ -53,6 +53,16 @@ public class OffsetCurveBuilder
   {
     return bufParams;
   }
+
+  /**
+   * Gets the precision model being used to generate the curve.
+   * 
+   * @return the precision model being used
+   */
+  public PrecisionModel getPrecisionModel()
+  {
+    return precisionModel;
+  }
   
   /**
    * This method handles single points as well as LineStrings.
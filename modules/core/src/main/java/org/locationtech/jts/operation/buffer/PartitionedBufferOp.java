@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geomgraph.Position;
+import org.locationtech.jts.util.TaskUtil;
+
+/**
+ * Computes the buffer of a geometry with large rings,
+ * generating the raw offset curves of the rings in parallel.
+ * The rings are partitioned into sections of consecutive vertices,
+ * and each section is simplified and offset independently.
+ * The sections are processed in parallel if an {@link ExecutorService}
+ * is provided, and the section curves are joined into the ring curves.
+ * <p>
+ * Only the curve generation is parallel.
+ * The joined curves are noded and assembled into the buffer polygon
+ * serially, in the same way as in {@link BufferOp}.
+ * The time taken by these steps is not reduced,
+ * and for many inputs it dominates the total,
+ * so the overall time may not be much less than that of {@link BufferOp}.
+ * <p>
+ * Each section is simplified independently (keeping its endpoints),
+ * so the result may differ from that of {@link BufferOp}
+ * by up to the simplification tolerance
+ * (see {@link BufferParameters#setSimplifyFactor(double)}).
+ * Otherwise the offset curves are identical.
+ * <p>
+ * The buffer is computed in the precision model of the input.
+ * If this fails due to robustness problems,
+ * or snap-rounding is requested by the parameters,
+ * the buffer is computed by {@link BufferOp}.
+ * Geometries with fewer vertices than the section size
+ * are buffered by {@link BufferOp} as well.
+ */
+public class PartitionedBufferOp
+{
+  /**
+   * The default number of vertices in each ring section
+   */
+  public static final int DEFAULT_SECTION_SIZE = 5000;
+
+  /**
+   * Computes the buffer of a geometry,
+   * using an executor to compute ring sections in parallel.
+   *
+   * @param g the geometry to buffer
+   * @param distance the buffer distance
+   * @param params the buffer parameters to use
+   * @param executor the executor to use, or null
+   * @return the buffer of the geometry
+   */
+  public static Geometry buffer(Geometry g, double distance, BufferParameters params,
+      ExecutorService executor)
+  {
+    PartitionedBufferOp op = new PartitionedBufferOp(g, params);
+    op.setExecutor(executor);
+    return op.getResultGeometry(distance);
+  }
+
+  private Geometry inputGeom;
+  private BufferParameters bufParams;
+  private ExecutorService executor = null;
+  private int sectionSize = DEFAULT_SECTION_SIZE;
+
+  /**
+   * Creates a new operation to buffer a geometry
+   * with the given parameters.
+   *
+   * @param g the geometry to buffer
+   * @param bufParams the buffer parameters to use
+   */
+  public PartitionedBufferOp(Geometry g, BufferParameters bufParams)
+  {
+    this.inputGeom = g;
+    this.bufParams = bufParams;
+  }
+
+  /**
+   * Sets the executor used to compute the ring sections in parallel.
+   * If the executor is <tt>null</tt> (the default)
+   * the buffer is computed in the calling thread.
+   *
+   * @param executor the executor to use, or null
+   */
+  public void setExecutor(ExecutorService executor)
+  {
+    this.executor = executor;
+  }
+
+  /**
+   * Sets the maximum number of vertices in each ring section.
+   *
+   * @param sectionSize the section size
+   */
+  public void setSectionSize(int sectionSize)
+  {
+    if (sectionSize < 2)
+      throw new IllegalArgumentException("Section size must be at least 2");
+    this.sectionSize = sectionSize;
+  }
+
+  /**
+   * Computes the buffer of the geometry for a given distance.
+   *
+   * @param distance the buffer distance
+   * @return the buffer of the geometry
+   */
+  public Geometry getResultGeometry(double distance)
+  {
+    if (! isPartitionable())
+      return BufferOp.bufferOp(inputGeom, distance, bufParams);
+
+    try {
+      PrecisionModel precisionModel = inputGeom.getPrecisionModel();
+      OffsetCurveSetBuilder curveSetBuilder = new OffsetCurveSetBuilder(inputGeom, distance, 
+          new SectionCurveBuilder(precisionModel));
+      List bufferSegStrList = curveSetBuilder.getCurves();
+      BufferBuilder bufBuilder = new BufferBuilder(bufParams);
+      return bufBuilder.bufferCurves(bufferSegStrList, precisionModel, inputGeom.getFactory());
+    }
+    catch (RuntimeException ex) {
+      // BufferOp retries at reduced precision
+    }
+    return BufferOp.bufferOp(inputGeom, distance, bufParams);
+  }
+
+  private boolean isPartitionable()
+  {
+    if (inputGeom.isEmpty()) return false;
+    if (bufParams.isSnapRounding()) return false;
+    return inputGeom.getNumPoints() > sectionSize;
+  }
+
+  /**
+   * Computes the offset curve of a ring 
+   * by simplifying the sections of the ring
+   * and then generating the offset curves of the simplified sections.
+   * The steps correspond to those of {@link OffsetCurveBuilder#getRingCurve(Coordinate[], int, double)}.
+   *
+   * @param pts the ring coordinates
+   * @param side the side of the ring to offset
+   * @param distance the offset distance
+   * @param precisionModel the precision model to use
+   * @return the ring offset curve
+   */
+  private Coordinate[] computeRingCurve(Coordinate[] pts, int side, double distance, 
+      PrecisionModel precisionModel)
+  {
+    double distTol = distance * bufParams.getSimplifyFactor();
+    // ensure that correct side is simplified
+    if (side == Position.RIGHT)
+      distTol = -distTol;
+
+    List simplifyTasks = new ArrayList();
+    int last = pts.length - 1;
+    for (int start = 0; start < last; start += sectionSize) {
+      int end = Math.min(start + sectionSize, last);
+      simplifyTasks.add(new SimplifyTask(pts, start, end, distTol));
+    }
+    List sections = TaskUtil.execute(executor, simplifyTasks);
+
+    List curveTasks = new ArrayList();
+    for (int i = 0; i < sections.size(); i++) {
+      Coordinate[] prevSection = (Coordinate[]) sections.get(i == 0 ? sections.size() - 1 : i - 1);
+      curveTasks.add(new CurveTask(prevSection[prevSection.length - 2],
+          (Coordinate[]) sections.get(i), i == 0, side, distance, precisionModel));
+    }
+    List curves = TaskUtil.execute(executor, curveTasks);
+
+    CoordinateList curve = new CoordinateList();
+    for (int i = 0; i < curves.size(); i++) {
+      curve.add((Coordinate[]) curves.get(i), false);
+    }
+    curve.closeRing();
+    return curve.toCoordinateArray();
+  }
+
+  /**
+   * An {@link OffsetCurveBuilder} which computes the curves
+   * of rings with more vertices than the section size
+   * by sections.
+   */
+  private class SectionCurveBuilder
+    extends OffsetCurveBuilder
+  {
+    SectionCurveBuilder(PrecisionModel precisionModel)
+    {
+      super(precisionModel, bufParams);
+    }
+
+    public Coordinate[] getRingCurve(Coordinate[] inputPts, int side, double distance)
+    {
+      if (distance == 0.0 || inputPts.length <= sectionSize + 1)
+        return super.getRingCurve(inputPts, side, distance);
+      return computeRingCurve(inputPts, side, distance, getPrecisionModel());
+    }
+  }
+
+  /**
+   * Simplifies a section of a ring.
+   * The section endpoints are kept, 
+   * so the simplified sections join up.
+   */
+  private static class SimplifyTask
+    implements Callable
+  {
+    private Coordinate[] sectionPts;
+    private double distTol;
+
+    SimplifyTask(Coordinate[] pts, int start, int end, double distTol)
+    {
+      sectionPts = new Coordinate[end - start + 1];
+      System.arraycopy(pts, start, sectionPts, 0, sectionPts.length);
+      this.distTol = distTol;
+    }
+
+    public Object call()
+    {
+      return BufferInputLineSimplifier.simplify(sectionPts, distTol);
+    }
+  }
+
+  /**
+   * Generates the offset curve of a simplified ring section.
+   * The curve includes the joins at all vertices of the section
+   * except the last, which is the first vertex of the next section.
+   */
+  private class CurveTask
+    implements Callable
+  {
+    private Coordinate prevPt;
+    private Coordinate[] sectionPts;
+    private boolean isFirst;
+    private int side;
+    private double distance;
+    private PrecisionModel precisionModel;
+
+    CurveTask(Coordinate prevPt, Coordinate[] sectionPts, boolean isFirst, 
+        int side, double distance, PrecisionModel precisionModel)
+    {
+      this.prevPt = prevPt;
+      this.sectionPts = sectionPts;
+      this.isFirst = isFirst;
+      this.side = side;
+      this.distance = distance;
+      this.precisionModel = precisionModel;
+    }
+
+    public Object call()
+    {
+      OffsetSegmentGenerator segGen = new OffsetSegmentGenerator(precisionModel, bufParams, distance);
+      segGen.initSideSegments(prevPt, sectionPts[0], side);
+      for (int i = 1; i < sectionPts.length; i++) {
+        // the start point of the ring curve is added when the ring is closed
+        boolean addStartPoint = ! (isFirst && i == 1);
+        segGen.addNextSegment(sectionPts[i], addStartPoint);
+      }
+      return segGen.getCoordinates();
+    }
+  }
+}
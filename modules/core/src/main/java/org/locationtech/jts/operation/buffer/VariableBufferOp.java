@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.algorithm.Angle;
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.geomgraph.Label;
+import org.locationtech.jts.noding.NodedSegmentString;
+import org.locationtech.jts.noding.ScaledNoder;
+import org.locationtech.jts.noding.snapround.MCIndexSnapRounder;
+
+/**
+ * Computes a buffer of a {@link LineString} whose distance varies along the line.
+ * A buffer distance is given for each vertex,
+ * and the distance is interpolated linearly along each segment.
+ * The buffer is the union of the circles around the vertices
+ * and the hulls of the circles at the ends of each segment.
+ * <p>
+ * The buffer is computed in the same way as the constant-distance buffer.
+ * A raw offset curve is generated by a single pass along the line,
+ * formed by the outer tangents of the circles at adjacent vertices,
+ * joined by circular arcs at outside corners and line ends.
+ * The offset curves are then noded and the buffer polygon extracted
+ * by a {@link BufferBuilder}.
+ * This avoids unioning the individual segment buffers,
+ * so large inputs can be buffered in time close to linear in the number of vertices.
+ * <p>
+ * Where a vertex circle lies inside the circle at an adjacent vertex
+ * the segment hull has no outer tangents.
+ * In this case the line is split into separate runs,
+ * each of which has its own offset curve.
+ * <p>
+ * Only the quadrant segments parameter of the {@link BufferParameters} is used.
+ * End caps and joins are always round.
+ * If the buffer computation fails due to robustness problems,
+ * it is retried using snap-rounding at decreasing precision,
+ * in the same way as {@link BufferOp}.
+ */
+public class VariableBufferOp
+{
+  /**
+   * Factor which determines the minimum distance between offset curve vertices,
+   * relative to the smallest positive buffer distance
+   */
+  private static final double CURVE_VERTEX_SNAP_DISTANCE_FACTOR = 1.0E-6;
+
+  /**
+   * The maximum number of significant digits used
+   * when retrying the buffer at reduced precision
+   * (as in {@link BufferOp})
+   */
+  private static final int MAX_PRECISION_DIGITS = 12;
+
+  /**
+   * Computes a buffer of a line whose distance varies linearly
+   * along the line from a start distance to an end distance.
+   *
+   * @param line the line to buffer
+   * @param startDistance the buffer distance at the start of the line
+   * @param endDistance the buffer distance at the end of the line
+   * @return the variable-distance buffer of the line
+   */
+  public static Geometry buffer(LineString line, double startDistance, double endDistance)
+  {
+    double[] distance = interpolate(line, startDistance, endDistance);
+    VariableBufferOp op = new VariableBufferOp(line, distance);
+    return op.getResultGeometry();
+  }
+
+  /**
+   * Computes a buffer of a line with a given buffer distance at each vertex.
+   *
+   * @param line the line to buffer
+   * @param distance the buffer distance at each vertex of the line
+   * @return the variable-distance buffer of the line
+   */
+  public static Geometry buffer(LineString line, double[] distance)
+  {
+    VariableBufferOp op = new VariableBufferOp(line, distance);
+    return op.getResultGeometry();
+  }
+
+  /**
+   * Computes buffer distances for the vertices of a line
+   * varying linearly with the length along the line.
+   *
+   * @param line the line
+   * @param startValue the distance at the start of the line
+   * @param endValue the distance at the end of the line
+   * @return the distances for each vertex of the line
+   */
+  private static double[] interpolate(LineString line, double startValue, double endValue)
+  {
+    Coordinate[] pts = line.getCoordinates();
+    double[] value = new double[pts.length];
+    if (pts.length == 0) return value;
+    double len = line.getLength();
+    double currLen = 0.0;
+    value[0] = startValue;
+    for (int i = 1; i < pts.length; i++) {
+      currLen += pts[i].distance(pts[i - 1]);
+      double frac = len > 0.0 ? currLen / len : 0.0;
+      value[i] = startValue + frac * (endValue - startValue);
+    }
+    return value;
+  }
+
+  private LineString line;
+  private Coordinate[] pts;
+  private double[] distance;
+  private BufferParameters bufParams;
+  private double filletAngleQuantum;
+
+  /**
+   * Creates a new operation for a line and vertex buffer distances,
+   * using default buffer parameters.
+   *
+   * @param line the line to buffer
+   * @param distance the buffer distance at each vertex of the line
+   */
+  public VariableBufferOp(LineString line, double[] distance)
+  {
+    this(line, distance, new BufferParameters());
+  }
+
+  /**
+   * Creates a new operation for a line and vertex buffer distances,
+   * using the given buffer parameters.
+   *
+   * @param line the line to buffer
+   * @param distance the buffer distance at each vertex of the line
+   * @param bufParams the buffer parameters to use
+   * @throws IllegalArgumentException if the number of distances is not the number of vertices,
+   *   or a distance is negative
+   */
+  public VariableBufferOp(LineString line, double[] distance, BufferParameters bufParams)
+  {
+    if (distance.length != line.getNumPoints())
+      throw new IllegalArgumentException("Number of distances must equal number of vertices");
+    for (int i = 0; i < distance.length; i++) {
+      if (distance[i] < 0.0 || Double.isNaN(distance[i]))
+        throw new IllegalArgumentException("Buffer distances must be non-negative");
+    }
+    this.line = line;
+    this.pts = line.getCoordinates();
+    this.distance = distance;
+    this.bufParams = bufParams;
+    filletAngleQuantum = Math.PI / 2.0 / bufParams.getQuadrantSegments();
+  }
+
+  /**
+   * Computes the variable-distance buffer.
+   *
+   * @return the buffer polygon (which may be empty)
+   */
+  public Geometry getResultGeometry()
+  {
+    RuntimeException saveException;
+    try {
+      PrecisionModel pm = line.getPrecisionModel();
+      BufferBuilder bufBuilder = new BufferBuilder(bufParams);
+      return bufBuilder.bufferCurves(computeCurves(pm), pm, line.getFactory());
+    }
+    catch (RuntimeException ex) {
+      saveException = ex;
+    }
+    // retry using snap-rounding at decreasing precision
+    double maxDistance = maxDistance();
+    for (int precDigits = MAX_PRECISION_DIGITS; precDigits >= 0; precDigits--) {
+      try {
+        double scale = BufferOp.precisionScaleFactor(line, maxDistance, precDigits);
+        PrecisionModel fixedPM = new PrecisionModel(scale);
+        BufferBuilder bufBuilder = new BufferBuilder(bufParams);
+        bufBuilder.setWorkingPrecisionModel(fixedPM);
+        bufBuilder.setNoder(new ScaledNoder(new MCIndexSnapRounder(new PrecisionModel(1.0)), scale));
+        return bufBuilder.bufferCurves(computeCurves(fixedPM), fixedPM, line.getFactory());
+      }
+      catch (TopologyException ex) {
+        saveException = ex;
+      }
+    }
+    throw saveException;
+  }
+
+  private double maxDistance()
+  {
+    double max = 0.0;
+    for (int i = 0; i < distance.length; i++) {
+      if (distance[i] > max) max = distance[i];
+    }
+    return max;
+  }
+
+  /**
+   * Computes the raw offset curves for the line.
+   * The line is split into runs at segments
+   * whose hull is just the circle at one end.
+   *
+   * @param pm the precision model to use
+   * @return a list of the offset curves
+   */
+  private List computeCurves(PrecisionModel pm)
+  {
+    List curves = new ArrayList();
+    int runStart = 0;
+    for (int i = 0; i < pts.length - 1; i++) {
+      if (isCircleContained(i)) {
+        addRunCurve(runStart, i, pm, curves);
+        runStart = i + 1;
+      }
+    }
+    if (pts.length > 0)
+      addRunCurve(runStart, pts.length - 1, pm, curves);
+    return curves;
+  }
+
+  /**
+   * Tests whether one of the end circles of a segment contains the other.
+   */
+  private boolean isCircleContained(int i)
+  {
+    double len = pts[i].distance(pts[i + 1]);
+    return Math.abs(distance[i] - distance[i + 1]) >= len;
+  }
+
+  private void addRunCurve(int start, int end, PrecisionModel pm, List curves)
+  {
+    double minDist = Double.MAX_VALUE;
+    for (int i = start; i <= end; i++) {
+      if (distance[i] > 0.0 && distance[i] < minDist) minDist = distance[i];
+    }
+    // a run with zero distance has an empty buffer
+    if (minDist == Double.MAX_VALUE) return;
+
+    OffsetSegmentString curve = new OffsetSegmentString();
+    curve.setPrecisionModel(pm);
+    curve.setMinimumVertexDistance(minDist * CURVE_VERTEX_SNAP_DISTANCE_FACTOR);
+    if (start == end) {
+      addCircle(curve, pts[start], distance[start]);
+    }
+    else {
+      addRunCurve(curve, start, end);
+    }
+    curve.closeRing();
+    Coordinate[] curvePts = curve.getCoordinates();
+    if (curvePts.length < 4) return;
+    curves.add(new NodedSegmentString(curvePts,
+        new Label(0, Location.BOUNDARY, Location.EXTERIOR, Location.INTERIOR)));
+  }
+
+  /**
+   * Adds the offset curve for a run of vertices.
+   * The curve follows the left side of the run forwards
+   * and then the left side of the reversed run (i.e. the right side),
+   * so that it is oriented clockwise.
+   * <p>
+   * The tangent of each directed segment is determined by 
+   * the segment angle and the angle by which the tangent is tilted 
+   * relative to the segment.
+   * The tangent points lie at the angle of the left normal of the tangent 
+   * from the circle centres.
+   */
+  private void addRunCurve(OffsetSegmentString curve, int start, int end)
+  {
+    int nSeg = end - start;
+    int nLoopSeg = 2 * nSeg;
+    double startAng = 0.0;
+    double startTilt = 0.0;
+    double prevAng = 0.0;
+    double prevTilt = 0.0;
+    int prevIndex = -1;
+    for (int k = 0; k < nLoopSeg; k++) {
+      int i0, i1;
+      if (k < nSeg) {
+        i0 = start + k;
+        i1 = i0 + 1;
+      }
+      else {
+        i0 = end - (k - nSeg);
+        i1 = i0 - 1;
+      }
+      double ang = Angle.angle(pts[i0], pts[i1]);
+      double tilt = tangentTilt(i0, i1);
+      if (k == 0) {
+        startAng = ang;
+        startTilt = tilt;
+      }
+      else {
+        double turn = (k == nSeg) ? Math.PI : clockwiseTurn(prevIndex, i0, i1, prevAng, ang);
+        addJoin(curve, pts[i0], distance[i0], normalAngle(prevAng, prevTilt), 
+            turn + tilt - prevTilt);
+      }
+      double normalAng = normalAngle(ang, tilt);
+      curve.addPt(offsetPoint(pts[i0], distance[i0], normalAng));
+      curve.addPt(offsetPoint(pts[i1], distance[i1], normalAng));
+      prevIndex = i0;
+      prevAng = ang;
+      prevTilt = tilt;
+    }
+    // start cap
+    addJoin(curve, pts[start], distance[start], normalAngle(prevAng, prevTilt), 
+        Math.PI + startTilt - prevTilt);
+  }
+
+  private static double normalAngle(double segAng, double tilt)
+  {
+    return segAng + Math.PI / 2 - tilt;
+  }
+  
+  private static Coordinate offsetPoint(Coordinate p, double radius, double ang)
+  {
+    return new Coordinate(p.x + radius * Math.cos(ang), p.y + radius * Math.sin(ang));
+  }
+
+  /**
+   * Computes the angle by which the left outer tangent of the circles
+   * at the ends of a directed segment is rotated clockwise from the segment.
+   *
+   * @param i0 the index of the segment start
+   * @param i1 the index of the segment end
+   * @return the tangent tilt angle
+   */
+  private double tangentTilt(int i0, int i1)
+  {
+    double len = pts[i0].distance(pts[i1]);
+    return Math.asin((distance[i0] - distance[i1]) / len);
+  }
+
+  /**
+   * Computes the clockwise angle the line turns through at a vertex,
+   * in the range (-Pi, Pi].
+   * The direction of near-reversals is determined robustly.
+   */
+  private double clockwiseTurn(int iPrev, int i, int iNext, double angPrev, double ang)
+  {
+    double turn = angPrev - ang;
+    if (turn <= -Math.PI) turn += 2 * Math.PI;
+    if (turn > Math.PI) turn -= 2 * Math.PI;
+    
+    int orient = Orientation.index(pts[iPrev], pts[i], pts[iNext]);
+    if (orient == Orientation.CLOCKWISE && turn < 0.0) return Math.PI;
+    if (orient == Orientation.COUNTERCLOCKWISE && turn > 0.0) return -Math.PI;
+    if (orient == Orientation.COLLINEAR) {
+      double dot = (pts[i].x - pts[iPrev].x) * (pts[iNext].x - pts[i].x)
+          + (pts[i].y - pts[iPrev].y) * (pts[iNext].y - pts[i].y);
+      return dot < 0.0 ? Math.PI : 0.0;
+    }
+    return turn;
+  }
+
+  /**
+   * Adds the join between two tangents at a vertex.
+   * If the tangent normal rotates clockwise the join is on the outside,
+   * and is an arc around the vertex circle.
+   * Otherwise the join is on the inside, and the vertex itself is added.
+   *
+   * @param startAng the angle of the normal of the incoming tangent
+   * @param sweep the clockwise rotation of the tangent normal
+   */
+  private void addJoin(OffsetSegmentString curve, Coordinate p, double radius,
+      double startAng, double sweep)
+  {
+    if (sweep <= 0.0) {
+      curve.addPt(p);
+      return;
+    }
+    addArc(curve, p, radius, startAng, sweep);
+  }
+
+  /**
+   * Adds the interior points of a clockwise arc.
+   */
+  private void addArc(OffsetSegmentString curve, Coordinate p, double radius,
+      double startAng, double sweep)
+  {
+    int nSegs = (int) Math.ceil(sweep / filletAngleQuantum);
+    if (nSegs < 1) return;
+    double angInc = sweep / nSegs;
+    for (int i = 1; i < nSegs; i++) {
+      double ang = startAng - i * angInc;
+      curve.addPt(offsetPoint(p, radius, ang));
+    }
+  }
+
+  private void addCircle(OffsetSegmentString curve, Coordinate p, double radius)
+  {
+    curve.addPt(new Coordinate(p.x + radius, p.y));
+    addArc(curve, p, radius, 0.0, 2 * Math.PI);
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.distance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.ItemPointDistance;
+import org.locationtech.jts.index.strtree.PointDistanceSearch;
+import org.locationtech.jts.util.TaskUtil;
+
+/**
+ * Computes the distances from many query geometries or points
+ * to a single target {@link Geometry},
+ * using an {@link IndexedFacetDistance} on the target.
+ * <p>
+ * The facet index of the target is built once and shared by all queries.
+ * Queries are processed in batches.
+ * Point queries (including the points of a {@link CoordinateSequence})
+ * are answered by a {@link PointDistanceSearch} of the target index,
+ * which reuses its buffers for all the points in a batch.
+ * This avoids building an index and a search queue for each point.
+ * Other geometries are queried using {@link IndexedFacetDistance#distance(Geometry)}.
+ * The computed distances are the same as those computed
+ * by {@link IndexedFacetDistance}.
+ * The distance to or from an empty geometry is 0
+ * (as for {@link Geometry#distance(Geometry)}).
+ * <p>
+ * If an {@link ExecutorService} is {@link #setExecutor(ExecutorService) provided}
+ * the batches are processed in parallel by it.
+ * Otherwise all batches are processed in the calling thread.
+ * The executor is not shut down by this class.
+ *
+ * @see FacetDistanceMatrix
+ */
+public class BatchFacetDistance
+{
+  /**
+   * The default number of queries processed by each task
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  /**
+   * Computes the distances from the points in a sequence to a geometry
+   * in the calling thread.
+   *
+   * @param target the geometry to compute the distances to
+   * @param pts the points to compute the distances from
+   * @return the distances, in the order of the points
+   */
+  public static double[] distance(Geometry target, CoordinateSequence pts)
+  {
+    BatchFacetDistance dist = new BatchFacetDistance(target);
+    return dist.distance(pts);
+  }
+
+  private IndexedFacetDistance targetDistance = null;
+  private ExecutorService executor = null;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+
+  /**
+   * Creates a new instance for a given target geometry,
+   * indexing its facets.
+   *
+   * @param target the geometry to compute distances to
+   */
+  public BatchFacetDistance(Geometry target)
+  {
+    if (! target.isEmpty())
+      targetDistance = new IndexedFacetDistance(target);
+  }
+
+  /**
+   * Sets the executor used to process batches in parallel.
+   * If the executor is <tt>null</tt> (the default)
+   * the distances are computed in the calling thread.
+   *
+   * @param executor the executor to use, or null
+   */
+  public void setExecutor(ExecutorService executor)
+  {
+    this.executor = executor;
+  }
+
+  /**
+   * Sets the number of queries processed by each task.
+   * Larger batches reduce the overhead of task scheduling,
+   * at the cost of coarser load balancing.
+   *
+   * @param batchSize the batch size
+   */
+  public void setBatchSize(int batchSize)
+  {
+    if (batchSize < 1)
+      throw new IllegalArgumentException("Batch size must be at least 1");
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Computes the distances from the points in a sequence
+   * to the target geometry.
+   *
+   * @param pts the points to compute the distances from
+   * @return the distances, in the order of the points
+   */
+  public double[] distance(CoordinateSequence pts)
+  {
+    double[] result = new double[pts.size()];
+    if (targetDistance == null) return result;
+    List tasks = new ArrayList();
+    for (int start = 0; start < pts.size(); start += batchSize) {
+      int end = Math.min(start + batchSize, pts.size());
+      tasks.add(new BatchTask(pts, null, start, end, result));
+    }
+    TaskUtil.execute(executor, tasks);
+    return result;
+  }
+
+  /**
+   * Computes the distances from an array of geometries
+   * to the target geometry.
+   *
+   * @param geoms the geometries to compute the distances from
+   * @return the distances, in the order of the geometries
+   */
+  public double[] distance(Geometry[] geoms)
+  {
+    double[] result = new double[geoms.length];
+    if (targetDistance == null) return result;
+    List tasks = new ArrayList();
+    for (int start = 0; start < geoms.length; start += batchSize) {
+      int end = Math.min(start + batchSize, geoms.length);
+      tasks.add(new BatchTask(null, geoms, start, end, result));
+    }
+    TaskUtil.execute(executor, tasks);
+    return result;
+  }
+
+  /**
+   * Computes the distances for a range of the query points or geometries,
+   * reusing a single {@link PointDistanceSearch}.
+   */
+  private class BatchTask implements Callable
+  {
+    private CoordinateSequence pts;
+    private Geometry[] geoms;
+    private int start;
+    private int end;
+    private double[] result;
+
+    BatchTask(CoordinateSequence pts, Geometry[] geoms, int start, int end, double[] result)
+    {
+      this.pts = pts;
+      this.geoms = geoms;
+      this.start = start;
+      this.end = end;
+      this.result = result;
+    }
+
+    public Object call()
+    {
+      PointDistanceSearch search = new PointDistanceSearch(targetDistance.getTree(),
+          new FacetSequencePointDistance());
+      Coordinate pt = new Coordinate();
+      for (int i = start; i < end; i++) {
+        if (pts != null) {
+          pt.x = pts.getX(i);
+          pt.y = pts.getY(i);
+          result[i] = search.distance(pt);
+        }
+        else {
+          result[i] = distance(geoms[i], search);
+        }
+      }
+      return null;
+    }
+
+    private double distance(Geometry geom, PointDistanceSearch search)
+    {
+      if (geom.isEmpty()) return 0.0;
+      if (geom instanceof Point) {
+        return search.distance(geom.getCoordinate());
+      }
+      return targetDistance.distance(geom);
+    }
+  }
+
+  /**
+   * Computes the distance from a point to a {@link FacetSequence}.
+   */
+  private static class FacetSequencePointDistance implements ItemPointDistance
+  {
+    public double distance(Object item, Coordinate pt)
+    {
+      return ((FacetSequence) item).distance(pt);
+    }
+  }
+}
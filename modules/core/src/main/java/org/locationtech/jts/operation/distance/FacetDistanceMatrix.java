@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.distance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.index.strtree.AbstractNode;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistanceSearch;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.util.TaskUtil;
+
+/**
+ * Computes the matrix of distances between two sets of {@link Geometry}s,
+ * up to a maximum distance.
+ * <p>
+ * The facets of each target geometry are indexed
+ * before any distances are computed,
+ * and the indexes are reused for all query geometries.
+ * The targets are also indexed by envelope,
+ * so that only targets whose envelopes are within the maximum distance
+ * of a query geometry are compared to it.
+ * The distance of each pair is computed by an {@link ItemDistanceSearch}
+ * from each facet sequence of the query geometry to the target facet index.
+ * The searches are bounded by the maximum distance
+ * and by the nearest distance found so far,
+ * so that facets and nodes further away are never visited.
+ * The computed distances are the same as those computed
+ * by {@link IndexedFacetDistance}.
+ * Pairs whose distance is greater than the maximum distance
+ * have the value {@link Double#POSITIVE_INFINITY} in the matrix.
+ * The distance between empty geometries is 0
+ * (as for {@link Geometry#distance(Geometry)}).
+ * <p>
+ * The rows of the matrix are computed in batches.
+ * Each batch uses a single search, so that its buffers are reused.
+ * If an {@link ExecutorService} is {@link #setExecutor(ExecutorService) provided}
+ * the batches (and the target indexes) are computed in parallel by it.
+ * Otherwise all batches are computed in the calling thread.
+ * The executor is not shut down by this class.
+ *
+ * @see BatchFacetDistance
+ */
+public class FacetDistanceMatrix
+{
+  /**
+   * The default number of rows computed by each task
+   */
+  public static final int DEFAULT_BATCH_SIZE = 100;
+
+  /**
+   * Computes the distances between two sets of geometries
+   * in the calling thread.
+   *
+   * @param geoms the query geometries (the rows of the matrix)
+   * @param targets the target geometries (the columns of the matrix)
+   * @param maxDistance the maximum distance to compute
+   * @return the matrix of distances
+   */
+  public static double[][] distance(Geometry[] geoms, Geometry[] targets, double maxDistance)
+  {
+    FacetDistanceMatrix matrix = new FacetDistanceMatrix(targets);
+    return matrix.distance(geoms, maxDistance);
+  }
+
+  private Geometry[] targets;
+  private AbstractNode[] targetFacets = null;
+  private STRtree targetIndex = new STRtree();
+  private ExecutorService executor = null;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+
+  /**
+   * Creates a new instance for a set of target geometries.
+   *
+   * @param targets the geometries to compute distances to
+   */
+  public FacetDistanceMatrix(Geometry[] targets)
+  {
+    this.targets = targets;
+    for (int i = 0; i < targets.length; i++) {
+      if (targets[i].isEmpty()) continue;
+      targetIndex.insert(targets[i].getEnvelopeInternal(), Integer.valueOf(i));
+    }
+    targetIndex.build();
+  }
+
+  /**
+   * Sets the executor used to compute rows in parallel.
+   * If the executor is <tt>null</tt> (the default)
+   * the distances are computed in the calling thread.
+   *
+   * @param executor the executor to use, or null
+   */
+  public void setExecutor(ExecutorService executor)
+  {
+    this.executor = executor;
+  }
+
+  /**
+   * Sets the number of rows computed by each task.
+   * Larger batches reduce the overhead of task scheduling,
+   * at the cost of coarser load balancing.
+   *
+   * @param batchSize the batch size
+   */
+  public void setBatchSize(int batchSize)
+  {
+    if (batchSize < 1)
+      throw new IllegalArgumentException("Batch size must be at least 1");
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Computes the distances between the query geometries
+   * and the target geometries.
+   * Element [i][j] of the result is the distance
+   * between query geometry i and target geometry j,
+   * or {@link Double#POSITIVE_INFINITY} if the distance is greater
+   * than the maximum distance.
+   *
+   * @param geoms the query geometries
+   * @param maxDistance the maximum distance to compute
+   * @return the matrix of distances
+   */
+  public double[][] distance(Geometry[] geoms, double maxDistance)
+  {
+    buildTargetFacets();
+    double[][] result = new double[geoms.length][];
+    List tasks = new ArrayList();
+    for (int start = 0; start < geoms.length; start += batchSize) {
+      int end = Math.min(start + batchSize, geoms.length);
+      tasks.add(new BatchTask(geoms, start, end, maxDistance, result));
+    }
+    TaskUtil.execute(executor, tasks);
+    return result;
+  }
+
+  /**
+   * Builds the facet indexes of all the targets,
+   * before any tasks which use them are started.
+   * Only the roots of the indexes are kept,
+   * since getting the root of a tree synchronizes on it.
+   */
+  private synchronized void buildTargetFacets()
+  {
+    if (targetFacets != null) return;
+    AbstractNode[] facets = new AbstractNode[targets.length];
+    List tasks = new ArrayList();
+    for (int start = 0; start < targets.length; start += batchSize) {
+      int end = Math.min(start + batchSize, targets.length);
+      tasks.add(new TargetTask(start, end, facets));
+    }
+    TaskUtil.execute(executor, tasks);
+    targetFacets = facets;
+  }
+
+  /**
+   * Builds the facet indexes for a range of the targets.
+   */
+  private class TargetTask implements Callable
+  {
+    private int start;
+    private int end;
+    private AbstractNode[] facets;
+
+    TargetTask(int start, int end, AbstractNode[] facets)
+    {
+      this.start = start;
+      this.end = end;
+      this.facets = facets;
+    }
+
+    public Object call()
+    {
+      for (int i = start; i < end; i++) {
+        if (targets[i].isEmpty()) continue;
+        facets[i] = FacetSequenceTreeBuilder.build(targets[i]).getRoot();
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Computes the rows of the matrix for a range of the query geometries,
+   * reusing a single {@link ItemDistanceSearch}.
+   */
+  private class BatchTask implements Callable
+  {
+    private Geometry[] geoms;
+    private int start;
+    private int end;
+    private double maxDistance;
+    private double[][] result;
+    private ItemDistanceSearch search = new ItemDistanceSearch(
+        new IndexedFacetDistance.FacetSequenceDistance());
+
+    BatchTask(Geometry[] geoms, int start, int end, double maxDistance, double[][] result)
+    {
+      this.geoms = geoms;
+      this.start = start;
+      this.end = end;
+      this.maxDistance = maxDistance;
+      this.result = result;
+    }
+
+    public Object call()
+    {
+      for (int i = start; i < end; i++) {
+        result[i] = computeRow(geoms[i]);
+      }
+      return null;
+    }
+
+    private double[] computeRow(Geometry geom)
+    {
+      double[] dist = new double[targets.length];
+      Arrays.fill(dist, Double.POSITIVE_INFINITY);
+      if (geom.isEmpty()) {
+        Arrays.fill(dist, 0.0);
+        return dist;
+      }
+      for (int j = 0; j < targets.length; j++) {
+        if (targets[j].isEmpty()) dist[j] = 0.0;
+      }
+      if (maxDistance < 0.0) return dist;
+
+      Envelope geomEnv = geom.getEnvelopeInternal();
+      Envelope searchEnv = new Envelope(geomEnv);
+      searchEnv.expandBy(maxDistance);
+      List candidates = targetIndex.query(searchEnv);
+      if (candidates.isEmpty()) return dist;
+
+      List facets = toItems(FacetSequenceTreeBuilder.computeFacetSequences(geom));
+      for (int k = 0; k < candidates.size(); k++) {
+        int j = ((Integer) candidates.get(k)).intValue();
+        if (geomEnv.distance(targets[j].getEnvelopeInternal()) > maxDistance)
+          continue;
+        dist[j] = distance(facets, targetFacets[j]);
+      }
+      return dist;
+    }
+
+    /**
+     * Computes the distance from a set of facet sequences
+     * to a target facet index, if it is within the maximum distance.
+     * Each search is bounded by the nearest distance found so far.
+     *
+     * @param facets the facet sequences of the query geometry
+     * @param targetRoot the root of the target facet index
+     * @return the distance, or {@link Double#POSITIVE_INFINITY}
+     *   if it is greater than the maximum distance
+     */
+    private double distance(List facets, AbstractNode targetRoot)
+    {
+      double minDist = Double.POSITIVE_INFINITY;
+      double bound = maxDistance;
+      for (int i = 0; i < facets.size(); i++) {
+        ItemBoundable facet = (ItemBoundable) facets.get(i);
+        double d = search.distance(targetRoot, facet, bound, 0.0);
+        if (d < minDist) {
+          minDist = d;
+          bound = d;
+          if (minDist == 0.0) break;
+        }
+      }
+      return minDist;
+    }
+  }
+
+  private static List toItems(List facetSeqs)
+  {
+    List items = new ArrayList(facetSeqs.size());
+    for (int i = 0; i < facetSeqs.size(); i++) {
+      FacetSequence fs = (FacetSequence) facetSeqs.get(i);
+      items.add(new ItemBoundable(fs.getEnvelope(), fs));
+    }
+    return items;
+  }
+}
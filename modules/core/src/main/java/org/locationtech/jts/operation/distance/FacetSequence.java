@@ -134,6 +134,21 @@ public class FacetSequence
     return distance;
   }
   
+  /**
+   * Computes the distance between this sequence and a point.
+   * The distance is the same as that to a point <tt>FacetSequence</tt>.
+   *
+   * @param pt the point to compute the distance to
+   * @return the minimum distance between the sequence and the point
+   */
+  public double distance(Coordinate pt)
+  {
+    if (isPoint()) {
+      return pts.getCoordinate(start).distance(pt);
+    }
+    return computeDistancePointLine(pt, this, null);
+  }
+
   /**
    * Computes the locations of the nearest points between this sequence
    * and another sequence.
@@ -13,6 +13,7 @@
 package org.locationtech.jts.operation.distance;
 
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Lineal;
 import org.locationtech.jts.geom.Polygonal;
@@ -81,6 +82,7 @@ public class IndexedFacetDistance
   }
   
   private STRtree cachedTree;
+  private Envelope baseEnv;
   
   /**
    * Creates a new distance-finding instance for a given target {@link Geometry}.
@@ -97,6 +99,7 @@ public class IndexedFacetDistance
    */
   public IndexedFacetDistance(Geometry g1) {
     cachedTree = FacetSequenceTreeBuilder.build(g1);
+    baseEnv = g1.getEnvelopeInternal();
   }
 
   /**
@@ -117,6 +120,16 @@ public class IndexedFacetDistance
     return fs1.distance(fs2);
   }
   
+  /**
+   * Gets the index of the facets of the base geometry.
+   *
+   * @return the facet index
+   */
+  STRtree getTree()
+  {
+    return cachedTree;
+  }
+
   /**
    * Computes the nearest locations on the base geometry
    * and the given geometry.
@@ -175,24 +188,26 @@ public class IndexedFacetDistance
   /**
    * Tests whether the base geometry lies within
    * a specified distance of the given geometry.
+   * The search terminates as soon as facets within the distance are found.
    * 
-//   * @param g the geometry to test
-//   * @param maximumDistance the maximum distance to test
-//   * @return true if the geometry lies with the specified distance
+   * @param g the geometry to test
+   * @param maximumDistance the maximum distance to test
+   * @return true if the geometry lies with the specified distance
    */
-  // TODO: implement this
-  /*
   public boolean isWithinDistance(Geometry g, double maximumDistance)
   {
-    STRtree tree2 = FacetSequenceTreeBuilder.build(g);
-    double dist = findMinDistance(cachedTree.getRoot(), tree2.getRoot(), maximumDistance);
-    if (dist <= maximumDistance)
+    // short-circuit check
+    Envelope env = g.getEnvelopeInternal();
+    if (! baseEnv.isNull() && ! env.isNull()
+        && baseEnv.distance(env) > maximumDistance)
       return false;
-    return true;
+
+    STRtree tree2 = FacetSequenceTreeBuilder.build(g);
+    return cachedTree.isWithinDistance(tree2, 
+        new FacetSequenceDistance(), maximumDistance);
   }
-  */
   
-  private static class FacetSequenceDistance
+  static class FacetSequenceDistance
   implements ItemDistance
   {
     public double distance(ItemBoundable item1, ItemBoundable item2) {
@@ -15,11 +15,9 @@
 package org.locationtech.jts.operation.polygonize;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
-import org.locationtech.jts.algorithm.Orientation;
 import org.locationtech.jts.algorithm.PointLocation;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
@@ -28,7 +26,6 @@ import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.LinearRing;
-import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.impl.CoordinateArraySequence;
 import org.locationtech.jts.io.WKTWriter;
 import org.locationtech.jts.planargraph.DirectedEdge;
@@ -41,7 +38,9 @@ import org.locationtech.jts.util.Assert;
  *
  * @version 1.7
  */
-class EdgeRing {
+class EdgeRing
+  extends PolygonRing
+{
 
   /**
    * Find the innermost enclosing shell EdgeRing containing the argument EdgeRing, if any.
@@ -160,12 +159,6 @@ class EdgeRing {
   private LinearRing ring = null;
 
   private Coordinate[] ringPts = null;
-  private List holes;
-  private EdgeRing shell;
-  private boolean isHole;
-  private boolean isProcessed = false;
-  private boolean isIncludedSet = false;
-  private boolean isIncluded = false;
 
   public EdgeRing(GeometryFactory factory)
   {
@@ -192,66 +185,6 @@ class EdgeRing {
     deList.add(de);
   }
 
-  /**
-   * Tests whether this ring is a hole.
-   * @return <code>true</code> if this ring is a hole
-   */
-  public boolean isHole()
-  {
-    return isHole;
-  }
-  
-  /**
-   * Computes whether this ring is a hole.
-   * Due to the way the edges in the polygonization graph are linked,
-   * a ring is a hole if it is oriented counter-clockwise.
-   */
-  public void computeHole()
-  {
-    LinearRing ring = getRing();
-    isHole = Orientation.isCCW(ring.getCoordinates());
-  }
-
-  /**
-   * Adds a hole to the polygon formed by this ring.
-   * @param hole the {@link LinearRing} forming the hole.
-   */
-  public void addHole(LinearRing hole) {
-    if (holes == null)
-      holes = new ArrayList();
-    holes.add(hole);
-  }
-
-  /**
-   * Adds a hole to the polygon formed by this ring.
-   * @param hole the {@link LinearRing} forming the hole.
-   */
-  public void addHole(EdgeRing holeER) {
-    holeER.setShell(this);
-    LinearRing hole = holeER.getRing();
-    if (holes == null)
-      holes = new ArrayList();
-    holes.add(hole);
-  }
-
-  /**
-   * Computes the {@link Polygon} formed by this ring and any contained holes.
-   *
-   * @return the {@link Polygon} formed by this ring and its holes.
-   */
-  public Polygon getPolygon()
-  {
-    LinearRing[] holeLR = null;
-    if (holes != null) {
-      holeLR = new LinearRing[holes.size()];
-      for (int i = 0; i < holes.size(); i++) {
-        holeLR[i] = (LinearRing) holes.get(i);
-      }
-    }
-    Polygon poly = factory.createPolygon(ring, holeLR);
-    return poly;
-  }
-
   /**
    * Tests if the {@link LinearRing} ring formed by this edge ring is topologically valid.
    * 
@@ -265,19 +198,6 @@ class EdgeRing {
     return ring.isValid();
   }
 
-  public boolean isIncludedSet() {
-    return isIncludedSet;
-  }
-
-  public boolean isIncluded() {
-    return isIncluded;
-  }
-
-  public void setIncluded(boolean isIncluded) {
-    this.isIncluded = isIncluded;
-    this.isIncludedSet = true;
-  }
-
   /**
    * Computes the list of coordinates which are contained in this ring.
    * The coordinates are computed once only and cached.
@@ -330,6 +250,27 @@ class EdgeRing {
     return ring;
   }
 
+  GeometryFactory getFactory()
+  {
+    return factory;
+  }
+
+  int firstEdge()
+  {
+    return deList.isEmpty() ? -1 : 0;
+  }
+
+  int nextEdge(int edge)
+  {
+    return edge + 1 < deList.size() ? edge + 1 : -1;
+  }
+
+  PolygonRing getAdjacentRing(int edge)
+  {
+    PolygonizeDirectedEdge de = (PolygonizeDirectedEdge) deList.get(edge);
+    return ((PolygonizeDirectedEdge) de.getSym()).getRing();
+  }
+
   private static void addEdge(Coordinate[] coords, boolean isForward, CoordinateList coordList)
   {
     if (isForward) {
@@ -344,86 +285,6 @@ class EdgeRing {
     }
   }
 
-  /**
-   * Sets the containing shell ring of a ring that has been determined to be a hole.
-   * 
-   * @param shell the shell ring
-   */
-  public void setShell(EdgeRing shell) {
-    this.shell = shell;
-  }
-  
-  /**
-   * Tests whether this ring has a shell assigned to it.
-   * 
-   * @return true if the ring has a shell
-   */
-  public boolean hasShell() {
-    return shell != null;
-  }
-  
-  /**
-   * Gets the shell for this ring.  The shell is the ring itself if it is not a hole, otherwise its parent shell.
-   * 
-   * @return the shell for this ring
-   */
-  public EdgeRing getShell() {
-    if (isHole()) return shell;
-    return this;
-  }
-  /**
-   * Tests whether this ring is an outer hole.
-   * A hole is an outer hole if it is not contained by a shell.
-   * 
-   * @return true if the ring is an outer hole.
-   */
-  public boolean isOuterHole() {
-    if (! isHole) return false;
-    return ! hasShell();
-  }
-  
-  /**
-   * Tests whether this ring is an outer shell.
-   * 
-   * @return true if the ring is an outer shell.
-   */
-  public boolean isOuterShell() {
-    return getOuterHole() != null;
-  }
-  
-  public EdgeRing getOuterHole()
-  {
-    if (isHole()) return null;
-    /*
-     * A shell is an outer shell if any edge is also in an outer hole.
-     * A hole is an outer hole if it is not contained by a shell.
-     */
-    for (int i = 0; i < deList.size(); i++) {
-      PolygonizeDirectedEdge de = (PolygonizeDirectedEdge) deList.get(i);
-      EdgeRing adjRing = ((PolygonizeDirectedEdge) de.getSym()).getRing();
-      if (adjRing.isOuterHole()) return adjRing;
-    }
-    return null;    
-  }
-
-  /**
-   * Updates the included status for currently non-included shells
-   * based on whether they are adjacent to an included shell.
-   */
-  public void updateIncluded() {
-    if (isHole()) return;
-    for (int i = 0; i < deList.size(); i++) {
-      PolygonizeDirectedEdge de = (PolygonizeDirectedEdge) deList.get(i);
-      EdgeRing adjShell = ((PolygonizeDirectedEdge) de.getSym()).getRing().getShell();
-      
-      if (adjShell != null && adjShell.isIncludedSet()) {
-        // adjacent ring has been processed, so set included to inverse of adjacent included
-        setIncluded(! adjShell.isIncluded());
-        return;
-      }
-    }
-  }
-
   /**
    * Gets a string representation of this object.
    * 
@@ -432,36 +293,5 @@ class EdgeRing {
   public String toString() {
     return WKTWriter.toLineString(new CoordinateArraySequence(getCoordinates()));
   }
-  
-  /**
-   * @return whether the ring has been processed
-   */
-  public boolean isProcessed() {
-    return isProcessed;
-  }
-
-  /**
-   * @param isProcessed whether the ring has been processed
-   */
-  public void setProcessed(boolean isProcessed) {
-    this.isProcessed = isProcessed;
-  }
-
-  /**
-   * Compares EdgeRings based on their envelope,
-   * using the standard lexicographic ordering.
-   * This ordering is sufficient to make edge ring sorting deterministic.
-   * 
-   * @author mbdavis
-   *
-   */
-  static class EnvelopeComparator implements Comparator {
-    public int compare(Object obj0, Object obj1) {
-      EdgeRing r0 = (EdgeRing) obj0;
-      EdgeRing r1 = (EdgeRing) obj1;
-      return r0.getRing().getEnvelope().compareTo(r1.getRing().getEnvelope());
-    }
-    
-  }
 
 }
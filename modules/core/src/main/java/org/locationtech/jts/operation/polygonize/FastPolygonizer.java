@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.polygonize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryComponentFilter;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Polygonizes a set of {@link Geometry}s which contain linework that
+ * represents the edges of a planar graph,
+ * in the same way as {@link Polygonizer}.
+ * It is intended for large networks of lines.
+ * <p>
+ * The graph is stored in a compact array-based form,
+ * with nodes located by a hash table on their coordinates
+ * rather than by a sorted map,
+ * and without creating objects for the nodes and edges.
+ * Holes are assigned to shells using a spatial index of the shell envelopes,
+ * and large shells index their vertices and segments
+ * for testing whether they contain holes.
+ * <p>
+ * As for {@link Polygonizer}, the input edges must be correctly noded.
+ * The polygons, dangles, cut edges and invalid ring lines
+ * are equal to those computed by {@link Polygonizer} only after normalization,
+ * since the start points of the rings differ
+ * (they depend on the iteration order of the {@link Polygonizer} graph).
+ * The order of the polygons in the result is the same as for {@link Polygonizer}
+ * whenever that is determined by the shell envelopes.
+ * The shell and hole logic is shared with {@link Polygonizer}.
+ *
+ * @see Polygonizer
+ */
+public class FastPolygonizer
+{
+  /**
+   * Adds every linear element in a {@link Geometry} into the polygonizer graph.
+   */
+  private static class LineStringAdder
+      implements GeometryComponentFilter
+  {
+    FastPolygonizer p;
+
+    LineStringAdder(FastPolygonizer p) {
+      this.p = p;
+    }
+
+    public void filter(Geometry g) {
+      if (g instanceof LineString)
+        p.add((LineString) g);
+    }
+  }
+
+  private LineStringAdder lineStringAdder = new LineStringAdder(this);
+
+  private HalfEdgePolygonizeGraph graph;
+  // initialize with empty collections, in case nothing is computed
+  private Collection dangles = new ArrayList();
+  private List cutEdges = new ArrayList();
+  private List invalidRingLines = new ArrayList();
+
+  private List holeList = null;
+  private List shellList = null;
+  private List polyList = null;
+
+  private boolean isCheckingRingsValid = true;
+  private boolean extractOnlyPolygonal;
+
+  private GeometryFactory geomFactory = null;
+
+  /**
+   * Creates a polygonizer that extracts all polygons.
+   */
+  public FastPolygonizer()
+  {
+    this(false);
+  }
+
+  /**
+   * Creates a polygonizer, specifying whether a valid polygonal geometry must be created.
+   * If the argument is <code>true</code>
+   * then areas may be discarded in order to
+   * ensure that the extracted geometry is a valid polygonal geometry.
+   *
+   * @param extractOnlyPolygonal true if a valid polygonal geometry should be extracted
+   */
+  public FastPolygonizer(boolean extractOnlyPolygonal)
+  {
+    this.extractOnlyPolygonal = extractOnlyPolygonal;
+  }
+
+  /**
+   * Adds a collection of geometries to the edges to be polygonized.
+   * May be called multiple times.
+   * Any dimension of Geometry may be added;
+   * the constituent linework will be extracted and used.
+   *
+   * @param geomList a list of {@link Geometry}s with linework to be polygonized
+   */
+  public void add(Collection geomList)
+  {
+    for (Iterator i = geomList.iterator(); i.hasNext(); ) {
+      Geometry geometry = (Geometry) i.next();
+      add(geometry);
+    }
+  }
+
+  /**
+   * Add a {@link Geometry} to the edges to be polygonized.
+   * May be called multiple times.
+   * Any dimension of Geometry may be added;
+   * the constituent linework will be extracted and used
+   *
+   * @param g a {@link Geometry} with linework to be polygonized
+   */
+  public void add(Geometry g)
+  {
+    g.apply(lineStringAdder);
+  }
+
+  private void add(LineString line)
+  {
+    // record the geometry factory for later use
+    geomFactory  = line.getFactory();
+    // create a new graph using the factory from the input Geometry
+    if (graph == null)
+      graph = new HalfEdgePolygonizeGraph(geomFactory);
+    graph.addEdge(line);
+  }
+
+  /**
+   * Allows disabling the valid ring checking,
+   * to optimize situations where invalid rings are not expected.
+   * <p>
+   * The default is <code>true</code>.
+   *
+   * @param isCheckingRingsValid true if generated rings should be checked for validity
+   */
+  public void setCheckRingsValid(boolean isCheckingRingsValid)
+  {
+    this.isCheckingRingsValid = isCheckingRingsValid;
+  }
+
+  /**
+   * Gets the list of polygons formed by the polygonization.
+   * @return a collection of {@link Polygon}s
+   */
+  public Collection getPolygons()
+  {
+    polygonize();
+    return polyList;
+  }
+
+  /**
+   * Gets a geometry representing the polygons formed by the polygonization.
+   * If a valid polygonal geometry was extracted the result is a {@link org.locationtech.jts.geom.Polygonal} geometry.
+   *
+   * @return a geometry containing the polygons
+   */
+  public Geometry getGeometry()
+  {
+    if (geomFactory == null) geomFactory = new GeometryFactory();
+    polygonize();
+    if (extractOnlyPolygonal) {
+      return geomFactory.buildGeometry(polyList);
+    }
+    // result may not be valid Polygonal, so return as a GeometryCollection
+    return geomFactory.createGeometryCollection(GeometryFactory.toGeometryArray(polyList));
+  }
+
+  /**
+   * Gets the list of dangling lines found during polygonization.
+   * @return a collection of the input {@link LineString}s which are dangles
+   */
+  public Collection getDangles()
+  {
+    polygonize();
+    return dangles;
+  }
+
+  /**
+   * Gets the list of cut edges found during polygonization.
+   * @return a collection of the input {@link LineString}s which are cut edges
+   */
+  public Collection getCutEdges()
+  {
+    polygonize();
+    return cutEdges;
+  }
+
+  /**
+   * Gets the list of lines forming invalid rings found during polygonization.
+   * @return a collection of the input {@link LineString}s which form invalid rings
+   */
+  public Collection getInvalidRingLines()
+  {
+    polygonize();
+    return invalidRingLines;
+  }
+
+  /**
+   * Performs the polygonization, if it has not already been carried out.
+   */
+  private void polygonize()
+  {
+    // check if already computed
+    if (polyList != null) return;
+    polyList = new ArrayList();
+
+    // if no geometries were supplied it's possible that graph is null
+    if (graph == null) return;
+
+    dangles = graph.deleteDangles();
+    cutEdges = graph.deleteCutEdges();
+    List edgeRingList = getEdgeRings();
+
+    List validEdgeRingList = new ArrayList();
+    invalidRingLines = new ArrayList();
+    if (isCheckingRingsValid) {
+      findValidRings(edgeRingList, validEdgeRingList, invalidRingLines);
+    }
+    else {
+      validEdgeRingList = edgeRingList;
+    }
+
+    findShellsAndHoles(validEdgeRingList);
+    assignHolesToShells(holeList, shellList);
+    // order the shells to make any subsequent processing deterministic
+    Collections.sort(shellList, new PolygonRing.EnvelopeComparator());
+
+    boolean includeAll = true;
+    if (extractOnlyPolygonal) {
+      PolygonRing.findDisjointShells(shellList);
+      includeAll = false;
+    }
+    polyList = PolygonRing.extractPolygons(shellList, includeAll);
+  }
+
+  private List getEdgeRings()
+  {
+    int[] ringStart = graph.findEdgeRings();
+    List edgeRingList = new ArrayList(ringStart.length);
+    for (int i = 0; i < ringStart.length; i++) {
+      edgeRingList.add(new HalfEdgeRing(graph, edgeRingList, ringStart[i]));
+    }
+    return edgeRingList;
+  }
+
+  private void findValidRings(List edgeRingList, List validEdgeRingList, List invalidRingList)
+  {
+    for (Iterator i = edgeRingList.iterator(); i.hasNext(); ) {
+      HalfEdgeRing er = (HalfEdgeRing) i.next();
+      if (er.isValid())
+        validEdgeRingList.add(er);
+      else
+        invalidRingList.add(er.getLineString());
+    }
+  }
+
+  private void findShellsAndHoles(List edgeRingList)
+  {
+    holeList = new ArrayList();
+    shellList = new ArrayList();
+    for (Iterator i = edgeRingList.iterator(); i.hasNext(); ) {
+      HalfEdgeRing er = (HalfEdgeRing) i.next();
+      er.computeHole();
+      if (er.isHole())
+        holeList.add(er);
+      else
+        shellList.add(er);
+    }
+  }
+
+  /**
+   * Assigns holes to the innermost shells containing them.
+   * The candidate shells for each hole are found from a spatial index
+   * of the shell envelopes,
+   * and are tested in the order of the shell list.
+   */
+  private static void assignHolesToShells(List holeList, List shellList)
+  {
+    if (holeList.isEmpty() || shellList.isEmpty()) return;
+
+    STRtree shellIndex = new STRtree();
+    for (int i = 0; i < shellList.size(); i++) {
+      HalfEdgeRing shell = (HalfEdgeRing) shellList.get(i);
+      shellIndex.insert(shell.getRing().getEnvelopeInternal(), Integer.valueOf(i));
+    }
+
+    List candidates = new ArrayList();
+    for (Iterator i = holeList.iterator(); i.hasNext(); ) {
+      HalfEdgeRing holeER = (HalfEdgeRing) i.next();
+      List candidateIndex = shellIndex.query(holeER.getRing().getEnvelopeInternal());
+      Collections.sort(candidateIndex);
+      candidates.clear();
+      for (int k = 0; k < candidateIndex.size(); k++) {
+        candidates.add(shellList.get(((Integer) candidateIndex.get(k)).intValue()));
+      }
+      HalfEdgeRing shell = HalfEdgeRing.findEdgeRingContaining(holeER, candidates);
+      if (shell != null) {
+        shell.addHole(holeER);
+      }
+    }
+  }
+}
@@ -0,0 +1,525 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.operation.polygonize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geomgraph.Quadrant;
+import org.locationtech.jts.util.Assert;
+
+/**
+ * A compact form of {@link PolygonizeGraph},
+ * which represents the graph with arrays of integers
+ * rather than with node and edge objects.
+ * <p>
+ * Each edge <tt>e</tt> has two half-edges (directed edges):
+ * <tt>2e</tt> in the direction of the edge line and <tt>2e+1</tt> in the reverse direction,
+ * so that the sym of half-edge <tt>h</tt> is <tt>h ^ 1</tt>.
+ * Nodes are found by an open-addressing hash table on their coordinates.
+ * The half-edges leaving each node are stored contiguously,
+ * sorted in CCW order by the same ordering as {@link org.locationtech.jts.planargraph.DirectedEdgeStar}.
+ * <p>
+ * The operations on the graph compute the same results as
+ * the corresponding methods of {@link PolygonizeGraph}.
+ *
+ * @see FastPolygonizer
+ */
+class HalfEdgePolygonizeGraph
+{
+  private static final int EMPTY = -1;
+
+  private GeometryFactory factory;
+
+  private int numEdges = 0;
+  private LineString[] edgeLine = new LineString[16];
+  // the origin node of each half-edge
+  private int[] origin = new int[32];
+  // the second point of each half-edge, which determines its direction
+  private Coordinate[] dirPt = new Coordinate[32];
+
+  private int numNodes = 0;
+  private Coordinate[] nodePt = new Coordinate[16];
+  private int[] nodeTable = newTable(32);
+
+  // the half-edges leaving each node, in CCW order
+  private int[] starStart = null;
+  private int[] star;
+
+  private boolean[] isMarked;
+  private int[] next;
+  private int[] label;
+  private int[] ring;
+
+  public HalfEdgePolygonizeGraph(GeometryFactory factory)
+  {
+    this.factory = factory;
+  }
+
+  public GeometryFactory getFactory() { return factory; }
+
+  /**
+   * Adds a line to the graph.
+   * The line is added as a single edge between nodes at its endpoints.
+   * Empty lines and lines with only a single distinct point are ignored.
+   *
+   * @param line the line to add
+   */
+  public void addEdge(LineString line)
+  {
+    if (line.isEmpty()) { return; }
+    CoordinateSequence seq = line.getCoordinateSequence();
+    int n = seq.size();
+
+    // find the direction points, skipping repeated points
+    Coordinate startPt = seq.getCoordinate(0);
+    int i = 1;
+    while (i < n && seq.getCoordinate(i).equals2D(startPt)) {
+      i++;
+    }
+    if (i >= n) { return; }
+    Coordinate startDirPt = seq.getCoordinate(i);
+
+    Coordinate endPt = seq.getCoordinate(n - 1);
+    int j = n - 2;
+    while (seq.getCoordinate(j).equals2D(endPt)) {
+      j--;
+    }
+    Coordinate endDirPt = seq.getCoordinate(j);
+
+    int nStart = getNode(startPt);
+    int nEnd = getNode(endPt);
+
+    ensureEdgeCapacity();
+    int e = numEdges++;
+    edgeLine[e] = line;
+    origin[2 * e] = nStart;
+    origin[2 * e + 1] = nEnd;
+    dirPt[2 * e] = startDirPt;
+    dirPt[2 * e + 1] = endDirPt;
+    // the stars must be recomputed
+    starStart = null;
+  }
+
+  private void ensureEdgeCapacity()
+  {
+    if (numEdges < edgeLine.length) return;
+    int size = 2 * edgeLine.length;
+    edgeLine = Arrays.copyOf(edgeLine, size);
+    origin = Arrays.copyOf(origin, 2 * size);
+    dirPt = Arrays.copyOf(dirPt, 2 * size);
+  }
+
+  //=======  Node lookup  =========
+
+  private static int[] newTable(int size)
+  {
+    int[] table = new int[size];
+    Arrays.fill(table, EMPTY);
+    return table;
+  }
+
+  private int getNode(Coordinate pt)
+  {
+    int mask = nodeTable.length - 1;
+    int i = hash(pt.x, pt.y) & mask;
+    while (nodeTable[i] != EMPTY) {
+      Coordinate nodeCoord = nodePt[nodeTable[i]];
+      if (nodeCoord.x == pt.x && nodeCoord.y == pt.y)
+        return nodeTable[i];
+      i = (i + 1) & mask;
+    }
+    if (numNodes == nodePt.length) {
+      nodePt = Arrays.copyOf(nodePt, 2 * nodePt.length);
+    }
+    int node = numNodes++;
+    nodePt[node] = pt;
+    nodeTable[i] = node;
+    // keep the load factor of the table at most 1/2
+    if (2 * numNodes > nodeTable.length)
+      rehash();
+    return node;
+  }
+
+  private void rehash()
+  {
+    int[] table = newTable(2 * nodeTable.length);
+    int mask = table.length - 1;
+    for (int node = 0; node < numNodes; node++) {
+      int i = hash(nodePt[node].x, nodePt[node].y) & mask;
+      while (table[i] != EMPTY) {
+        i = (i + 1) & mask;
+      }
+      table[i] = node;
+    }
+    nodeTable = table;
+  }
+
+  private static int hash(double x, double y)
+  {
+    // adding 0.0 ensures that -0.0 and 0.0 hash to the same value
+    long bits = Double.doubleToLongBits(x + 0.0) * 31 + Double.doubleToLongBits(y + 0.0);
+    int h = (int) (bits ^ (bits >>> 32));
+    // spread the bits, since coordinates often differ only in low-order bits
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  //=======  Graph structure  =========
+
+  public int getNumHalfEdges() { return 2 * numEdges; }
+
+  public LineString getLine(int halfEdge) { return edgeLine[halfEdge >> 1]; }
+
+  public boolean isForward(int halfEdge) { return (halfEdge & 1) == 0; }
+
+  public int getNext(int halfEdge) { return next[halfEdge]; }
+
+  public boolean isMarked(int halfEdge) { return isMarked[halfEdge >> 1]; }
+
+  public int getRing(int halfEdge) { return ring[halfEdge]; }
+
+  public void setRing(int halfEdge, int ringIndex) { ring[halfEdge] = ringIndex; }
+
+  private int destination(int halfEdge) { return origin[halfEdge ^ 1]; }
+
+  /**
+   * Builds the sorted stars of half-edges around each node.
+   */
+  private void buildStars()
+  {
+    if (starStart != null) return;
+    int numHalfEdges = 2 * numEdges;
+    starStart = new int[numNodes + 1];
+    for (int h = 0; h < numHalfEdges; h++) {
+      starStart[origin[h] + 1]++;
+    }
+    for (int node = 0; node < numNodes; node++) {
+      starStart[node + 1] += starStart[node];
+    }
+    // add the half-edges in order, so that the sort is stable as for DirectedEdgeStar
+    star = new int[numHalfEdges];
+    int[] pos = Arrays.copyOf(starStart, numNodes);
+    for (int h = 0; h < numHalfEdges; h++) {
+      star[pos[origin[h]]++] = h;
+    }
+    int[] buf = new int[numHalfEdges];
+    for (int node = 0; node < numNodes; node++) {
+      sortStar(starStart[node], starStart[node + 1], buf);
+    }
+
+    isMarked = new boolean[numEdges];
+    next = new int[numHalfEdges];
+    Arrays.fill(next, EMPTY);
+    label = new int[numHalfEdges];
+    Arrays.fill(label, -1);
+    ring = new int[numHalfEdges];
+    Arrays.fill(ring, EMPTY);
+  }
+
+  /**
+   * Sorts a range of a star by a stable merge sort.
+   */
+  private void sortStar(int start, int end, int[] buf)
+  {
+    if (end - start <= 6) {
+      for (int i = start + 1; i < end; i++) {
+        int h = star[i];
+        int j = i;
+        while (j > start && compareDirection(star[j - 1], h) > 0) {
+          star[j] = star[j - 1];
+          j--;
+        }
+        star[j] = h;
+      }
+      return;
+    }
+    int mid = (start + end) >>> 1;
+    sortStar(start, mid, buf);
+    sortStar(mid, end, buf);
+    System.arraycopy(star, start, buf, start, end - start);
+    int i = start;
+    int j = mid;
+    for (int k = start; k < end; k++) {
+      if (j >= end || (i < mid && compareDirection(buf[i], buf[j]) <= 0))
+        star[k] = buf[i++];
+      else
+        star[k] = buf[j++];
+    }
+  }
+
+  /**
+   * Compares the directions of two half-edges with the same origin,
+   * in the same way as {@link org.locationtech.jts.planargraph.DirectedEdge#compareDirection}.
+   */
+  private int compareDirection(int h0, int h1)
+  {
+    Coordinate p0 = nodePt[origin[h0]];
+    int quad0 = quadrant(p0, dirPt[h0]);
+    int quad1 = quadrant(p0, dirPt[h1]);
+    if (quad0 > quad1) return 1;
+    if (quad0 < quad1) return -1;
+    return Orientation.index(p0, dirPt[h1], dirPt[h0]);
+  }
+
+  private static int quadrant(Coordinate p0, Coordinate p1)
+  {
+    return Quadrant.quadrant(p1.x - p0.x, p1.y - p0.y);
+  }
+
+  private int getDegreeNonDeleted(int node)
+  {
+    int degree = 0;
+    for (int i = starStart[node]; i < starStart[node + 1]; i++) {
+      if (! isMarked[star[i] >> 1]) degree++;
+    }
+    return degree;
+  }
+
+  private int getDegree(int node, int lbl)
+  {
+    int degree = 0;
+    for (int i = starStart[node]; i < starStart[node + 1]; i++) {
+      if (label[star[i]] == lbl) degree++;
+    }
+    return degree;
+  }
+
+  //=======  Polygonization operations  =========
+
+  /**
+   * Marks all edges which form dangles, and returns their lines.
+   * Dangles are edges which have an end node of degree 1,
+   * directly or after other dangles are removed.
+   *
+   * @return a collection of the {@link LineString}s which are dangles
+   */
+  public Collection deleteDangles()
+  {
+    buildStars();
+    Set dangleLines = new HashSet();
+    int[] nodeStack = new int[16];
+    int stackSize = 0;
+    for (int node = 0; node < numNodes; node++) {
+      if (starStart[node + 1] - starStart[node] != 1) continue;
+      if (stackSize == nodeStack.length)
+        nodeStack = Arrays.copyOf(nodeStack, 2 * stackSize);
+      nodeStack[stackSize++] = node;
+    }
+
+    while (stackSize > 0) {
+      int node = nodeStack[--stackSize];
+      for (int i = starStart[node]; i < starStart[node + 1]; i++) {
+        int h = star[i];
+        isMarked[h >> 1] = true;
+        dangleLines.add(edgeLine[h >> 1]);
+
+        int toNode = destination(h);
+        // add the toNode to the list to be processed, if it is now a dangle
+        if (getDegreeNonDeleted(toNode) == 1) {
+          if (stackSize == nodeStack.length)
+            nodeStack = Arrays.copyOf(nodeStack, 2 * stackSize);
+          nodeStack[stackSize++] = toNode;
+        }
+      }
+    }
+    return dangleLines;
+  }
+
+  /**
+   * Marks all edges which are cut edges, and returns their lines.
+   * Cut edges are edges where the same edge ring lies on both sides.
+   *
+   * @return a list of the {@link LineString}s which are cut edges
+   */
+  public List deleteCutEdges()
+  {
+    buildStars();
+    computeNextCWEdges();
+    // label the current set of edgerings
+    findLabeledEdgeRings();
+
+    List cutLines = new ArrayList();
+    for (int e = 0; e < numEdges; e++) {
+      if (isMarked[e]) continue;
+      if (label[2 * e] == label[2 * e + 1]) {
+        isMarked[e] = true;
+        cutLines.add(edgeLine[e]);
+      }
+    }
+    return cutLines;
+  }
+
+  /**
+   * Computes the minimal edge rings formed by the unmarked edges,
+   * and records the ring of each half-edge.
+   *
+   * @return an array of the first half-edge of each ring, in order of discovery
+   */
+  public int[] findEdgeRings()
+  {
+    buildStars();
+    computeNextCWEdges();
+    // clear labels of all edges in graph
+    Arrays.fill(label, -1);
+    int[] maximalRings = findLabeledEdgeRings();
+    convertMaximalToMinimalEdgeRings(maximalRings);
+
+    // find all edgerings (which will now be minimal ones, as required)
+    int numRings = 0;
+    int[] ringStart = new int[16];
+    for (int h = 0; h < 2 * numEdges; h++) {
+      if (isMarked[h >> 1]) continue;
+      if (ring[h] != EMPTY) continue;
+
+      int de = h;
+      do {
+        ring[de] = numRings;
+        de = next[de];
+        Assert.isTrue(de != EMPTY, "found null DE in ring");
+        Assert.isTrue(de == h || ring[de] == EMPTY, "found DE already in ring");
+      } while (de != h);
+
+      if (numRings == ringStart.length)
+        ringStart = Arrays.copyOf(ringStart, 2 * numRings);
+      ringStart[numRings++] = h;
+    }
+    return Arrays.copyOf(ringStart, numRings);
+  }
+
+  private void computeNextCWEdges()
+  {
+    // set the next pointers for the edges around each node
+    for (int node = 0; node < numNodes; node++) {
+      int startDE = EMPTY;
+      int prevDE = EMPTY;
+      // the edges are stored in CCW order around the star
+      for (int i = starStart[node]; i < starStart[node + 1]; i++) {
+        int outDE = star[i];
+        if (isMarked[outDE >> 1]) continue;
+
+        if (startDE == EMPTY)
+          startDE = outDE;
+        if (prevDE != EMPTY) {
+          next[prevDE ^ 1] = outDE;
+        }
+        prevDE = outDE;
+      }
+      if (prevDE != EMPTY) {
+        next[prevDE ^ 1] = startDE;
+      }
+    }
+  }
+
+  private int[] findLabeledEdgeRings()
+  {
+    int numStarts = 0;
+    int[] edgeRingStarts = new int[16];
+    // label the edge rings formed
+    int currLabel = 1;
+    for (int h = 0; h < 2 * numEdges; h++) {
+      if (isMarked[h >> 1]) continue;
+      if (label[h] >= 0) continue;
+
+      if (numStarts == edgeRingStarts.length)
+        edgeRingStarts = Arrays.copyOf(edgeRingStarts, 2 * numStarts);
+      edgeRingStarts[numStarts++] = h;
+
+      int de = h;
+      do {
+        label[de] = currLabel;
+        de = next[de];
+        Assert.isTrue(de != EMPTY, "found null DE in ring");
+        Assert.isTrue(de == h || label[de] < 0, "found DE already in ring");
+      } while (de != h);
+      currLabel++;
+    }
+    return Arrays.copyOf(edgeRingStarts, numStarts);
+  }
+
+  private void convertMaximalToMinimalEdgeRings(int[] ringStarts)
+  {
+    for (int k = 0; k < ringStarts.length; k++) {
+      int startDE = ringStarts[k];
+      int lbl = label[startDE];
+      // flip the next pointers on the intersection nodes to create minimal edge rings.
+      // The nodes are found before any are flipped, as for PolygonizeGraph
+      int[] intNodes = findIntersectionNodes(startDE, lbl);
+      for (int i = 0; i < intNodes.length; i++) {
+        computeNextCCWEdges(intNodes[i], lbl);
+      }
+    }
+  }
+
+  private int[] findIntersectionNodes(int startDE, int lbl)
+  {
+    int numNodes = 0;
+    int[] intNodes = new int[0];
+    int de = startDE;
+    do {
+      int node = origin[de];
+      if (getDegree(node, lbl) > 1) {
+        if (numNodes == intNodes.length)
+          intNodes = Arrays.copyOf(intNodes, Math.max(4, 2 * numNodes));
+        intNodes[numNodes++] = node;
+      }
+      de = next[de];
+    } while (de != startDE);
+    return Arrays.copyOf(intNodes, numNodes);
+  }
+
+  private void computeNextCCWEdges(int node, int lbl)
+  {
+    int firstOutDE = EMPTY;
+    int prevInDE = EMPTY;
+
+    // the edges are stored in CCW order around the star
+    for (int i = starStart[node + 1] - 1; i >= starStart[node]; i--) {
+      int de = star[i];
+      int sym = de ^ 1;
+
+      int outDE = EMPTY;
+      if (label[de] == lbl) outDE = de;
+      int inDE = EMPTY;
+      if (label[sym] == lbl) inDE = sym;
+
+      if (outDE == EMPTY && inDE == EMPTY) continue;  // this edge is not in edgering
+
+      if (inDE != EMPTY) {
+        prevInDE = inDE;
+      }
+
+      if (outDE != EMPTY) {
+        if (prevInDE != EMPTY) {
+          next[prevInDE] = outDE;
+          prevInDE = EMPTY;
+        }
+        if (firstOutDE == EMPTY)
+          firstOutDE = outDE;
+      }
+    }
+    if (prevInDE != EMPTY) {
+      Assert.isTrue(firstOutDE != EMPTY);
+      next[prevInDE] = firstOutDE;
+    }
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.operation.polygonize;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.locationtech.jts.algorithm.PointLocation;
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+
+/**
+ * Represents a ring of half-edges in a {@link HalfEdgePolygonizeGraph}
+ * which form a ring of a polygon.  The ring may be either an outer shell or a hole.
+ * This is the equivalent of {@link EdgeRing} for the compact graph.
+ * The half-edges of the ring are found by following the next pointers of the graph
+ * from the start half-edge.
+ * <p>
+ * Large rings which are tested for containing holes
+ * build an index of their vertices and segments,
+ * so that many holes can be tested efficiently.
+ *
+ * @see FastPolygonizer
+ */
+class HalfEdgeRing
+  extends PolygonRing
+{
+  /**
+   * The minimum number of vertices in a ring for it to be indexed
+   * when used for containment tests
+   */
+  private static final int INDEX_MIN_SIZE = 64;
+
+  /**
+   * Finds the innermost enclosing shell containing a hole, if any,
+   * from a list of candidate shells.
+   * The candidates must be in the order of the complete shell list,
+   * so that the result is the same as
+   * {@link EdgeRing#findEdgeRingContaining(EdgeRing, List)}.
+   *
+   * @param testEr the hole to find the shell for
+   * @param shellList the candidate shells
+   * @return the containing shell, or null if none was found
+   */
+  public static HalfEdgeRing findEdgeRingContaining(HalfEdgeRing testEr, List shellList)
+  {
+    LinearRing testRing = testEr.getRing();
+    Envelope testEnv = testRing.getEnvelopeInternal();
+
+    HalfEdgeRing minShell = null;
+    Envelope minShellEnv = null;
+    for (int i = 0; i < shellList.size(); i++) {
+      HalfEdgeRing tryShell = (HalfEdgeRing) shellList.get(i);
+      Envelope tryShellEnv = tryShell.getRing().getEnvelopeInternal();
+      // the hole envelope cannot equal the shell envelope
+      // (also guards against testing rings against themselves)
+      if (tryShellEnv.equals(testEnv)) continue;
+      // hole must be contained in shell
+      if (! tryShellEnv.contains(testEnv)) continue;
+
+      Coordinate testPt = tryShell.ptNotInRing(testRing.getCoordinates());
+      if (testPt == null) continue;
+
+      // check if this new containing ring is smaller than the current minimum ring
+      if (tryShell.isInRing(testPt)) {
+        if (minShell == null
+            || minShellEnv.contains(tryShellEnv)) {
+          minShell = tryShell;
+          minShellEnv = minShell.getRing().getEnvelopeInternal();
+        }
+      }
+    }
+    return minShell;
+  }
+
+  private HalfEdgePolygonizeGraph graph;
+  private List ringList;
+  private int startDE;
+
+  // cache the following data for efficiency
+  private LinearRing ring = null;
+  private Coordinate[] ringPts = null;
+  private IndexedPointInAreaLocator locator = null;
+  private Set vertices = null;
+
+  /**
+   * Creates a ring.
+   *
+   * @param graph the graph containing the ring
+   * @param ringList the list of all the rings of the graph, indexed by the graph ring numbers
+   * @param startDE the first half-edge of the ring
+   */
+  public HalfEdgeRing(HalfEdgePolygonizeGraph graph, List ringList, int startDE)
+  {
+    this.graph = graph;
+    this.ringList = ringList;
+    this.startDE = startDE;
+  }
+
+  public boolean isValid()
+  {
+    getCoordinates();
+    if (ringPts.length <= 3) return false;
+    getRing();
+    return ring.isValid();
+  }
+
+  private Coordinate[] getCoordinates()
+  {
+    if (ringPts == null) {
+      CoordinateList coordList = new CoordinateList();
+      int de = startDE;
+      do {
+        addEdge(graph.getLine(de).getCoordinates(), graph.isForward(de), coordList);
+        de = graph.getNext(de);
+      } while (de != startDE);
+      ringPts = coordList.toCoordinateArray();
+    }
+    return ringPts;
+  }
+
+  public LineString getLineString()
+  {
+    getCoordinates();
+    return graph.getFactory().createLineString(ringPts);
+  }
+
+  public LinearRing getRing()
+  {
+    if (ring != null) return ring;
+    getCoordinates();
+    ring = graph.getFactory().createLinearRing(ringPts);
+    return ring;
+  }
+
+  private static void addEdge(Coordinate[] coords, boolean isForward, CoordinateList coordList)
+  {
+    if (isForward) {
+      for (int i = 0; i < coords.length; i++) {
+        coordList.add(coords[i], false);
+      }
+    }
+    else {
+      for (int i = coords.length - 1; i >= 0; i--) {
+        coordList.add(coords[i], false);
+      }
+    }
+  }
+
+  /**
+   * Finds the first point of a list which is not a vertex of this ring.
+   *
+   * @param testPts the points to test
+   * @return the first point which is not a vertex, or null if there is none
+   */
+  private Coordinate ptNotInRing(Coordinate[] testPts)
+  {
+    Coordinate[] pts = getCoordinates();
+    if (pts.length < INDEX_MIN_SIZE) {
+      for (int i = 0; i < testPts.length; i++) {
+        if (! isInList(testPts[i], pts))
+          return testPts[i];
+      }
+      return null;
+    }
+    if (vertices == null) {
+      vertices = new HashSet();
+      for (int i = 0; i < pts.length; i++) {
+        vertices.add(vertexKey(pts[i]));
+      }
+    }
+    for (int i = 0; i < testPts.length; i++) {
+      if (! vertices.contains(vertexKey(testPts[i])))
+        return testPts[i];
+    }
+    return null;
+  }
+
+  private static boolean isInList(Coordinate pt, Coordinate[] pts)
+  {
+    for (int i = 0; i < pts.length; i++) {
+      if (pt.equals2D(pts[i]))
+        return true;
+    }
+    return false;
+  }
+
+  /**
+   * Gets a coordinate which hashes consistently with {@link Coordinate#equals2D(Coordinate)},
+   * for which -0.0 and 0.0 are equal.
+   */
+  private static Coordinate vertexKey(Coordinate pt)
+  {
+    if (pt.x == 0.0 || pt.y == 0.0)
+      return new Coordinate(pt.x + 0.0, pt.y + 0.0);
+    return pt;
+  }
+
+  /**
+   * Tests whether a point lies in or on this ring,
+   * in the same way as {@link PointLocation#isInRing(Coordinate, Coordinate[])}.
+   */
+  private boolean isInRing(Coordinate pt)
+  {
+    Coordinate[] pts = getCoordinates();
+    if (pts.length < INDEX_MIN_SIZE)
+      return PointLocation.isInRing(pt, pts);
+    if (locator == null)
+      locator = new IndexedPointInAreaLocator(getRing());
+    return locator.locate(pt) != Location.EXTERIOR;
+  }
+
+  GeometryFactory getFactory()
+  {
+    return graph.getFactory();
+  }
+
+  int firstEdge()
+  {
+    return startDE;
+  }
+
+  int nextEdge(int de)
+  {
+    int next = graph.getNext(de);
+    return next == startDE ? -1 : next;
+  }
+
+  PolygonRing getAdjacentRing(int de)
+  {
+    return (PolygonRing) ringList.get(graph.getRing(de ^ 1));
+  }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.operation.polygonize;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * The shell and hole logic shared by the rings of the polygonization graphs,
+ * {@link EdgeRing} for {@link Polygonizer}
+ * and {@link HalfEdgeRing} for {@link FastPolygonizer}.
+ * This covers assigning holes to shells,
+ * finding the shells which form a valid polygonal geometry,
+ * and building the polygons.
+ * <p>
+ * Subclasses provide the ring geometry,
+ * and iterate over the edges of the ring
+ * to find the rings on the other side of them.
+ */
+abstract class PolygonRing
+{
+  /**
+   * Finds the shells which form a valid polygonal geometry,
+   * by setting them to be included.
+   *
+   * @param shellList the list of shell rings
+   */
+  static void findDisjointShells(List shellList) {
+    findOuterShells(shellList);
+
+    boolean isMoreToScan;
+    do {
+      isMoreToScan = false;
+      for (Iterator i = shellList.iterator(); i.hasNext(); ) {
+        PolygonRing er = (PolygonRing) i.next();
+        if (er.isIncludedSet())
+          continue;
+        er.updateIncluded();
+        if (! er.isIncludedSet()) {
+          isMoreToScan = true;
+        }
+      }
+    } while (isMoreToScan);
+  }
+
+  /**
+   * For each outer hole finds and includes a single outer shell.
+   * This seeds the traversal algorithm for finding only polygonal shells.
+   *
+   * @param shellList the list of shell rings
+   */
+  private static void findOuterShells(List shellList) {
+
+    for (Iterator i = shellList.iterator(); i.hasNext();) {
+      PolygonRing er = (PolygonRing) i.next();
+      PolygonRing outerHoleER = er.getOuterHole();
+      if (outerHoleER != null && ! outerHoleER.isProcessed()) {
+        er.setIncluded(true);
+        outerHoleER.setProcessed(true);
+      }
+    }
+  }
+
+  /**
+   * Builds the polygons formed by a list of shells.
+   *
+   * @param shellList the list of shell rings
+   * @param includeAll whether to build all shells, or only the included ones
+   * @return the list of {@link Polygon}s
+   */
+  static List extractPolygons(List shellList, boolean includeAll) {
+    List polyList = new ArrayList();
+    for (Iterator i = shellList.iterator(); i.hasNext();) {
+      PolygonRing er = (PolygonRing) i.next();
+      if (includeAll || er.isIncluded()) {
+        polyList.add(er.getPolygon());
+      }
+    }
+    return polyList;
+  }
+
+  private List holes;
+  private PolygonRing shell;
+  private boolean isHole;
+  private boolean isProcessed = false;
+  private boolean isIncludedSet = false;
+  private boolean isIncluded = false;
+
+  // cache the envelope geometry used for ordering
+  private Geometry envelope = null;
+
+  /**
+   * Returns this ring as a {@link LinearRing}.
+   *
+   * @return the ring geometry
+   */
+  public abstract LinearRing getRing();
+
+  /**
+   * Gets the factory used to build the polygon of this ring.
+   *
+   * @return the geometry factory
+   */
+  abstract GeometryFactory getFactory();
+
+  /**
+   * Gets the first edge of this ring.
+   * Edges are identified by non-negative integers,
+   * with a meaning defined by the subclass.
+   *
+   * @return the first edge of the ring
+   */
+  abstract int firstEdge();
+
+  /**
+   * Gets the edge following a given edge of this ring.
+   *
+   * @param edge an edge of this ring
+   * @return the next edge, or -1 if the given edge is the last one
+   */
+  abstract int nextEdge(int edge);
+
+  /**
+   * Gets the ring containing the opposite direction of an edge of this ring.
+   *
+   * @param edge an edge of this ring
+   * @return the ring on the other side of the edge
+   */
+  abstract PolygonRing getAdjacentRing(int edge);
+
+  /**
+   * Tests whether this ring is a hole.
+   * @return <code>true</code> if this ring is a hole
+   */
+  public boolean isHole()
+  {
+    return isHole;
+  }
+
+  /**
+   * Computes whether this ring is a hole.
+   * Due to the way the edges in the polygonization graph are linked,
+   * a ring is a hole if it is oriented counter-clockwise.
+   */
+  public void computeHole()
+  {
+    LinearRing ring = getRing();
+    isHole = Orientation.isCCW(ring.getCoordinates());
+  }
+
+  /**
+   * Adds a hole to the polygon formed by this ring.
+   * @param hole the {@link LinearRing} forming the hole.
+   */
+  public void addHole(LinearRing hole) {
+    if (holes == null)
+      holes = new ArrayList();
+    holes.add(hole);
+  }
+
+  /**
+   * Adds a hole to the polygon formed by this ring.
+   * @param holeER the ring forming the hole.
+   */
+  public void addHole(PolygonRing holeER) {
+    holeER.setShell(this);
+    addHole(holeER.getRing());
+  }
+
+  /**
+   * Computes the {@link Polygon} formed by this ring and any contained holes.
+   *
+   * @return the {@link Polygon} formed by this ring and its holes.
+   */
+  public Polygon getPolygon()
+  {
+    LinearRing[] holeLR = null;
+    if (holes != null) {
+      holeLR = new LinearRing[holes.size()];
+      for (int i = 0; i < holes.size(); i++) {
+        holeLR[i] = (LinearRing) holes.get(i);
+      }
+    }
+    Polygon poly = getFactory().createPolygon(getRing(), holeLR);
+    return poly;
+  }
+
+  public boolean isIncludedSet() {
+    return isIncludedSet;
+  }
+
+  public boolean isIncluded() {
+    return isIncluded;
+  }
+
+  public void setIncluded(boolean isIncluded) {
+    this.isIncluded = isIncluded;
+    this.isIncludedSet = true;
+  }
+
+  /**
+   * Sets the containing shell ring of a ring that has been determined to be a hole.
+   *
+   * @param shell the shell ring
+   */
+  public void setShell(PolygonRing shell) {
+    this.shell = shell;
+  }
+
+  /**
+   * Tests whether this ring has a shell assigned to it.
+   *
+   * @return true if the ring has a shell
+   */
+  public boolean hasShell() {
+    return shell != null;
+  }
+
+  /**
+   * Gets the shell for this ring.  The shell is the ring itself if it is not a hole, otherwise its parent shell.
+   *
+   * @return the shell for this ring
+   */
+  public PolygonRing getShell() {
+    if (isHole()) return shell;
+    return this;
+  }
+
+  /**
+   * Tests whether this ring is an outer hole.
+   * A hole is an outer hole if it is not contained by a shell.
+   *
+   * @return true if the ring is an outer hole.
+   */
+  public boolean isOuterHole() {
+    if (! isHole) return false;
+    return ! hasShell();
+  }
+
+  /**
+   * Tests whether this ring is an outer shell.
+   *
+   * @return true if the ring is an outer shell.
+   */
+  public boolean isOuterShell() {
+    return getOuterHole() != null;
+  }
+
+  public PolygonRing getOuterHole()
+  {
+    if (isHole()) return null;
+    /*
+     * A shell is an outer shell if any edge is also in an outer hole.
+     * A hole is an outer hole if it is not contained by a shell.
+     */
+    for (int e = firstEdge(); e >= 0; e = nextEdge(e)) {
+      PolygonRing adjRing = getAdjacentRing(e);
+      if (adjRing.isOuterHole()) return adjRing;
+    }
+    return null;
+  }
+
+  /**
+   * Updates the included status for currently non-included shells
+   * based on whether they are adjacent to an included shell.
+   */
+  public void updateIncluded() {
+    if (isHole()) return;
+    for (int e = firstEdge(); e >= 0; e = nextEdge(e)) {
+      PolygonRing adjShell = getAdjacentRing(e).getShell();
+
+      if (adjShell != null && adjShell.isIncludedSet()) {
+        // adjacent ring has been processed, so set included to inverse of adjacent included
+        setIncluded(! adjShell.isIncluded());
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return whether the ring has been processed
+   */
+  public boolean isProcessed() {
+    return isProcessed;
+  }
+
+  /**
+   * @param isProcessed whether the ring has been processed
+   */
+  public void setProcessed(boolean isProcessed) {
+    this.isProcessed = isProcessed;
+  }
+
+  /**
+   * Gets the envelope of this ring as a geometry,
+   * which is used to order the rings.
+   */
+  private Geometry getEnvelope()
+  {
+    if (envelope == null)
+      envelope = getRing().getEnvelope();
+    return envelope;
+  }
+
+  /**
+   * Compares rings based on their envelope,
+   * using the standard lexicographic ordering.
+   * This ordering is sufficient to make ring sorting deterministic.
+   */
+  static class EnvelopeComparator implements Comparator {
+    public int compare(Object obj0, Object obj1) {
+      PolygonRing r0 = (PolygonRing) obj0;
+      PolygonRing r1 = (PolygonRing) obj1;
+      return r0.getEnvelope().compareTo(r1.getEnvelope());
+    }
+  }
+}
@@ -252,16 +252,16 @@ public class Polygonizer
     findShellsAndHoles(validEdgeRingList);
     assignHolesToShells(holeList, shellList);
     // order the shells to make any subsequent processing deterministic
-    Collections.sort(shellList, new EdgeRing.EnvelopeComparator());
+    Collections.sort(shellList, new PolygonRing.EnvelopeComparator());
 
     //Debug.printTime("Assign Holes");
     
     boolean includeAll = true;
     if (extractOnlyPolygonal) {
-      findDisjointShells(shellList);
+      PolygonRing.findDisjointShells(shellList);
       includeAll = false;
     }
-    polyList = extractPolygons(shellList, includeAll);
+    polyList = PolygonRing.extractPolygons(shellList, includeAll);
   }
 
   private void findValidRings(List edgeRingList, List validEdgeRingList, List invalidRingList)
@@ -309,51 +309,4 @@ public class Polygonizer
       shell.addHole(holeER);
     }
   }
-
-  private static void findDisjointShells(List shellList) {
-    findOuterShells(shellList);
-    
-    boolean isMoreToScan;
-    do {
-      isMoreToScan = false;
-      for (Iterator i = shellList.iterator(); i.hasNext(); ) {
-        EdgeRing er = (EdgeRing) i.next();
-        if (er.isIncludedSet()) 
-          continue;
-        er.updateIncluded();
-        if (! er.isIncludedSet()) {
-          isMoreToScan = true;
-        }
-      }
-    } while (isMoreToScan);
-  }
-
-  /**
-   * For each outer hole finds and includes a single outer shell.
-   * This seeds the traversal algorithm for finding only polygonal shells.
-   *  
-   * @param shellList the list of shell EdgeRings
-   */
-  private static void findOuterShells(List shellList) {
-
-    for (Iterator i = shellList.iterator(); i.hasNext();) {
-      EdgeRing er = (EdgeRing) i.next();
-      EdgeRing outerHoleER = er.getOuterHole();
-      if (outerHoleER != null && ! outerHoleER.isProcessed()) {
-        er.setIncluded(true);
-        outerHoleER.setProcessed(true);
-      }
-    }
-  }
-  
-  private static List extractPolygons(List shellList, boolean includeAll) {
-    List polyList = new ArrayList();
-    for (Iterator i = shellList.iterator(); i.hasNext();) {
-      EdgeRing er = (EdgeRing) i.next();
-      if (includeAll || er.isIncluded()) {
-        polyList.add(er.getPolygon());
-      }
-    }
-    return polyList;
-  }
 }
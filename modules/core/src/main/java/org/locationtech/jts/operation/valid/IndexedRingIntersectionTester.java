@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.algorithm.LineIntersector;
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.noding.BasicSegmentString;
+import org.locationtech.jts.noding.MCIndexNoder;
+import org.locationtech.jts.noding.SegmentIntersector;
+import org.locationtech.jts.noding.SegmentString;
+
+/**
+ * Tests whether the rings of a {@link Polygon} intersect
+ * (i.e. self-intersect, self-touch or touch each other).
+ * The only intersections allowed are the shared vertices of
+ * adjacent segments of the same ring.
+ * Rings must not contain repeated points.
+ * <p>
+ * The intersections are found using a monotone chain index,
+ * and the test stops as soon as an intersection is found.
+ * This is much faster than the full noding of a {@link org.locationtech.jts.geomgraph.GeometryGraph}.
+ * A polygon whose rings do not intersect can be checked for validity
+ * by simple point-in-ring tests.
+ */
+public class IndexedRingIntersectionTester
+{
+  private Polygon poly;
+  private Coordinate intPt = null;
+
+  public IndexedRingIntersectionTester(Polygon poly)
+  {
+    this.poly = poly;
+  }
+
+  /**
+   * Gets a point at which an intersection was found, if any.
+   *
+   * @return an intersection point, or null
+   */
+  public Coordinate getIntersectionPoint() { return intPt; }
+
+  /**
+   * Tests whether the polygon rings have an intersection.
+   *
+   * @return true if an intersection was found
+   */
+  public boolean hasIntersection()
+  {
+    List segStrings = new ArrayList();
+    addRing(poly.getExteriorRing(), segStrings);
+    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+      addRing(poly.getInteriorRingN(i), segStrings);
+    }
+    RingIntersectionDetector detector = new RingIntersectionDetector();
+    MCIndexNoder noder = new MCIndexNoder(detector);
+    noder.computeNodes(segStrings);
+    intPt = detector.getIntersectionPoint();
+    return intPt != null;
+  }
+
+  private static void addRing(LinearRing ring, List segStrings)
+  {
+    if (ring.isEmpty()) return;
+    segStrings.add(new BasicSegmentString(ring.getCoordinates(), ring));
+  }
+
+  /**
+   * Detects any intersection between segments of rings,
+   * other than the shared vertex of adjacent segments.
+   */
+  private static class RingIntersectionDetector
+      implements SegmentIntersector
+  {
+    private LineIntersector li = new RobustLineIntersector();
+    private Coordinate intPt = null;
+
+    public Coordinate getIntersectionPoint() { return intPt; }
+
+    public void processIntersections(
+        SegmentString ss0, int segIndex0,
+        SegmentString ss1, int segIndex1)
+    {
+      // don't test a segment with itself
+      if (ss0 == ss1 && segIndex0 == segIndex1) return;
+
+      Coordinate[] pts0 = ss0.getCoordinates();
+      Coordinate[] pts1 = ss1.getCoordinates();
+      li.computeIntersection(pts0[segIndex0], pts0[segIndex0 + 1],
+          pts1[segIndex1], pts1[segIndex1 + 1]);
+      if (! li.hasIntersection()) return;
+
+      /**
+       * Adjacent segments of a ring must intersect only at their common vertex
+       * (i.e. they must not overlap)
+       */
+      if (ss0 == ss1 && isAdjacent(segIndex0, segIndex1, ss0.size() - 1)) {
+        if (li.getIntersectionNum() == 1) return;
+      }
+      intPt = li.getIntersection(0);
+    }
+
+    private static boolean isAdjacent(int i0, int i1, int numSegs)
+    {
+      int diff = Math.abs(i0 - i1);
+      // the first and last segments of a ring are adjacent
+      return diff == 1 || diff == numSegs - 1;
+    }
+
+    public boolean isDone()
+    {
+      return intPt != null;
+    }
+  }
+}
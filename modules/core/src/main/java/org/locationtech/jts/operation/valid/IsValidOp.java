@@ -14,6 +14,7 @@
 package org.locationtech.jts.operation.valid;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -23,6 +24,8 @@ import org.locationtech.jts.algorithm.RobustLineIntersector;
 import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
 import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.LineString;
@@ -36,6 +39,7 @@ import org.locationtech.jts.geomgraph.Edge;
 import org.locationtech.jts.geomgraph.EdgeIntersection;
 import org.locationtech.jts.geomgraph.EdgeIntersectionList;
 import org.locationtech.jts.geomgraph.GeometryGraph;
+import org.locationtech.jts.index.strtree.STRtree;
 import org.locationtech.jts.util.Assert;
 
 /**
@@ -239,6 +243,8 @@ public class IsValidOp
     checkClosedRings(g);
     if (validErr != null) return;
 
+    if (isSimpleValid(g)) return;
+
     GeometryGraph graph = new GeometryGraph(0, g);
 
     checkTooFewPoints(graph);
@@ -258,6 +264,65 @@ public class IsValidOp
     checkConnectedInteriors(graph);
   }
 
+  /**
+   * Tests whether a polygon is valid using a fast check
+   * which applies when the polygon rings do not intersect at all.
+   * In this case the polygon is valid if 
+   * each hole lies inside the shell and 
+   * no hole lies inside another hole.
+   * Otherwise (or if the rings contain repeated points)
+   * the full validity check must be used.
+   * The coordinates and ring closure must already have been checked.
+   * 
+   * @param g the polygon to test
+   * @return true if the polygon was determined to be valid
+   */
+  private boolean isSimpleValid(Polygon g)
+  {
+    LinearRing shell = g.getExteriorRing();
+    if (! isSimpleRing(shell)) return false;
+    for (int i = 0; i < g.getNumInteriorRing(); i++) {
+      if (! isSimpleRing(g.getInteriorRingN(i))) return false;
+    }
+    
+    IndexedRingIntersectionTester intTester = new IndexedRingIntersectionTester(g);
+    if (intTester.hasIntersection()) return false;
+    
+    // since rings do not touch, any hole vertex can be tested
+    if (g.getNumInteriorRing() == 0) return true;
+    PointOnGeometryLocator pir = new IndexedPointInAreaLocator(shell);
+    for (int i = 0; i < g.getNumInteriorRing(); i++) {
+      Coordinate holePt = g.getInteriorRingN(i).getCoordinateN(0);
+      if (Location.INTERIOR != pir.locate(holePt)) return false;
+    }
+    if (g.getNumInteriorRing() == 1) return true;
+    
+    STRtree holeIndex = new STRtree();
+    for (int i = 0; i < g.getNumInteriorRing(); i++) {
+      LinearRing hole = g.getInteriorRingN(i);
+      holeIndex.insert(hole.getEnvelopeInternal(), hole);
+    }
+    for (int i = 0; i < g.getNumInteriorRing(); i++) {
+      LinearRing hole = g.getInteriorRingN(i);
+      Envelope holeEnv = hole.getEnvelopeInternal();
+      List candidates = holeIndex.query(holeEnv);
+      for (Iterator j = candidates.iterator(); j.hasNext(); ) {
+        LinearRing testHole = (LinearRing) j.next();
+        if (testHole == hole) continue;
+        if (! testHole.getEnvelopeInternal().contains(holeEnv)) continue;
+        if (PointLocation.isInRing(hole.getCoordinateN(0), testHole.getCoordinates()))
+          return false;
+      }
+    }
+    return true;
+  }
+  
+  private static boolean isSimpleRing(LinearRing ring)
+  {
+    if (ring.getNumPoints() < 4) return false;
+    return ! CoordinateArrays.hasRepeatedPoints(ring.getCoordinates());
+  }
+
   private void checkValid(MultiPolygon g)
   {
     for (int i = 0; i < g.getNumGeometries(); i++) {
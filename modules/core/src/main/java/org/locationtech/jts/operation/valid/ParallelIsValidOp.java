@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.util.TaskUtil;
+
+/**
+ * Tests the validity of a {@link Geometry}
+ * by splitting it into parts which can be validated independently,
+ * and validating the parts using {@link IsValidOp}
+ * (in parallel, if an {@link ExecutorService} is provided).
+ * The parts are:
+ * <ul>
+ * <li>the elements of a {@link GeometryCollection} (other than a MultiPolygon),
+ * which are always validated independently
+ * <li>for a {@link MultiPolygon}, the clusters of element polygons
+ * whose envelopes intersect (directly or transitively).
+ * Polygons in different clusters cannot interact,
+ * so each cluster can be validated as a separate MultiPolygon
+ * (or as a single Polygon, which is the usual case).
+ * </ul>
+ * The validity computed is the same as that computed by {@link IsValidOp}.
+ * <p>
+ * Validation stops as soon as possible once an invalid part is found.
+ * The validation error reported is that of the first invalid part,
+ * in the order of the input elements.
+ * If the geometry has more than one error
+ * this may be a different error to the one reported by {@link IsValidOp}.
+ * <p>
+ * If no executor is {@link #setExecutor(ExecutorService) provided}
+ * the parts are validated in the calling thread.
+ * The executor is not shut down by this class.
+ */
+public class ParallelIsValidOp
+{
+  /**
+   * The default number of parts validated by each task
+   */
+  public static final int DEFAULT_BATCH_SIZE = 100;
+
+  /**
+   * Tests whether a {@link Geometry} is valid,
+   * validating its parts using the given executor.
+   *
+   * @param geom the Geometry to test
+   * @param executor the executor to use, or null
+   * @return true if the geometry is valid
+   */
+  public static boolean isValid(Geometry geom, ExecutorService executor)
+  {
+    ParallelIsValidOp op = new ParallelIsValidOp(geom);
+    op.setExecutor(executor);
+    return op.isValid();
+  }
+
+  private Geometry inputGeom;
+  private ExecutorService executor = null;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private boolean isSelfTouchingRingFormingHoleValid = false;
+
+  private boolean isComputed = false;
+  private TopologyValidationError validErr = null;
+
+  public ParallelIsValidOp(Geometry inputGeom)
+  {
+    this.inputGeom = inputGeom;
+  }
+
+  /**
+   * Sets the executor used to validate parts in parallel.
+   * If the executor is <tt>null</tt> (the default)
+   * the parts are validated in the calling thread.
+   *
+   * @param executor the executor to use, or null
+   */
+  public void setExecutor(ExecutorService executor)
+  {
+    this.executor = executor;
+  }
+
+  /**
+   * Sets the number of parts validated by each task.
+   *
+   * @param batchSize the batch size
+   */
+  public void setBatchSize(int batchSize)
+  {
+    if (batchSize < 1)
+      throw new IllegalArgumentException("Batch size must be at least 1");
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Sets whether polygons using <b>Self-Touching Rings</b> to form
+   * holes are reported as valid.
+   *
+   * @param isValid states whether geometry with this condition is valid
+   *
+   * @see IsValidOp#setSelfTouchingRingFormingHoleValid(boolean)
+   */
+  public void setSelfTouchingRingFormingHoleValid(boolean isValid)
+  {
+    isSelfTouchingRingFormingHoleValid = isValid;
+  }
+
+  /**
+   * Computes the validity of the geometry,
+   * and returns <tt>true</tt> if it is valid.
+   *
+   * @return true if the geometry is valid
+   */
+  public boolean isValid()
+  {
+    compute();
+    return validErr == null;
+  }
+
+  /**
+   * Computes the validity of the geometry,
+   * and if not valid returns the validation error
+   * of the first invalid part.
+   *
+   * @return the validation error, if the geometry is invalid
+   * or null if the geometry is valid
+   */
+  public TopologyValidationError getValidationError()
+  {
+    compute();
+    return validErr;
+  }
+
+  private void compute()
+  {
+    if (isComputed) return;
+    isComputed = true;
+
+    List parts = new ArrayList();
+    addParts(inputGeom, parts);
+    Geometry[] partArray = (Geometry[]) parts.toArray(new Geometry[0]);
+
+    AtomicInteger firstInvalid = new AtomicInteger(Integer.MAX_VALUE);
+    List tasks = new ArrayList();
+    for (int start = 0; start < partArray.length; start += batchSize) {
+      int end = Math.min(start + batchSize, partArray.length);
+      tasks.add(new ValidateTask(partArray, start, end, firstInvalid));
+    }
+    List results = TaskUtil.execute(executor, tasks);
+
+    // the first error found in the first invalid part
+    for (int i = 0; i < results.size(); i++) {
+      TopologyValidationError err = (TopologyValidationError) results.get(i);
+      if (err != null) {
+        validErr = err;
+        return;
+      }
+    }
+  }
+
+  private static void addParts(Geometry geom, List parts)
+  {
+    if (geom.isEmpty()) return;
+    if (geom instanceof MultiPolygon) {
+      addClusters((MultiPolygon) geom, parts);
+    }
+    else if (geom instanceof GeometryCollection) {
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        addParts(geom.getGeometryN(i), parts);
+      }
+    }
+    else {
+      parts.add(geom);
+    }
+  }
+
+  /**
+   * Adds the clusters of polygons in a MultiPolygon
+   * whose envelopes intersect, in the order of the first polygon in each.
+   */
+  private static void addClusters(MultiPolygon mp, List parts)
+  {
+    int n = mp.getNumGeometries();
+    final int[] parent = new int[n];
+    STRtree index = new STRtree();
+    for (int i = 0; i < n; i++) {
+      parent[i] = i;
+      Geometry poly = mp.getGeometryN(i);
+      if (poly.isEmpty()) continue;
+      index.insert(poly.getEnvelopeInternal(), Integer.valueOf(i));
+    }
+    for (int i = 0; i < n; i++) {
+      Geometry poly = mp.getGeometryN(i);
+      if (poly.isEmpty()) continue;
+      final int polyIndex = i;
+      index.query(poly.getEnvelopeInternal(), new ItemVisitor() {
+        public void visitItem(Object item) {
+          union(parent, polyIndex, ((Integer) item).intValue());
+        }
+      });
+    }
+
+    List[] clusters = new List[n];
+    List roots = new ArrayList();
+    for (int i = 0; i < n; i++) {
+      int root = find(parent, i);
+      if (clusters[root] == null) {
+        clusters[root] = new ArrayList();
+        roots.add(Integer.valueOf(root));
+      }
+      clusters[root].add(mp.getGeometryN(i));
+    }
+    GeometryFactory geomFact = mp.getFactory();
+    for (int i = 0; i < roots.size(); i++) {
+      List cluster = clusters[((Integer) roots.get(i)).intValue()];
+      if (cluster.size() == 1) {
+        parts.add(cluster.get(0));
+      }
+      else {
+        parts.add(geomFact.createMultiPolygon(GeometryFactory.toPolygonArray(cluster)));
+      }
+    }
+  }
+
+  private static int find(int[] parent, int i)
+  {
+    while (parent[i] != i) {
+      parent[i] = parent[parent[i]];
+      i = parent[i];
+    }
+    return i;
+  }
+
+  private static void union(int[] parent, int i, int j)
+  {
+    int ri = find(parent, i);
+    int rj = find(parent, j);
+    if (ri == rj) return;
+    // keep the lowest index as the root, to preserve element order
+    if (ri < rj)
+      parent[rj] = ri;
+    else
+      parent[ri] = rj;
+  }
+
+  /**
+   * Validates a range of parts, stopping at the first invalid one.
+   * Parts following an invalid part found by any task are skipped,
+   * since they cannot affect the result.
+   */
+  private class ValidateTask implements Callable
+  {
+    private Geometry[] parts;
+    private int start;
+    private int end;
+    private AtomicInteger firstInvalid;
+
+    ValidateTask(Geometry[] parts, int start, int end, AtomicInteger firstInvalid)
+    {
+      this.parts = parts;
+      this.start = start;
+      this.end = end;
+      this.firstInvalid = firstInvalid;
+    }
+
+    public Object call()
+    {
+      for (int i = start; i < end; i++) {
+        if (i > firstInvalid.get()) return null;
+        IsValidOp op = new IsValidOp(parts[i]);
+        op.setSelfTouchingRingFormingHoleValid(isSelfTouchingRingFormingHoleValid);
+        TopologyValidationError err = op.getValidationError();
+        if (err != null) {
+          updateMin(i);
+          return err;
+        }
+      }
+      return null;
+    }
+
+    private void updateMin(int i)
+    {
+      while (true) {
+        int current = firstInvalid.get();
+        if (i >= current) return;
+        if (firstInvalid.compareAndSet(current, i)) return;
+      }
+    }
+  }
+}
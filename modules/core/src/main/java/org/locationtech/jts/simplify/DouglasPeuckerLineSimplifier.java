@@ -52,11 +52,7 @@ class DouglasPeuckerLineSimplifier
 
   public Coordinate[] simplify()
   {
-    usePt = new boolean[pts.length];
-    for (int i = 0; i < pts.length; i++) {
-      usePt[i] = true;
-    }
-    simplifySection(0, pts.length - 1);
+    computeUsedPoints();
     CoordinateList coordList = new CoordinateList();
     for (int i = 0; i < pts.length; i++) {
       if (usePt[i])
@@ -65,6 +61,21 @@ class DouglasPeuckerLineSimplifier
     return coordList.toCoordinateArray();
   }
 
+  /**
+   * Computes which points are retained in the simplified linestring.
+   *
+   * @return an array of flags indicating which points are retained
+   */
+  boolean[] computeUsedPoints()
+  {
+    usePt = new boolean[pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      usePt[i] = true;
+    }
+    simplifySection(0, pts.length - 1);
+    return usePt;
+  }
+
   private LineSegment seg = new LineSegment();
 
   private void simplifySection(int i, int j)
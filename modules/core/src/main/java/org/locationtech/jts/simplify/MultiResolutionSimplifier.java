@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryComponentFilter;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Triangle;
+
+/**
+ * Simplifies a {@link Geometry} at many tolerances
+ * (e.g. to produce the levels of a tile pyramid),
+ * using either the Douglas-Peucker or the Visvalingam-Whyatt algorithm.
+ * <p>
+ * The significance of every vertex is computed once, when the simplifier is created.
+ * The significance is the largest tolerance at which the
+ * vertex is retained by the algorithm.
+ * A simplification for any tolerance can then be extracted in time
+ * linear in the number of vertices,
+ * rather than re-running the algorithm for each tolerance.
+ * <p>
+ * The result for a given tolerance is identical to that computed by
+ * {@link DouglasPeuckerSimplifier} or {@link VWSimplifier}
+ * (including the fixing of polygon topology, if {@link #setEnsureValid(boolean) enabled}).
+ * This is because the choice of vertex made at each step of both algorithms
+ * does not depend on the tolerance, which only determines when the algorithm stops.
+ * <p>
+ * Empty and point geometries are returned unchanged.
+ * Once created, the simplifier can be used to extract results
+ * from multiple threads concurrently.
+ *
+ * @see DouglasPeuckerSimplifier
+ * @see VWSimplifier
+ */
+public class MultiResolutionSimplifier
+{
+  /**
+   * Specifies the Douglas-Peucker algorithm
+   */
+  public static final int DOUGLAS_PEUCKER = 1;
+  /**
+   * Specifies the Visvalingam-Whyatt algorithm
+   */
+  public static final int VISVALINGAM_WHYATT = 2;
+
+  private Geometry inputGeom;
+  private int method;
+  private boolean isEnsureValidTopology = true;
+  private Map significanceMap = new IdentityHashMap();
+
+  /**
+   * Creates a simplifier for a given geometry,
+   * computing the significance of its vertices.
+   *
+   * @param inputGeom the geometry to simplify
+   * @param method the simplification algorithm to use
+   */
+  public MultiResolutionSimplifier(Geometry inputGeom, int method)
+  {
+    if (method != DOUGLAS_PEUCKER && method != VISVALINGAM_WHYATT)
+      throw new IllegalArgumentException("Unknown simplification method: " + method);
+    this.inputGeom = inputGeom;
+    this.method = method;
+    computeSignificance();
+  }
+
+  /**
+   * Controls whether simplified polygons will be "fixed"
+   * to have valid topology.
+   * The default is to fix polygon topology.
+   *
+   * @param isEnsureValidTopology
+   *
+   * @see DouglasPeuckerSimplifier#setEnsureValid(boolean)
+   */
+  public void setEnsureValid(boolean isEnsureValidTopology)
+  {
+    this.isEnsureValidTopology = isEnsureValidTopology;
+  }
+
+  /**
+   * Gets the geometry simplified using a given distance tolerance.
+   * The tolerance value must be non-negative.
+   *
+   * @param distanceTolerance the approximation tolerance to use
+   * @return the simplified geometry
+   */
+  public Geometry getResultGeometry(double distanceTolerance)
+  {
+    if (distanceTolerance < 0.0)
+      throw new IllegalArgumentException("Tolerance must be non-negative");
+    // empty input produces an empty result
+    if (inputGeom.isEmpty()) return inputGeom.copy();
+
+    if (method == DOUGLAS_PEUCKER) {
+      return (new DPExtractTransformer(isEnsureValidTopology, distanceTolerance))
+          .transform(inputGeom);
+    }
+    return (new VWExtractTransformer(isEnsureValidTopology, distanceTolerance))
+        .transform(inputGeom);
+  }
+
+  private void computeSignificance()
+  {
+    inputGeom.apply(new GeometryComponentFilter() {
+      public void filter(Geometry geom) {
+        if (! (geom instanceof LineString)) return;
+        Coordinate[] pts = geom.getCoordinates();
+        double[] sig = method == DOUGLAS_PEUCKER
+            ? douglasPeuckerSignificance(pts)
+            : visvalingamWhyattSignificance(pts);
+        significanceMap.put(geom, sig);
+      }
+    });
+  }
+
+  /**
+   * Extracts the vertices of a component whose significance
+   * exceeds (or for VW, equals or exceeds) a tolerance.
+   * As for {@link VWLineSimplifier}, VW results do not contain repeated points.
+   */
+  private Coordinate[] extract(Coordinate[] pts, Geometry parent,
+      double tolerance, boolean isVW)
+  {
+    double[] sig = (double[]) significanceMap.get(parent);
+    CoordinateList coordList = new CoordinateList();
+    for (int i = 0; i < pts.length; i++) {
+      if (sig[i] > tolerance || (isVW && sig[i] == tolerance))
+        coordList.add(new Coordinate(pts[i]), ! isVW);
+    }
+    // a collapsed VW ring is returned as a valid line, as by VWLineSimplifier
+    if (isVW && coordList.size() == 1) {
+      coordList.add(new Coordinate(coordList.getCoordinate(0)), true);
+    }
+    return coordList.toCoordinateArray();
+  }
+
+  //=======  Douglas-Peucker  =========
+
+  /**
+   * Computes the Douglas-Peucker significance of the vertices of a line.
+   * A vertex is retained for a tolerance if it and all the vertices chosen
+   * before it in the recursion are further from their section
+   * than the tolerance.
+   * So the significance of a vertex is the minimum of its section distance
+   * and the significance of the vertex which split its parent section.
+   *
+   * @param pts the line vertices
+   * @return the significance of each vertex
+   */
+  static double[] douglasPeuckerSignificance(Coordinate[] pts)
+  {
+    double[] sig = new double[pts.length];
+    if (pts.length == 0) return sig;
+    sig[0] = Double.POSITIVE_INFINITY;
+    sig[pts.length - 1] = Double.POSITIVE_INFINITY;
+    computeSection(pts, 0, pts.length - 1, Double.POSITIVE_INFINITY, sig, new LineSegment());
+    return sig;
+  }
+
+  private static void computeSection(Coordinate[] pts, int i, int j,
+      double parentSig, double[] sig, LineSegment seg)
+  {
+    if (j - i < 2) {
+      return;
+    }
+    // same choice of split vertex as DouglasPeuckerLineSimplifier
+    seg.p0 = pts[i];
+    seg.p1 = pts[j];
+    double maxDistance = -1.0;
+    int maxIndex = i;
+    for (int k = i + 1; k < j; k++) {
+      double distance = seg.distance(pts[k]);
+      if (distance > maxDistance) {
+        maxDistance = distance;
+        maxIndex = k;
+      }
+    }
+    double maxSig = Math.min(parentSig, maxDistance);
+    sig[maxIndex] = maxSig;
+    computeSection(pts, i, maxIndex, maxSig, sig, seg);
+    computeSection(pts, maxIndex, j, maxSig, sig, seg);
+  }
+
+  //=======  Visvalingam-Whyatt  =========
+
+  /**
+   * Computes the Visvalingam-Whyatt significance of the vertices of a line,
+   * as a triangle area.
+   * The vertices are removed in order of their effective area
+   * (earliest vertex first, for equal areas).
+   * A vertex is removed for a tolerance if it and all the vertices removed
+   * before it have effective area less than the (squared) tolerance.
+   * So the significance of a vertex is the largest effective area
+   * of the vertices removed up to and including it.
+   * The endpoints are never removed.
+   *
+   * @param pts the line vertices
+   * @return the significance of each vertex
+   */
+  static double[] visvalingamWhyattSignificance(Coordinate[] pts)
+  {
+    int n = pts.length;
+    double[] sig = new double[n];
+    int[] prev = new int[n];
+    int[] next = new int[n];
+    for (int i = 0; i < n; i++) {
+      prev[i] = i - 1;
+      next[i] = i + 1 < n ? i + 1 : -1;
+      sig[i] = Double.POSITIVE_INFINITY;
+    }
+    VertexAreaHeap heap = new VertexAreaHeap(n);
+    for (int i = 1; i < n - 1; i++) {
+      double area = effectiveArea(pts, i, prev, next);
+      if (area < VWLineSimplifier.MAX_AREA)
+        heap.add(i, area);
+    }
+
+    double maxArea = 0.0;
+    while (! heap.isEmpty()) {
+      int i = heap.peek();
+      maxArea = Math.max(maxArea, heap.getArea(i));
+      sig[i] = maxArea;
+      heap.poll();
+
+      int p = prev[i];
+      int nx = next[i];
+      next[p] = nx;
+      prev[nx] = p;
+      if (heap.contains(p))
+        heap.update(p, effectiveArea(pts, p, prev, next));
+      if (heap.contains(nx))
+        heap.update(nx, effectiveArea(pts, nx, prev, next));
+    }
+    return sig;
+  }
+
+  private static double effectiveArea(Coordinate[] pts, int i, int[] prev, int[] next)
+  {
+    if (prev[i] < 0 || next[i] < 0)
+      return VWLineSimplifier.MAX_AREA;
+    return Math.abs(Triangle.area(pts[prev[i]], pts[i], pts[next[i]]));
+  }
+
+  //=======  Extraction  =========
+
+  private class DPExtractTransformer
+      extends DouglasPeuckerSimplifier.DPTransformer
+  {
+    private double distanceTolerance;
+
+    DPExtractTransformer(boolean isEnsureValidTopology, double distanceTolerance)
+    {
+      super(isEnsureValidTopology, distanceTolerance);
+      this.distanceTolerance = distanceTolerance;
+    }
+
+    protected CoordinateSequence transformCoordinates(CoordinateSequence coords, Geometry parent)
+    {
+      if (! (parent instanceof LineString))
+        return copy(coords);
+      Coordinate[] newPts = extract(coords.toCoordinateArray(), parent,
+          distanceTolerance, false);
+      return factory.getCoordinateSequenceFactory().create(newPts);
+    }
+  }
+
+  private class VWExtractTransformer
+      extends VWSimplifier.VWTransformer
+  {
+    private double areaTolerance;
+
+    VWExtractTransformer(boolean isEnsureValidTopology, double distanceTolerance)
+    {
+      super(isEnsureValidTopology, distanceTolerance);
+      this.areaTolerance = distanceTolerance * distanceTolerance;
+    }
+
+    protected CoordinateSequence transformCoordinates(CoordinateSequence coords, Geometry parent)
+    {
+      if (! (parent instanceof LineString))
+        return copy(coords);
+      Coordinate[] newPts = extract(coords.toCoordinateArray(), parent,
+          areaTolerance, true);
+      return factory.getCoordinateSequenceFactory().create(newPts);
+    }
+  }
+}
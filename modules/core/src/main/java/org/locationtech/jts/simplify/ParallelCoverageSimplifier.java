@@ -0,0 +1,598 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryComponentFilter;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.util.GeometryTransformer;
+import org.locationtech.jts.noding.OrientedCoordinateArray;
+import org.locationtech.jts.util.TaskUtil;
+
+/**
+ * Simplifies a polygonal coverage
+ * (a set of polygons which do not overlap,
+ * and whose shared boundaries have identical vertices),
+ * preserving the topology of the coverage.
+ * The simplification is computed in parallel,
+ * if an {@link ExecutorService} is provided.
+ * <p>
+ * The ring boundaries are split into edges at the nodes of the coverage
+ * (the vertices where three or more edges meet).
+ * Each edge is simplified exactly once, using the same algorithm
+ * as {@link TopologyPreservingSimplifier},
+ * so that adjacent polygons still have identical shared boundaries
+ * and the simplified edges do not cross each other.
+ * <p>
+ * To allow concurrent simplification the edges are partitioned
+ * using a regular grid over the coverage extent.
+ * The edges lying wholly within a grid cell cannot interact with
+ * the edges of other cells, so each cell is simplified independently,
+ * using its own index of the segments which might conflict with them.
+ * The edges which cross cell boundaries are then simplified
+ * in the calling thread, against the simplified edges of all cells.
+ * <p>
+ * The result has the same structure as the input,
+ * with each result element simplified from the corresponding input element.
+ * Rings are simplified to at least 4 points.
+ * The same restrictions as for {@link TopologyPreservingSimplifier} apply.
+ * <p>
+ * If no executor is {@link #setExecutor(ExecutorService) provided}
+ * the cells are simplified in the calling thread.
+ * The executor is not shut down by this class.
+ *
+ * @see TopologyPreservingSimplifier
+ *
+ */
+public class ParallelCoverageSimplifier
+{
+  /**
+   * The default number of grid cells along each side of the coverage extent
+   */
+  public static final int DEFAULT_GRID_SIZE = 8;
+
+  /**
+   * Simplifies a polygonal coverage.
+   *
+   * @param coverage the polygonal geometries of the coverage
+   * @param distanceTolerance the simplification tolerance
+   * @param executor the executor to use, or null
+   * @return the simplified geometries
+   */
+  public static Geometry[] simplify(Geometry[] coverage, double distanceTolerance,
+      ExecutorService executor)
+  {
+    ParallelCoverageSimplifier simp = new ParallelCoverageSimplifier(coverage);
+    simp.setDistanceTolerance(distanceTolerance);
+    simp.setExecutor(executor);
+    return simp.getResult();
+  }
+
+  private Geometry[] coverage;
+  private double distanceTolerance = 0.0;
+  private ExecutorService executor = null;
+  private int gridSize = DEFAULT_GRID_SIZE;
+
+  private Map ringEdgeMap;
+  private List edges;
+
+  public ParallelCoverageSimplifier(Geometry[] coverage)
+  {
+    this.coverage = coverage;
+  }
+
+  /**
+   * Sets the distance tolerance for the simplification.
+   * All vertices in the simplified geometry will be within this
+   * distance of the original geometry.
+   * The tolerance value must be non-negative.
+   *
+   * @param distanceTolerance the approximation tolerance to use
+   */
+  public void setDistanceTolerance(double distanceTolerance)
+  {
+    if (distanceTolerance < 0.0)
+      throw new IllegalArgumentException("Tolerance must be non-negative");
+    this.distanceTolerance = distanceTolerance;
+  }
+
+  /**
+   * Sets the executor used to simplify the grid cells in parallel.
+   * If the executor is <tt>null</tt> (the default)
+   * the cells are simplified in the calling thread.
+   *
+   * @param executor the executor to use, or null
+   */
+  public void setExecutor(ExecutorService executor)
+  {
+    this.executor = executor;
+  }
+
+  /**
+   * Sets the number of grid cells along each side of the coverage extent.
+   * A larger grid provides more tasks,
+   * but more edges cross cell boundaries and are simplified sequentially.
+   *
+   * @param gridSize the number of cells along each side
+   */
+  public void setGridSize(int gridSize)
+  {
+    if (gridSize < 1)
+      throw new IllegalArgumentException("Grid size must be at least 1");
+    this.gridSize = gridSize;
+  }
+
+  /**
+   * Computes the simplified coverage.
+   *
+   * @return the simplified geometries, in the order of the input
+   */
+  public Geometry[] getResult()
+  {
+    ringEdgeMap = new IdentityHashMap();
+    edges = new ArrayList();
+    if (coverage.length == 0) return new Geometry[0];
+    buildEdges();
+    simplifyEdges();
+
+    Geometry[] result = new Geometry[coverage.length];
+    RingTransformer trans = new RingTransformer();
+    for (int i = 0; i < coverage.length; i++) {
+      if (coverage[i].isEmpty()) {
+        result[i] = coverage[i].copy();
+      }
+      else {
+        result[i] = trans.transform(coverage[i]);
+      }
+    }
+    return result;
+  }
+
+  //=======  Edge extraction  =========
+
+  private void buildEdges()
+  {
+    final List rings = new ArrayList();
+    GeometryComponentFilter ringFilter = new GeometryComponentFilter() {
+      public void filter(Geometry geom) {
+        if (geom instanceof LinearRing && ! geom.isEmpty())
+          rings.add(geom);
+      }
+    };
+    for (int i = 0; i < coverage.length; i++) {
+      coverage[i].apply(ringFilter);
+    }
+
+    List ringPts = new ArrayList();
+    Map vertexMap = new HashMap();
+    for (int i = 0; i < rings.size(); i++) {
+      Coordinate[] pts = CoordinateArrays.removeRepeatedPoints(
+          ((LinearRing) rings.get(i)).getCoordinates());
+      ringPts.add(pts);
+      addVertices(pts, vertexMap);
+    }
+
+    GeometryFactory geomFact = coverage[0].getFactory();
+    Map edgeMap = new TreeMap();
+    for (int i = 0; i < rings.size(); i++) {
+      Coordinate[] pts = (Coordinate[]) ringPts.get(i);
+      RingEdges ringEdges = new RingEdges();
+      ringEdgeMap.put(rings.get(i), ringEdges);
+      if (pts.length < 4) continue;
+
+      List ringEdgePts = split(pts, vertexMap);
+      for (int j = 0; j < ringEdgePts.size(); j++) {
+        Coordinate[] edgePts = (Coordinate[]) ringEdgePts.get(j);
+        OrientedCoordinateArray key = new OrientedCoordinateArray(edgePts);
+        Edge edge = (Edge) edgeMap.get(key);
+        if (edge == null) {
+          edge = new Edge(edgePts, geomFact);
+          edgeMap.put(key, edge);
+          edges.add(edge);
+        }
+        ringEdges.add(edge, edge.isForward(edgePts));
+        edge.updateMinimumSize(ringEdgePts.size());
+      }
+    }
+  }
+
+  private static void addVertices(Coordinate[] pts, Map vertexMap)
+  {
+    // the ring is closed, so each vertex has a previous and a next point
+    for (int i = 0; i < pts.length - 1; i++) {
+      Vertex v = (Vertex) vertexMap.get(pts[i]);
+      if (v == null) {
+        v = new Vertex();
+        vertexMap.put(pts[i], v);
+      }
+      int prev = i == 0 ? pts.length - 2 : i - 1;
+      v.addNeighbour(pts[prev]);
+      v.addNeighbour(pts[i + 1]);
+    }
+  }
+
+  /**
+   * Splits a closed ring into edges at the nodes of the coverage.
+   * A ring containing no nodes forms a single closed edge,
+   * starting at its lowest vertex so that the edge is
+   * the same in every ring in which it occurs.
+   */
+  private static List split(Coordinate[] pts, Map vertexMap)
+  {
+    int n = pts.length - 1;
+    int start = -1;
+    for (int i = 0; i < n; i++) {
+      if (((Vertex) vertexMap.get(pts[i])).isNode()) {
+        start = i;
+        break;
+      }
+    }
+    if (start < 0) {
+      start = 0;
+      for (int i = 1; i < n; i++) {
+        if (pts[i].compareTo(pts[start]) < 0)
+          start = i;
+      }
+    }
+
+    List edgePts = new ArrayList();
+    int edgeStart = start;
+    for (int i = start + 1; i <= start + n; i++) {
+      Coordinate p = pts[i % n];
+      if (i == start + n || ((Vertex) vertexMap.get(p)).isNode()) {
+        Coordinate[] edge = new Coordinate[i - edgeStart + 1];
+        for (int k = edgeStart; k <= i; k++) {
+          edge[k - edgeStart] = pts[k % n];
+        }
+        edgePts.add(edge);
+        edgeStart = i;
+      }
+    }
+    return edgePts;
+  }
+
+  //=======  Simplification  =========
+
+  private void simplifyEdges()
+  {
+    if (edges.size() == 0) return;
+
+    Envelope env = new Envelope();
+    for (int i = 0; i < edges.size(); i++) {
+      env.expandToInclude(((Edge) edges.get(i)).getEnvelope());
+    }
+    Grid grid = new Grid(env, gridSize);
+
+    List[] cellEdges = new List[grid.size()];
+    List[] cellConstraints = new List[grid.size()];
+    List crossingEdges = new ArrayList();
+    for (int i = 0; i < edges.size(); i++) {
+      Edge edge = (Edge) edges.get(i);
+      int cell = grid.cell(edge.getEnvelope());
+      if (cell >= 0) {
+        if (cellEdges[cell] == null)
+          cellEdges[cell] = new ArrayList();
+        cellEdges[cell].add(edge);
+      }
+      else {
+        crossingEdges.add(edge);
+        addConstraints(edge, grid, cellConstraints);
+      }
+    }
+
+    List tasks = new ArrayList();
+    for (int i = 0; i < cellEdges.length; i++) {
+      if (cellEdges[i] == null) continue;
+      tasks.add(new CellSimplifyTask(cellEdges[i], cellConstraints[i]));
+    }
+    TaskUtil.execute(executor, tasks);
+
+    /**
+     * The crossing edges are simplified against the results
+     * of the cells, which are now fixed.
+     * The result segments of the cells are not part of any crossing edge,
+     * so they can be placed in the output index.
+     */
+    LineSegmentIndex inputIndex = new LineSegmentIndex();
+    LineSegmentIndex outputIndex = new LineSegmentIndex();
+    for (int i = 0; i < crossingEdges.size(); i++) {
+      inputIndex.add(((Edge) crossingEdges.get(i)).getLine());
+    }
+    for (int i = 0; i < tasks.size(); i++) {
+      ((CellSimplifyTask) tasks.get(i)).addResult(outputIndex);
+    }
+    simplify(crossingEdges, inputIndex, outputIndex);
+  }
+
+  /**
+   * Adds the segments of an edge which crosses cell boundaries
+   * to the constraints of each cell they lie in.
+   */
+  private static void addConstraints(Edge edge, Grid grid, List[] cellConstraints)
+  {
+    TaggedLineSegment[] segs = edge.getLine().getSegments();
+    for (int i = 0; i < segs.length; i++) {
+      TaggedLineSegment seg = segs[i];
+      int minCol = grid.col(Math.min(seg.p0.x, seg.p1.x));
+      int maxCol = grid.col(Math.max(seg.p0.x, seg.p1.x));
+      int minRow = grid.row(Math.min(seg.p0.y, seg.p1.y));
+      int maxRow = grid.row(Math.max(seg.p0.y, seg.p1.y));
+      for (int col = minCol; col <= maxCol; col++) {
+        for (int row = minRow; row <= maxRow; row++) {
+          int cell = grid.cell(col, row);
+          if (cellConstraints[cell] == null)
+            cellConstraints[cell] = new ArrayList();
+          cellConstraints[cell].add(seg);
+        }
+      }
+    }
+  }
+
+  private void simplify(List edgeList, LineSegmentIndex inputIndex,
+      LineSegmentIndex outputIndex)
+  {
+    TaggedLineStringSimplifier tlss = new TaggedLineStringSimplifier(inputIndex, outputIndex);
+    tlss.setDistanceTolerance(distanceTolerance);
+    for (int i = 0; i < edgeList.size(); i++) {
+      tlss.simplify(((Edge) edgeList.get(i)).getLine());
+    }
+  }
+
+  /**
+   * Simplifies the edges lying in a grid cell.
+   * The segment indexes are confined to the task,
+   * and the constraint segments are only read,
+   * so tasks can run concurrently.
+   */
+  private class CellSimplifyTask implements Callable
+  {
+    private List cellEdges;
+    private List constraints;
+
+    CellSimplifyTask(List cellEdges, List constraints)
+    {
+      this.cellEdges = cellEdges;
+      this.constraints = constraints;
+    }
+
+    public Object call()
+    {
+      LineSegmentIndex inputIndex = new LineSegmentIndex();
+      LineSegmentIndex outputIndex = new LineSegmentIndex();
+      for (int i = 0; i < cellEdges.size(); i++) {
+        inputIndex.add(((Edge) cellEdges.get(i)).getLine());
+      }
+      if (constraints != null) {
+        for (int i = 0; i < constraints.size(); i++) {
+          inputIndex.add((TaggedLineSegment) constraints.get(i));
+        }
+      }
+      simplify(cellEdges, inputIndex, outputIndex);
+      return null;
+    }
+
+    void addResult(LineSegmentIndex index)
+    {
+      for (int i = 0; i < cellEdges.size(); i++) {
+        Coordinate[] pts = ((Edge) cellEdges.get(i)).getLine().getResultCoordinates();
+        for (int j = 0; j < pts.length - 1; j++) {
+          index.add(new LineSegment(pts[j], pts[j + 1]));
+        }
+      }
+    }
+  }
+
+  //=======  Result construction  =========
+
+  /**
+   * Replaces the coordinates of each ring
+   * with the concatenated results of its edges.
+   */
+  private class RingTransformer
+      extends GeometryTransformer
+  {
+    protected CoordinateSequence transformCoordinates(CoordinateSequence coords, Geometry parent)
+    {
+      if (coords.size() == 0) return null;
+      if (parent instanceof LinearRing) {
+        RingEdges ringEdges = (RingEdges) ringEdgeMap.get(parent);
+        if (ringEdges != null && ringEdges.size() > 0)
+          return createCoordinateSequence(ringEdges.getResultCoordinates());
+      }
+      return super.transformCoordinates(coords, parent);
+    }
+  }
+
+  /**
+   * Records the distinct neighbours of a vertex.
+   * A vertex with more than two neighbours is a node of the coverage.
+   */
+  private static class Vertex
+  {
+    private Coordinate neighbour0 = null;
+    private Coordinate neighbour1 = null;
+    private boolean isNode = false;
+
+    void addNeighbour(Coordinate p)
+    {
+      if (isNode) return;
+      if (neighbour0 == null || p.equals2D(neighbour0)) {
+        neighbour0 = p;
+      }
+      else if (neighbour1 == null || p.equals2D(neighbour1)) {
+        neighbour1 = p;
+      }
+      else {
+        isNode = true;
+      }
+    }
+
+    boolean isNode() { return isNode; }
+  }
+
+  /**
+   * An edge of the coverage, between two nodes
+   * (or a closed ring containing no nodes).
+   */
+  private static class Edge
+  {
+    private Coordinate[] pts;
+    private GeometryFactory geomFact;
+    private int minimumSize = 2;
+    private TaggedLineString line = null;
+
+    Edge(Coordinate[] pts, GeometryFactory geomFact)
+    {
+      this.pts = pts;
+      this.geomFact = geomFact;
+      if (pts[0].equals2D(pts[pts.length - 1]))
+        minimumSize = 4;
+    }
+
+    /**
+     * Ensures that the edges of a ring are simplified to enough points
+     * to form a valid ring.
+     *
+     * @param numRingEdges the number of edges in a ring containing this edge
+     */
+    void updateMinimumSize(int numRingEdges)
+    {
+      if (numRingEdges == 2 && minimumSize < 3)
+        minimumSize = 3;
+    }
+
+    boolean isForward(Coordinate[] edgePts)
+    {
+      return pts[0].equals2D(edgePts[0]) && pts[1].equals2D(edgePts[1]);
+    }
+
+    Envelope getEnvelope()
+    {
+      return getLine().getParent().getEnvelopeInternal();
+    }
+
+    TaggedLineString getLine()
+    {
+      if (line == null)
+        line = new TaggedLineString(geomFact.createLineString(pts), minimumSize);
+      return line;
+    }
+  }
+
+  /**
+   * The sequence of edges forming a ring.
+   */
+  private static class RingEdges
+  {
+    private List ringEdges = new ArrayList();
+    private List isForward = new ArrayList();
+
+    void add(Edge edge, boolean forward)
+    {
+      ringEdges.add(edge);
+      isForward.add(Boolean.valueOf(forward));
+    }
+
+    int size() { return ringEdges.size(); }
+
+    Coordinate[] getResultCoordinates()
+    {
+      List pts = new ArrayList();
+      for (int i = 0; i < ringEdges.size(); i++) {
+        Coordinate[] edgePts = ((Edge) ringEdges.get(i)).getLine().getResultCoordinates();
+        boolean forward = ((Boolean) isForward.get(i)).booleanValue();
+        // the first point of each edge is the last point of the previous one
+        int start = i == 0 ? 0 : 1;
+        for (int j = start; j < edgePts.length; j++) {
+          int k = forward ? j : edgePts.length - 1 - j;
+          pts.add(edgePts[k].copy());
+        }
+      }
+      return CoordinateArrays.toCoordinateArray(pts);
+    }
+  }
+
+  /**
+   * A regular grid of cells over an extent.
+   * Cell indices increase monotonically with ordinate value,
+   * so items in different cells have disjoint extents.
+   */
+  private static class Grid
+  {
+    private Envelope env;
+    private int size;
+    private double cellWidth;
+    private double cellHeight;
+
+    Grid(Envelope env, int size)
+    {
+      this.env = env;
+      this.size = size;
+      cellWidth = env.getWidth() / size;
+      cellHeight = env.getHeight() / size;
+    }
+
+    int size() { return size * size; }
+
+    int col(double x)
+    {
+      return index(x - env.getMinX(), cellWidth);
+    }
+
+    int row(double y)
+    {
+      return index(y - env.getMinY(), cellHeight);
+    }
+
+    private int index(double offset, double cellSize)
+    {
+      if (cellSize <= 0.0) return 0;
+      int i = (int) (offset / cellSize);
+      if (i < 0) return 0;
+      if (i >= size) return size - 1;
+      return i;
+    }
+
+    int cell(int col, int row)
+    {
+      return row * size + col;
+    }
+
+    /**
+     * Gets the cell containing an envelope,
+     * or -1 if the envelope lies in more than one cell.
+     */
+    int cell(Envelope itemEnv)
+    {
+      int col = col(itemEnv.getMinX());
+      int row = row(itemEnv.getMinY());
+      if (col != col(itemEnv.getMaxX())) return -1;
+      if (row != row(itemEnv.getMaxY())) return -1;
+      return cell(col, row);
+    }
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+
+/**
+ * Simplifies a line provided as a stream of points
+ * (such as a GPS track), using the Douglas-Peucker algorithm
+ * over a sliding window of buffered points.
+ * Points are {@link #add(Coordinate) added} one at a time,
+ * and the vertices of the simplified line are made available
+ * as soon as they are finalized,
+ * via {@link #pollVertices()}.
+ * At most {@link #getMaxBufferSize()} points are buffered.
+ * <p>
+ * When the buffer is full the buffered section of the line
+ * is simplified using Douglas-Peucker.
+ * All retained vertices except the last are finalized,
+ * and the buffer is restarted at the last finalized vertex.
+ * If this would leave the buffer more than half full,
+ * the last buffered point is finalized as well
+ * (so the simplification may retain some vertices which
+ * Douglas-Peucker on the entire line would remove).
+ * <p>
+ * The result has the same tolerance guarantee as {@link DouglasPeuckerSimplifier}:
+ * the vertices of the result are a subset of the input points
+ * (including the first and last point),
+ * and every input point lies within the distance tolerance
+ * of the result segment which replaces it.
+ * If the line has fewer points than the maximum buffer size
+ * the result is identical to that of {@link DouglasPeuckerSimplifier}.
+ *
+ * @see DouglasPeuckerSimplifier
+ */
+public class StreamingLineSimplifier
+{
+  /**
+   * The default maximum number of points buffered
+   */
+  public static final int DEFAULT_MAX_BUFFER_SIZE = 1000;
+
+  /**
+   * Simplifies a sequence of points by streaming them through
+   * a {@link StreamingLineSimplifier}.
+   *
+   * @param pts the points to simplify
+   * @param distanceTolerance the simplification tolerance
+   * @param maxBufferSize the maximum number of points to buffer
+   * @return the simplified points
+   */
+  public static Coordinate[] simplify(Coordinate[] pts, double distanceTolerance,
+      int maxBufferSize)
+  {
+    StreamingLineSimplifier simp = new StreamingLineSimplifier(distanceTolerance);
+    simp.setMaxBufferSize(maxBufferSize);
+    CoordinateList result = new CoordinateList();
+    for (int i = 0; i < pts.length; i++) {
+      simp.add(pts[i]);
+      result.add(simp.pollVertices(), true);
+    }
+    simp.finish();
+    result.add(simp.pollVertices(), true);
+    return result.toCoordinateArray();
+  }
+
+  private double distanceTolerance;
+  private int maxBufferSize = DEFAULT_MAX_BUFFER_SIZE;
+  // the first buffered point is the last finalized vertex
+  private List buffer = new ArrayList();
+  private CoordinateList finalized = new CoordinateList();
+  private boolean isFinished = false;
+
+  /**
+   * Creates a simplifier with the given distance tolerance.
+   * The tolerance value must be non-negative.
+   *
+   * @param distanceTolerance the approximation tolerance to use
+   */
+  public StreamingLineSimplifier(double distanceTolerance)
+  {
+    if (distanceTolerance < 0.0)
+      throw new IllegalArgumentException("Tolerance must be non-negative");
+    this.distanceTolerance = distanceTolerance;
+  }
+
+  /**
+   * Sets the maximum number of points which are buffered.
+   * A larger buffer produces a result closer to the Douglas-Peucker
+   * simplification of the entire line.
+   * The value must be at least 3.
+   *
+   * @param maxBufferSize the maximum number of points to buffer
+   */
+  public void setMaxBufferSize(int maxBufferSize)
+  {
+    if (maxBufferSize < 3)
+      throw new IllegalArgumentException("Buffer size must be at least 3");
+    this.maxBufferSize = maxBufferSize;
+  }
+
+  /**
+   * Gets the maximum number of points which are buffered.
+   *
+   * @return the maximum buffer size
+   */
+  public int getMaxBufferSize()
+  {
+    return maxBufferSize;
+  }
+
+  /**
+   * Gets the number of points currently buffered.
+   *
+   * @return the number of buffered points
+   */
+  public int getBufferSize()
+  {
+    return buffer.size();
+  }
+
+  /**
+   * Adds the next point of the line.
+   *
+   * @param pt the point to add
+   * @throws IllegalStateException if the line has been finished
+   */
+  public void add(Coordinate pt)
+  {
+    if (isFinished)
+      throw new IllegalStateException("Line has been finished");
+    if (buffer.isEmpty()) {
+      // the first point is always a vertex
+      finalized.add(new Coordinate(pt), true);
+    }
+    buffer.add(pt);
+    if (buffer.size() >= maxBufferSize) {
+      simplifyBuffer(false);
+    }
+  }
+
+  /**
+   * Indicates that the line is complete,
+   * finalizing all the remaining vertices.
+   * No more points may be added after this is called.
+   */
+  public void finish()
+  {
+    if (isFinished) return;
+    isFinished = true;
+    if (buffer.size() > 1) {
+      simplifyBuffer(true);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Gets the vertices which have been finalized since the previous call,
+   * in line order.
+   *
+   * @return the finalized vertices (which may be empty)
+   */
+  public Coordinate[] pollVertices()
+  {
+    Coordinate[] pts = finalized.toCoordinateArray();
+    finalized.clear();
+    return pts;
+  }
+
+  /**
+   * Simplifies the buffered section of the line,
+   * and finalizes vertices which cannot be affected by later points.
+   */
+  private void simplifyBuffer(boolean isLast)
+  {
+    Coordinate[] pts = (Coordinate[]) buffer.toArray(new Coordinate[0]);
+    DouglasPeuckerLineSimplifier simp = new DouglasPeuckerLineSimplifier(pts);
+    simp.setDistanceTolerance(distanceTolerance);
+    boolean[] usePt = simp.computeUsedPoints();
+
+    int last = pts.length - 1;
+    // the first point has already been finalized
+    int lastFinal = 0;
+    for (int i = 1; i < last; i++) {
+      if (usePt[i]) {
+        finalized.add(new Coordinate(pts[i]), true);
+        lastFinal = i;
+      }
+    }
+    if (isLast || last - lastFinal >= maxBufferSize / 2) {
+      finalized.add(new Coordinate(pts[last]), true);
+      lastFinal = last;
+    }
+    buffer.subList(0, lastFinal).clear();
+  }
+}
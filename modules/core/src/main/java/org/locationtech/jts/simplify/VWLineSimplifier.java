@@ -21,6 +21,12 @@ import org.locationtech.jts.geom.Triangle;
  * Visvalingam-Whyatt algorithm.
  * The Visvalingam-Whyatt algorithm simplifies geometry 
  * by removing vertices while trying to minimize the area changed.
+ * <p>
+ * The vertex with the smallest effective area is found using
+ * an indexed heap, which is updated as the areas of the neighbours
+ * of removed vertices change.
+ * This gives O(n log n) performance.
+ * Of vertices with equal area the earliest in the line is removed first.
  * 
  * @version 1.7
  */
@@ -32,8 +38,16 @@ class VWLineSimplifier
     return simp.simplify();
   }
 
+  /**
+   * The area of vertices which have only one neighbour (i.e. the endpoints),
+   * which are never removed.
+   */
+  static final double MAX_AREA = Double.MAX_VALUE;
+
   private Coordinate[] pts;
   private double tolerance;
+  private int[] prev;
+  private int[] next;
 
   public VWLineSimplifier(Coordinate[] pts, double distanceTolerance)
   {
@@ -43,12 +57,14 @@ class VWLineSimplifier
 
   public Coordinate[] simplify()
   {
-    VWLineSimplifier.VWVertex vwLine = VWVertex.buildLine(pts);
-    double minArea = tolerance;
-    do {
-      minArea = simplifyVertex(vwLine);
-    } while (minArea < tolerance);
-    Coordinate[] simp = vwLine.getCoordinates();
+    VertexAreaHeap heap = buildLine();
+    while (! heap.isEmpty()) {
+      int minVertex = heap.peek();
+      if (heap.getArea(minVertex) >= tolerance) break;
+      heap.poll();
+      remove(minVertex, heap);
+    }
+    Coordinate[] simp = getCoordinates();
     // ensure computed value is a valid line
     if (simp.length < 2) {
       return new Coordinate[] { simp[0], new Coordinate(simp[0]) };
@@ -56,119 +72,53 @@ class VWLineSimplifier
     return simp;
   }
 
-  private double simplifyVertex(VWLineSimplifier.VWVertex vwLine)
+  private VertexAreaHeap buildLine()
   {
-    /**
-     * Scan vertices in line and remove the one with smallest effective area.
-     */
-    // TODO: use an appropriate data structure to optimize finding the smallest area vertex
-    VWLineSimplifier.VWVertex curr = vwLine;
-    double minArea = curr.getArea();
-    VWLineSimplifier.VWVertex minVertex = null;
-    while (curr != null) {
-      double area = curr.getArea();
-      if (area < minArea) {
-        minArea = area;
-        minVertex = curr;
-      }
-      curr = curr.next;
+    int n = pts.length;
+    prev = new int[n];
+    next = new int[n];
+    for (int i = 0; i < n; i++) {
+      prev[i] = i - 1;
+      next[i] = i + 1 < n ? i + 1 : -1;
     }
-    if (minVertex != null && minArea < tolerance) {
-      minVertex.remove();
+    VertexAreaHeap heap = new VertexAreaHeap(n);
+    for (int i = 1; i < n - 1; i++) {
+      double area = area(i);
+      if (area < MAX_AREA)
+        heap.add(i, area);
     }
-    if (! vwLine.isLive()) return -1;
-    return minArea;
+    return heap;
   }
 
-
-  static class VWVertex
+  private void remove(int i, VertexAreaHeap heap)
   {
-    public static VWLineSimplifier.VWVertex buildLine(Coordinate[] pts)
-    {
-      VWLineSimplifier.VWVertex first = null;
-      VWLineSimplifier.VWVertex prev = null;
-      for (int i = 0; i < pts.length; i++) {
-        VWLineSimplifier.VWVertex v = new VWVertex(pts[i]);
-        if (first == null)
-          first = v;
-        v.setPrev(prev);
-        if (prev != null) {
-          prev.setNext(v);
-          prev.updateArea();
-        }
-        prev = v;
-      }
-      return first;
-    }
-    
-    public static double MAX_AREA = Double.MAX_VALUE;
-    
-    private Coordinate pt;
-    private VWLineSimplifier.VWVertex prev;
-    private VWLineSimplifier.VWVertex next;
-    private double area = MAX_AREA;
-    private boolean isLive = true;
-
-    public VWVertex(Coordinate pt)
-    {
-      this.pt = pt;
-    }
-
-    public void setPrev(VWLineSimplifier.VWVertex prev)
-    {
-      this.prev = prev;
-    }
+    int p = prev[i];
+    int nx = next[i];
+    next[p] = nx;
+    prev[nx] = p;
+    updateArea(p, heap);
+    updateArea(nx, heap);
+  }
 
-    public void setNext(VWLineSimplifier.VWVertex next)
-    {
-      this.next = next;
-    }
+  private void updateArea(int i, VertexAreaHeap heap)
+  {
+    if (! heap.contains(i)) return;
+    heap.update(i, area(i));
+  }
 
-    public void updateArea()
-    {
-      if (prev == null || next == null) {
-        area = MAX_AREA;
-        return;
-      }
-      area = Math.abs(Triangle.area(prev.pt, pt, next.pt));
-    }
+  private double area(int i)
+  {
+    if (prev[i] < 0 || next[i] < 0)
+      return MAX_AREA;
+    return Math.abs(Triangle.area(pts[prev[i]], pts[i], pts[next[i]]));
+  }
 
-    public double getArea()
-    {
-      return area;
-    }
-    public boolean isLive()
-    {
-      return isLive;
-    }
-    public VWLineSimplifier.VWVertex remove()
-    {
-      VWLineSimplifier.VWVertex tmpPrev = prev;
-      VWLineSimplifier.VWVertex tmpNext = next;
-      VWLineSimplifier.VWVertex result = null;
-      if (prev != null) {
-        prev.setNext(tmpNext);
-        prev.updateArea();
-        result = prev;
-      }
-      if (next != null) {
-        next.setPrev(tmpPrev);
-        next.updateArea();
-        if (result == null)
-          result = next;
-      }
-      isLive = false;
-      return result;
-    }
-    public Coordinate[] getCoordinates()
-    {
-      CoordinateList coords = new CoordinateList();
-      VWLineSimplifier.VWVertex curr = this;
-      do {
-        coords.add(curr.pt, false);
-        curr = curr.next;
-      } while (curr != null);
-      return coords.toCoordinateArray();
+  private Coordinate[] getCoordinates()
+  {
+    CoordinateList coords = new CoordinateList();
+    for (int i = 0; i >= 0; i = next[i]) {
+      coords.add(pts[i], false);
     }
+    return coords.toCoordinateArray();
   }
-}
\ No newline at end of file
+}
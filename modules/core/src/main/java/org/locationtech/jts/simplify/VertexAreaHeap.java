@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+/**
+ * An indexed binary min-heap of the effective areas of the vertices of a line,
+ * supporting changing the area of a vertex in the heap.
+ * Vertices are identified by their index in the line,
+ * and are ordered by area and then by index
+ * (so that of vertices with equal area the earliest in the line is smallest).
+ */
+class VertexAreaHeap
+{
+  private double[] area;
+  // the vertex at each heap position (1-based)
+  private int[] heap;
+  // the heap position of each vertex, or 0 if the vertex is not in the heap
+  private int[] pos;
+  private int size = 0;
+
+  /**
+   * Creates an empty heap for the vertices of a line.
+   *
+   * @param numVertices the number of vertices in the line
+   */
+  public VertexAreaHeap(int numVertices)
+  {
+    area = new double[numVertices];
+    heap = new int[numVertices + 1];
+    pos = new int[numVertices];
+  }
+
+  public boolean isEmpty() { return size == 0; }
+
+  public boolean contains(int vertex) { return pos[vertex] > 0; }
+
+  /**
+   * Gets the vertex with the smallest area.
+   *
+   * @return the index of the smallest vertex
+   */
+  public int peek() { return heap[1]; }
+
+  /**
+   * Gets the area of a vertex in the heap.
+   *
+   * @param vertex the index of the vertex
+   * @return the area of the vertex
+   */
+  public double getArea(int vertex) { return area[vertex]; }
+
+  /**
+   * Adds a vertex to the heap.
+   *
+   * @param vertex the index of the vertex
+   * @param vertexArea the area of the vertex
+   */
+  public void add(int vertex, double vertexArea)
+  {
+    area[vertex] = vertexArea;
+    size += 1;
+    set(size, vertex);
+    siftUp(size);
+  }
+
+  /**
+   * Changes the area of a vertex in the heap.
+   *
+   * @param vertex the index of the vertex
+   * @param vertexArea the new area of the vertex
+   */
+  public void update(int vertex, double vertexArea)
+  {
+    double oldArea = area[vertex];
+    area[vertex] = vertexArea;
+    if (vertexArea < oldArea)
+      siftUp(pos[vertex]);
+    else
+      siftDown(pos[vertex]);
+  }
+
+  /**
+   * Removes a vertex from the heap.
+   *
+   * @param vertex the index of the vertex
+   */
+  public void remove(int vertex)
+  {
+    int hole = pos[vertex];
+    pos[vertex] = 0;
+    int last = heap[size];
+    size -= 1;
+    if (hole > size) return;
+    set(hole, last);
+    siftUp(hole);
+    siftDown(pos[last]);
+  }
+
+  /**
+   * Removes the vertex with the smallest area.
+   *
+   * @return the index of the removed vertex
+   */
+  public int poll()
+  {
+    int min = heap[1];
+    remove(min);
+    return min;
+  }
+
+  private void siftUp(int hole)
+  {
+    int vertex = heap[hole];
+    while (hole > 1 && isLess(vertex, heap[hole / 2])) {
+      set(hole, heap[hole / 2]);
+      hole /= 2;
+    }
+    set(hole, vertex);
+  }
+
+  private void siftDown(int hole)
+  {
+    int vertex = heap[hole];
+    while (hole * 2 <= size) {
+      int child = hole * 2;
+      if (child != size && isLess(heap[child + 1], heap[child]))
+        child++;
+      if (! isLess(heap[child], vertex))
+        break;
+      set(hole, heap[child]);
+      hole = child;
+    }
+    set(hole, vertex);
+  }
+
+  private void set(int hole, int vertex)
+  {
+    heap[hole] = vertex;
+    pos[vertex] = hole;
+  }
+
+  private boolean isLess(int v0, int v1)
+  {
+    if (area[v0] < area[v1]) return true;
+    if (area[v0] > area[v1]) return false;
+    return v0 < v1;
+  }
+}
@@ -0,0 +1,589 @@
+/*
+ * This file is a port of part of the Delaunator library
+ * (https://github.com/mapbox/delaunator),
+ * which is distributed under the following license:
+ *
+ * ISC License
+ *
+ * Copyright (c) 2017, Mapbox
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any purpose
+ * with or without fee is hereby granted, provided that the above copyright notice
+ * and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES WITH
+ * REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY SPECIAL, DIRECT,
+ * INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES WHATSOEVER RESULTING FROM LOSS
+ * OF USE, DATA OR PROFITS, WHETHER IN AN ACTION OF CONTRACT, NEGLIGENCE OR OTHER
+ * TORTIOUS ACTION, ARISING OUT OF OR IN CONNECTION WITH THE USE OR PERFORMANCE OF
+ * THIS SOFTWARE.
+ */
+package org.locationtech.jts.triangulate;
+
+import org.locationtech.jts.algorithm.CGAlgorithmsDD;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.triangulate.quadedge.TrianglePredicate;
+
+/**
+ * Computes a Delaunay triangulation of a set of points
+ * as an {@link ArrayTriangulation}.
+ * The triangulation is stored in primitive arrays,
+ * which requires much less memory than a
+ * {@link org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision}.
+ * <p>
+ * The algorithm is a radial sweep.
+ * A seed triangle is chosen near the centre of the points,
+ * and the remaining points are added in order of distance from the centre
+ * of its circumcircle.
+ * Each point lies outside the current convex hull,
+ * so it is connected to the hull edges visible from it,
+ * and the Delaunay condition is restored by edge flipping.
+ * The hull is held in a linked list,
+ * with a hash table on the angle around the centre
+ * to find a visible edge quickly.
+ * <p>
+ * Duplicate points are not included in the triangulation;
+ * {@link ArrayTriangulation#getTriangulationVertex(int)} gives the vertex representing them.
+ * If all points are collinear the triangulation is empty.
+ * Orientation tests are computed robustly,
+ * and in-circle tests use 
+ * {@link TrianglePredicate#isInCircleFiltered(double, double, double, double, double, double, double, double)},
+ * which falls back to an exact computation for nearly cocircular points.
+ * <p>
+ * The algorithm and the array representation are ported from
+ * the Delaunator library (https://github.com/mapbox/delaunator).
+ *
+ * @author Vladimir Agafonkin (Delaunator)
+ *
+ */
+public class ArrayDelaunayTriangulator
+{
+  /**
+   * Computes the Delaunay triangulation of an array of points.
+   *
+   * @param pts the points to triangulate
+   * @return the triangulation
+   */
+  public static ArrayTriangulation triangulate(Coordinate[] pts)
+  {
+    double[] coords = new double[2 * pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      coords[2 * i] = pts[i].x;
+      coords[2 * i + 1] = pts[i].y;
+    }
+    return triangulate(coords);
+  }
+
+  /**
+   * Computes the Delaunay triangulation of points given
+   * as an array of X and Y ordinates.
+   *
+   * @param coords the X and Y ordinates of the points to triangulate
+   * @return the triangulation
+   */
+  public static ArrayTriangulation triangulate(double[] coords)
+  {
+    ArrayDelaunayTriangulator triangulator = new ArrayDelaunayTriangulator(coords);
+    return triangulator.getTriangulation();
+  }
+
+  private static final double EPSILON = Math.pow(2, -52);
+
+  private double[] coords;
+  private int numPts;
+  private int[] triangles;
+  private int[] halfedges;
+  private int trianglesLen = 0;
+  private int[] vertexMap;
+
+  private int hullStart;
+  private int[] hullPrev;
+  private int[] hullNext;
+  private int[] hullTri;
+  private int[] hullHash;
+  private int hashSize;
+  private double centreX;
+  private double centreY;
+
+  private int[] edgeStack = new int[512];
+
+  private ArrayTriangulation triangulation = null;
+
+  /**
+   * Creates a new triangulator for points given
+   * as an array of X and Y ordinates.
+   *
+   * @param coords the X and Y ordinates of the points to triangulate
+   */
+  public ArrayDelaunayTriangulator(double[] coords)
+  {
+    this.coords = coords;
+    numPts = coords.length / 2;
+  }
+
+  /**
+   * Gets the computed triangulation.
+   *
+   * @return the triangulation
+   */
+  public ArrayTriangulation getTriangulation()
+  {
+    if (triangulation == null) {
+      compute();
+      triangulation = new ArrayTriangulation(coords, triangles, halfedges, trianglesLen / 3,
+          vertexMap);
+    }
+    return triangulation;
+  }
+
+  private void compute()
+  {
+    int maxTriangles = Math.max(2 * numPts - 5, 0);
+    triangles = new int[3 * maxTriangles];
+    halfedges = new int[3 * maxTriangles];
+    vertexMap = new int[numPts];
+    for (int i = 0; i < numPts; i++) vertexMap[i] = i;
+    if (numPts < 3) return;
+
+    double minX = Double.POSITIVE_INFINITY;
+    double minY = Double.POSITIVE_INFINITY;
+    double maxX = Double.NEGATIVE_INFINITY;
+    double maxY = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < numPts; i++) {
+      double x = coords[2 * i];
+      double y = coords[2 * i + 1];
+      if (x < minX) minX = x;
+      if (y < minY) minY = y;
+      if (x > maxX) maxX = x;
+      if (y > maxY) maxY = y;
+    }
+    double cx = (minX + maxX) / 2;
+    double cy = (minY + maxY) / 2;
+
+    // seed point closest to the centre of the points
+    int i0 = 0;
+    double minDist = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < numPts; i++) {
+      double d = dist2(cx, cy, coords[2 * i], coords[2 * i + 1]);
+      if (d < minDist) {
+        i0 = i;
+        minDist = d;
+      }
+    }
+    double i0x = coords[2 * i0];
+    double i0y = coords[2 * i0 + 1];
+
+    // the point closest to the seed
+    int i1 = -1;
+    minDist = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < numPts; i++) {
+      if (i == i0) continue;
+      double d = dist2(i0x, i0y, coords[2 * i], coords[2 * i + 1]);
+      if (d < minDist && d > 0) {
+        i1 = i;
+        minDist = d;
+      }
+    }
+    if (i1 < 0) return;
+    double i1x = coords[2 * i1];
+    double i1y = coords[2 * i1 + 1];
+
+    // the third point which creates the smallest circumcircle
+    int i2 = -1;
+    double minRadius = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < numPts; i++) {
+      if (i == i0 || i == i1) continue;
+      double r = circumradius2(i0x, i0y, i1x, i1y, coords[2 * i], coords[2 * i + 1]);
+      if (r < minRadius) {
+        i2 = i;
+        minRadius = r;
+      }
+    }
+    // all points are collinear
+    if (i2 < 0) return;
+    double i2x = coords[2 * i2];
+    double i2y = coords[2 * i2 + 1];
+
+    // ensure the seed triangle is counter-clockwise
+    if (orientation(i0x, i0y, i1x, i1y, i2x, i2y) < 0) {
+      int i = i1;
+      double x = i1x;
+      double y = i1y;
+      i1 = i2;
+      i1x = i2x;
+      i1y = i2y;
+      i2 = i;
+      i2x = x;
+      i2y = y;
+    }
+
+    computeCircumcentre(i0x, i0y, i1x, i1y, i2x, i2y);
+
+    // sort the points by distance from the seed triangle circumcentre
+    int[] ids = new int[numPts];
+    double[] dists = new double[numPts];
+    for (int i = 0; i < numPts; i++) {
+      ids[i] = i;
+      dists[i] = dist2(coords[2 * i], coords[2 * i + 1], centreX, centreY);
+    }
+    quicksort(ids, dists, 0, numPts - 1);
+    dists = null;
+
+    // initialize the hull to the seed triangle
+    hashSize = (int) Math.ceil(Math.sqrt(numPts));
+    hullPrev = new int[numPts];
+    hullNext = new int[numPts];
+    hullTri = new int[numPts];
+    hullHash = new int[hashSize];
+    for (int i = 0; i < hashSize; i++) hullHash[i] = -1;
+
+    hullStart = i0;
+    hullNext[i0] = hullPrev[i2] = i1;
+    hullNext[i1] = hullPrev[i0] = i2;
+    hullNext[i2] = hullPrev[i1] = i0;
+    hullTri[i0] = 0;
+    hullTri[i1] = 1;
+    hullTri[i2] = 2;
+    hullHash[hashKey(i0x, i0y)] = i0;
+    hullHash[hashKey(i1x, i1y)] = i1;
+    hullHash[hashKey(i2x, i2y)] = i2;
+
+    addTriangle(i0, i1, i2, -1, -1, -1);
+
+    double xp = 0;
+    double yp = 0;
+    int ip = -1;
+    for (int k = 0; k < numPts; k++) {
+      int i = ids[k];
+      double x = coords[2 * i];
+      double y = coords[2 * i + 1];
+      boolean isSeed = i == i0 || i == i1 || i == i2;
+
+      // skip near-duplicate points, recording the vertex which represents them
+      if (k > 0 && Math.abs(x - xp) <= EPSILON && Math.abs(y - yp) <= EPSILON) {
+        if (! isSeed) vertexMap[i] = vertexMap[ip];
+        continue;
+      }
+      xp = x;
+      yp = y;
+      ip = i;
+
+      if (isSeed) continue;
+      addPoint(i, x, y);
+    }
+  }
+
+  /**
+   * Adds a point lying outside the current hull to the triangulation.
+   *
+   * @param i the index of the point
+   * @param x the X ordinate of the point
+   * @param y the Y ordinate of the point
+   */
+  private void addPoint(int i, double x, double y)
+  {
+    // find a hull vertex near the point in angular order
+    int start = 0;
+    int key = hashKey(x, y);
+    for (int j = 0; j < hashSize; j++) {
+      start = hullHash[(key + j) % hashSize];
+      if (start != -1 && start != hullNext[start]) break;
+    }
+
+    // find a hull edge visible from the point
+    start = hullPrev[start];
+    int e = start;
+    while (! isVisible(e, hullNext[e], x, y)) {
+      e = hullNext[e];
+      if (e == start) {
+        // no visible edge - the point is a near-duplicate, so skip it
+        vertexMap[i] = nearestHullVertex(x, y);
+        return;
+      }
+    }
+
+    // add the first triangle from the point
+    int t = addTriangle(e, i, hullNext[e], -1, -1, hullTri[e]);
+    hullTri[e] = t;
+    hullTri[i] = t + 1;
+    legalize(t + 2);
+
+    // walk forward through the hull, adding triangles to visible edges
+    int n = hullNext[e];
+    while (true) {
+      int q = hullNext[n];
+      if (! isVisible(n, q, x, y)) break;
+      t = addTriangle(n, i, q, hullTri[i], -1, hullTri[n]);
+      hullTri[i] = t + 1;
+      legalize(t + 2);
+      // mark as removed
+      hullNext[n] = n;
+      n = q;
+    }
+
+    // walk backward from the other side
+    if (e == start) {
+      while (true) {
+        int q = hullPrev[e];
+        if (! isVisible(q, e, x, y)) break;
+        t = addTriangle(q, i, e, -1, hullTri[e], hullTri[q]);
+        hullTri[q] = t;
+        legalize(t + 2);
+        // mark as removed
+        hullNext[e] = e;
+        e = q;
+      }
+    }
+
+    // update the hull
+    hullStart = e;
+    hullPrev[i] = e;
+    hullNext[e] = i;
+    hullPrev[n] = i;
+    hullNext[i] = n;
+
+    hullHash[hashKey(x, y)] = i;
+    hullHash[hashKey(coords[2 * e], coords[2 * e + 1])] = e;
+  }
+
+  private int nearestHullVertex(double x, double y)
+  {
+    int nearest = hullStart;
+    double minDist = Double.POSITIVE_INFINITY;
+    int v = hullStart;
+    do {
+      double d = dist2(x, y, coords[2 * v], coords[2 * v + 1]);
+      if (d < minDist) {
+        nearest = v;
+        minDist = d;
+      }
+      v = hullNext[v];
+    } while (v != hullStart);
+    return nearest;
+  }
+
+  /**
+   * Tests if a point is strictly to the right of the hull edge p-q
+   * (i.e. outside the hull).
+   */
+  private boolean isVisible(int p, int q, double x, double y)
+  {
+    return orientation(coords[2 * p], coords[2 * p + 1],
+        coords[2 * q], coords[2 * q + 1], x, y) < 0;
+  }
+
+  /**
+   * Restores the Delaunay condition for the triangles
+   * adjacent to a half-edge by flipping edges.
+   * The vertex opposite the half-edge is the point being added.
+   *
+   * <pre>
+   *           pl                    pl
+   *          /||\                  /  \
+   *       al/ || \bl            al/    \a
+   *        /  ||  \              /      \
+   *       /  a||b  \    flip    /___ar___\
+   *     p0\   ||   /p1   =>   p0\---bl---/p1
+   *        \  ||  /              \      /
+   *       ar\ || /br             b\    /br
+   *          \||/                  \  /
+   *           pr                    pr
+   * </pre>
+   *
+   * @param a the half-edge to check
+   */
+  private void legalize(int a)
+  {
+    int i = 0;
+    while (true) {
+      int b = halfedges[a];
+      if (b == -1) {
+        // convex hull edge
+        if (i == 0) break;
+        a = edgeStack[--i];
+        continue;
+      }
+      int a0 = a - a % 3;
+      int b0 = b - b % 3;
+      int al = a0 + (a + 1) % 3;
+      int ar = a0 + (a + 2) % 3;
+      int bl = b0 + (b + 2) % 3;
+
+      int p0 = triangles[ar];
+      int pr = triangles[a];
+      int pl = triangles[al];
+      int p1 = triangles[bl];
+
+      if (! isInCircle(p0, pr, pl, p1)) {
+        if (i == 0) break;
+        a = edgeStack[--i];
+        continue;
+      }
+
+      triangles[a] = p1;
+      triangles[b] = p0;
+
+      int hbl = halfedges[bl];
+      int har = halfedges[ar];
+      /**
+       * The flip moves the edges p1-pl and p0-pr to different half-edges.
+       * If these lie on the hull the hull references must be updated.
+       */
+      if (hbl == -1) hullTri[p1] = a;
+      if (har == -1) hullTri[p0] = b;
+
+      link(a, hbl);
+      link(b, har);
+      link(ar, bl);
+
+      if (i >= edgeStack.length) {
+        int[] stack = new int[2 * edgeStack.length];
+        System.arraycopy(edgeStack, 0, stack, 0, edgeStack.length);
+        edgeStack = stack;
+      }
+      edgeStack[i++] = b0 + (b + 1) % 3;
+    }
+  }
+
+  private boolean isInCircle(int a, int b, int c, int p)
+  {
+    return TrianglePredicate.isInCircleFiltered(
+        coords[2 * a], coords[2 * a + 1], coords[2 * b], coords[2 * b + 1],
+        coords[2 * c], coords[2 * c + 1], coords[2 * p], coords[2 * p + 1]);
+  }
+
+  private int addTriangle(int i0, int i1, int i2, int a, int b, int c)
+  {
+    int t = trianglesLen;
+    triangles[t] = i0;
+    triangles[t + 1] = i1;
+    triangles[t + 2] = i2;
+    link(t, a);
+    link(t + 1, b);
+    link(t + 2, c);
+    trianglesLen += 3;
+    return t;
+  }
+
+  private void link(int a, int b)
+  {
+    halfedges[a] = b;
+    if (b != -1) halfedges[b] = a;
+  }
+
+  private int hashKey(double x, double y)
+  {
+    return ((int) Math.floor(pseudoAngle(x - centreX, y - centreY) * hashSize)) % hashSize;
+  }
+
+  /**
+   * Computes a value in [0, 1] which increases monotonically
+   * with the angle of a vector.
+   */
+  private static double pseudoAngle(double dx, double dy)
+  {
+    double p = dx / (Math.abs(dx) + Math.abs(dy));
+    // p is NaN for a zero vector
+    if (Double.isNaN(p)) return 0;
+    return (dy > 0 ? 3 - p : 1 + p) / 4;
+  }
+
+  private static double dist2(double ax, double ay, double bx, double by)
+  {
+    double dx = ax - bx;
+    double dy = ay - by;
+    return dx * dx + dy * dy;
+  }
+
+  private static int orientation(double ax, double ay, double bx, double by, double cx, double cy)
+  {
+    return CGAlgorithmsDD.orientationIndex(ax, ay, bx, by, cx, cy);
+  }
+
+  /**
+   * Computes the square of the circumradius of a triangle.
+   * The value is infinite or NaN if the triangle is degenerate.
+   */
+  private static double circumradius2(double ax, double ay, double bx, double by, double cx, double cy)
+  {
+    double dx = bx - ax;
+    double dy = by - ay;
+    double ex = cx - ax;
+    double ey = cy - ay;
+    double bl = dx * dx + dy * dy;
+    double cl = ex * ex + ey * ey;
+    double d = 0.5 / (dx * ey - dy * ex);
+    double x = (ey * bl - dy * cl) * d;
+    double y = (dx * cl - ex * bl) * d;
+    return x * x + y * y;
+  }
+
+  private void computeCircumcentre(double ax, double ay, double bx, double by, double cx, double cy)
+  {
+    double dx = bx - ax;
+    double dy = by - ay;
+    double ex = cx - ax;
+    double ey = cy - ay;
+    double bl = dx * dx + dy * dy;
+    double cl = ex * ex + ey * ey;
+    double d = 0.5 / (dx * ey - dy * ex);
+    centreX = ax + (ey * bl - dy * cl) * d;
+    centreY = ay + (dx * cl - ex * bl) * d;
+  }
+
+  /**
+   * Sorts a range of point ids by their distance values.
+   */
+  private static void quicksort(int[] ids, double[] dists, int left, int right)
+  {
+    while (right - left > 20) {
+      int median = (left + right) >>> 1;
+      int i = left + 1;
+      int j = right;
+      swap(ids, median, i);
+      if (dists[ids[left]] > dists[ids[right]]) swap(ids, left, right);
+      if (dists[ids[i]] > dists[ids[right]]) swap(ids, i, right);
+      if (dists[ids[left]] > dists[ids[i]]) swap(ids, left, i);
+
+      int temp = ids[i];
+      double tempDist = dists[temp];
+      while (true) {
+        do i++; while (dists[ids[i]] < tempDist);
+        do j--; while (dists[ids[j]] > tempDist);
+        if (j < i) break;
+        swap(ids, i, j);
+      }
+      ids[left + 1] = ids[j];
+      ids[j] = temp;
+
+      // recurse on the smaller partition to bound the stack depth
+      if (right - i + 1 >= j - left) {
+        quicksort(ids, dists, left, j - 1);
+        left = i;
+      }
+      else {
+        quicksort(ids, dists, i, right);
+        right = j - 1;
+      }
+    }
+    // insertion sort for small ranges
+    for (int i = left + 1; i <= right; i++) {
+      int temp = ids[i];
+      double tempDist = dists[temp];
+      int j = i - 1;
+      while (j >= left && dists[ids[j]] > tempDist) {
+        ids[j + 1] = ids[j];
+        j--;
+      }
+      ids[j + 1] = temp;
+    }
+  }
+
+  private static void swap(int[] arr, int i, int j)
+  {
+    int tmp = arr[i];
+    arr[i] = arr[j];
+    arr[j] = tmp;
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * This file is a port of part of the Delaunator library
+ * (https://github.com/mapbox/delaunator),
+ * which is distributed under the following license:
+ *
+ * ISC License
+ *
+ * Copyright (c) 2017, Mapbox
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any purpose
+ * with or without fee is hereby granted, provided that the above copyright notice
+ * and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES WITH
+ * REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY SPECIAL, DIRECT,
+ * INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES WHATSOEVER RESULTING FROM LOSS
+ * OF USE, DATA OR PROFITS, WHETHER IN AN ACTION OF CONTRACT, NEGLIGENCE OR OTHER
+ * TORTIOUS ACTION, ARISING OUT OF OR IN CONNECTION WITH THE USE OR PERFORMANCE OF
+ * THIS SOFTWARE.
+ */
+package org.locationtech.jts.triangulate;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * A triangulation of a set of points stored in primitive arrays,
+ * using a half-edge representation.
+ * This requires far less memory than a
+ * {@link org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision},
+ * so is suitable for very large point sets.
+ * <p>
+ * The vertices are identified by their index in the input ordinate array,
+ * which contains the X and Y ordinates of each point in turn.
+ * Triangle <tt>t</tt> is stored in the three half-edges <tt>3t</tt>, <tt>3t+1</tt>, <tt>3t+2</tt>.
+ * Half-edge <tt>e</tt> runs from the vertex <tt>triangles[e]</tt>
+ * to the vertex of the next half-edge of its triangle.
+ * The vertices of each triangle are in counter-clockwise order.
+ * <tt>halfedges[e]</tt> is the index of the opposite half-edge
+ * in the adjacent triangle, or -1 if the edge lies on the convex hull.
+ * <p>
+ * The triangles are accessed by index (in the range [0, {@link #getNumTriangles()})),
+ * and can be exported as JTS geometries.
+ * The backing arrays are also available for bulk processing;
+ * they may be longer than required for the triangles they contain.
+
+ * <p>
+ * The half-edge representation is that used by
+ * the Delaunator library (https://github.com/mapbox/delaunator).
+ *
+ * @author Vladimir Agafonkin (Delaunator)
+ *
+ * @see ArrayDelaunayTriangulator
+ */
+public class ArrayTriangulation
+{
+  /**
+   * Gets the index of the next half-edge in the triangle of a half-edge.
+   *
+   * @param e a half-edge index
+   * @return the next half-edge index
+   */
+  public static int next(int e)
+  {
+    return (e % 3 == 2) ? e - 2 : e + 1;
+  }
+
+  /**
+   * Gets the index of the previous half-edge in the triangle of a half-edge.
+   *
+   * @param e a half-edge index
+   * @return the previous half-edge index
+   */
+  public static int prev(int e)
+  {
+    return (e % 3 == 0) ? e + 2 : e - 1;
+  }
+
+  private double[] coords;
+  private int[] triangles;
+  private int[] halfedges;
+  private int numTriangles;
+  private int[] vertexMap;
+
+  /**
+   * Creates a triangulation from its backing arrays.
+   *
+   * @param coords the X and Y ordinates of the vertices
+   * @param triangles the vertex index of each half-edge
+   * @param halfedges the opposite half-edge of each half-edge, or -1
+   * @param numTriangles the number of triangles
+   */
+  public ArrayTriangulation(double[] coords, int[] triangles, int[] halfedges, int numTriangles)
+  {
+    this(coords, triangles, halfedges, numTriangles, null);
+  }
+
+  /**
+   * Creates a triangulation from its backing arrays,
+   * with the triangulation vertex which represents each input vertex.
+   *
+   * @param coords the X and Y ordinates of the vertices
+   * @param triangles the vertex index of each half-edge
+   * @param halfedges the opposite half-edge of each half-edge, or -1
+   * @param numTriangles the number of triangles
+   * @param vertexMap the representing vertex of each vertex, or null if all vertices are used
+   */
+  public ArrayTriangulation(double[] coords, int[] triangles, int[] halfedges, int numTriangles,
+      int[] vertexMap)
+  {
+    this.coords = coords;
+    this.triangles = triangles;
+    this.halfedges = halfedges;
+    this.numTriangles = numTriangles;
+    this.vertexMap = vertexMap;
+  }
+
+  /**
+   * Gets the number of vertices in the input.
+   * Vertices which duplicate other vertices are not used in the triangulation.
+   *
+   * @return the number of input vertices
+   */
+  public int getNumVertices()
+  {
+    return coords.length / 2;
+  }
+
+  /**
+   * Gets the vertex of the triangulation which represents an input vertex.
+   * This is the vertex itself, unless it was not used in the triangulation
+   * because it duplicates (or very nearly duplicates) another vertex,
+   * in which case it is that vertex.
+   *
+   * @param v an input vertex index
+   * @return the index of the representing vertex
+   */
+  public int getTriangulationVertex(int v)
+  {
+    if (vertexMap == null) return v;
+    return vertexMap[v];
+  }
+
+  /**
+   * Gets the number of triangles.
+   *
+   * @return the number of triangles
+   */
+  public int getNumTriangles()
+  {
+    return numTriangles;
+  }
+
+  /**
+   * Gets the X ordinate of a vertex.
+   *
+   * @param v the vertex index
+   * @return the X ordinate
+   */
+  public double getX(int v)
+  {
+    return coords[2 * v];
+  }
+
+  /**
+   * Gets the Y ordinate of a vertex.
+   *
+   * @param v the vertex index
+   * @return the Y ordinate
+   */
+  public double getY(int v)
+  {
+    return coords[2 * v + 1];
+  }
+
+  /**
+   * Gets the coordinate of a vertex.
+   *
+   * @param v the vertex index
+   * @return a new coordinate for the vertex
+   */
+  public Coordinate getCoordinate(int v)
+  {
+    return new Coordinate(coords[2 * v], coords[2 * v + 1]);
+  }
+
+  /**
+   * Gets the index of a vertex of a triangle.
+   *
+   * @param tri the triangle index
+   * @param index the index of the vertex in the triangle (0, 1 or 2)
+   * @return the vertex index
+   */
+  public int getVertex(int tri, int index)
+  {
+    return triangles[3 * tri + index];
+  }
+
+  /**
+   * Gets the triangle adjacent to a triangle across one of its edges.
+   * Edge <tt>i</tt> of a triangle runs from vertex <tt>i</tt> to
+   * vertex <tt>(i + 1) mod 3</tt>.
+   *
+   * @param tri the triangle index
+   * @param index the index of the edge in the triangle (0, 1 or 2)
+   * @return the index of the adjacent triangle, or -1 if the edge is on the convex hull
+   */
+  public int getNeighbour(int tri, int index)
+  {
+    int opp = halfedges[3 * tri + index];
+    if (opp < 0) return -1;
+    return opp / 3;
+  }
+
+  /**
+   * Gets the array of the vertex index of each half-edge.
+   *
+   * @return the half-edge vertex array
+   */
+  public int[] getTriangleArray()
+  {
+    return triangles;
+  }
+
+  /**
+   * Gets the array of the opposite half-edge of each half-edge.
+   *
+   * @return the opposite half-edge array
+   */
+  public int[] getHalfEdgeArray()
+  {
+    return halfedges;
+  }
+
+  /**
+   * Gets the array of vertex ordinates.
+   *
+   * @return the vertex ordinate array
+   */
+  public double[] getCoordinateArray()
+  {
+    return coords;
+  }
+
+  /**
+   * Creates a {@link Polygon} for a triangle.
+   *
+   * @param tri the triangle index
+   * @param geomFact the geometry factory to use
+   * @return the triangle polygon
+   */
+  public Polygon toPolygon(int tri, GeometryFactory geomFact)
+  {
+    Coordinate[] pts = new Coordinate[4];
+    for (int i = 0; i < 3; i++) {
+      pts[i] = getCoordinate(triangles[3 * tri + i]);
+    }
+    pts[3] = new Coordinate(pts[0]);
+    return geomFact.createPolygon(pts);
+  }
+
+  /**
+   * Gets the triangles as a {@link GeometryCollection} of {@link Polygon}s.
+   *
+   * @param geomFact the geometry factory to use
+   * @return the triangles
+   */
+  public Geometry getTriangles(GeometryFactory geomFact)
+  {
+    Polygon[] polys = new Polygon[numTriangles];
+    for (int i = 0; i < numTriangles; i++) {
+      polys[i] = toPolygon(i, geomFact);
+    }
+    return geomFact.createGeometryCollection(polys);
+  }
+
+  /**
+   * Gets the edges of the triangulation as a {@link MultiLineString}.
+   * Each edge is output once.
+   *
+   * @param geomFact the geometry factory to use
+   * @return the edges of the triangulation
+   */
+  public Geometry getEdges(GeometryFactory geomFact)
+  {
+    int numHalfEdges = 3 * numTriangles;
+    int numEdges = 0;
+    for (int e = 0; e < numHalfEdges; e++) {
+      if (e > halfedges[e]) numEdges++;
+    }
+    LineString[] lines = new LineString[numEdges];
+    int n = 0;
+    for (int e = 0; e < numHalfEdges; e++) {
+      /**
+       * Output each edge from its half-edge with the larger index
+       * (hull edges have opposite -1)
+       */
+      if (e > halfedges[e]) {
+        Coordinate[] pts = new Coordinate[] {
+          getCoordinate(triangles[e]),
+          getCoordinate(triangles[next(e)])
+        };
+        lines[n++] = geomFact.createLineString(pts);
+      }
+    }
+    return geomFact.createMultiLineString(lines);
+  }
+}
@@ -0,0 +1,623 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.algorithm.CGAlgorithmsDD;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.util.LinearComponentExtracter;
+import org.locationtech.jts.geom.util.PointExtracter;
+import org.locationtech.jts.triangulate.quadedge.TrianglePredicate;
+
+/**
+ * Computes a Constrained Delaunay Triangulation of the vertices
+ * and line segments of a geometry.
+ * The segments of the geometry (polygon rings and lines)
+ * are edges of the triangulation, and
+ * the triangulation is as close to Delaunay as is allowed by them.
+ * Unlike {@link ConformingDelaunayTriangulator},
+ * no additional (Steiner) points are added,
+ * so the only vertices of the triangulation are the input vertices.
+ * <p>
+ * The Delaunay triangulation of the vertices is computed first
+ * (using {@link ArrayDelaunayTriangulator}).
+ * Each constraint segment is then inserted by flipping
+ * the edges which cross it until it is an edge of the triangulation
+ * (Sloan's algorithm), after which the Delaunay condition is
+ * restored for the new edges by further flipping.
+ * If a constraint segment passes through an input vertex it is split there.
+ * <p>
+ * Constraint segments must not cross each other
+ * (e.g. the input may be a valid polygonal geometry, or a noded set of lines).
+ * If crossing constraints are detected
+ * a {@link ConstraintEnforcementException} is thrown.
+ * If the input vertices are all collinear
+ * (e.g. a single line, or a polygon with zero area)
+ * the triangulation is empty.
+ * <p>
+ * For polygonal input, the triangles lying inside the polygons
+ * can be obtained with {@link #getPolygonTriangles(GeometryFactory)}.
+ * These form a triangulation of the polygons.
+ */
+public class ConstrainedDelaunayTriangulator
+{
+  /**
+   * Computes a triangulation of a polygonal geometry
+   * which uses only the polygon vertices
+   * and is constrained Delaunay.
+   *
+   * @param geom a polygonal geometry
+   * @return a GeometryCollection of the triangular polygons
+   */
+  public static Geometry triangulate(Geometry geom)
+  {
+    ConstrainedDelaunayTriangulator cdt = new ConstrainedDelaunayTriangulator(geom);
+    return cdt.getPolygonTriangles(geom.getFactory());
+  }
+
+  private Geometry inputGeom;
+  private double[] coords;
+  private int numConstraints = 0;
+  private int[] constraints;
+
+  private ArrayTriangulation tri = null;
+  private int[] triangles;
+  private int[] halfedges;
+  private boolean[] isConstrained;
+  private int[] vertexEdge;
+  private int[] fan = new int[16];
+
+  /**
+   * Creates a new triangulator for the vertices and segments of a geometry.
+   *
+   * @param geom the geometry providing the vertices and constraint segments
+   */
+  public ConstrainedDelaunayTriangulator(Geometry geom)
+  {
+    this.inputGeom = geom;
+  }
+
+  /**
+   * Gets the computed triangulation.
+   * The triangulation covers the convex hull of the input vertices.
+   * Vertex indices refer to the unique input vertices.
+   *
+   * @return the triangulation
+   */
+  public ArrayTriangulation getTriangulation()
+  {
+    if (tri == null) compute();
+    return tri;
+  }
+
+  /**
+   * Tests whether a half-edge of the triangulation is a constraint segment
+   * (or part of one).
+   *
+   * @param halfEdge the index of a half-edge
+   * @return true if the half-edge is constrained
+   */
+  public boolean isConstrained(int halfEdge)
+  {
+    getTriangulation();
+    return isConstrained[halfEdge];
+  }
+
+  /**
+   * Gets all triangles of the triangulation as a GeometryCollection of Polygons.
+   *
+   * @param geomFact the geometry factory to use
+   * @return the triangles of the triangulation
+   */
+  public Geometry getTriangles(GeometryFactory geomFact)
+  {
+    return getTriangulation().getTriangles(geomFact);
+  }
+
+  /**
+   * Gets the triangles which lie inside the polygonal components of the input
+   * as a GeometryCollection of Polygons.
+   * A triangle is inside if it is separated from the exterior
+   * of the triangulation by an odd number of constraint edges.
+   * This assumes the constraints are formed by the rings
+   * of a valid polygonal geometry.
+   *
+   * @param geomFact the geometry factory to use
+   * @return the triangles inside the polygons
+   */
+  public Geometry getPolygonTriangles(GeometryFactory geomFact)
+  {
+    getTriangulation();
+    int[] parity = computeParity();
+    List polys = new ArrayList();
+    for (int t = 0; t < tri.getNumTriangles(); t++) {
+      if (parity[t] == 1) {
+        polys.add(tri.toPolygon(t, geomFact));
+      }
+    }
+    return geomFact.createGeometryCollection(GeometryFactory.toGeometryArray(polys));
+  }
+
+  /**
+   * Computes the number of constraint edges (mod 2) separating each triangle
+   * from the exterior of the triangulation,
+   * by flooding across the triangle adjacencies.
+   *
+   * @return the parity of each triangle
+   */
+  private int[] computeParity()
+  {
+    int numTri = tri.getNumTriangles();
+    int[] parity = new int[numTri];
+    for (int t = 0; t < numTri; t++) parity[t] = -1;
+    int[] queue = new int[numTri];
+    int head = 0;
+    int tail = 0;
+    for (int e = 0; e < 3 * numTri; e++) {
+      if (halfedges[e] != -1) continue;
+      int t = e / 3;
+      if (parity[t] != -1) continue;
+      parity[t] = isConstrained[e] ? 1 : 0;
+      queue[tail++] = t;
+    }
+    while (head < tail) {
+      int t = queue[head++];
+      for (int e = 3 * t; e < 3 * t + 3; e++) {
+        int opp = halfedges[e];
+        if (opp == -1) continue;
+        int adj = opp / 3;
+        if (parity[adj] != -1) continue;
+        parity[adj] = parity[t] ^ (isConstrained[e] ? 1 : 0);
+        queue[tail++] = adj;
+      }
+    }
+    return parity;
+  }
+
+  private void compute()
+  {
+    extractVertices();
+    tri = ArrayDelaunayTriangulator.triangulate(coords);
+    triangles = tri.getTriangleArray();
+    halfedges = tri.getHalfEdgeArray();
+    isConstrained = new boolean[triangles.length];
+
+    int numPts = coords.length / 2;
+    vertexEdge = new int[numPts];
+    for (int i = 0; i < numPts; i++) vertexEdge[i] = -1;
+    for (int e = 0; e < 3 * tri.getNumTriangles(); e++) {
+      vertexEdge[triangles[e]] = e;
+    }
+    // collinear input has no triangles, so there are no edges to constrain
+    if (tri.getNumTriangles() == 0)
+      return;
+
+    for (int i = 0; i < numConstraints; i++) {
+      // vertices which nearly duplicate others are not in the triangulation
+      int a = tri.getTriangulationVertex(constraints[2 * i]);
+      int b = tri.getTriangulationVertex(constraints[2 * i + 1]);
+      if (a != b) {
+        insertConstraint(a, b);
+      }
+    }
+  }
+
+  /**
+   * Extracts the unique vertices of the input,
+   * and the constraint segments between them.
+   */
+  private void extractVertices()
+  {
+    Map index = new HashMap();
+    List pts = new ArrayList();
+    constraints = new int[16];
+
+    List lines = LinearComponentExtracter.getLines(inputGeom);
+    for (int i = 0; i < lines.size(); i++) {
+      Coordinate[] linePts = ((LineString) lines.get(i)).getCoordinates();
+      int prev = -1;
+      for (int j = 0; j < linePts.length; j++) {
+        int v = vertexIndex(linePts[j], index, pts);
+        if (prev >= 0 && prev != v) {
+          addConstraint(prev, v);
+        }
+        prev = v;
+      }
+    }
+    List points = PointExtracter.getPoints(inputGeom);
+    for (int i = 0; i < points.size(); i++) {
+      Point pt = (Point) points.get(i);
+      if (! pt.isEmpty()) {
+        vertexIndex(pt.getCoordinate(), index, pts);
+      }
+    }
+
+    coords = new double[2 * pts.size()];
+    for (int i = 0; i < pts.size(); i++) {
+      Coordinate p = (Coordinate) pts.get(i);
+      coords[2 * i] = p.x;
+      coords[2 * i + 1] = p.y;
+    }
+  }
+
+  private static int vertexIndex(Coordinate p, Map index, List pts)
+  {
+    Integer v = (Integer) index.get(p);
+    if (v != null) return v.intValue();
+    int i = pts.size();
+    pts.add(p);
+    index.put(p, Integer.valueOf(i));
+    return i;
+  }
+
+  private void addConstraint(int v0, int v1)
+  {
+    if (2 * numConstraints + 2 > constraints.length) {
+      int[] newConstraints = new int[2 * constraints.length];
+      System.arraycopy(constraints, 0, newConstraints, 0, constraints.length);
+      constraints = newConstraints;
+    }
+    constraints[2 * numConstraints] = v0;
+    constraints[2 * numConstraints + 1] = v1;
+    numConstraints++;
+  }
+
+  /**
+   * Inserts a constraint segment into the triangulation.
+   * The segment is split at any vertices lying on it,
+   * and each section is inserted by removing the edges crossing it.
+   *
+   * @param a the start vertex
+   * @param b the end vertex
+   */
+  private void insertConstraint(int a, int b)
+  {
+    if (vertexEdge[a] == -1 || vertexEdge[b] == -1) {
+      throw new ConstraintEnforcementException("Constraint vertex is not in triangulation",
+          tri.getCoordinate(vertexEdge[a] == -1 ? a : b));
+    }
+    IntList crossings = new IntList();
+    while (a != b) {
+      crossings.clear();
+      int end = findCrossings(a, b, crossings);
+      if (crossings.size() > 0) {
+        removeCrossings(a, end, crossings);
+      }
+      setConstrained(findEdge(a, end));
+      a = end;
+    }
+  }
+
+  /**
+   * Finds the edges crossed by the segment from a towards b,
+   * as far as b or the first vertex lying on the segment.
+   *
+   * @param a the start vertex
+   * @param b the end vertex
+   * @param crossings the list to add the crossed edges to (as vertex pairs)
+   * @return the vertex at which the crossed section ends
+   */
+  private int findCrossings(int a, int b, IntList crossings)
+  {
+    int c = -1;
+    int n = collectFan(a);
+    for (int i = 0; i < n; i++) {
+      int e = fan[i];
+      int v1 = triangles[ArrayTriangulation.next(e)];
+      int v2 = triangles[ArrayTriangulation.prev(e)];
+      if (v1 == b || v2 == b) return b;
+      int o1 = orientation(a, b, v1);
+      int o2 = orientation(a, b, v2);
+      if (o1 == 0 && isAhead(a, b, v1)) return v1;
+      if (o2 == 0 && isAhead(a, b, v2)) return v2;
+      if (o1 < 0 && o2 > 0) {
+        c = ArrayTriangulation.next(e);
+        break;
+      }
+    }
+    if (c == -1) {
+      throw new ConstraintEnforcementException("Unable to find constraint start",
+          tri.getCoordinate(a));
+    }
+
+    /**
+     * Walk across the triangles crossed by the segment.
+     * Each crossed edge runs from the right of the segment to the left.
+     */
+    while (true) {
+      if (isConstrained[c]) {
+        throw new ConstraintEnforcementException("Constraints intersect",
+            tri.getCoordinate(triangles[c]));
+      }
+      crossings.add(triangles[c], triangles[ArrayTriangulation.next(c)]);
+      int opp = halfedges[c];
+      int w = triangles[ArrayTriangulation.prev(opp)];
+      if (w == b) return b;
+      int ow = orientation(a, b, w);
+      if (ow == 0) return w;
+      if (ow < 0) {
+        c = ArrayTriangulation.prev(opp);
+      }
+      else {
+        c = ArrayTriangulation.next(opp);
+      }
+    }
+  }
+
+  /**
+   * Removes the edges crossing the segment a-b by flipping them,
+   * and then restores the Delaunay condition for the new edges.
+   */
+  private void removeCrossings(int a, int b, IntList crossings)
+  {
+    IntList newEdges = new IntList();
+    int maxIter = 10 * crossings.size() * crossings.size() + 100;
+    int iter = 0;
+    int head = 0;
+    while (head < crossings.size()) {
+      if (iter++ > maxIter) {
+        throw new ConstraintEnforcementException("Unable to insert constraint",
+            tri.getCoordinate(a));
+      }
+      int u = crossings.get(2 * head);
+      int v = crossings.get(2 * head + 1);
+      head++;
+      int e = findEdge(u, v);
+      int x = triangles[ArrayTriangulation.prev(e)];
+      int y = triangles[ArrayTriangulation.prev(halfedges[e])];
+      if (! isConvex(u, v, x, y)) {
+        // try again after other edges have been flipped
+        crossings.add(u, v);
+        continue;
+      }
+      flip(e);
+      if (isCrossing(a, b, x, y)) {
+        crossings.add(x, y);
+      }
+      else {
+        newEdges.add(x, y);
+      }
+    }
+
+    // restore the Delaunay condition for the new edges
+    boolean isSwapped = true;
+    while (isSwapped) {
+      isSwapped = false;
+      for (int i = 0; i < newEdges.size(); i++) {
+        int u = newEdges.get(2 * i);
+        int v = newEdges.get(2 * i + 1);
+        if ((u == a && v == b) || (u == b && v == a)) continue;
+        int e = findEdge(u, v);
+        if (isConstrained[e] || halfedges[e] == -1) continue;
+        int x = triangles[ArrayTriangulation.prev(e)];
+        int y = triangles[ArrayTriangulation.prev(halfedges[e])];
+        if (isInCircle(triangles[e], triangles[ArrayTriangulation.next(e)], x, y)) {
+          flip(e);
+          newEdges.set(i, x, y);
+          isSwapped = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * Flips the diagonal of the quadrilateral formed by
+   * the two triangles adjacent to a half-edge.
+   * Constraint flags and vertex edge references are updated.
+   * See {@link ArrayDelaunayTriangulator} for the half-edge labelling.
+   */
+  private void flip(int a)
+  {
+    int b = halfedges[a];
+    int a0 = a - a % 3;
+    int b0 = b - b % 3;
+    int al = a0 + (a + 1) % 3;
+    int ar = a0 + (a + 2) % 3;
+    int bl = b0 + (b + 2) % 3;
+    int br = b0 + (b + 1) % 3;
+
+    int p0 = triangles[ar];
+    int pr = triangles[a];
+    int pl = triangles[al];
+    int p1 = triangles[bl];
+
+    triangles[a] = p1;
+    triangles[b] = p0;
+
+    int hbl = halfedges[bl];
+    int har = halfedges[ar];
+    link(a, hbl);
+    link(b, har);
+    link(ar, bl);
+
+    isConstrained[a] = isConstrained[bl];
+    isConstrained[b] = isConstrained[ar];
+    isConstrained[ar] = false;
+    isConstrained[bl] = false;
+
+    vertexEdge[p0] = ar;
+    vertexEdge[p1] = bl;
+    vertexEdge[pr] = br;
+    vertexEdge[pl] = al;
+  }
+
+  private void link(int a, int b)
+  {
+    halfedges[a] = b;
+    if (b != -1) halfedges[b] = a;
+  }
+
+  private void setConstrained(int e)
+  {
+    isConstrained[e] = true;
+    if (halfedges[e] != -1) isConstrained[halfedges[e]] = true;
+  }
+
+  /**
+   * Finds a half-edge joining two vertices, in either direction.
+   */
+  private int findEdge(int u, int v)
+  {
+    int n = collectFan(u);
+    for (int i = 0; i < n; i++) {
+      int e = fan[i];
+      if (triangles[ArrayTriangulation.next(e)] == v) return e;
+      int prev = ArrayTriangulation.prev(e);
+      if (triangles[prev] == v) return prev;
+    }
+    throw new ConstraintEnforcementException("Edge not found in triangulation",
+        tri.getCoordinate(u));
+  }
+
+  /**
+   * Collects the half-edges leaving a vertex (one per incident triangle)
+   * into the fan buffer.
+   *
+   * @return the number of half-edges found
+   */
+  private int collectFan(int u)
+  {
+    int start = vertexEdge[u];
+    int n = 0;
+    int e = start;
+    boolean isClosed = true;
+    do {
+      n = addFan(e, n);
+      int opp = halfedges[ArrayTriangulation.prev(e)];
+      if (opp == -1) {
+        isClosed = false;
+        break;
+      }
+      e = opp;
+    } while (e != start);
+
+    if (! isClosed) {
+      // the vertex is on the hull, so rotate in the other direction from the start
+      e = start;
+      while (true) {
+        int opp = halfedges[e];
+        if (opp == -1) break;
+        e = ArrayTriangulation.next(opp);
+        n = addFan(e, n);
+      }
+    }
+    return n;
+  }
+
+  private int addFan(int e, int n)
+  {
+    if (n >= fan.length) {
+      int[] newFan = new int[2 * fan.length];
+      System.arraycopy(fan, 0, newFan, 0, fan.length);
+      fan = newFan;
+    }
+    fan[n] = e;
+    return n + 1;
+  }
+
+  /**
+   * Tests whether the quadrilateral formed by the triangles on edge u-v,
+   * with opposite vertices x and y, is strictly convex.
+   */
+  private boolean isConvex(int u, int v, int x, int y)
+  {
+    int ou = orientation(x, y, u);
+    int ov = orientation(x, y, v);
+    return ou * ov < 0;
+  }
+
+  /**
+   * Tests whether segment x-y crosses the interior of segment a-b.
+   */
+  private boolean isCrossing(int a, int b, int x, int y)
+  {
+    if (x == a || x == b || y == a || y == b) return false;
+    return orientation(a, b, x) * orientation(a, b, y) < 0
+        && orientation(x, y, a) * orientation(x, y, b) < 0;
+  }
+
+  /**
+   * Tests whether a vertex collinear with segment a-b lies
+   * in the direction of b from a.
+   */
+  private boolean isAhead(int a, int b, int v)
+  {
+    double dx = coords[2 * b] - coords[2 * a];
+    double dy = coords[2 * b + 1] - coords[2 * a + 1];
+    double vx = coords[2 * v] - coords[2 * a];
+    double vy = coords[2 * v + 1] - coords[2 * a + 1];
+    return dx * vx + dy * vy > 0;
+  }
+
+  private int orientation(int a, int b, int c)
+  {
+    return CGAlgorithmsDD.orientationIndex(coords[2 * a], coords[2 * a + 1],
+        coords[2 * b], coords[2 * b + 1], coords[2 * c], coords[2 * c + 1]);
+  }
+
+  private boolean isInCircle(int a, int b, int c, int p)
+  {
+    return TrianglePredicate.isInCircleFiltered(
+        coords[2 * a], coords[2 * a + 1], coords[2 * b], coords[2 * b + 1],
+        coords[2 * c], coords[2 * c + 1], coords[2 * p], coords[2 * p + 1]);
+  }
+
+  /**
+   * A growable list of vertex index pairs.
+   */
+  private static class IntList
+  {
+    private int[] data = new int[16];
+    private int size = 0;
+
+    void add(int v0, int v1)
+    {
+      if (2 * size + 2 > data.length) {
+        int[] newData = new int[2 * data.length];
+        System.arraycopy(data, 0, newData, 0, data.length);
+        data = newData;
+      }
+      data[2 * size] = v0;
+      data[2 * size + 1] = v1;
+      size++;
+    }
+
+    void set(int i, int v0, int v1)
+    {
+      data[2 * i] = v0;
+      data[2 * i + 1] = v1;
+    }
+
+    int get(int i)
+    {
+      return data[i];
+    }
+
+    int size()
+    {
+      return size;
+    }
+
+    void clear()
+    {
+      size = 0;
+    }
+  }
+}
@@ -26,6 +26,7 @@ import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.MultiLineString;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.triangulate.quadedge.JumpWalkQuadEdgeLocator;
 import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
 import org.locationtech.jts.triangulate.quadedge.Vertex;
 
@@ -95,7 +96,10 @@ public class DelaunayTriangulationBuilder
 	
 	private Collection siteCoords;
 	private double tolerance = 0.0;
+	private boolean isSpatialOrder = false;
+	private boolean isJumpWalkLocate = false;
 	private QuadEdgeSubdivision subdiv = null;
+	private ArrayTriangulation arrayTri = null;
 	
 	/**
 	 * Creates a new triangulation builder.
@@ -141,13 +145,50 @@ public class DelaunayTriangulationBuilder
 		this.tolerance = tolerance;
 	}
 	
+	/**
+	 * Sets whether the sites are inserted in a spatially coherent order
+	 * (a Biased Randomized Insertion Order with rounds sorted along a Hilbert curve).
+	 * This greatly reduces the time taken to triangulate large numbers of sites.
+	 * The triangulation computed is the same, 
+	 * except for the choice of diagonals between sites which are cocircular
+	 * (for instance, regular grids).
+	 * The default is to insert the sites in sorted coordinate order.
+	 * 
+	 * @param isSpatialOrder true if sites are inserted in spatial order
+	 * 
+	 * @see HilbertVertexSorter
+	 */
+	public void setSpatialOrder(boolean isSpatialOrder)
+	{
+		this.isSpatialOrder = isSpatialOrder;
+	}
+	
+	/**
+	 * Sets whether the subdivision uses a {@link JumpWalkQuadEdgeLocator}
+	 * to locate points.
+	 * This is faster than the default locator when the sites are not
+	 * inserted in a spatially coherent order,
+	 * and for locating arbitrary points in the computed subdivision.
+	 * The default is to use the default locator of the subdivision.
+	 * 
+	 * @param isJumpWalkLocate true if a jump-and-walk locator is used
+	 */
+	public void setJumpWalkLocate(boolean isJumpWalkLocate)
+	{
+		this.isJumpWalkLocate = isJumpWalkLocate;
+	}
+	
 	private void create()
 	{
 		if (subdiv != null) return;
 		
 		Envelope siteEnv = envelope(siteCoords);
 		List vertices = toVertices(siteCoords);
+		if (isSpatialOrder)
+			vertices = HilbertVertexSorter.brio(vertices, siteEnv);
 		subdiv = new QuadEdgeSubdivision(siteEnv, tolerance);
+		if (isJumpWalkLocate)
+			subdiv.setLocator(new JumpWalkQuadEdgeLocator(subdiv));
 		IncrementalDelaunayTriangulator triangulator = new IncrementalDelaunayTriangulator(subdiv);
 		triangulator.insertSites(vertices);
 	}
@@ -163,6 +204,26 @@ public class DelaunayTriangulationBuilder
 		return subdiv;
 	}
 	
+	/**
+	 * Gets the triangulation of the sites as an {@link ArrayTriangulation},
+	 * which is stored in primitive arrays.
+	 * This uses much less memory than a {@link QuadEdgeSubdivision},
+	 * and is faster to compute.
+	 * The snapping tolerance is not used.
+	 * 
+	 * @return the triangulation of the sites
+	 * 
+	 * @see ArrayDelaunayTriangulator
+	 */
+	public ArrayTriangulation getArrayTriangulation()
+	{
+		if (arrayTri == null) {
+			arrayTri = ArrayDelaunayTriangulator.triangulate(
+					CoordinateArrays.toCoordinateArray(siteCoords));
+		}
+		return arrayTri;
+	}
+	
 	/**
 	 * Gets the edges of the computed triangulation as a {@link MultiLineString}.
 	 * 
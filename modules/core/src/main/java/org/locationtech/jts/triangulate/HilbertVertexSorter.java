@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.shape.fractal.HilbertCode;
+import org.locationtech.jts.triangulate.quadedge.Vertex;
+
+/**
+ * Orders {@link Vertex}es to provide a fast insertion sequence
+ * for incremental Delaunay triangulation.
+ * <p>
+ * Incremental insertion locates each new vertex by walking 
+ * through the triangulation from the last vertex located.
+ * If consecutive vertices are close together the walks are short.
+ * Sorting the vertices along a Hilbert curve achieves this.
+ * However, a fully sorted sequence tends to create many long thin triangles
+ * which are later replaced, so the vertices are instead 
+ * ordered using a Biased Randomized Insertion Order (BRIO).
+ * The vertices are shuffled and divided into rounds of increasing size,
+ * each round being (roughly) twice the size of the previous one.
+ * The vertices in each round are sorted in Hilbert order.
+ * This preserves most of the benefit of random insertion order
+ * while keeping the locate walks short.
+ * <p>
+ * The shuffle uses a fixed seed, so the order is deterministic.
+ * 
+ * @see HilbertCode
+ */
+public class HilbertVertexSorter 
+{
+  /**
+   * The size below which a round is not split further.
+   */
+  private static final int MIN_ROUND_SIZE = 64;
+  
+  private static final long SEED = 13;
+  
+  /**
+   * Sorts a collection of vertices in Hilbert order.
+   * 
+   * @param vertices a collection of Vertex
+   * @param env the envelope of the vertices
+   * @return a list of the vertices in Hilbert order
+   */
+  public static List sort(Collection vertices, Envelope env)
+  {
+    Vertex[] verts = (Vertex[]) vertices.toArray(new Vertex[0]);
+    sort(verts, 0, verts.length, env);
+    return new ArrayList(Arrays.asList(verts));
+  }
+  
+  /**
+   * Orders a collection of vertices in a Biased Randomized Insertion Order,
+   * with each round sorted in Hilbert order.
+   * 
+   * @param vertices a collection of Vertex
+   * @param env the envelope of the vertices
+   * @return a list of the vertices in insertion order
+   */
+  public static List brio(Collection vertices, Envelope env)
+  {
+    Vertex[] verts = (Vertex[]) vertices.toArray(new Vertex[0]);
+    shuffle(verts);
+    /**
+     * Rounds are formed from the end of the shuffled array backwards,
+     * with the last round containing half of the vertices,
+     * the previous one a quarter, and so on.
+     */
+    int end = verts.length;
+    while (end > 0) {
+      int start = end > MIN_ROUND_SIZE ? end / 2 : 0;
+      sort(verts, start, end, env);
+      end = start;
+    }
+    return new ArrayList(Arrays.asList(verts));
+  }
+  
+  private static void shuffle(Vertex[] verts)
+  {
+    Random rnd = new Random(SEED);
+    for (int i = verts.length - 1; i > 0; i--) {
+      int j = rnd.nextInt(i + 1);
+      Vertex tmp = verts[i];
+      verts[i] = verts[j];
+      verts[j] = tmp;
+    }
+  }
+  
+  /**
+   * Sorts a range of an array of vertices in Hilbert order,
+   * using the Hilbert curve of maximum level over the envelope.
+   * 
+   * @param verts the vertices to sort
+   * @param start the start index of the range
+   * @param end the end index of the range (exclusive)
+   * @param env the envelope of the vertices
+   */
+  private static void sort(Vertex[] verts, int start, int end, Envelope env)
+  {
+    int n = end - start;
+    if (n < 2) return;
+    
+    int maxOrd = HilbertCode.maxOrdinate(HilbertCode.MAX_LEVEL);
+    double scaleX = env.getWidth() > 0 ? maxOrd / env.getWidth() : 0;
+    double scaleY = env.getHeight() > 0 ? maxOrd / env.getHeight() : 0;
+    
+    /**
+     * Sort keys hold the Hilbert code in the high word 
+     * and the vertex index in the low word,
+     * so that a primitive sort can be used.
+     * The code is unsigned, so the sign bit of the key is flipped 
+     * to make the signed order of the keys the same as the order of the codes.
+     */
+    long[] keys = new long[n];
+    for (int i = 0; i < n; i++) {
+      Coordinate p = verts[start + i].getCoordinate();
+      int x = ordinate(p.x, env.getMinX(), scaleX, maxOrd);
+      int y = ordinate(p.y, env.getMinY(), scaleY, maxOrd);
+      long code = HilbertCode.encode(HilbertCode.MAX_LEVEL, x, y) & 0xFFFFFFFFL;
+      keys[i] = ((code << 32) | i) ^ Long.MIN_VALUE;
+    }
+    Arrays.sort(keys);
+    
+    Vertex[] sorted = new Vertex[n];
+    for (int i = 0; i < n; i++) {
+      sorted[i] = verts[start + (int) keys[i]];
+    }
+    System.arraycopy(sorted, 0, verts, start, n);
+  }
+  
+  private static int ordinate(double val, double min, double scale, int maxOrd)
+  {
+    int ord = (int) ((val - min) * scale);
+    if (ord < 0) return 0;
+    if (ord > maxOrd) return maxOrd;
+    return ord;
+  }
+}
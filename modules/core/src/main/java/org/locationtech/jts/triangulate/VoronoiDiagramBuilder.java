@@ -13,16 +13,21 @@ package org.locationtech.jts.triangulate;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.CoordinateList;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.triangulate.quadedge.JumpWalkQuadEdgeLocator;
 import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+import org.locationtech.jts.triangulate.quadedge.Vertex;
+import org.locationtech.jts.triangulate.quadedge.VoronoiCellVisitor;
 
 
 /**
@@ -38,17 +43,29 @@ import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
  * The <tt>userData</tt> attribute of each face <tt>Polygon</tt> is set to 
  * the <tt>Coordinate</tt>  of the corresponding input site.
  * This allows using a <tt>Map</tt> to link faces to data associated with sites.
+ * <p>
+ * For large numbers of sites the faces can be processed one at a time 
+ * using {@link #visitCells(VoronoiCellVisitor, GeometryFactory)},
+ * which avoids creating the entire diagram in memory.
+ * Sites can be added to an existing diagram
+ * using {@link #addSites(Collection)}.
  * 
  * @author Martin Davis
  *
  */
 public class VoronoiDiagramBuilder 
 {
-	private Collection siteCoords;
+	private CoordinateList siteCoords = new CoordinateList();
+	private boolean isUnique = true;
 	private double tolerance = 0.0;
+	private boolean isSpatialOrder = false;
+	private boolean isJumpWalkLocate = false;
 	private QuadEdgeSubdivision subdiv = null;
 	private Envelope clipEnv = null;
 	private Envelope diagramEnv = null; 
+	private Envelope siteEnv = null;
+	private Envelope insertEnv = null;
+	private IncrementalDelaunayTriangulator triangulator = null;
 	
 	/**
 	 * Creates a new Voronoi diagram builder.
@@ -82,6 +99,38 @@ public class VoronoiDiagramBuilder
 		siteCoords = DelaunayTriangulationBuilder.unique(CoordinateArrays.toCoordinateArray(coords));
 	}
 	
+	/**
+	 * Adds sites to the diagram
+	 * from a collection of {@link Coordinate}s.
+	 * If the diagram has already been computed,
+	 * the sites are inserted into the existing triangulation
+	 * (unless they lie far outside the current sites,
+	 * in which case the triangulation is recomputed).
+	 * Sites which duplicate existing ones are ignored.
+	 * 
+	 * @param coords a collection of Coordinates.
+	 */
+	public void addSites(Collection coords)
+	{
+		siteCoords.addAll(coords, false);
+		isUnique = false;
+		if (subdiv == null) return;
+		
+		for (Iterator i = coords.iterator(); i.hasNext(); ) {
+			Coordinate p = (Coordinate) i.next();
+			if (! insertEnv.contains(p)) {
+				// the frame may not enclose the site, so recompute from scratch
+				subdiv = null;
+				return;
+			}
+		}
+		for (Iterator i = coords.iterator(); i.hasNext(); ) {
+			Coordinate p = (Coordinate) i.next();
+			siteEnv.expandToInclude(p);
+			triangulator.insertSite(new Vertex(p));
+		}
+	}
+	
 	/**
 	 * Sets the envelope to clip the diagram to.
 	 * The diagram will be clipped to the larger
@@ -105,22 +154,73 @@ public class VoronoiDiagramBuilder
 		this.tolerance = tolerance;
 	}
 	
+	/**
+	 * Sets whether the sites are inserted in a spatially coherent order
+	 * (a Biased Randomized Insertion Order with rounds sorted along a Hilbert curve).
+	 * This greatly reduces the time taken to triangulate large numbers of sites.
+	 * The default is to insert the sites in sorted coordinate order.
+	 * 
+	 * @param isSpatialOrder true if sites are inserted in spatial order
+	 * 
+	 * @see DelaunayTriangulationBuilder#setSpatialOrder(boolean)
+	 */
+	public void setSpatialOrder(boolean isSpatialOrder)
+	{
+		this.isSpatialOrder = isSpatialOrder;
+	}
+	
+	/**
+	 * Sets whether the subdivision uses a {@link JumpWalkQuadEdgeLocator}
+	 * to locate points.
+	 * This is faster than the default locator when the sites are not
+	 * inserted in a spatially coherent order,
+	 * including sites added by {@link #addSites(Collection)}.
+	 * The default is to use the default locator of the subdivision.
+	 * 
+	 * @param isJumpWalkLocate true if a jump-and-walk locator is used
+	 * 
+	 * @see DelaunayTriangulationBuilder#setJumpWalkLocate(boolean)
+	 */
+	public void setJumpWalkLocate(boolean isJumpWalkLocate)
+	{
+		this.isJumpWalkLocate = isJumpWalkLocate;
+	}
+	
 	private void create()
 	{
 		if (subdiv != null) return;
 		
-		Envelope siteEnv = DelaunayTriangulationBuilder.envelope(siteCoords);
-		diagramEnv = siteEnv;
+		if (! isUnique) {
+			// remove any duplicate points in added sites
+			siteCoords = DelaunayTriangulationBuilder.unique(siteCoords.toCoordinateArray());
+			isUnique = true;
+		}
+		siteEnv = DelaunayTriangulationBuilder.envelope(siteCoords);
+		/**
+		 * Sites added later are inserted into the subdivision
+		 * only if they lie well inside its frame.
+		 */
+		insertEnv = new Envelope(siteEnv);
+		insertEnv.expandBy(Math.max(siteEnv.getWidth(), siteEnv.getHeight()));
+		
+		List vertices = DelaunayTriangulationBuilder.toVertices(siteCoords);
+		if (isSpatialOrder)
+			vertices = HilbertVertexSorter.brio(vertices, siteEnv);
+		subdiv = new QuadEdgeSubdivision(siteEnv, tolerance);
+		if (isJumpWalkLocate)
+			subdiv.setLocator(new JumpWalkQuadEdgeLocator(subdiv));
+		triangulator = new IncrementalDelaunayTriangulator(subdiv);
+		triangulator.insertSites(vertices);
+	}
+	
+	private void computeDiagramEnvelope()
+	{
+		diagramEnv = new Envelope(siteEnv);
 		// add a buffer around the final envelope
 		double expandBy = Math.max(diagramEnv.getWidth(), diagramEnv.getHeight());
 		diagramEnv.expandBy(expandBy);
 		if (clipEnv != null)
 			diagramEnv.expandToInclude(clipEnv);
-		
-		List vertices = DelaunayTriangulationBuilder.toVertices(siteCoords);
-		subdiv = new QuadEdgeSubdivision(siteEnv, tolerance);
-		IncrementalDelaunayTriangulator triangulator = new IncrementalDelaunayTriangulator(subdiv);
-		triangulator.insertSites(vertices);
 	}
 	
 	/**
@@ -148,32 +248,85 @@ public class VoronoiDiagramBuilder
 	public Geometry getDiagram(GeometryFactory geomFact)
 	{
 		create();
+		computeDiagramEnvelope();
 		Geometry polys = subdiv.getVoronoiDiagram(geomFact);
 		
 		// clip polys to diagramEnv
 		return clipGeometryCollection(polys, diagramEnv);
 	}
 	
+	/**
+	 * Visits the faces of the computed diagram one at a time,
+	 * clipped as specified.
+	 * Faces which are clipped away entirely are not visited.
+	 * The faces are not retained, 
+	 * so this allows processing the diagrams of very large numbers of sites.
+	 * <p>
+	 * The <tt>userData</tt> attribute of each face <tt>Polygon</tt> is set to 
+	 * the <tt>Coordinate</tt>  of the corresponding input site.
+	 * 
+	 * @param visitor the visitor to pass the faces to
+	 * @param geomFact the geometry factory to use to create the faces
+	 */
+	public void visitCells(VoronoiCellVisitor visitor, GeometryFactory geomFact)
+	{
+		create();
+		computeDiagramEnvelope();
+		subdiv.visitVoronoiCellPolygons(
+				new ClippingCellVisitor(visitor, diagramEnv, geomFact), geomFact);
+	}
+	
 	private static Geometry clipGeometryCollection(Geometry geom, Envelope clipEnv)
 	{
 		Geometry clipPoly = geom.getFactory().toGeometry(clipEnv);
 		List clipped = new ArrayList();
 		for (int i = 0; i < geom.getNumGeometries(); i++) {
 			Geometry g = geom.getGeometryN(i);
-			Geometry result = null;
-			// don't clip unless necessary
-			if (clipEnv.contains(g.getEnvelopeInternal()))
-					result = g;
-			else if (clipEnv.intersects(g.getEnvelopeInternal())) {
-				result = clipPoly.intersection(g);
-				// keep vertex key info
-				result.setUserData(g.getUserData());
-			}
-
+			Geometry result = clip(g, clipEnv, clipPoly);
 			if (result != null && ! result.isEmpty()) {
 				clipped.add(result);
 			}
 		}
 		return geom.getFactory().createGeometryCollection(GeometryFactory.toGeometryArray(clipped));
 	}
+	
+	private static Geometry clip(Geometry g, Envelope clipEnv, Geometry clipPoly)
+	{
+		Geometry result = null;
+		// don't clip unless necessary
+		if (clipEnv.contains(g.getEnvelopeInternal()))
+				result = g;
+		else if (clipEnv.intersects(g.getEnvelopeInternal())) {
+			result = clipPoly.intersection(g);
+			// keep vertex key info
+			result.setUserData(g.getUserData());
+		}
+		return result;
+	}
+	
+	/**
+	 * Clips cells before passing them to another visitor.
+	 */
+	private static class ClippingCellVisitor implements VoronoiCellVisitor
+	{
+		private VoronoiCellVisitor visitor;
+		private Envelope clipEnv;
+		private Geometry clipPoly;
+		
+		public ClippingCellVisitor(VoronoiCellVisitor visitor, Envelope clipEnv, GeometryFactory geomFact)
+		{
+			this.visitor = visitor;
+			this.clipEnv = clipEnv;
+			clipPoly = geomFact.toGeometry(clipEnv);
+		}
+		
+		public void visit(Polygon cell)
+		{
+			Geometry result = clip(cell, clipEnv, clipPoly);
+			// a convex cell clipped to a rectangle is a polygon, if not empty
+			if (result instanceof Polygon && ! result.isEmpty()) {
+				visitor.visit((Polygon) result);
+			}
+		}
+	}
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.triangulate.quadedge;
+
+import java.util.Iterator;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.index.kdtree.KdNode;
+import org.locationtech.jts.index.kdtree.KdTree;
+
+/**
+ * Locates {@link QuadEdge}s in a {@link QuadEdgeSubdivision}
+ * using a jump-and-walk strategy.
+ * A sample of the edges of the subdivision is indexed in a {@link KdTree}
+ * by the location of their origin vertex.
+ * To locate a point the search "jumps" to the nearest sampled edge
+ * (or the last edge found, if that is closer)
+ * and then walks through the subdivision towards the point.
+ * <p>
+ * The sample is formed initially from the edges of the subdivision,
+ * and is extended with the edges found by subsequent locate operations.
+ * This keeps the sample current while the subdivision is being built,
+ * so that the walks remain short even if sites are inserted in random order.
+ * A sampled edge becomes stale if it is deleted from the subdivision,
+ * or if it is swapped so that it no longer originates at its indexed location.
+ * Deleted edges are skipped.
+ * Swapped edges are still valid starting points, 
+ * and are compared using their current origin.
+ * A sample added at an already indexed location is merged by the {@link KdTree},
+ * so the location keeps its original edge even if that is stale.
+ * When stale samples become common
+ * the sample is rebuilt from the current edges of the subdivision.
+ * <p>
+ * The sample is built lazily, on the first locate operation.
+ */
+public class JumpWalkQuadEdgeLocator implements QuadEdgeLocator {
+    /**
+     * The default number of edges per sampled edge
+     */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+    private QuadEdgeSubdivision subdiv;
+    private int sampleInterval;
+    private KdTree sample = null;
+    private int sampleSize = 0;
+    private int staleCount = 0;
+    private QuadEdge lastEdge = null;
+    private long locateCount = 0;
+
+    /**
+     * Creates a new locator for a subdivision,
+     * using the default sample interval.
+     *
+     * @param subdiv the subdivision to locate in
+     */
+    public JumpWalkQuadEdgeLocator(QuadEdgeSubdivision subdiv) {
+        this(subdiv, DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Creates a new locator for a subdivision,
+     * sampling one in every <tt>sampleInterval</tt> edges.
+     * Smaller intervals give shorter walks,
+     * at the cost of a larger index.
+     *
+     * @param subdiv the subdivision to locate in
+     * @param sampleInterval the number of edges per sampled edge
+     */
+    public JumpWalkQuadEdgeLocator(QuadEdgeSubdivision subdiv, int sampleInterval) {
+        if (sampleInterval < 1)
+            throw new IllegalArgumentException("Sample interval must be at least 1");
+        this.subdiv = subdiv;
+        this.sampleInterval = sampleInterval;
+    }
+
+    private void init() {
+        sample = new KdTree();
+        sampleSize = 0;
+        staleCount = 0;
+        int i = 0;
+        for (Iterator it = subdiv.getEdges().iterator(); it.hasNext(); i++) {
+            QuadEdge e = (QuadEdge) it.next();
+            if (lastEdge == null) lastEdge = e;
+            if (i % sampleInterval == 0) {
+                addSample(e);
+            }
+        }
+    }
+
+    private void addSample(QuadEdge e) {
+        KdNode node = sample.insert(e.orig().getCoordinate(), e);
+        if (! node.isRepeated()) {
+            sampleSize++;
+        }
+        else if (isStale((QuadEdge) node.getData(), node.getCoordinate())) {
+            // the new edge was merged into a node holding a stale edge
+            addStale();
+        }
+    }
+
+    private void addStale() {
+        staleCount++;
+        // rebuild once a large fraction of the sample is known to be stale
+        if (staleCount > sampleSize / 4) {
+            init();
+        }
+    }
+
+    /**
+     * Locates an edge e, such that either v is on e, or e is an edge of a triangle containing v.
+     * The search starts from the sampled edge nearest to v
+     * (or the last located edge, if that is nearer)
+     * and proceeds in the general direction of v.
+     */
+    public QuadEdge locate(Vertex v) {
+        if (sample == null) {
+            init();
+        }
+        if (! lastEdge.isLive()) {
+            lastEdge = (QuadEdge) subdiv.getEdges().iterator().next();
+        }
+
+        QuadEdge startEdge = findStartEdge(v.getCoordinate());
+        QuadEdge e = subdiv.locateFromEdge(v, startEdge);
+        lastEdge = e;
+
+        locateCount++;
+        if (locateCount % sampleInterval == 0) {
+            addSample(e);
+        }
+        return e;
+    }
+
+    private QuadEdge findStartEdge(Coordinate p) {
+        KdNode node = sample.nearestNeighbor(p);
+        if (node == null) return lastEdge;
+        QuadEdge sampleEdge = (QuadEdge) node.getData();
+        if (! sampleEdge.isLive()) {
+            addStale();
+            return lastEdge;
+        }
+
+        double sampleDist = p.distance(sampleEdge.orig().getCoordinate());
+        double lastDist = p.distance(lastEdge.orig().getCoordinate());
+        if (sampleDist < lastDist) return sampleEdge;
+        return lastEdge;
+    }
+
+    private static boolean isStale(QuadEdge e, Coordinate sampleLoc) {
+        return ! e.isLive() || ! e.orig().getCoordinate().equals2D(sampleLoc);
+    }
+}
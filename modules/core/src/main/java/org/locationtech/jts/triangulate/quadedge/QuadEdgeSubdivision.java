@@ -482,6 +482,10 @@ public class QuadEdgeSubdivision {
 	 * @return true if the vertex is a endpoint of the edge
 	 */
 	public boolean isVertexOfEdge(QuadEdge e, Vertex v) {
+		// test exact equality as well, since the tolerance may be zero
+		if (v.equals(e.orig()) || v.equals(e.dest())) {
+			return true;
+		}
 		if ((v.equals(e.orig(), tolerance)) || (v.equals(e.dest(), tolerance))) {
 			return true;
 		}
@@ -903,7 +907,43 @@ public class QuadEdgeSubdivision {
     }
     return cells;
   }
-  
+
+  /**
+   * Visits the {@link Polygon}s for the Voronoi cells
+   * of this triangulation one at a time.
+   * The cells are not retained, so this uses much less memory than
+   * {@link #getVoronoiCellPolygons(GeometryFactory)}
+   * for large triangulations.
+   * <p>
+   * The userData of each polygon is set to be the {@link Coordinate}
+   * of the cell site.
+   *
+   * @param visitor the visitor to pass the cells to
+   * @param geomFact a geometry factory
+   */
+  public void visitVoronoiCellPolygons(VoronoiCellVisitor visitor, GeometryFactory geomFact)
+  {
+  	visitTriangles(new TriangleCircumcentreVisitor(), true);
+
+    Set visitedVertices = new HashSet();
+    for (Iterator i = quadEdges.iterator(); i.hasNext();) {
+      QuadEdge qe = (QuadEdge) i.next();
+      visitVoronoiCell(qe, visitor, visitedVertices, geomFact);
+      // the site may only be at the dest of all tracked quadedges
+      visitVoronoiCell(qe.sym(), visitor, visitedVertices, geomFact);
+    }
+  }
+
+  private void visitVoronoiCell(QuadEdge qe, VoronoiCellVisitor visitor,
+      Set visitedVertices, GeometryFactory geomFact)
+  {
+    Vertex v = qe.orig();
+    if (visitedVertices.contains(v)) return;
+    visitedVertices.add(v);
+    if (isFrameVertex(v)) return;
+    visitor.visit(getVoronoiCellPolygon(qe, geomFact));
+  }
+
   /**
    * Gets the Voronoi cell around a site specified
    * by the origin of a QuadEdge.
@@ -12,6 +12,8 @@
 
 package org.locationtech.jts.triangulate.quadedge;
 
+import java.math.BigDecimal;
+
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Triangle;
 import org.locationtech.jts.geom.impl.CoordinateArraySequence;
@@ -95,6 +97,96 @@ public class TrianglePredicate
     return disc > 0;
   }
   
+  /**
+   * A bound on the relative error of the normalized in-circle determinant
+   * computed in double precision
+   * (see J.R.Shewchuk, <i>Adaptive Precision Floating-Point Arithmetic
+   * and Fast Robust Geometric Predicates</i>).
+   */
+  private static final double IN_CIRCLE_ERROR_BOUND = (10 + 96 * 0x1p-53) * 0x1p-53;
+
+  /**
+   * Tests if a point is inside the circle defined by 
+   * the triangle with vertices a, b, c (oriented counter-clockwise),
+   * given the ordinates of the points.
+   * The determinant is computed in double precision, normalized to the test point.
+   * If its magnitude is within the bound on the rounding error
+   * the sign is recomputed exactly using {@link BigDecimal} arithmetic.
+   * This gives the speed of the normalized test in most cases,
+   * and the correct result for nearly cocircular points.
+   * ({@link DD} arithmetic is not sufficient for this,
+   * since the determinant needs about four times the precision of the input.)
+   * 
+   * @param ax the x ordinate of a vertex of the triangle
+   * @param ay the y ordinate of a vertex of the triangle
+   * @param bx the x ordinate of a vertex of the triangle
+   * @param by the y ordinate of a vertex of the triangle
+   * @param cx the x ordinate of a vertex of the triangle
+   * @param cy the y ordinate of a vertex of the triangle
+   * @param px the x ordinate of the point to test
+   * @param py the y ordinate of the point to test
+   * @return true if the point is inside the circle defined by the triangle
+   */
+  public static boolean isInCircleFiltered(
+      double ax, double ay, double bx, double by, 
+      double cx, double cy, double px, double py) {
+    double adx = ax - px;
+    double ady = ay - py;
+    double bdx = bx - px;
+    double bdy = by - py;
+    double cdx = cx - px;
+    double cdy = cy - py;
+
+    double bdxcdy = bdx * cdy;
+    double cdxbdy = cdx * bdy;
+    double cdxady = cdx * ady;
+    double adxcdy = adx * cdy;
+    double adxbdy = adx * bdy;
+    double bdxady = bdx * ady;
+    double alift = adx * adx + ady * ady;
+    double blift = bdx * bdx + bdy * bdy;
+    double clift = cdx * cdx + cdy * cdy;
+
+    double disc = alift * (bdxcdy - cdxbdy)
+        + blift * (cdxady - adxcdy)
+        + clift * (adxbdy - bdxady);
+
+    double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * alift
+        + (Math.abs(cdxady) + Math.abs(adxcdy)) * blift
+        + (Math.abs(adxbdy) + Math.abs(bdxady)) * clift;
+    double errbound = IN_CIRCLE_ERROR_BOUND * permanent;
+    if (disc > errbound) return true;
+    if (-disc > errbound) return false;
+    return isInCircleExact(ax, ay, bx, by, cx, cy, px, py);
+  }
+
+  /**
+   * Computes the sign of the in-circle determinant exactly.
+   * Every double is exactly representable as a {@link BigDecimal},
+   * and addition, subtraction and multiplication are exact.
+   */
+  private static boolean isInCircleExact(
+      double ax, double ay, double bx, double by, 
+      double cx, double cy, double px, double py) {
+    BigDecimal pxe = new BigDecimal(px);
+    BigDecimal pye = new BigDecimal(py);
+    BigDecimal adx = new BigDecimal(ax).subtract(pxe);
+    BigDecimal ady = new BigDecimal(ay).subtract(pye);
+    BigDecimal bdx = new BigDecimal(bx).subtract(pxe);
+    BigDecimal bdy = new BigDecimal(by).subtract(pye);
+    BigDecimal cdx = new BigDecimal(cx).subtract(pxe);
+    BigDecimal cdy = new BigDecimal(cy).subtract(pye);
+
+    BigDecimal alift = adx.multiply(adx).add(ady.multiply(ady));
+    BigDecimal blift = bdx.multiply(bdx).add(bdy.multiply(bdy));
+    BigDecimal clift = cdx.multiply(cdx).add(cdy.multiply(cdy));
+
+    BigDecimal disc = alift.multiply(bdx.multiply(cdy).subtract(cdx.multiply(bdy)))
+        .add(blift.multiply(cdx.multiply(ady).subtract(adx.multiply(cdy))))
+        .add(clift.multiply(adx.multiply(bdy).subtract(bdx.multiply(ady))));
+    return disc.signum() > 0;
+  }
+
   /**
    * Computes twice the area of the oriented triangle (a, b, c), i.e., the area is positive if the
    * triangle is oriented counterclockwise.
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.triangulate.quadedge;
+
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * An interface for algorithms which process the cells of the Voronoi diagram
+ * of a {@link QuadEdgeSubdivision} one at a time.
+ *
+ * @version 1.0
+ */
+public interface VoronoiCellVisitor {
+    /**
+     * Visits a Voronoi cell.
+     * The <tt>userData</tt> of the cell polygon is set to
+     * the {@link org.locationtech.jts.geom.Coordinate} of the cell site.
+     *
+     * @param cell the polygon of the cell
+     */
+    void visit(Polygon cell);
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Utilities for running lists of {@link Callable} tasks,
+ * either in the calling thread or using an {@link ExecutorService}.
+ */
+public class TaskUtil
+{
+  /**
+   * Runs a list of tasks and returns their results.
+   * If the executor is null the tasks are run in order in the calling thread.
+   * Otherwise they are submitted to the executor
+   * and the call waits for all of them to complete.
+   * <p>
+   * If a task fails the remaining tasks are cancelled
+   * and the failure is rethrown.
+   * Unchecked exceptions and errors are rethrown unchanged;
+   * checked exceptions are wrapped in a {@link RuntimeException}
+   * with the original exception as the cause.
+   * If the calling thread is interrupted while waiting
+   * the tasks are cancelled, the interrupt status is restored
+   * and a {@link RuntimeException} is thrown.
+   *
+   * @param executor the executor to use, or null
+   * @param tasks a list of {@link Callable}s
+   * @return the task results, in the order of the tasks
+   */
+  public static List execute(ExecutorService executor, List tasks)
+  {
+    List results = new ArrayList(tasks.size());
+    if (executor == null) {
+      for (int i = 0; i < tasks.size(); i++) {
+        results.add(call((Callable) tasks.get(i)));
+      }
+      return results;
+    }
+
+    List futures = new ArrayList(tasks.size());
+    try {
+      for (int i = 0; i < tasks.size(); i++) {
+        futures.add(executor.submit((Callable) tasks.get(i)));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        results.add(((Future) futures.get(i)).get());
+      }
+    }
+    catch (InterruptedException ex) {
+      cancel(futures);
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for tasks", ex);
+    }
+    catch (ExecutionException ex) {
+      cancel(futures);
+      throw rethrow(ex.getCause());
+    }
+    catch (RuntimeException ex) {
+      // e.g. the executor rejected a task
+      cancel(futures);
+      throw ex;
+    }
+    return results;
+  }
+
+  private static Object call(Callable task)
+  {
+    try {
+      return task.call();
+    }
+    catch (Exception ex) {
+      throw rethrow(ex);
+    }
+  }
+
+  private static RuntimeException rethrow(Throwable cause)
+  {
+    if (cause instanceof RuntimeException)
+      throw (RuntimeException) cause;
+    if (cause instanceof Error)
+      throw (Error) cause;
+    return new RuntimeException(cause.toString(), cause);
+  }
+
+  private static void cancel(List futures)
+  {
+    for (int i = 0; i < futures.size(); i++) {
+      ((Future) futures.get(i)).cancel(true);
+    }
+  }
+}
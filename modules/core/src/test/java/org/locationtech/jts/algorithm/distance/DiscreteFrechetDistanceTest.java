@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.distance;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class DiscreteFrechetDistanceTest
+extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(DiscreteFrechetDistanceTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public DiscreteFrechetDistanceTest(String name) { super(name); }
+
+  public void testSameLine() {
+    checkDistance("LINESTRING (0 0, 1 1, 2 0)", "LINESTRING (0 0, 1 1, 2 0)", 0.0);
+  }
+
+  public void testParallelLines() {
+    checkDistance("LINESTRING (0 0, 1 0, 2 0, 3 0)", "LINESTRING (0 1, 1 1, 2 1, 3 1)", 1.0);
+  }
+
+  public void testDifferentNumberOfVertices() {
+    checkDistance("LINESTRING (0 0, 4 0)", "LINESTRING (0 1, 1 1, 2 1, 3 1, 4 1)",
+        Math.sqrt(5.0));
+  }
+
+  /**
+   * The Hausdorff distance is 0, but the lines have opposite directions
+   */
+  public void testReversedLine() {
+    checkDistance("LINESTRING (0 0, 10 0)", "LINESTRING (10 0, 0 0)", 10.0);
+  }
+
+  /**
+   * The second line doubles back,
+   * so the coupling must wait at a vertex of the first line
+   */
+  public void testBacktrack() {
+    checkDistance("LINESTRING (0 0, 10 0, 20 0)", "LINESTRING (0 0, 10 0, 5 0, 10 0, 20 0)", 5.0);
+  }
+
+  public void testPoint() {
+    checkDistance("POINT (0 0)", "LINESTRING (0 3, 4 0)", 4.0);
+  }
+
+  public void testEmpty() {
+    checkDistance("LINESTRING EMPTY", "LINESTRING (0 0, 10 0)", 0.0);
+  }
+
+  public void testRandomLines() {
+    Random rnd = new Random(29);
+    for (int n = 0; n < 50; n++) {
+      Geometry line0 = randomLine(rnd, 5 + rnd.nextInt(60));
+      Geometry line1 = randomLine(rnd, 5 + rnd.nextInt(60));
+      double expected = frechetByRecursion(line0.getCoordinates(), line1.getCoordinates());
+      checkDistance(line0, line1, expected);
+    }
+  }
+
+  private Geometry randomLine(Random rnd, int nPts) {
+    Coordinate[] pts = new Coordinate[nPts];
+    double x = 0;
+    double y = 0;
+    for (int i = 0; i < nPts; i++) {
+      x += Math.round(rnd.nextDouble() * 4);
+      y += Math.round(rnd.nextDouble() * 8 - 4);
+      pts[i] = new Coordinate(x, y);
+    }
+    return geomFact.createLineString(pts);
+  }
+
+  private void checkDistance(String wkt0, String wkt1, double expected) {
+    checkDistance(read(wkt0), read(wkt1), expected);
+  }
+
+  private void checkDistance(Geometry g0, Geometry g1, double expected) {
+    assertEquals(expected, DiscreteFrechetDistance.distance(g0, g1), 1e-10);
+    assertEquals(expected, DiscreteFrechetDistance.distance(g1, g0), 1e-10);
+
+    // the threshold test must agree with the computed distance
+    double dist = DiscreteFrechetDistance.distance(g0, g1);
+    assertTrue(DiscreteFrechetDistance.isWithinDistance(g0, g1, dist));
+    assertTrue(DiscreteFrechetDistance.isWithinDistance(g1, g0, dist));
+    assertTrue(DiscreteFrechetDistance.isWithinDistance(g0, g1, dist + 0.5));
+    if (dist > 0) {
+      assertTrue(! DiscreteFrechetDistance.isWithinDistance(g0, g1, dist * 0.999));
+      assertTrue(! DiscreteFrechetDistance.isWithinDistance(g1, g0, dist - 0.5));
+    }
+  }
+
+  /**
+   * Computes the discrete Fréchet distance using the recursive definition.
+   */
+  private static double frechetByRecursion(Coordinate[] p, Coordinate[] q) {
+    double[][] ca = new double[p.length][q.length];
+    for (int i = 0; i < p.length; i++) {
+      for (int j = 0; j < q.length; j++) {
+        ca[i][j] = -1;
+      }
+    }
+    return coupling(ca, p, q, p.length - 1, q.length - 1);
+  }
+
+  private static double coupling(double[][] ca, Coordinate[] p, Coordinate[] q, int i, int j) {
+    if (ca[i][j] >= 0) return ca[i][j];
+    double d = p[i].distance(q[j]);
+    if (i == 0 && j == 0)
+      ca[i][j] = d;
+    else if (i == 0)
+      ca[i][j] = Math.max(coupling(ca, p, q, 0, j - 1), d);
+    else if (j == 0)
+      ca[i][j] = Math.max(coupling(ca, p, q, i - 1, 0), d);
+    else
+      ca[i][j] = Math.max(Math.min(coupling(ca, p, q, i - 1, j),
+          Math.min(coupling(ca, p, q, i - 1, j - 1), coupling(ca, p, q, i, j - 1))), d);
+    return ca[i][j];
+  }
+}
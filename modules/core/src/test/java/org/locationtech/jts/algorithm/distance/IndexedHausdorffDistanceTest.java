@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.distance;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link IndexedHausdorffDistance} computes the same results
+ * as {@link DiscreteHausdorffDistance}.
+ */
+public class IndexedHausdorffDistanceTest
+extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(IndexedHausdorffDistanceTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public IndexedHausdorffDistanceTest(String name) { super(name); }
+
+  public void testLineSegments() {
+    checkDistance("LINESTRING (0 0, 2 1)", "LINESTRING (0 0, 2 0)", 1.0);
+    checkDistance("LINESTRING (0 0, 2 0)", "LINESTRING (0 1, 1 2, 2 1)", 2.0);
+  }
+
+  public void testLinePoints() {
+    checkDistance("LINESTRING (0 0, 2 0)", "MULTIPOINT (0 1, 1 0, 2 1)", 1.0);
+  }
+
+  public void testLinesShowingDiscretenessEffect() {
+    checkDistance("LINESTRING (130 0, 0 0, 0 150)", "LINESTRING (10 10, 10 150, 130 10)", 14.142135623730951);
+    checkDistance("LINESTRING (130 0, 0 0, 0 150)", "LINESTRING (10 10, 10 150, 130 10)", 0.5, 70.0);
+  }
+
+  public void testPolygonWithHole() {
+    checkSame("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (20 20, 20 80, 80 80, 80 20, 20 20))",
+        "POLYGON ((5 5, 5 95, 95 95, 95 5, 5 5))");
+  }
+
+  /**
+   * Several segments are equally near the furthest point
+   */
+  public void testEqualDistances() {
+    checkSame("POINT (5 5)", "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+    checkSame("MULTIPOINT ((5 5), (5 6))", "MULTILINESTRING ((0 0, 10 0), (0 10, 10 10), (0 0, 0 10))");
+  }
+
+  public void testCollection() {
+    checkSame("GEOMETRYCOLLECTION (POINT (50 50), LINESTRING (0 0, 10 10, 20 0))",
+        "GEOMETRYCOLLECTION (POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0)), MULTIPOINT ((30 30), (40 0)))");
+  }
+
+  public void testEmpty() {
+    checkSame("LINESTRING EMPTY", "LINESTRING (0 0, 10 10)");
+    checkSame("LINESTRING (0 0, 10 10)", "LINESTRING EMPTY");
+  }
+
+  public void testRandomLines() {
+    Random rnd = new Random(13);
+    for (int n = 0; n < 20; n++) {
+      Geometry line0 = randomLine(rnd, 200);
+      Geometry line1 = randomLine(rnd, 100 + n * 20);
+      checkSame(line0, line1);
+    }
+  }
+
+  public void testSineStars() {
+    SineStarFactory gsf = new SineStarFactory(geomFact);
+    gsf.setSize(100);
+    gsf.setNumPoints(1000);
+    gsf.setNumArms(10);
+    Geometry star0 = gsf.createSineStar();
+    gsf.setCentre(new Coordinate(10, 5));
+    gsf.setNumArms(7);
+    Geometry star1 = gsf.createSineStar();
+    checkSame(star0, star1);
+  }
+
+  private Geometry randomLine(Random rnd, int nPts) {
+    Coordinate[] pts = new Coordinate[nPts];
+    double x = 0;
+    double y = 0;
+    for (int i = 0; i < nPts; i++) {
+      // snap to a grid to produce some equal distances
+      x += Math.round(rnd.nextDouble() * 4);
+      y += Math.round(rnd.nextDouble() * 8 - 4);
+      pts[i] = new Coordinate(x, y);
+    }
+    return geomFact.createLineString(pts);
+  }
+
+  private void checkDistance(String wkt0, String wkt1, double expectedDistance) {
+    Geometry g0 = read(wkt0);
+    Geometry g1 = read(wkt1);
+    assertEquals(expectedDistance, IndexedHausdorffDistance.distance(g0, g1), 0.00001);
+    checkSame(g0, g1);
+  }
+
+  private void checkDistance(String wkt0, String wkt1, double densifyFrac, double expectedDistance) {
+    Geometry g0 = read(wkt0);
+    Geometry g1 = read(wkt1);
+    assertEquals(expectedDistance, IndexedHausdorffDistance.distance(g0, g1, densifyFrac), 0.00001);
+    checkSame(g0, g1);
+  }
+
+  private void checkSame(String wkt0, String wkt1) {
+    checkSame(read(wkt0), read(wkt1));
+  }
+
+  private void checkSame(Geometry g0, Geometry g1) {
+    checkSame(g0, g1, 0.0);
+    checkSame(g0, g1, 0.1);
+    checkSame(g0, g1, 0.25);
+  }
+
+  private void checkSame(Geometry g0, Geometry g1, double densifyFrac) {
+    DiscreteHausdorffDistance dhd = new DiscreteHausdorffDistance(g0, g1);
+    IndexedHausdorffDistance ihd = new IndexedHausdorffDistance(g0, g1);
+    if (densifyFrac > 0) {
+      dhd.setDensifyFraction(densifyFrac);
+      ihd.setDensifyFraction(densifyFrac);
+    }
+    assertEquals(dhd.distance(), ihd.distance(), 0.0);
+    checkSameCoordinates(dhd.getCoordinates(), ihd.getCoordinates());
+
+    dhd = new DiscreteHausdorffDistance(g0, g1);
+    ihd = new IndexedHausdorffDistance(g0, g1);
+    if (densifyFrac > 0) {
+      dhd.setDensifyFraction(densifyFrac);
+      ihd.setDensifyFraction(densifyFrac);
+    }
+    assertEquals(dhd.orientedDistance(), ihd.orientedDistance(), 0.0);
+    checkSameCoordinates(dhd.getCoordinates(), ihd.getCoordinates());
+  }
+
+  private static void checkSameCoordinates(Coordinate[] expected, Coordinate[] actual) {
+    assertTrue(expected[0].equals2D(actual[0]));
+    assertTrue(expected[1].equals2D(actual[1]));
+  }
+}
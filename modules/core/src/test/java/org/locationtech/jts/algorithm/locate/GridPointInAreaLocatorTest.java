@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.locate;
+
+import org.locationtech.jts.algorithm.AbstractPointInRingTest;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.WKTReader;
+
+import junit.textui.TestRunner;
+
+/**
+ * Tests GridPointInAreaLocator algorithms
+ */
+public class GridPointInAreaLocatorTest extends AbstractPointInRingTest {
+
+  private WKTReader reader = new WKTReader();
+
+  public static void main(String args[]) {
+    TestRunner.run(GridPointInAreaLocatorTest.class);
+  }
+
+  public GridPointInAreaLocatorTest(String name) { super(name); }
+
+
+   protected void runPtInRing(int expectedLoc, Coordinate pt, String wkt)
+      throws Exception
+  {
+    Geometry geom = reader.read(wkt);
+    // check a range of grid resolutions
+    int[] gridSize = new int[] { -1, 1, 4, 100, 10000 };
+    for (int i = 0; i < gridSize.length; i++) {
+      GridPointInAreaLocator loc = new GridPointInAreaLocator(geom, gridSize[i]);
+      int result = loc.locate(pt);
+      assertEquals(expectedLoc, result);
+    }
+  }
+  
+  public void testHoleAndGridPoints() throws Exception
+  {
+    Geometry geom = reader.read("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0), (2 2, 8 2, 8 8, 2 8, 2 2)), ((20 0, 20 10, 30 10, 20 0)))");
+    checkAllGridPoints(geom, 100);
+    checkAllGridPoints(geom, 7);
+  }
+  
+  /**
+   * Compares the grid locator to the indexed locator
+   * for every point on a fine integer lattice,
+   * many of which lie on the boundary or on cell edges.
+   */
+  private void checkAllGridPoints(Geometry geom, int maxCells)
+  {
+    GridPointInAreaLocator loc = new GridPointInAreaLocator(geom, maxCells);
+    IndexedPointInAreaLocator expectedLoc = new IndexedPointInAreaLocator(geom);
+    for (int x = -1; x <= 31; x++) {
+      for (int y = -1; y <= 11; y++) {
+        for (int k = 0; k < 4; k++) {
+          Coordinate pt = new Coordinate(x + k * 0.25, y + k * 0.25);
+          assertEquals(expectedLoc.locate(pt), loc.locate(pt));
+        }
+      }
+    }
+  }
+
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests {@link PreparedGeometryCache}.
+ */
+public class PreparedGeometryCacheTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(PreparedGeometryCacheTest.class);
+  }
+
+  private static final String POLY_A = "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))";
+  private static final String POLY_B = "POLYGON ((20 0, 20 10, 30 10, 30 0, 20 0))";
+  private static final String POLY_C = "POLYGON ((40 0, 40 10, 50 10, 50 0, 40 0))";
+
+  public PreparedGeometryCacheTest(String name) {
+    super(name);
+  }
+
+  public void testPrepareThreshold() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(1000, 2, 100);
+    Geometry poly = read(POLY_A);
+
+    PreparedGeometry pg1 = cache.get(poly);
+    assertTrue(! (pg1 instanceof PreparedPolygon));
+    assertEquals(0, cache.size());
+
+    PreparedGeometry pg2 = cache.get(poly);
+    assertTrue(pg2 instanceof PreparedPolygon);
+    assertEquals(1, cache.size());
+
+    PreparedGeometry pg3 = cache.get(poly);
+    assertSame(pg2, pg3);
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(5, cache.getVertexCount());
+  }
+
+  public void testIdentityKey() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(1000, 1, 100);
+    Geometry poly = read(POLY_A);
+    Geometry polyCopy = read(POLY_A);
+
+    PreparedGeometry pg = cache.get(poly);
+    PreparedGeometry pgCopy = cache.get(polyCopy);
+    assertTrue(pg != pgCopy);
+    assertEquals(2, cache.size());
+  }
+
+  public void testIdKeyReplacesStale() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(1000, 1, 100);
+    PreparedGeometry pgA = cache.get("id", read(POLY_A));
+    Geometry polyB = read(POLY_B);
+    PreparedGeometry pgB = cache.get("id", polyB);
+    assertTrue(pgA != pgB);
+    assertSame(polyB, pgB.getGeometry());
+    assertEquals(1, cache.size());
+    assertEquals(5, cache.getVertexCount());
+  }
+
+  public void testEvictionLRU() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(10, 1, 100);
+    Geometry polyA = read(POLY_A);
+    Geometry polyB = read(POLY_B);
+    Geometry polyC = read(POLY_C);
+
+    cache.get(polyA);
+    cache.get(polyB);
+    // touch A so B is least-recently used
+    cache.get(polyA);
+    cache.get(polyC);
+
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(10, cache.getVertexCount());
+
+    long hits = cache.getHitCount();
+    cache.get(polyA);
+    assertEquals(hits + 1, cache.getHitCount());
+  }
+
+  public void testTooLargeNotCached() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(4, 1, 100);
+    Geometry poly = read(POLY_A);
+    PreparedGeometry pg = cache.get(poly);
+    assertTrue(pg.intersects(read("POINT (5 5)")));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getVertexCount());
+  }
+
+  public void testRemove() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(1000, 1, 100);
+    Geometry poly = read(POLY_A);
+    cache.get(poly);
+    cache.remove(poly);
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getVertexCount());
+  }
+
+  public void testUnpreparedReused() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(1000, 3, 100);
+    Geometry poly = read(POLY_A);
+    PreparedGeometry pg1 = cache.get(poly);
+    PreparedGeometry pg2 = cache.get(poly);
+    assertSame(pg1, pg2);
+    assertTrue(cache.get(poly) instanceof PreparedPolygon);
+  }
+
+  public void testConcurrent() throws Exception {
+    final PreparedGeometryCache cache = new PreparedGeometryCache(40, 2, 100);
+    final Geometry[] polys = new Geometry[20];
+    for (int i = 0; i < polys.length; i++) {
+      polys[i] = read("POLYGON ((" + i + " 0, " + i + " 1, " + (i + 1) + " 1, " + (i + 1) + " 0, " + i + " 0))");
+    }
+    final Geometry pt = read("POINT (0.5 0.5)");
+    final List errors = new ArrayList();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      final int offset = t;
+      threads[t] = new Thread() {
+        public void run() {
+          try {
+            for (int k = 0; k < 2000; k++) {
+              int i = (k * 7 + offset) % polys.length;
+              PreparedGeometry pg = cache.get(polys[i]);
+              if (pg.getGeometry() != polys[i] || pg.intersects(pt) != (i == 0))
+                throw new IllegalStateException("Wrong prepared geometry for " + i);
+            }
+          }
+          catch (Throwable ex) {
+            synchronized (errors) { errors.add(ex); }
+          }
+        }
+      };
+      threads[t].start();
+    }
+    for (int t = 0; t < threads.length; t++) {
+      threads[t].join();
+    }
+    assertTrue(errors.toString(), errors.isEmpty());
+    assertTrue(cache.getVertexCount() <= 40);
+    assertEquals(cache.size() * 5, cache.getVertexCount());
+    assertEquals(4 * 2000, cache.getHitCount() + cache.getMissCount());
+  }
+}
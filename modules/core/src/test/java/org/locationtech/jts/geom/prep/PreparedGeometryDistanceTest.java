@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.distance.AbstractDistanceTest;
+
+import junit.textui.TestRunner;
+
+/**
+ * Tests the distance methods of {@link ExtendedPreparedGeometry}.
+ */
+public class PreparedGeometryDistanceTest extends AbstractDistanceTest {
+
+  public static void main(String args[]) {
+    TestRunner.run(PreparedGeometryDistanceTest.class);
+  }
+  
+  public PreparedGeometryDistanceTest(String name) {
+    super(name);
+  }
+
+  protected Coordinate[] nearestPoints(Geometry g1, Geometry g2) {
+    return ((ExtendedPreparedGeometry) PreparedGeometryFactory.prepare(g1)).nearestPoints(g2);
+  }
+  
+  public void testDistancePolygonContainsLine() {
+    checkDistance("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0))", 
+        "LINESTRING (10 10, 20 20)");
+  }
+  
+  public void testDistanceLineInHole() {
+    checkDistance("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (40 40, 60 40, 60 60, 40 60, 40 40))", 
+        "LINESTRING (45 45, 50 55)");
+  }
+  
+  public void testDistanceLineContainsPolygon() {
+    checkDistance("LINESTRING (10 10, 20 20)", 
+        "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0))");
+  }
+  
+  public void testDistanceLines() {
+    checkDistance("LINESTRING (0 0, 10 10, 20 0, 30 10)", 
+        "LINESTRING (0 20, 30 20)");
+  }
+  
+  public void testDistanceEmpty() {
+    checkDistance("POINT (0 0)", "POLYGON EMPTY");
+  }
+  
+  public void testWithinDistancePolygonContainsPoint() {
+    checkWithinDistance("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0))", 
+        "POINT (50 50)", 1);
+  }
+  
+  public void testWithinDistanceLines() {
+    String line1 = "LINESTRING (0 0, 10 10, 20 0, 30 10)";
+    String line2 = "LINESTRING (0 20, 30 20)";
+    checkWithinDistance(line1, line2, 9);
+    checkWithinDistance(line1, line2, 10);
+    checkWithinDistance(line1, line2, 11);
+  }
+  
+  public void testWithinDistanceEnvelopeExit() {
+    checkWithinDistance("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0))", 
+        "POINT (200 200)", 50);
+  }
+  
+  private void checkDistance(String wkt1, String wkt2) {
+    Geometry g1 = read(wkt1);
+    Geometry g2 = read(wkt2);
+    ExtendedPreparedGeometry pg = (ExtendedPreparedGeometry) PreparedGeometryFactory.prepare(g1);
+    assertEquals(g1.distance(g2), pg.distance(g2), 1E-10);
+  }
+  
+  private void checkWithinDistance(String wkt1, String wkt2, double distance) {
+    Geometry g1 = read(wkt1);
+    Geometry g2 = read(wkt2);
+    ExtendedPreparedGeometry pg = (ExtendedPreparedGeometry) PreparedGeometryFactory.prepare(g1);
+    assertEquals(g1.isWithinDistance(g2, distance), pg.isWithinDistance(g2, distance));
+  }
+}
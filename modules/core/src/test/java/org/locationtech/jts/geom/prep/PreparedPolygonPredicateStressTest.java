@@ -21,7 +21,8 @@ import junit.textui.TestRunner;
  * Stress tests {@link PreparedPolygon} for 
  * correctness of 
  * {@link PreparedPolygon#contains(Geometry)}
- * and {@link PreparedPolygon#intersects(Geometry)}
+ * {@link PreparedPolygon#intersects(Geometry)}
+ * and {@link PreparedPolygon#relate(Geometry)}
  * operations.
  * 
  * @author Owner
@@ -52,6 +53,7 @@ public class PreparedPolygonPredicateStressTest extends TestCase
   	public boolean checkResult(Geometry target, Geometry test) {
   		if (! checkIntersects(target, test)) return false;
   		if (! checkContains(target, test)) return false;
+  		if (! checkRelate(target, test)) return false;
   		return true;
   	}
   }
@@ -84,6 +86,21 @@ public class PreparedPolygonPredicateStressTest extends TestCase
 		return false;
 	}
 	return true;
+  }
+
+  public boolean checkRelate(Geometry target, Geometry test) 
+  {
+	String expectedResult = target.relate(test).toString();
+	
+	PreparedGeometryFactory pgFact = new PreparedGeometryFactory();
+	ExtendedPreparedGeometry prepGeom = (ExtendedPreparedGeometry) pgFact.create(target);
+	
+	String prepResult = prepGeom.relate(test).toString();
+	
+	if (! prepResult.equals(expectedResult)) {
+		return false;
+	}
+	return true;
   } 
 
 }
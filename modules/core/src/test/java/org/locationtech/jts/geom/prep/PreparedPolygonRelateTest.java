@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link PreparedPolygon#relate(Geometry)} produces
+ * the same matrices as {@link Geometry#relate(Geometry)}.
+ */
+public class PreparedPolygonRelateTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(PreparedPolygonRelateTest.class);
+  }
+
+  private static final String POLY_WITH_HOLE = "POLYGON ((10 10, 10 90, 90 90, 90 10, 10 10), (40 40, 60 40, 60 60, 40 60, 40 40))";
+
+  public PreparedPolygonRelateTest(String name) {
+    super(name);
+  }
+
+  public void testDisjointEnvelope() {
+    checkRelate(POLY_WITH_HOLE, "LINESTRING (100 100, 200 200)");
+  }
+
+  public void testDisjointInHole() {
+    checkRelate(POLY_WITH_HOLE, "POLYGON ((45 45, 45 55, 55 55, 55 45, 45 45))");
+  }
+
+  public void testLineInInterior() {
+    checkRelate(POLY_WITH_HOLE, "LINESTRING (20 20, 30 80)");
+  }
+
+  public void testClosedLineInInterior() {
+    checkRelate(POLY_WITH_HOLE, "LINESTRING (20 20, 30 20, 30 30, 20 20)");
+  }
+
+  public void testMultiLineRingInInterior() {
+    checkRelate(POLY_WITH_HOLE, "MULTILINESTRING ((20 20, 30 20, 30 30), (30 30, 20 20))");
+  }
+
+  public void testMultiLineRingDisjoint() {
+    checkRelate(POLY_WITH_HOLE, "MULTILINESTRING ((120 120, 130 120, 130 130), (130 130, 120 120))");
+    checkRelate(POLY_WITH_HOLE, "MULTILINESTRING ((45 45, 55 45, 55 55), (55 55, 45 45))");
+  }
+
+  public void testPolygonInInterior() {
+    checkRelate(POLY_WITH_HOLE, "POLYGON ((20 20, 20 30, 30 30, 30 20, 20 20))");
+  }
+
+  public void testPolygonCoveringHole() {
+    checkRelate(POLY_WITH_HOLE, "POLYGON ((30 30, 30 70, 70 70, 70 30, 30 30))");
+  }
+
+  public void testPolygonContainingTarget() {
+    checkRelate(POLY_WITH_HOLE, "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0))");
+  }
+
+  public void testLineCrossingBoundary() {
+    checkRelate(POLY_WITH_HOLE, "LINESTRING (0 50, 50 50)");
+  }
+
+  public void testLineTouchingBoundary() {
+    checkRelate(POLY_WITH_HOLE, "LINESTRING (0 50, 10 50)");
+  }
+
+  public void testMultiPoint() {
+    checkRelate(POLY_WITH_HOLE, "MULTIPOINT ((20 20), (10 50), (50 50), (200 200))");
+  }
+
+  public void testPointOnBoundary() {
+    checkRelate(POLY_WITH_HOLE, "POINT (40 50)");
+  }
+
+  public void testMultiPolygonTarget() {
+    checkRelate("MULTIPOLYGON (((10 10, 10 20, 20 20, 20 10, 10 10)), ((30 30, 30 40, 40 40, 40 30, 30 30)))",
+        "LINESTRING (12 12, 18 18)");
+  }
+
+  public void testEmpty() {
+    checkRelate(POLY_WITH_HOLE, "LINESTRING EMPTY");
+  }
+
+  public void testPatternEnvelopeExit() {
+    checkRelatePattern(POLY_WITH_HOLE, "POLYGON ((20 20, 20 30, 30 30, 30 20, 20 20))", "T*F**F***");
+    checkRelatePattern(POLY_WITH_HOLE, "POLYGON ((20 20, 20 30, 30 30, 30 20, 20 20))", "T*****FF*");
+    checkRelatePattern(POLY_WITH_HOLE, "LINESTRING (100 100, 200 200)", "T********");
+    checkRelatePattern(POLY_WITH_HOLE, "LINESTRING (100 100, 200 200)", "FF*FF****");
+  }
+
+  public void testPatternGeometryCollection() {
+    Geometry test = read("GEOMETRYCOLLECTION (POINT (200 200), LINESTRING (100 100, 200 200))");
+    ExtendedPreparedGeometry prepGeom = (ExtendedPreparedGeometry) PreparedGeometryFactory.prepare(read(POLY_WITH_HOLE));
+    try {
+      prepGeom.relate(test, "T********");
+      fail("GeometryCollection argument should be rejected");
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  private void checkRelate(String wktTarget, String wktTest) {
+    Geometry target = read(wktTarget);
+    Geometry test = read(wktTest);
+    ExtendedPreparedGeometry prepGeom = (ExtendedPreparedGeometry) PreparedGeometryFactory.prepare(target);
+
+    String expected = target.relate(test).toString();
+    String actual = prepGeom.relate(test).toString();
+    assertEquals(expected, actual);
+  }
+
+  private void checkRelatePattern(String wktTarget, String wktTest, String pattern) {
+    Geometry target = read(wktTarget);
+    Geometry test = read(wktTest);
+    ExtendedPreparedGeometry prepGeom = (ExtendedPreparedGeometry) PreparedGeometryFactory.prepare(target);
+
+    boolean expected = target.relate(test, pattern);
+    boolean actual = prepGeom.relate(test, pattern);
+    assertEquals(expected, actual);
+  }
+}
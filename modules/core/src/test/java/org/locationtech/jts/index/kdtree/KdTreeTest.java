@@ -14,6 +14,7 @@ package org.locationtech.jts.index.kdtree;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
@@ -71,6 +72,27 @@ public class KdTreeTest extends TestCase {
         "MULTIPOINT ( (0 0), (-.1 1) )");
   }
   
+  public void testNearestNeighbor() {
+    KdTree index = new KdTree();
+    assertTrue(index.nearestNeighbor(new Coordinate(0, 0)) == null);
+    
+    Random rnd = new Random(1);
+    Coordinate[] pts = new Coordinate[500];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(rnd.nextInt(100), rnd.nextInt(100));
+      index.insert(pts[i]);
+    }
+    for (int i = 0; i < 200; i++) {
+      Coordinate p = new Coordinate(rnd.nextDouble() * 120 - 10, rnd.nextDouble() * 120 - 10);
+      double minDist = Double.POSITIVE_INFINITY;
+      for (int j = 0; j < pts.length; j++) {
+        minDist = Math.min(minDist, p.distance(pts[j]));
+      }
+      KdNode node = index.nearestNeighbor(p);
+      assertEquals(minDist, p.distance(node.getCoordinate()), 0.0);
+    }
+  }
+  
   public void testTolerance2() {
     testQuery("MULTIPOINT ((10 60), (20 60), (30 60), (30 63))", 
         9, 
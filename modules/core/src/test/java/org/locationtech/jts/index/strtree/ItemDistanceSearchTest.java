@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.strtree;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Envelope;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests {@link ItemDistanceSearch}.
+ */
+public class ItemDistanceSearchTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(ItemDistanceSearchTest.class);
+  }
+
+  public ItemDistanceSearchTest(String name) { super(name); }
+
+  private static final ItemDistance ENV_DISTANCE = new ItemDistance() {
+    public double distance(ItemBoundable item1, ItemBoundable item2) {
+      return ((Envelope) item1.getItem()).distance((Envelope) item2.getItem());
+    }
+  };
+
+  public void testEmpty()
+  {
+    STRtree tree = new STRtree();
+    ItemDistanceSearch search = new ItemDistanceSearch(ENV_DISTANCE);
+    assertEquals(Double.POSITIVE_INFINITY,
+        search.distance(tree.getRoot(), item(new Envelope(0, 1, 0, 1)), Double.POSITIVE_INFINITY, 0.0), 0.0);
+  }
+
+  public void testRandom()
+  {
+    Envelope[] items = randomBoxes(1000, new Random(1));
+    STRtree tree = buildTree(items);
+    ItemDistanceSearch search = new ItemDistanceSearch(ENV_DISTANCE);
+    Envelope[] queries = randomBoxes(200, new Random(2));
+    for (int i = 0; i < queries.length; i++) {
+      assertEquals(bruteForceDistance(items, queries[i]),
+          search.distance(tree.getRoot(), item(queries[i]), Double.POSITIVE_INFINITY, -1.0), 0.0);
+    }
+  }
+
+  public void testMaxDistance()
+  {
+    Envelope[] items = randomBoxes(200, new Random(1));
+    STRtree tree = buildTree(items);
+    ItemDistanceSearch search = new ItemDistanceSearch(ENV_DISTANCE);
+    Envelope[] queries = randomBoxes(200, new Random(2));
+    double maxDistance = 1.0;
+    for (int i = 0; i < queries.length; i++) {
+      double nearest = bruteForceDistance(items, queries[i]);
+      double expected = nearest <= maxDistance ? nearest : Double.POSITIVE_INFINITY;
+      assertEquals(expected,
+          search.distance(tree.getRoot(), item(queries[i]), maxDistance, -1.0), 0.0);
+    }
+  }
+
+  /**
+   * A search can be reused for trees of different heights.
+   */
+  public void testSeveralTrees()
+  {
+    Envelope[] small = randomBoxes(10, new Random(1));
+    Envelope[] large = randomBoxes(5000, new Random(3));
+    STRtree smallTree = buildTree(small);
+    STRtree largeTree = buildTree(large);
+    ItemDistanceSearch search = new ItemDistanceSearch(ENV_DISTANCE);
+    Envelope[] queries = randomBoxes(50, new Random(2));
+    for (int i = 0; i < queries.length; i++) {
+      assertEquals(bruteForceDistance(small, queries[i]),
+          search.distance(smallTree.getRoot(), item(queries[i]), Double.POSITIVE_INFINITY, -1.0), 0.0);
+      assertEquals(bruteForceDistance(large, queries[i]),
+          search.distance(largeTree.getRoot(), item(queries[i]), Double.POSITIVE_INFINITY, -1.0), 0.0);
+    }
+  }
+
+  private static ItemBoundable item(Envelope env)
+  {
+    return new ItemBoundable(env, env);
+  }
+
+  private static STRtree buildTree(Envelope[] items)
+  {
+    STRtree tree = new STRtree(4);
+    for (int i = 0; i < items.length; i++) {
+      tree.insert(items[i], items[i]);
+    }
+    tree.build();
+    return tree;
+  }
+
+  private static double bruteForceDistance(Envelope[] items, Envelope env)
+  {
+    double min = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < items.length; i++) {
+      min = Math.min(min, items[i].distance(env));
+    }
+    return min;
+  }
+
+  private static Envelope[] randomBoxes(int n, Random rnd)
+  {
+    Envelope[] boxes = new Envelope[n];
+    for (int i = 0; i < n; i++) {
+      double x = 100 * rnd.nextDouble();
+      double y = 100 * rnd.nextDouble();
+      boxes[i] = new Envelope(x, x + rnd.nextDouble(), y, y + rnd.nextDouble());
+    }
+    return boxes;
+  }
+}
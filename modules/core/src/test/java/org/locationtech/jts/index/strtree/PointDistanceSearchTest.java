@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.strtree;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests {@link PointDistanceSearch}.
+ */
+public class PointDistanceSearchTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(PointDistanceSearchTest.class);
+  }
+
+  public PointDistanceSearchTest(String name) { super(name); }
+
+  private static final ItemPointDistance COORD_DISTANCE = new ItemPointDistance() {
+    public double distance(Object item, Coordinate pt) {
+      return ((Coordinate) item).distance(pt);
+    }
+  };
+
+  public void testEmpty()
+  {
+    STRtree tree = new STRtree();
+    PointDistanceSearch search = new PointDistanceSearch(tree, COORD_DISTANCE);
+    assertEquals(Double.POSITIVE_INFINITY, search.distance(new Coordinate(1, 1)), 0.0);
+  }
+
+  public void testRandom()
+  {
+    Coordinate[] items = randomPoints(1000, new Random(1));
+    PointDistanceSearch search = new PointDistanceSearch(buildTree(items), COORD_DISTANCE);
+    Coordinate[] queries = randomPoints(200, new Random(2));
+    for (int i = 0; i < queries.length; i++) {
+      assertEquals(bruteForceDistance(items, queries[i]), search.distance(queries[i]), 0.0);
+    }
+  }
+
+  public void testMaxDistance()
+  {
+    Coordinate[] items = randomPoints(1000, new Random(1));
+    PointDistanceSearch search = new PointDistanceSearch(buildTree(items), COORD_DISTANCE);
+    Coordinate[] queries = randomPoints(200, new Random(2));
+    double maxDistance = 1.0;
+    for (int i = 0; i < queries.length; i++) {
+      double expected = Math.min(maxDistance, bruteForceDistance(items, queries[i]));
+      assertEquals(expected, search.distance(queries[i], maxDistance, -1.0), 0.0);
+    }
+  }
+
+  public void testExitDistance()
+  {
+    Coordinate[] items = randomPoints(1000, new Random(1));
+    PointDistanceSearch search = new PointDistanceSearch(buildTree(items), COORD_DISTANCE);
+    Coordinate[] queries = randomPoints(200, new Random(2));
+    double exitDistance = 5.0;
+    for (int i = 0; i < queries.length; i++) {
+      double d = search.distance(queries[i], Double.POSITIVE_INFINITY, exitDistance);
+      double nearest = bruteForceDistance(items, queries[i]);
+      if (nearest > exitDistance) {
+        assertEquals(nearest, d, 0.0);
+      }
+      else {
+        assertTrue(d <= exitDistance);
+      }
+    }
+  }
+
+  public void testEnvelopeDistance()
+  {
+    Envelope env = new Envelope(0, 10, 0, 10);
+    assertEquals(0.0, PointDistanceSearch.distance(env, new Coordinate(5, 5)), 0.0);
+    assertEquals(0.0, PointDistanceSearch.distance(env, new Coordinate(10, 0)), 0.0);
+    assertEquals(3.0, PointDistanceSearch.distance(env, new Coordinate(5, 13)), 0.0);
+    assertEquals(5.0, PointDistanceSearch.distance(env, new Coordinate(-3, -4)), 0.0);
+  }
+
+  private static STRtree buildTree(Coordinate[] items)
+  {
+    STRtree tree = new STRtree(4);
+    for (int i = 0; i < items.length; i++) {
+      tree.insert(new Envelope(items[i]), items[i]);
+    }
+    tree.build();
+    return tree;
+  }
+
+  private static double bruteForceDistance(Coordinate[] items, Coordinate pt)
+  {
+    double min = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < items.length; i++) {
+      min = Math.min(min, items[i].distance(pt));
+    }
+    return min;
+  }
+
+  private static Coordinate[] randomPoints(int n, Random rnd)
+  {
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      pts[i] = new Coordinate(100 * rnd.nextDouble(), 100 * rnd.nextDouble());
+    }
+    return pts;
+  }
+}
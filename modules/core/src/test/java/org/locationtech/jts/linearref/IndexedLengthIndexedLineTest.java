@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.linearref;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link IndexedLengthIndexedLine} computes the same results
+ * as {@link LengthIndexedLine}.
+ */
+public class IndexedLengthIndexedLineTest
+    extends GeometryTestCase
+{
+  public static void main(String[] args) {
+    TestRunner.run(IndexedLengthIndexedLineTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public IndexedLengthIndexedLineTest(String name) {
+    super(name);
+  }
+
+  public void testProjectExtractPoint()
+  {
+    Geometry linearGeom = read("MULTILINESTRING ((0 2, 0 0), (-1 1, 1 1))");
+    IndexedLengthIndexedLine indexedLine = new IndexedLengthIndexedLine(linearGeom);
+    double index = indexedLine.project(new Coordinate(1, 0));
+    Coordinate pt = indexedLine.extractPoint(index);
+    assertTrue(pt.equals(new Coordinate(0, 0)));
+  }
+
+  public void testProjectPointWithDuplicateCoords()
+  {
+    Geometry linearGeom = read("LINESTRING (0 0, 10 0, 10 0, 20 0)");
+    IndexedLengthIndexedLine indexedLine = new IndexedLengthIndexedLine(linearGeom);
+    assertEquals(10.0, indexedLine.project(new Coordinate(10, 1)), 0.0);
+  }
+
+  public void testProjectEqualDistance()
+  {
+    // the first nearest segment is used
+    checkSame("LINESTRING (0 0, 10 0, 10 10, 0 10)", new Coordinate(5, 5));
+    checkSame("MULTILINESTRING ((0 0, 10 0), (10 10, 0 10), (0 0, 10 0))", new Coordinate(5, 5));
+  }
+
+  public void testExtractLineZeroLengthComponents()
+  {
+    checkSame("MULTILINESTRING ((0 0, 10 0), (10 0, 10 0), (20 0, 25 0, 25 0, 30 0))", new Coordinate(12, 1));
+    checkSame("MULTILINESTRING ((0 0, 0 0), (10 0, 10 0))", new Coordinate(0, 1));
+  }
+
+  public void testEmpty()
+  {
+    IndexedLengthIndexedLine indexedLine = new IndexedLengthIndexedLine(read("LINESTRING EMPTY"));
+    assertEquals(0.0, indexedLine.getEndIndex(), 0.0);
+    assertEquals(
+        new LengthIndexedLine(read("LINESTRING EMPTY")).project(new Coordinate(1, 1)),
+        indexedLine.project(new Coordinate(1, 1)), 0.0);
+  }
+
+  public void testLocationOf()
+  {
+    Geometry linearGeom = read("MULTILINESTRING ((0 0, 10 0), (10 10, 20 10))");
+    IndexedLengthIndexedLine indexedLine = new IndexedLengthIndexedLine(linearGeom);
+    LinearLocation loc = indexedLine.locationOf(15);
+    assertEquals(0, new LinearLocation(1, 0, 0.5).compareTo(loc));
+    assertEquals(15.0, indexedLine.lengthOf(loc), 0.0);
+  }
+
+  public void testRandom()
+  {
+    Random rnd = new Random(17);
+    for (int i = 0; i < 20; i++) {
+      Geometry line = randomLine(rnd, 1 + rnd.nextInt(4), 2 + rnd.nextInt(300));
+      checkRandom(rnd, line);
+    }
+  }
+
+  private void checkSame(String wkt, Coordinate pt)
+  {
+    Geometry linearGeom = read(wkt);
+    LengthIndexedLine line = new LengthIndexedLine(linearGeom);
+    IndexedLengthIndexedLine indexedLine = new IndexedLengthIndexedLine(linearGeom);
+    assertEquals(line.project(pt), indexedLine.project(pt), 0.0);
+    double end = line.getEndIndex();
+    for (double index = -end - 1; index <= end + 1; index += 0.5) {
+      checkSameIndex(linearGeom, line, indexedLine, index);
+      assertEquals(line.indexOfAfter(pt, index), indexedLine.indexOfAfter(pt, index), 0.0);
+    }
+  }
+
+  private void checkRandom(Random rnd, Geometry linearGeom)
+  {
+    LengthIndexedLine line = new LengthIndexedLine(linearGeom);
+    IndexedLengthIndexedLine indexedLine = new IndexedLengthIndexedLine(linearGeom);
+    double end = line.getEndIndex();
+    assertEquals(end, indexedLine.getEndIndex(), 0.0);
+
+    Coordinate[] pts = linearGeom.getCoordinates();
+    for (int i = 0; i < 100; i++) {
+      Coordinate pt = new Coordinate(
+          Math.floor(rnd.nextDouble() * 120 - 10),
+          Math.floor(rnd.nextDouble() * 120 - 10));
+      if (i % 4 == 0) pt = pts[rnd.nextInt(pts.length)];
+      assertEquals(line.project(pt), indexedLine.project(pt), 0.0);
+      assertEquals(line.indexOf(pt), indexedLine.indexOf(pt), 0.0);
+
+      double minIndex = rnd.nextDouble() * (end + 20) - 10;
+      assertEquals(line.indexOfAfter(pt, minIndex), indexedLine.indexOfAfter(pt, minIndex), 0.0);
+      double projIndex = line.project(pt);
+      assertEquals(line.indexOfAfter(pt, projIndex), indexedLine.indexOfAfter(pt, projIndex), 0.0);
+
+      double index = rnd.nextDouble() * (2 * end + 20) - end - 10;
+      checkSameIndex(linearGeom, line, indexedLine, index);
+      checkSameIndex(linearGeom, line, indexedLine, projIndex);
+      checkSameIndex(linearGeom, line, indexedLine, -projIndex);
+
+      double index2 = rnd.nextDouble() * (2 * end + 20) - end - 10;
+      assertTrue(line.extractLine(index, index2).equalsExact(indexedLine.extractLine(index, index2)));
+      assertTrue(line.extractLine(index, projIndex).equalsExact(indexedLine.extractLine(index, projIndex)));
+    }
+    // vertex indexes are at the boundaries of segments
+    for (int i = 0; i < linearGeom.getNumGeometries(); i++) {
+      LineString comp = (LineString) linearGeom.getGeometryN(i);
+      for (int j = 0; j < comp.getNumPoints(); j++) {
+        double index = LengthLocationMap.getLength(linearGeom, new LinearLocation(i, j, 0.0));
+        checkSameIndex(linearGeom, line, indexedLine, index);
+        assertTrue(line.extractLine(index, index).equalsExact(indexedLine.extractLine(index, index)));
+        assertTrue(line.extractLine(0, index).equalsExact(indexedLine.extractLine(0, index)));
+      }
+    }
+  }
+
+  private void checkSameIndex(Geometry linearGeom, LengthIndexedLine line,
+      IndexedLengthIndexedLine indexedLine, double index)
+  {
+    assertTrue(line.extractPoint(index).equals2D(indexedLine.extractPoint(index)));
+    Coordinate offsetPt = extractOffsetPoint(line, index);
+    if (offsetPt != null)
+      assertTrue(offsetPt.equals2D(extractOffsetPoint(indexedLine, index)));
+    assertEquals(line.clampIndex(index), indexedLine.clampIndex(index), 0.0);
+    assertEquals(line.isValidIndex(index), indexedLine.isValidIndex(index));
+
+    LinearLocation loc = LengthLocationMap.getLocation(linearGeom, index);
+    assertEquals(0, loc.compareTo(indexedLine.locationOf(index)));
+    assertEquals(LengthLocationMap.getLength(linearGeom, loc), indexedLine.lengthOf(loc), 0.0);
+  }
+
+  /**
+   * Extracts an offset point, or null if the index is on a zero-length segment.
+   */
+  private static Coordinate extractOffsetPoint(LengthIndexedLine line, double index)
+  {
+    try {
+      return line.extractPoint(index, 1.0);
+    }
+    catch (IllegalStateException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Creates a random walk on an integer grid,
+   * so that there are repeated points and segments at equal distances.
+   */
+  private Geometry randomLine(Random rnd, int numComp, int numPts)
+  {
+    LineString[] lines = new LineString[numComp];
+    for (int i = 0; i < numComp; i++) {
+      int n = i == 1 ? 2 : numPts;
+      Coordinate[] pts = new Coordinate[n];
+      double x = rnd.nextInt(100);
+      double y = rnd.nextInt(100);
+      for (int j = 0; j < n; j++) {
+        // a repeated point or a zero-length component
+        if (i != 1 && rnd.nextInt(10) > 0) {
+          x = Math.max(0, Math.min(100, x + rnd.nextInt(11) - 5));
+          y = Math.max(0, Math.min(100, y + rnd.nextInt(11) - 5));
+        }
+        pts[j] = new Coordinate(x, y);
+      }
+      lines[i] = geomFact.createLineString(pts);
+    }
+    if (numComp == 1) return lines[0];
+    return geomFact.createMultiLineString(lines);
+  }
+}
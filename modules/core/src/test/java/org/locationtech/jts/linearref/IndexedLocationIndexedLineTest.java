@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.linearref;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link IndexedLocationIndexedLine} computes the same results
+ * as {@link LocationIndexedLine}.
+ */
+public class IndexedLocationIndexedLineTest
+    extends GeometryTestCase
+{
+  public static void main(String[] args) {
+    TestRunner.run(IndexedLocationIndexedLineTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public IndexedLocationIndexedLineTest(String name) {
+    super(name);
+  }
+
+  public void testProject()
+  {
+    Geometry linearGeom = read("MULTILINESTRING ((0 2, 0 0), (-1 1, 1 1))");
+    IndexedLocationIndexedLine indexedLine = new IndexedLocationIndexedLine(linearGeom);
+    LinearLocation loc = indexedLine.project(new Coordinate(1, 0));
+    assertEquals(0, new LinearLocation(0, 0, 1.0).compareTo(loc));
+  }
+
+  public void testIndexOfAfterRibbon()
+  {
+    Geometry linearGeom = read("LINESTRING (0 0, 0 60, 50 60, 50 20, -20 20)");
+    IndexedLocationIndexedLine indexedLine = new IndexedLocationIndexedLine(linearGeom);
+    Coordinate pt = new Coordinate(0, 20);
+    LinearLocation loc = indexedLine.indexOf(pt);
+    LinearLocation locAfter = indexedLine.indexOfAfter(pt, loc);
+    assertEquals(0, loc.compareTo(new LinearLocation(0, 0, 1.0 / 3.0)));
+    assertEquals(0, locAfter.compareTo(new LinearLocation(0, 3, 5.0 / 7.0)));
+  }
+
+  public void testIndicesOf()
+  {
+    Geometry linearGeom = read("LINESTRING (0 0, 0 10, 10 10, 10 0, 0 0)");
+    Geometry subLine = read("LINESTRING (0 5, 0 10, 10 10, 10 0, 0 0, 0 5)");
+    checkIndicesOf(linearGeom, subLine);
+  }
+
+  public void testEqualDistance()
+  {
+    Geometry linearGeom = read("MULTILINESTRING ((0 0, 10 0), (10 10, 0 10), (0 0, 10 0))");
+    checkSame(linearGeom, new Coordinate(5, 5));
+    checkSame(linearGeom, new Coordinate(0, 0));
+  }
+
+  public void testRandom()
+  {
+    Random rnd = new Random(31);
+    for (int i = 0; i < 20; i++) {
+      Geometry linearGeom = randomLine(rnd, 1 + rnd.nextInt(4), 2 + rnd.nextInt(300));
+      LocationIndexedLine line = new LocationIndexedLine(linearGeom);
+      IndexedLocationIndexedLine indexedLine = new IndexedLocationIndexedLine(linearGeom);
+      Coordinate[] pts = linearGeom.getCoordinates();
+      for (int j = 0; j < 100; j++) {
+        Coordinate pt = new Coordinate(
+            Math.floor(rnd.nextDouble() * 120 - 10),
+            Math.floor(rnd.nextDouble() * 120 - 10));
+        if (j % 4 == 0) pt = pts[rnd.nextInt(pts.length)];
+        checkSame(linearGeom, pt);
+
+        LinearLocation minLoc = line.project(pts[rnd.nextInt(pts.length)]);
+        checkSameLocation(line.indexOfAfter(pt, minLoc), indexedLine.indexOfAfter(pt, minLoc));
+      }
+      Geometry subLine = line.extractLine(
+          line.project(pts[rnd.nextInt(pts.length)]),
+          line.project(pts[rnd.nextInt(pts.length)]));
+      if (! subLine.isEmpty())
+        checkIndicesOf(linearGeom, subLine);
+    }
+  }
+
+  private void checkSame(Geometry linearGeom, Coordinate pt)
+  {
+    LocationIndexedLine line = new LocationIndexedLine(linearGeom);
+    IndexedLocationIndexedLine indexedLine = new IndexedLocationIndexedLine(linearGeom);
+    LinearLocation loc = line.project(pt);
+    checkSameLocation(loc, indexedLine.project(pt));
+    checkSameLocation(line.indexOf(pt), indexedLine.indexOf(pt));
+    checkSameLocation(line.indexOfAfter(pt, loc), indexedLine.indexOfAfter(pt, loc));
+    checkSameLocation(line.indexOfAfter(pt, null), indexedLine.indexOfAfter(pt, null));
+  }
+
+  private void checkIndicesOf(Geometry linearGeom, Geometry subLine)
+  {
+    LinearLocation[] expected = new LocationIndexedLine(linearGeom).indicesOf(subLine);
+    LinearLocation[] actual = new IndexedLocationIndexedLine(linearGeom).indicesOf(subLine);
+    checkSameLocation(expected[0], actual[0]);
+    checkSameLocation(expected[1], actual[1]);
+  }
+
+  private void checkSameLocation(LinearLocation expected, LinearLocation actual)
+  {
+    assertEquals(expected.getComponentIndex(), actual.getComponentIndex());
+    assertEquals(expected.getSegmentIndex(), actual.getSegmentIndex());
+    assertEquals(expected.getSegmentFraction(), actual.getSegmentFraction(), 0.0);
+  }
+
+  /**
+   * Creates a random walk on an integer grid,
+   * so that there are repeated points and segments at equal distances.
+   */
+  private Geometry randomLine(Random rnd, int numComp, int numPts)
+  {
+    LineString[] lines = new LineString[numComp];
+    for (int i = 0; i < numComp; i++) {
+      Coordinate[] pts = new Coordinate[numPts];
+      double x = rnd.nextInt(100);
+      double y = rnd.nextInt(100);
+      for (int j = 0; j < numPts; j++) {
+        // some points are repeated
+        if (rnd.nextInt(10) > 0) {
+          x = Math.max(0, Math.min(100, x + rnd.nextInt(11) - 5));
+          y = Math.max(0, Math.min(100, y + rnd.nextInt(11) - 5));
+        }
+        pts[j] = new Coordinate(x, y);
+      }
+      lines[i] = geomFact.createLineString(pts);
+    }
+    if (numComp == 1) return lines[0];
+    return geomFact.createMultiLineString(lines);
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.linearref;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests {@link LineMatcher}.
+ */
+public class LineMatcherTest
+    extends GeometryTestCase
+{
+  public static void main(String[] args) {
+    TestRunner.run(LineMatcherTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public LineMatcherTest(String name) {
+    super(name);
+  }
+
+  public void testSimple()
+  {
+    Geometry[] lines = new Geometry[] {
+        read("LINESTRING (0 0, 10 0)"),
+        read("LINESTRING (0 10, 10 10)"),
+        read("LINESTRING EMPTY"),
+        read("MULTILINESTRING ((20 0, 20 10), (30 0, 30 10))")
+    };
+    LineMatcher matcher = new LineMatcher(lines);
+
+    LineMatch match = matcher.match(new Coordinate(5, 2), 5);
+    assertEquals(0, match.getLineIndex());
+    assertEquals(0, new LinearLocation(0, 0, 0.5).compareTo(match.getLocation()));
+    assertEquals(2.0, match.getDistance(), 0.0);
+
+    match = matcher.match(new Coordinate(29, 5), 5);
+    assertEquals(3, match.getLineIndex());
+    assertEquals(0, new LinearLocation(1, 0, 0.5).compareTo(match.getLocation()));
+    assertEquals(1.0, match.getDistance(), 0.0);
+
+    assertNull(matcher.match(new Coordinate(5, 20), 5));
+  }
+
+  public void testEqualDistance()
+  {
+    Geometry[] lines = new Geometry[] {
+        read("LINESTRING (0 10, 10 10)"),
+        read("LINESTRING (0 0, 10 0)"),
+        read("LINESTRING (0 -5, 10 -5, 10 5)")
+    };
+    LineMatch match = new LineMatcher(lines).match(new Coordinate(5, 5), 10);
+    assertEquals(0, match.getLineIndex());
+    assertEquals(5.0, match.getDistance(), 0.0);
+  }
+
+  public void testMaxDistance()
+  {
+    LineMatcher matcher = new LineMatcher(new Geometry[] { read("LINESTRING (0 0, 10 0)") });
+    assertEquals(0, matcher.match(new Coordinate(5, 3), 3).getLineIndex());
+    assertNull(matcher.match(new Coordinate(5, 3), 2.9));
+    // the envelope is within the maximum distance, but the line is not
+    assertNull(new LineMatcher(new Geometry[] { read("LINESTRING (0 0, 10 10)") })
+        .match(new Coordinate(0, 10), 5));
+    assertNull(matcher.match(new Coordinate(5, 0), -1));
+  }
+
+  public void testRandom()
+  {
+    checkRandom(null, 1000);
+    checkRandom(null, 7);
+  }
+
+  public void testExecutor()
+  {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      checkRandom(executor, 50);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  private void checkRandom(ExecutorService executor, int batchSize)
+  {
+    Random rnd = new Random(3);
+    Geometry[] lines = new Geometry[300];
+    for (int i = 0; i < lines.length; i++) {
+      lines[i] = randomLine(rnd);
+    }
+    Coordinate[] pts = new Coordinate[1000];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(Math.floor(rnd.nextDouble() * 1000), Math.floor(rnd.nextDouble() * 1000));
+    }
+    CoordinateSequence seq = geomFact.getCoordinateSequenceFactory().create(pts);
+    double maxDistance = 30;
+
+    LineMatcher matcher = new LineMatcher(lines);
+    matcher.setExecutor(executor);
+    matcher.setBatchSize(batchSize);
+    LineMatch[] matches = matcher.match(seq, maxDistance);
+    // the indexed lines are reused
+    LineMatch[] matches2 = matcher.match(seq, maxDistance);
+
+    for (int i = 0; i < pts.length; i++) {
+      LineMatch expected = matchBruteForce(lines, pts[i], maxDistance);
+      checkMatch(expected, matches[i]);
+      checkMatch(expected, matches2[i]);
+    }
+  }
+
+  private void checkMatch(LineMatch expected, LineMatch actual)
+  {
+    if (expected == null) {
+      assertNull(actual);
+      return;
+    }
+    assertEquals(expected.getLineIndex(), actual.getLineIndex());
+    assertEquals(0, expected.getLocation().compareTo(actual.getLocation()));
+    assertEquals(expected.getDistance(), actual.getDistance(), 0.0);
+  }
+
+  private static LineMatch matchBruteForce(Geometry[] lines, Coordinate pt, double maxDistance)
+  {
+    LineMatch minMatch = null;
+    for (int i = 0; i < lines.length; i++) {
+      LinearLocation loc = new LocationIndexedLine(lines[i]).project(pt);
+      double dist = pt.distance(loc.getCoordinate(lines[i]));
+      if (dist > maxDistance) continue;
+      if (minMatch == null || dist < minMatch.getDistance())
+        minMatch = new LineMatch(i, loc, dist);
+    }
+    return minMatch;
+  }
+
+  private Geometry randomLine(Random rnd)
+  {
+    int n = 2 + rnd.nextInt(20);
+    Coordinate[] pts = new Coordinate[n];
+    double x = rnd.nextInt(1000);
+    double y = rnd.nextInt(1000);
+    for (int j = 0; j < n; j++) {
+      x += rnd.nextInt(21) - 10;
+      y += rnd.nextInt(21) - 10;
+      pts[j] = new Coordinate(x, y);
+    }
+    return geomFact.createLineString(pts);
+  }
+}
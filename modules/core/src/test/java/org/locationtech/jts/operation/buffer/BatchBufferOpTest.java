@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link BatchBufferOp} produces the same buffers as {@link BufferOp}.
+ */
+public class BatchBufferOpTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(BatchBufferOpTest.class);
+  }
+
+  public BatchBufferOpTest(String name) {
+    super(name);
+  }
+
+  public void testSequential() {
+    checkBatch(createGeoms(), 1.5, null, 7);
+  }
+
+  public void testNegative() {
+    checkBatch(createGeoms(), -1.5, null, 7);
+  }
+
+  public void testExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      checkBatch(createGeoms(), 1.5, executor, 4);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testFlatCap() {
+    List geoms = new ArrayList();
+    geoms.add(read("LINESTRING (0 0, 10 10, 20 0)"));
+    geoms.add(read("LINESTRING (0 0, 10 0, 10 10, 0 10, 0 0)"));
+    geoms.add(read("POINT (5 5)"));
+    BufferParameters params = new BufferParameters();
+    params.setEndCapStyle(BufferParameters.CAP_FLAT);
+    checkBatch(geoms, 2, params, null, 2);
+  }
+
+  public void testUnion() {
+    List geoms = new ArrayList();
+    geoms.add(read("POINT (0 0)"));
+    geoms.add(read("POINT (1 0)"));
+    geoms.add(read("POINT (20 0)"));
+    geoms.add(read("LINESTRING (0 0, 20 0)"));
+    BatchBufferOp op = new BatchBufferOp(new BufferParameters());
+    op.setBatchSize(1);
+    Geometry union = op.bufferUnion(geoms, 1);
+    Geometry expected = read("LINESTRING (0 0, 20 0)").buffer(1);
+    assertTrue(union.getArea() > 0.99 * expected.getArea());
+    assertTrue(union.symDifference(expected).getArea() < 0.01 * expected.getArea());
+  }
+
+  public void testUnionEmptyResult() {
+    List geoms = new ArrayList();
+    geoms.add(read("LINESTRING (0 0, 20 0)"));
+    Geometry union = new BatchBufferOp(new BufferParameters()).bufferUnion(geoms, -1);
+    assertTrue(union.isEmpty());
+  }
+
+  public void testEmptyInput() {
+    Geometry[] result = BatchBufferOp.buffer(new ArrayList(), 1, new BufferParameters());
+    assertEquals(0, result.length);
+    assertNull(new BatchBufferOp(new BufferParameters()).bufferUnion(new ArrayList(), 1));
+  }
+
+  private List createGeoms()
+  {
+    List geoms = new ArrayList();
+    for (int i = 0; i < 25; i++) {
+      geoms.add(SineStarFactory.create(new Coordinate(i * 10, i % 5), 8, 50 + i, 5, 0.3));
+      geoms.add(SineStarFactory.create(new Coordinate(i * 10, 50), 8, 50 + i, 3, 0.5).getBoundary());
+    }
+    geoms.add(read("POINT (10 10)"));
+    geoms.add(read("POLYGON EMPTY"));
+    return geoms;
+  }
+
+  private void checkBatch(List geoms, double distance, ExecutorService executor, int batchSize)
+  {
+    checkBatch(geoms, distance, new BufferParameters(), executor, batchSize);
+  }
+
+  private void checkBatch(List geoms, double distance, BufferParameters params, 
+      ExecutorService executor, int batchSize)
+  {
+    BatchBufferOp op = new BatchBufferOp(params);
+    op.setExecutor(executor);
+    op.setBatchSize(batchSize);
+    Geometry[] result = op.buffer(geoms, distance);
+    assertEquals(geoms.size(), result.length);
+    for (int i = 0; i < result.length; i++) {
+      Geometry expected = BufferOp.bufferOp((Geometry) geoms.get(i), distance, params);
+      checkEqual(expected, result[i]);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.buffer;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.WKTReader;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests buffering in snap-rounding mode,
+ * and the counts of buffer passes.
+ */
+public class BufferSnapRoundingTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(BufferSnapRoundingTest.class);
+  }
+
+  public BufferSnapRoundingTest(String name) {
+    super(name);
+  }
+
+  public void testPolygon() {
+    checkSnapRounding("POLYGON ((10 10, 10 90, 90 90, 90 10, 10 10), (40 40, 60 40, 60 60, 40 60, 40 40))", 5);
+    checkSnapRounding("POLYGON ((10 10, 10 90, 90 90, 90 10, 10 10), (40 40, 60 40, 60 60, 40 60, 40 40))", -5);
+  }
+
+  public void testSelfCrossingLine() {
+    checkSnapRounding("LINESTRING (0 0, 100 100, 100 0, 0 100, 50 -20)", 3);
+  }
+
+  public void testLargeCoordinates() {
+    checkSnapRounding("LINESTRING (331384 5535032, 331397 5535031, 331415 5535025, 331426 5535022, 331436 5535016, 331451 5534999, 331460 5534994, 331468 5534993, 331474 5534996, 331479 5535001, 331482 5535015)", 100);
+  }
+
+  public void testPoint() {
+    checkSnapRounding("POINT (10 10)", 5);
+  }
+
+  public void testEmptyResult() {
+    Geometry buf = bufferSnapRounded(read("LINESTRING (0 0, 10 10)"), -1);
+    assertTrue(buf.isEmpty());
+  }
+
+  public void testSnapRoundingPassCount() {
+    BufferParameters params = new BufferParameters();
+    params.setSnapRounding(true);
+    checkPassCount(read("POLYGON ((10 10, 10 90, 90 90, 90 10, 10 10))"), 5, params, 1);
+    checkPassCount(read("LINESTRING (0 0, 100 100, 100 0, 0 100)"), 2, params, 1);
+  }
+
+  public void testFloatingPassCount() {
+    checkPassCount(read("POLYGON ((10 10, 10 90, 90 90, 90 10, 10 10))"), 5, new BufferParameters(), 1);
+  }
+
+  public void testFixedPrecision() throws Exception {
+    WKTReader fixedReader = new WKTReader(new GeometryFactory(new PrecisionModel(1.0)));
+    Geometry geom = fixedReader.read("LINESTRING (0 0, 100 100, 100 0, 0 100)");
+    Geometry buf = bufferSnapRounded(geom, 3);
+    assertTrue(buf.isValid());
+    assertTrue(buf.getCoordinates()[0].x == Math.rint(buf.getCoordinates()[0].x));
+  }
+
+  private void checkSnapRounding(String wkt, double distance)
+  {
+    Geometry geom = read(wkt);
+    Geometry expected = geom.buffer(distance);
+    Geometry actual = bufferSnapRounded(geom, distance);
+    assertTrue(actual.isValid());
+    double tolerance = 1e-6 * Math.max(1, expected.getArea());
+    assertEquals(expected.getArea(), actual.getArea(), tolerance);
+    assertTrue(expected.symDifference(actual).getArea() <= tolerance);
+  }
+
+  private static void checkPassCount(Geometry geom, double distance, BufferParameters params, int expectedPasses)
+  {
+    BufferOp op = new BufferOp(geom, params);
+    op.getResultGeometry(distance);
+    assertEquals(expectedPasses, op.getPassCount());
+  }
+
+  private static Geometry bufferSnapRounded(Geometry geom, double distance)
+  {
+    BufferParameters params = new BufferParameters();
+    params.setSnapRounding(true);
+    return BufferOp.bufferOp(geom, distance, params);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.buffer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.densify.Densifier;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link PartitionedBufferOp} produces
+ * buffers equal to those of {@link BufferOp}
+ * (up to the simplification tolerance).
+ */
+public class PartitionedBufferOpTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(PartitionedBufferOpTest.class);
+  }
+
+  public PartitionedBufferOpTest(String name) {
+    super(name);
+  }
+
+  public void testSineStar() {
+    Geometry poly = SineStarFactory.create(new Coordinate(0, 0), 100, 1000, 20, 0.3);
+    checkBuffer(poly, 1, 50);
+    checkBuffer(poly, 10, 50);
+  }
+
+  public void testHoleFilled() {
+    Geometry poly = read("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (49 49, 51 49, 51 51, 49 51, 49 49))");
+    checkBuffer(densify(poly), 5, 10);
+  }
+
+  public void testHoleShrunk() {
+    Geometry poly = read("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (20 20, 80 20, 80 80, 20 80, 20 20))");
+    checkBuffer(densify(poly), 5, 10);
+  }
+
+  public void testMultiPolygon() {
+    Geometry poly = read("MULTIPOLYGON (((0 0, 0 100, 100 100, 100 0, 0 0), (20 20, 80 20, 80 80, 20 80, 20 20)), ((40 40, 40 60, 60 60, 60 40, 40 40)), ((200 0, 200 100, 300 100, 300 0, 200 0)))");
+    checkBuffer(densify(poly), 5, 10);
+    checkBuffer(densify(poly), 60, 10);
+  }
+
+  public void testExecutor() {
+    Geometry poly = SineStarFactory.create(new Coordinate(0, 0), 100, 1000, 20, 0.3);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Geometry expected = BufferOp.bufferOp(poly, 2, new BufferParameters());
+      PartitionedBufferOp op = new PartitionedBufferOp(poly, new BufferParameters());
+      op.setSectionSize(50);
+      op.setExecutor(executor);
+      checkEqualBuffer(expected, op.getResultGeometry(2), 2);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testNegative() {
+    Geometry poly = SineStarFactory.create(new Coordinate(0, 0), 100, 1000, 20, 0.3);
+    checkBuffer(poly, -5, 50);
+  }
+
+  public void testLineString() {
+    Geometry line = densify(read("LINESTRING (0 0, 100 0, 100 100, 0 100, 0 10)"));
+    checkBuffer(line, 5, 10);
+  }
+
+  public void testMitreJoin() {
+    Geometry poly = SineStarFactory.create(new Coordinate(0, 0), 100, 1000, 20, 0.3);
+    BufferParameters params = new BufferParameters();
+    params.setJoinStyle(BufferParameters.JOIN_MITRE);
+    checkBuffer(poly, 2, 50, params);
+  }
+
+  /**
+   * The densified square has no vertices which can be simplified,
+   * so the result is identical to that of BufferOp
+   * (in particular it is not rounded).
+   */
+  public void testIdenticalToBufferOp() {
+    Geometry poly = densify(read("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (20 20, 80 20, 80 80, 20 80, 20 20))"));
+    PartitionedBufferOp op = new PartitionedBufferOp(poly, new BufferParameters());
+    op.setSectionSize(10);
+    checkEqual(poly.buffer(Math.PI), op.getResultGeometry(Math.PI));
+  }
+
+  private Geometry densify(Geometry geom)
+  {
+    return Densifier.densify(geom, 1);
+  }
+
+  private void checkBuffer(Geometry geom, double distance, int sectionSize)
+  {
+    checkBuffer(geom, distance, sectionSize, new BufferParameters());
+  }
+
+  private void checkBuffer(Geometry geom, double distance, int sectionSize, BufferParameters params)
+  {
+    Geometry expected = BufferOp.bufferOp(geom, distance, params);
+    PartitionedBufferOp op = new PartitionedBufferOp(geom, params);
+    op.setSectionSize(sectionSize);
+    Geometry actual = op.getResultGeometry(distance);
+    checkEqualBuffer(expected, actual, distance);
+  }
+
+  private void checkEqualBuffer(Geometry expected, Geometry actual, double distance)
+  {
+    assertTrue(actual.isValid());
+    assertEquals(expected.getNumGeometries(), actual.getNumGeometries());
+    assertEquals(numHoles(expected), numHoles(actual));
+    double tolerance = 0.01 * Math.abs(distance) * expected.getLength();
+    assertTrue(expected.symDifference(actual).getArea() < tolerance);
+  }
+
+  private static int numHoles(Geometry geom)
+  {
+    int n = 0;
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      n += ((Polygon) geom.getGeometryN(i)).getNumInteriorRing();
+    }
+    return n;
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.operation.union.CascadedPolygonUnion;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests {@link VariableBufferOp}.
+ * Results are compared to the union of the hulls of the vertex circles
+ * of each segment.
+ */
+public class VariableBufferOpTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(VariableBufferOpTest.class);
+  }
+
+  private GeometryFactory fact = new GeometryFactory();
+
+  public VariableBufferOpTest(String name) {
+    super(name);
+  }
+
+  public void testConstant() {
+    LineString line = (LineString) read("LINESTRING (0 0, 10 10, 20 0, 20 20, 0 20, 5 0)");
+    Geometry buf = VariableBufferOp.buffer(line, 2, 2);
+    Geometry expected = line.buffer(2);
+    checkBuffer(expected, buf, 0.001);
+  }
+
+  public void testTapered() {
+    checkVariable("LINESTRING (0 0, 10 10, 20 0, 30 10, 40 0)", new double[] { 1, 2, 3, 2, 1 });
+  }
+
+  public void testSelfIntersecting() {
+    checkVariable("LINESTRING (0 0, 50 50, 50 0, 0 50)", new double[] { 1, 5, 10, 2 });
+  }
+
+  public void testSharpTurns() {
+    checkVariable("LINESTRING (0 0, 30 1, 0 2, 30 3, 0 4)", new double[] { 0.5, 3, 0.1, 3, 0.5 });
+  }
+
+  public void testContainedCircle() {
+    checkVariable("LINESTRING (0 0, 10 0, 12 0, 30 0, 30 10)", new double[] { 1, 10, 1, 2, 2 });
+  }
+
+  public void testZeroDistanceVertex() {
+    checkVariable("LINESTRING (0 0, 10 0, 20 10)", new double[] { 0, 5, 0 });
+  }
+
+  public void testRepeatedPoint() {
+    checkVariable("LINESTRING (0 0, 10 0, 10 0, 20 10)", new double[] { 1, 2, 2, 1 });
+  }
+
+  public void testZeroDistance() {
+    LineString line = (LineString) read("LINESTRING (0 0, 10 10, 20 0)");
+    Geometry buf = VariableBufferOp.buffer(line, 0, 0);
+    assertTrue(buf.isEmpty());
+  }
+
+  public void testInterpolated() {
+    LineString line = (LineString) read("LINESTRING (0 0, 10 0, 20 0)");
+    Geometry buf = VariableBufferOp.buffer(line, 1, 3);
+    Geometry expected = VariableBufferOp.buffer(line, new double[] { 1, 2, 3 });
+    checkEqual(expected, buf);
+  }
+
+  public void testInvalidDistances() {
+    LineString line = (LineString) read("LINESTRING (0 0, 10 0, 20 0)");
+    try {
+      VariableBufferOp.buffer(line, new double[] { 1, 2 });
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+    }
+    try {
+      VariableBufferOp.buffer(line, new double[] { 1, -2, 3 });
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+    }
+  }
+
+  private void checkVariable(String wkt, double[] distance)
+  {
+    LineString line = (LineString) read(wkt);
+    Geometry buf = VariableBufferOp.buffer(line, distance);
+    checkBuffer(segmentHullUnion(line, distance), buf, 0.01);
+  }
+
+  private void checkBuffer(Geometry expected, Geometry actual, double tolerance)
+  {
+    assertTrue(actual.isValid());
+    double areaDiff = actual.symDifference(expected).getArea();
+    assertTrue(areaDiff <= tolerance * expected.getArea());
+  }
+
+  private Geometry segmentHullUnion(LineString line, double[] distance)
+  {
+    Coordinate[] pts = line.getCoordinates();
+    List parts = new ArrayList();
+    for (int i = 0; i < pts.length - 1; i++) {
+      Geometry c0 = circle(pts[i], distance[i]);
+      Geometry c1 = circle(pts[i + 1], distance[i + 1]);
+      parts.add(c0.union(c1).convexHull());
+    }
+    return CascadedPolygonUnion.union(parts);
+  }
+
+  private Geometry circle(Coordinate p, double radius)
+  {
+    Geometry pt = fact.createPoint(p);
+    if (radius <= 0.0) return pt;
+    return pt.buffer(radius, 32);
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.distance;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link BatchFacetDistance} computes the same distances
+ * as {@link IndexedFacetDistance}.
+ */
+public class BatchFacetDistanceTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(BatchFacetDistanceTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public BatchFacetDistanceTest(String name) {
+    super(name);
+  }
+
+  public void testPoints() {
+    Geometry target = read("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (20 20, 20 80, 80 80, 80 20, 20 20))");
+    Geometry pts = read("MULTIPOINT ((50 50), (10 10), (150 50), (0 0), (-10 -10), (50 100))");
+    double[] dist = BatchFacetDistance.distance(target,
+        geomFact.getCoordinateSequenceFactory().create(pts.getCoordinates()));
+    assertEquals(6, dist.length);
+    assertEquals(30.0, dist[0], 0.0);
+    assertEquals(10.0, dist[1], 0.0);
+    assertEquals(50.0, dist[2], 0.0);
+    assertEquals(0.0, dist[3], 0.0);
+    assertEquals(Math.sqrt(200.0), dist[4], 0.0);
+    assertEquals(0.0, dist[5], 0.0);
+  }
+
+  public void testGeometries() {
+    Geometry target = read("MULTILINESTRING ((0 0, 10 10, 20 0), (30 0, 40 10))");
+    Geometry[] geoms = new Geometry[] {
+        read("POINT (10 20)"),
+        read("LINESTRING (0 20, 40 20)"),
+        read("POLYGON ((12 0, 12 5, 18 5, 18 0, 12 0))"),
+        read("LINESTRING EMPTY")
+    };
+    double[] dist = new BatchFacetDistance(target).distance(geoms);
+    assertEquals(10.0, dist[0], 0.0);
+    assertEquals(10.0, dist[1], 0.0);
+    assertEquals(IndexedFacetDistance.distance(target, geoms[2]), dist[2], 0.0);
+    assertEquals(0.0, dist[3], 0.0);
+  }
+
+  public void testEmptyTarget() {
+    double[] dist = new BatchFacetDistance(read("POLYGON EMPTY"))
+        .distance(new Geometry[] { read("POINT (1 1)") });
+    assertEquals(0.0, dist[0], 0.0);
+  }
+
+  public void testRandomPoints() {
+    checkRandomPoints(null, 1000);
+    checkRandomPoints(null, 7);
+  }
+
+  public void testExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      checkRandomPoints(executor, 100);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  private void checkRandomPoints(ExecutorService executor, int batchSize) {
+    SineStarFactory gsf = new SineStarFactory(geomFact);
+    gsf.setSize(100);
+    gsf.setNumPoints(2000);
+    gsf.setNumArms(15);
+    Geometry target = gsf.createSineStar().getBoundary();
+
+    Random rnd = new Random(11);
+    Coordinate[] coords = new Coordinate[2000];
+    Geometry[] geoms = new Geometry[coords.length];
+    for (int i = 0; i < coords.length; i++) {
+      coords[i] = new Coordinate(rnd.nextDouble() * 200 - 50, rnd.nextDouble() * 200 - 50);
+      geoms[i] = geomFact.createPoint(coords[i]);
+    }
+    CoordinateSequence seq = geomFact.getCoordinateSequenceFactory().create(coords);
+
+    BatchFacetDistance batch = new BatchFacetDistance(target);
+    batch.setExecutor(executor);
+    batch.setBatchSize(batchSize);
+    double[] dist = batch.distance(seq);
+    double[] geomDist = batch.distance(geoms);
+
+    IndexedFacetDistance ifd = new IndexedFacetDistance(target);
+    for (int i = 0; i < coords.length; i++) {
+      double expected = ifd.distance(geoms[i]);
+      assertEquals(expected, dist[i], 0.0);
+      assertEquals(expected, geomDist[i], 0.0);
+    }
+  }
+}
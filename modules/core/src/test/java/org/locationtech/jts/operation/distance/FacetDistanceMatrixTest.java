@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.distance;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests {@link FacetDistanceMatrix}.
+ */
+public class FacetDistanceMatrixTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(FacetDistanceMatrixTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public FacetDistanceMatrixTest(String name) {
+    super(name);
+  }
+
+  public void testSimple() {
+    Geometry[] geoms = new Geometry[] {
+        read("POINT (0 0)"),
+        read("LINESTRING (0 10, 10 10)")
+    };
+    Geometry[] targets = new Geometry[] {
+        read("POINT (3 4)"),
+        read("POLYGON ((20 0, 20 10, 30 10, 30 0, 20 0))"),
+        read("POINT EMPTY")
+    };
+    double[][] dist = FacetDistanceMatrix.distance(geoms, targets, 15);
+    assertEquals(5.0, dist[0][0], 0.0);
+    assertEquals(Double.POSITIVE_INFINITY, dist[0][1], 0.0);
+    assertEquals(0.0, dist[0][2], 0.0);
+    assertEquals(6.0, dist[1][0], 0.0);
+    assertEquals(10.0, dist[1][1], 0.0);
+    assertEquals(0.0, dist[1][2], 0.0);
+  }
+
+  public void testRandom() {
+    checkRandom(null);
+  }
+
+  public void testExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      checkRandom(executor);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  private void checkRandom(ExecutorService executor) {
+    Random rnd = new Random(5);
+    Geometry[] geoms = randomStars(rnd, 30);
+    Geometry[] targets = randomStars(rnd, 40);
+    double maxDistance = 50;
+
+    FacetDistanceMatrix matrix = new FacetDistanceMatrix(targets);
+    matrix.setExecutor(executor);
+    // use several batches
+    matrix.setBatchSize(7);
+    double[][] dist = matrix.distance(geoms, maxDistance);
+    // the target indexes are reused
+    double[][] dist2 = matrix.distance(geoms, maxDistance);
+
+    for (int i = 0; i < geoms.length; i++) {
+      for (int j = 0; j < targets.length; j++) {
+        double d = IndexedFacetDistance.distance(geoms[i], targets[j]);
+        double expected = d <= maxDistance ? d : Double.POSITIVE_INFINITY;
+        assertEquals(expected, dist[i][j], 0.0);
+        assertEquals(expected, dist2[i][j], 0.0);
+        assertEquals(geoms[i].distance(targets[j]) <= maxDistance,
+            dist[i][j] <= maxDistance);
+      }
+    }
+  }
+
+  private Geometry[] randomStars(Random rnd, int n) {
+    Geometry[] geoms = new Geometry[n];
+    SineStarFactory gsf = new SineStarFactory(geomFact);
+    gsf.setSize(20);
+    gsf.setNumPoints(100);
+    for (int i = 0; i < n; i++) {
+      gsf.setCentre(new Coordinate(rnd.nextDouble() * 500, rnd.nextDouble() * 500));
+      geoms[i] = gsf.createSineStar().getBoundary();
+    }
+    return geoms;
+  }
+}
@@ -22,4 +22,18 @@ public class IndexedFacetDistanceTest extends AbstractDistanceTest {
   public void testClosestPoints7() {
     // skip this test for now, since it relies on checking point-in-polygon
   }
+  
+  public void testWithinDistance() throws Exception {
+    checkWithinDistance("LINESTRING (0 0, 10 10, 20 0, 30 10)", "LINESTRING (0 20, 30 20)", 9, false);
+    checkWithinDistance("LINESTRING (0 0, 10 10, 20 0, 30 10)", "LINESTRING (0 20, 30 20)", 10, true);
+    checkWithinDistance("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0))", "POINT (110 50)", 10, true);
+    checkWithinDistance("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0))", "POINT (200 200)", 10, false);
+  }
+  
+  private void checkWithinDistance(String wkt1, String wkt2, double distance, boolean expected) throws Exception {
+    Geometry g1 = read(wkt1);
+    Geometry g2 = read(wkt2);
+    IndexedFacetDistance ifd = new IndexedFacetDistance(g1);
+    assertEquals(expected, ifd.isWithinDistance(g2, distance));
+  }
 }
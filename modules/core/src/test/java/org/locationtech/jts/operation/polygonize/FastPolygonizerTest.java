@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.polygonize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link FastPolygonizer} computes the same results as {@link Polygonizer}.
+ */
+public class FastPolygonizerTest extends GeometryTestCase {
+
+  public static void main(String[] args) {
+    TestRunner.run(FastPolygonizerTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public FastPolygonizerTest(String name) {
+    super(name);
+  }
+
+  public void testEmpty() {
+    checkPolygonize(false, new String[]{"LINESTRING EMPTY", "LINESTRING EMPTY"},
+      new String[]{});
+  }
+
+  public void testHoleInShell() {
+    checkPolygonize(false, new String[]{
+        "LINESTRING (100 180, 20 20, 160 20, 100 180)",
+        "LINESTRING (100 180, 80 60, 120 60, 100 180)",
+    },
+    new String[]{
+        "POLYGON ((100 180, 120 60, 80 60, 100 180))",
+        "POLYGON ((100 180, 160 20, 20 20, 100 180), (100 180, 80 60, 120 60, 100 180))"
+    });
+  }
+
+  public void testCutEdge() {
+    checkPolygonize(false, new String[]{
+        "LINESTRING (0 0, 4 0)",
+        "LINESTRING (4 0, 5 3)",
+        "LINESTRING (5 3, 4 6, 6 6, 5 3)",
+        "LINESTRING (5 3, 6 0)",
+        "LINESTRING (6 0, 10 0, 5 10, 0 0)",
+        "LINESTRING (4 0, 6 0)"
+    },
+    new String[]{
+        "POLYGON ((5 3, 4 0, 0 0, 5 10, 10 0, 6 0, 5 3), (5 3, 6 6, 4 6, 5 3))",
+        "POLYGON ((5 3, 4 6, 6 6, 5 3))",
+        "POLYGON ((4 0, 5 3, 6 0, 4 0))"
+    });
+  }
+
+  public void testPolygonal() {
+    checkPolygonize(true, new String[]{
+        "LINESTRING (100 100, 100 0, 0 0, 0 100, 100 100)",
+        "LINESTRING (10 10, 10 30, 20 30)",
+        "LINESTRING (20 30, 30 30, 30 20)",
+        "LINESTRING (30 20, 30 10, 10 10)",
+        "LINESTRING (40 40, 40 20, 30 20)",
+        "LINESTRING (30 20, 20 20, 20 30)",
+        "LINESTRING (20 30, 20 40, 40 40))"
+    },
+    new String[]{
+        "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (10 10, 30 10, 30 20, 40 20, 40 40, 20 40, 20 30, 10 30, 10 10))",
+        "POLYGON ((20 20, 20 30, 30 30, 30 20, 20 20))"
+    });
+  }
+
+  public void testPolygonalOuterOnly() {
+    checkPolygonize(true, new String[] {
+        "LINESTRING (100 400, 200 400, 200 300)",
+        "LINESTRING (200 300, 150 300)",
+        "LINESTRING (150 300, 100 300, 100 400)",
+        "LINESTRING (200 300, 250 300, 250 200)",
+        "LINESTRING (250 200, 200 200)",
+        "LINESTRING (200 200, 150 200, 150 300)",
+        "LINESTRING (250 200, 300 200, 300 100, 200 100, 200 200)"
+    },
+    new String[]{
+        "POLYGON ((150 300, 100 300, 100 400, 200 400, 200 300, 150 300))",
+        "POLYGON ((200 200, 250 200, 300 200, 300 100, 200 100, 200 200))"
+    });
+  }
+
+  public void testDanglesAndInvalidRings() {
+    checkSame(new String[] {
+        "LINESTRING (0 0, 10 0, 10 10, 0 10, 0 0)",
+        // dangles
+        "LINESTRING (10 10, 20 20)",
+        "LINESTRING (20 20, 30 20)",
+        "LINESTRING (20 20, 20 30)",
+        // a self-intersecting ring
+        "LINESTRING (50 0, 60 10, 60 0, 50 10, 50 0)",
+        // duplicate edges
+        "LINESTRING (100 0, 110 0)",
+        "LINESTRING (100 0, 110 0)",
+        "LINESTRING (110 0, 110 10, 100 10, 100 0)",
+        // repeated points
+        "LINESTRING (200 0, 200 0, 210 0, 210 10, 210 10)",
+        "LINESTRING (210 10, 200 10, 200 0, 200 0)",
+        // a negative zero
+        "LINESTRING (-0 -10, 5 -20, 0 -10)"
+    });
+  }
+
+  public void testRandom() {
+    Random rnd = new Random(13);
+    for (int i = 0; i < 10; i++) {
+      // the polygonal extraction of Polygonizer depends on the order of the input
+      // for networks like these, so only the full polygonization is compared
+      checkSame(randomNetwork(rnd, 40), false);
+    }
+  }
+
+  public void testNestedRings() {
+    List lines = new ArrayList();
+    for (int i = 0; i < 10; i++) {
+      lines.add(read("LINESTRING (" + i + " " + i + ", " + (100 - i) + " " + i + ", "
+          + (100 - i) + " " + (100 - i) + ", " + i + " " + (100 - i) + ", " + i + " " + i + ")"));
+    }
+    // many holes in one large shell
+    StringBuffer shell = new StringBuffer("LINESTRING (200 0");
+    for (int i = 1; i <= 200; i++) {
+      shell.append(", " + (200 + i) + " 0");
+    }
+    shell.append(", 400 100, 200 100, 200 0)");
+    lines.add(read(shell.toString()));
+    for (int i = 0; i < 19; i++) {
+      double x = 205 + 10 * i;
+      lines.add(read("LINESTRING (" + x + " 40, " + (x + 5) + " 40, " + (x + 5) + " 60, " + x + " 60, " + x + " 40)"));
+    }
+    checkSame(lines);
+  }
+
+  private void checkPolygonize(boolean extractOnlyPolygonal, String[] inputWKT, String[] expectedWKT) {
+    FastPolygonizer polygonizer = new FastPolygonizer(extractOnlyPolygonal);
+    polygonizer.add(readList(inputWKT));
+    List expected = readList(expectedWKT);
+    Collection actual = polygonizer.getPolygons();
+    checkEqual(expected, actual);
+  }
+
+  private void checkSame(String[] inputWKT) {
+    checkSame(readList(inputWKT));
+  }
+
+  private void checkSame(Collection lines) {
+    checkSame(lines, false);
+    checkSame(lines, true);
+  }
+
+  private void checkSame(Collection lines, boolean extractOnlyPolygonal) {
+    Polygonizer polygonizer = new Polygonizer(extractOnlyPolygonal);
+    polygonizer.add(lines);
+    FastPolygonizer fastPolygonizer = new FastPolygonizer(extractOnlyPolygonal);
+    fastPolygonizer.add(lines);
+
+    checkEqual(polygonizer.getPolygons(), fastPolygonizer.getPolygons());
+    checkEqual(polygonizer.getDangles(), fastPolygonizer.getDangles());
+    checkEqual(polygonizer.getCutEdges(), fastPolygonizer.getCutEdges());
+    checkEqual(polygonizer.getInvalidRingLines(), fastPolygonizer.getInvalidRingLines());
+  }
+
+  /**
+   * Creates a noded network of random lines.
+   */
+  private Collection randomNetwork(Random rnd, int numLines) {
+    Geometry[] lines = new Geometry[numLines];
+    for (int i = 0; i < numLines; i++) {
+      Coordinate[] pts = new Coordinate[2 + rnd.nextInt(3)];
+      for (int j = 0; j < pts.length; j++) {
+        pts[j] = new Coordinate(rnd.nextInt(100), rnd.nextInt(100));
+      }
+      lines[i] = geomFact.createLineString(pts);
+    }
+    Geometry noded = geomFact.createGeometryCollection(lines).union();
+    List edges = new ArrayList();
+    for (int i = 0; i < noded.getNumGeometries(); i++) {
+      edges.add(noded.getGeometryN(i));
+    }
+    return edges;
+  }
+}
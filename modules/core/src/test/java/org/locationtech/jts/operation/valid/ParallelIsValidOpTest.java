@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link ParallelIsValidOp} computes the same validity as {@link IsValidOp}.
+ */
+public class ParallelIsValidOpTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(ParallelIsValidOpTest.class);
+  }
+
+  public ParallelIsValidOpTest(String name) {
+    super(name);
+  }
+
+  public void testValidMultiPolygon() {
+    checkValid("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0), (2 2, 2 8, 8 8, 8 2, 2 2)), ((3 3, 3 7, 7 7, 7 3, 3 3)), ((20 0, 20 10, 30 10, 20 0)), ((10 10, 15 15, 20 10, 10 10)))", true);
+  }
+
+  public void testOverlappingShells() {
+    checkValid("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((100 100, 100 110, 110 110, 100 100)), ((5 5, 5 15, 15 15, 15 5, 5 5)))", false);
+  }
+
+  public void testNestedShells() {
+    checkValid("MULTIPOLYGON (((100 100, 100 110, 110 110, 100 100)), ((0 0, 0 10, 10 10, 10 0, 0 0)), ((3 3, 3 7, 7 7, 7 3, 3 3)))", false);
+  }
+
+  public void testShellsTouchingAlongEdge() {
+    checkValid("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((10 0, 10 10, 20 10, 20 0, 10 0)))", false);
+  }
+
+  public void testCollection() {
+    checkValid("GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 1 1), POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0)), POLYGON ((5 5, 5 15, 15 15, 15 5, 5 5)))", true);
+  }
+
+  public void testCollectionInvalidElement() {
+    checkValid("GEOMETRYCOLLECTION (POINT (1 1), POLYGON ((0 0, 10 10, 0 10, 10 0, 0 0)), POLYGON ((5 5, 5 15, 15 15, 15 5, 5 5)))", false);
+  }
+
+  public void testHoleOutsideShell() {
+    checkValid("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (20 20, 20 30, 30 30, 20 20))", false);
+  }
+
+  public void testNestedHoles() {
+    checkValid("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (1 1, 1 9, 9 9, 9 1, 1 1), (2 2, 2 8, 8 8, 8 2, 2 2))", false);
+  }
+
+  public void testFirstError() {
+    Geometry geom = read("GEOMETRYCOLLECTION (POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0)), POLYGON ((0 0, 10 10, 0 10, 10 0, 0 0)), LINESTRING (0 0, 0 0))");
+    ParallelIsValidOp op = new ParallelIsValidOp(geom);
+    op.setBatchSize(1);
+    TopologyValidationError err = op.getValidationError();
+    assertEquals(TopologyValidationError.SELF_INTERSECTION, err.getErrorType());
+  }
+
+  public void testExecutor() {
+    GeometryFactory geomFact = new GeometryFactory();
+    Polygon[] polys = new Polygon[1000];
+    for (int i = 0; i < polys.length; i++) {
+      double x = 3 * (i % 30);
+      double y = 3 * (i / 30);
+      polys[i] = (Polygon) geomFact.createPoint(new Coordinate(x, y)).buffer(1);
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      Geometry mp = geomFact.createMultiPolygon(polys);
+      checkValid(mp, executor, true);
+
+      // make one element overlap its neighbour
+      polys[500] = (Polygon) polys[500].buffer(1.5);
+      mp = geomFact.createMultiPolygon(polys);
+      checkValid(mp, executor, false);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  private void checkValid(String wkt, boolean expected) {
+    Geometry geom = read(wkt);
+    checkValid(geom, null, expected);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      checkValid(geom, executor, expected);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  private void checkValid(Geometry geom, ExecutorService executor, boolean expected) {
+    assertEquals(expected, new IsValidOp(geom).isValid());
+    ParallelIsValidOp op = new ParallelIsValidOp(geom);
+    op.setExecutor(executor);
+    op.setBatchSize(1);
+    assertEquals(expected, op.isValid());
+    assertEquals(expected, op.getValidationError() == null);
+    assertEquals(expected, ParallelIsValidOp.isValid(geom, executor));
+  }
+}
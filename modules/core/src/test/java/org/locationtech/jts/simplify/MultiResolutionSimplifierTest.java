@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link MultiResolutionSimplifier} computes the same results as
+ * {@link DouglasPeuckerSimplifier} and {@link VWSimplifier}.
+ */
+public class MultiResolutionSimplifierTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(MultiResolutionSimplifierTest.class);
+  }
+
+  private static final double[] TOLERANCES = new double[] {
+    0, 0.1, 0.5, 1, 1.5, 2, 3, 5, 10, 20, 100
+  };
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public MultiResolutionSimplifierTest(String name) {
+    super(name);
+  }
+
+  public void testEmpty() {
+    checkSimplify("POLYGON EMPTY");
+    checkSimplify("LINESTRING EMPTY");
+  }
+
+  public void testPoint() {
+    Geometry geom = read("POINT (10 10)");
+    MultiResolutionSimplifier simp = new MultiResolutionSimplifier(geom,
+        MultiResolutionSimplifier.VISVALINGAM_WHYATT);
+    checkEqual(geom, simp.getResultGeometry(10));
+  }
+
+  public void testLine() {
+    checkSimplify("LINESTRING (0 5, 1 5, 2 5, 5 5, 10 5, 11 4, 12 6, 13 5, 20 5, 22 10, 30 5)");
+  }
+
+  /**
+   * Many vertices have equal significance, testing the tie-breaking order
+   */
+  public void testEqualAreas() {
+    checkSimplify("LINESTRING (0 0, 1 1, 2 0, 3 1, 4 0, 5 1, 6 0, 7 1, 8 0, 9 1, 10 0)");
+    checkSimplify("LINESTRING (0 0, 1 0, 2 0, 3 0, 4 0, 5 0, 6 0)");
+  }
+
+  public void testPolygonWithHole() {
+    checkSimplify("POLYGON ((10 10, 10 90, 50 92, 90 90, 91 50, 90 10, 50 12, 10 10), (30 30, 31 50, 30 70, 50 69, 70 70, 69 50, 70 30, 50 31, 30 30))");
+  }
+
+  public void testMultiPolygon() {
+    checkSimplify("MULTIPOLYGON (((0 0, 0 10, 5 11, 10 10, 10 0, 0 0)), ((20 0, 20 10, 25 9, 30 10, 30 0, 20 0)))");
+  }
+
+  public void testCollection() {
+    checkSimplify("GEOMETRYCOLLECTION (LINESTRING (0 0, 5 1, 10 0), POLYGON ((0 0, 0 10, 5 11, 10 10, 10 0, 0 0)))");
+  }
+
+  public void testRandomLines() {
+    Random rnd = new Random(42);
+    for (int n = 0; n < 20; n++) {
+      Coordinate[] pts = new Coordinate[200];
+      double x = 0;
+      double y = 0;
+      for (int i = 0; i < pts.length; i++) {
+        // snap to a grid to produce some equal areas
+        x += Math.round(rnd.nextDouble() * 4);
+        y += Math.round(rnd.nextDouble() * 8 - 4);
+        pts[i] = new Coordinate(x, y);
+      }
+      checkSimplify(geomFact.createLineString(pts));
+    }
+  }
+
+  public void testSineStar() {
+    SineStarFactory gsf = new SineStarFactory(geomFact);
+    gsf.setSize(100);
+    gsf.setNumPoints(1000);
+    gsf.setArmLengthRatio(0.2);
+    gsf.setNumArms(20);
+    checkSimplify(gsf.createSineStar());
+  }
+
+  private void checkSimplify(String wkt) {
+    checkSimplify(read(wkt));
+  }
+
+  private void checkSimplify(Geometry geom) {
+    MultiResolutionSimplifier dp = new MultiResolutionSimplifier(geom,
+        MultiResolutionSimplifier.DOUGLAS_PEUCKER);
+    MultiResolutionSimplifier vw = new MultiResolutionSimplifier(geom,
+        MultiResolutionSimplifier.VISVALINGAM_WHYATT);
+    for (int i = 0; i < TOLERANCES.length; i++) {
+      double tol = TOLERANCES[i];
+      checkEqualExact(DouglasPeuckerSimplifier.simplify(geom, tol), dp.getResultGeometry(tol));
+      checkEqualExact(VWSimplifier.simplify(geom, tol), vw.getResultGeometry(tol));
+    }
+  }
+
+  private static void checkEqualExact(Geometry expected, Geometry actual) {
+    boolean isEqual = expected.equalsExact(actual);
+    if (! isEqual) {
+      System.out.println("FAIL - Expected = " + expected + " actual = " + actual);
+    }
+    assertTrue(isEqual);
+  }
+}
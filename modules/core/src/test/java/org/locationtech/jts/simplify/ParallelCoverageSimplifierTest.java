@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests {@link ParallelCoverageSimplifier}.
+ */
+public class ParallelCoverageSimplifierTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(ParallelCoverageSimplifierTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public ParallelCoverageSimplifierTest(String name) {
+    super(name);
+  }
+
+  /**
+   * Each ring has two edges, so the shared edge keeps a third point
+   */
+  public void testSharedEdge() {
+    Geometry[] result = checkSimplify(new String[] {
+        "POLYGON ((0 0, 0 10, 5 10, 5.5 8, 4.5 6, 5.5 4, 4.5 2, 5 0, 0 0))",
+        "POLYGON ((5 0, 4.5 2, 5.5 4, 4.5 6, 5.5 8, 5 10, 10 10, 10 0, 5 0))"
+    }, 1);
+    checkEqual(read("POLYGON ((0 0, 0 10, 5 10, 5.5 8, 5 0, 0 0))"), result[0]);
+    checkEqual(read("POLYGON ((5 0, 5.5 8, 5 10, 10 10, 10 0, 5 0))"), result[1]);
+  }
+
+  /**
+   * The rings of a 2 x 2 grid have three edges, so shared edges can be fully simplified
+   */
+  public void testGridCells() {
+    Geometry[] result = checkSimplify(new String[] {
+        "POLYGON ((0 0, 0 10, 4.5 10.5, 10 10, 10.5 5, 10 0, 0 0))",
+        "POLYGON ((10 0, 10.5 5, 10 10, 15.5 9.5, 20 10, 20 0, 10 0))",
+        "POLYGON ((0 10, 0 20, 10 20, 10.5 15, 10 10, 4.5 10.5, 0 10))",
+        "POLYGON ((10 10, 10.5 15, 10 20, 20 20, 20 10, 15.5 9.5, 10 10))"
+    }, 1);
+    checkEqual(read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))"), result[0]);
+    checkEqual(read("POLYGON ((10 10, 10 20, 20 20, 20 10, 10 10))"), result[3]);
+  }
+
+  public void testZeroTolerance() {
+    String[] wkt = new String[] {
+        "POLYGON ((0 0, 0 10, 5 10, 5.5 8, 4.5 6, 5.5 4, 4.5 2, 5 0, 0 0))",
+        "POLYGON ((5 0, 4.5 2, 5.5 4, 4.5 6, 5.5 8, 5 10, 10 10, 10 0, 5 0))"
+    };
+    Geometry[] result = checkSimplify(wkt, 0);
+    for (int i = 0; i < wkt.length; i++) {
+      checkEqual(read(wkt[i]), result[i]);
+    }
+  }
+
+  /**
+   * Each ring consists of two edges, which must not collapse
+   */
+  public void testTwoEdgeRings() {
+    checkSimplify(new String[] {
+        "POLYGON ((0 0, 0 10, 5.5 8, 4.5 6, 5.5 4, 4.5 2, 10 0, 0 0))",
+        "POLYGON ((10 0, 4.5 2, 5.5 4, 4.5 6, 5.5 8, 0 10, 10 10, 10 0))"
+    }, 100);
+  }
+
+  /**
+   * The hole ring contains no nodes, and is shared with the island polygon
+   */
+  public void testIsland() {
+    Geometry[] result = checkSimplify(new String[] {
+        "POLYGON ((0 0, 0 20, 20 20, 20 0, 0 0), (5 5, 6 10, 5 15, 10 14, 15 15, 14 10, 15 5, 10 6, 5 5))",
+        "POLYGON ((10 6, 15 5, 14 10, 15 15, 10 14, 5 15, 6 10, 5 5, 10 6))"
+    }, 2);
+    Polygon poly = (Polygon) result[0];
+    Geometry hole = geomFact.createPolygon(poly.getInteriorRingN(0).getCoordinates());
+    assertTrue(hole.equalsTopo(result[1]));
+    assertTrue(result[1].getNumPoints() >= 4);
+  }
+
+  public void testMultiPolygon() {
+    checkSimplify(new String[] {
+        "MULTIPOLYGON (((0 0, 0 10, 5 10, 5.5 8, 4.5 6, 5.5 4, 4.5 2, 5 0, 0 0)), ((20 0, 20 10, 30 10, 30 0, 20 0)))",
+        "POLYGON ((5 0, 4.5 2, 5.5 4, 4.5 6, 5.5 8, 5 10, 10 10, 10 0, 5 0))",
+        "POLYGON EMPTY"
+    }, 1);
+  }
+
+  public void testGrid() {
+    Geometry[] coverage = createGrid(12, 20);
+    Geometry[] expected = ParallelCoverageSimplifier.simplify(coverage, 1, null);
+    checkCoverage(coverage, expected);
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      ParallelCoverageSimplifier simp = new ParallelCoverageSimplifier(coverage);
+      simp.setDistanceTolerance(1);
+      simp.setExecutor(executor);
+      Geometry[] result = simp.getResult();
+      for (int i = 0; i < result.length; i++) {
+        assertTrue(expected[i].equalsExact(result[i]));
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testGridSizes() {
+    Geometry[] coverage = createGrid(10, 20);
+    for (int gridSize = 1; gridSize <= 16; gridSize *= 2) {
+      ParallelCoverageSimplifier simp = new ParallelCoverageSimplifier(coverage);
+      simp.setDistanceTolerance(2);
+      simp.setGridSize(gridSize);
+      checkCoverage(coverage, simp.getResult());
+    }
+  }
+
+  private Geometry[] checkSimplify(String[] wkt, double tolerance) {
+    Geometry[] coverage = new Geometry[wkt.length];
+    for (int i = 0; i < wkt.length; i++) {
+      coverage[i] = read(wkt[i]);
+    }
+    Geometry[] result = ParallelCoverageSimplifier.simplify(coverage, tolerance, null);
+    checkCoverage(coverage, result);
+    return result;
+  }
+
+  /**
+   * Checks that the result elements are valid,
+   * have the same structure as the input
+   * and form a coverage with no gaps or overlaps
+   * (which can only happen if shared edges are identical).
+   */
+  private void checkCoverage(Geometry[] coverage, Geometry[] result) {
+    assertEquals(coverage.length, result.length);
+    double area = 0.0;
+    for (int i = 0; i < result.length; i++) {
+      assertTrue(result[i].isValid());
+      assertTrue(SameStructureTester.isSameStructure(coverage[i], result[i]));
+      area += result[i].getArea();
+    }
+    Geometry union = geomFact.createGeometryCollection(result).union();
+    assertEquals(area, union.getArea(), 1e-9 * area);
+
+    Geometry inputUnion = geomFact.createGeometryCollection(coverage).union();
+    assertEquals(inputUnion.getNumGeometries(), union.getNumGeometries());
+    for (int i = 0; i < union.getNumGeometries(); i++) {
+      assertEquals(((Polygon) inputUnion.getGeometryN(i)).getNumInteriorRing(),
+          ((Polygon) union.getGeometryN(i)).getNumInteriorRing());
+    }
+  }
+
+  /**
+   * Creates a grid of square cells with wiggly edges.
+   * Each edge is created once and shared by the adjacent cells.
+   */
+  private Geometry[] createGrid(int nSide, int nEdgePts) {
+    Random rnd = new Random(13);
+    Coordinate[][][] hEdges = new Coordinate[nSide][nSide + 1][];
+    Coordinate[][][] vEdges = new Coordinate[nSide + 1][nSide][];
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j <= nSide; j++) {
+        hEdges[i][j] = createEdge(new Coordinate(10 * i, 10 * j), 10, 0, nEdgePts, rnd);
+        vEdges[j][i] = createEdge(new Coordinate(10 * j, 10 * i), 0, 10, nEdgePts, rnd);
+      }
+    }
+    Geometry[] cells = new Geometry[nSide * nSide];
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        CoordinateList pts = new CoordinateList();
+        pts.add(hEdges[i][j], false);
+        pts.add(vEdges[i + 1][j], false);
+        pts.add(hEdges[i][j + 1], false, false);
+        pts.add(vEdges[i][j], false, false);
+        cells[i * nSide + j] = geomFact.createPolygon(pts.toCoordinateArray());
+      }
+    }
+    return cells;
+  }
+
+  private static Coordinate[] createEdge(Coordinate start, double dx, double dy,
+      int nPts, Random rnd) {
+    Coordinate[] pts = new Coordinate[nPts];
+    for (int i = 0; i < nPts; i++) {
+      double frac = i / (double) (nPts - 1);
+      double offset = (i == 0 || i == nPts - 1) ? 0 : 2 * rnd.nextDouble() - 1;
+      pts[i] = new Coordinate(start.x + frac * dx + offset * dy / 40,
+          start.y + frac * dy + offset * dx / 40);
+    }
+    return pts;
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineSegment;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests {@link StreamingLineSimplifier}.
+ */
+public class StreamingLineSimplifierTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(StreamingLineSimplifierTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public StreamingLineSimplifierTest(String name) {
+    super(name);
+  }
+
+  public void testSinglePoint() {
+    Coordinate[] result = StreamingLineSimplifier.simplify(
+        new Coordinate[] { new Coordinate(1, 1) }, 1, 10);
+    assertEquals(1, result.length);
+  }
+
+  public void testShortLineSameAsDouglasPeucker() {
+    Coordinate[] pts = randomWalk(500, 1);
+    for (double tol = 0.5; tol < 20; tol *= 2) {
+      Geometry expected = DouglasPeuckerSimplifier.simplify(geomFact.createLineString(pts), tol);
+      Coordinate[] result = StreamingLineSimplifier.simplify(pts, tol, 1000);
+      assertTrue(CoordinateArrays.equals(expected.getCoordinates(), result));
+    }
+  }
+
+  public void testLongLine() {
+    Coordinate[] pts = randomWalk(20000, 2);
+    int[] bufferSizes = new int[] { 3, 4, 10, 100, 1000 };
+    for (int i = 0; i < bufferSizes.length; i++) {
+      for (double tol = 0; tol < 20; tol = 2 * tol + 0.5) {
+        checkSimplify(pts, tol, bufferSizes[i]);
+      }
+    }
+  }
+
+  public void testIncremental() {
+    Coordinate[] pts = randomWalk(5000, 3);
+    StreamingLineSimplifier simp = new StreamingLineSimplifier(1);
+    simp.setMaxBufferSize(50);
+    int numPolled = 0;
+    for (int i = 0; i < pts.length; i++) {
+      simp.add(pts[i]);
+      assertTrue(simp.getBufferSize() <= 50);
+      numPolled += simp.pollVertices().length;
+    }
+    // vertices are emitted before the line is finished
+    assertTrue(numPolled > 1);
+    simp.finish();
+    Coordinate[] last = simp.pollVertices();
+    assertTrue(last[last.length - 1].equals2D(pts[pts.length - 1]));
+    assertEquals(0, simp.pollVertices().length);
+  }
+
+  public void testAddAfterFinish() {
+    StreamingLineSimplifier simp = new StreamingLineSimplifier(1);
+    simp.add(new Coordinate(0, 0));
+    simp.finish();
+    try {
+      simp.add(new Coordinate(1, 1));
+      fail();
+    }
+    catch (IllegalStateException ex) {
+      // expected
+    }
+  }
+
+  /**
+   * Checks that the result vertices are a subsequence of the input
+   * including the endpoints,
+   * and that every input point is within tolerance of the
+   * result segment which replaces it.
+   */
+  private void checkSimplify(Coordinate[] pts, double tolerance, int bufferSize) {
+    Coordinate[] result = StreamingLineSimplifier.simplify(pts, tolerance, bufferSize);
+    assertTrue(result[0].equals2D(pts[0]));
+    assertTrue(result[result.length - 1].equals2D(pts[pts.length - 1]));
+
+    LineSegment seg = new LineSegment();
+    int j = 0;
+    for (int i = 1; i < result.length; i++) {
+      seg.p0 = result[i - 1];
+      seg.p1 = result[i];
+      // find the input point matching the end of the segment
+      while (! pts[j].equals2D(result[i])) {
+        assertTrue(seg.distance(pts[j]) <= tolerance);
+        j++;
+      }
+    }
+    assertEquals(pts.length - 1, j);
+  }
+
+  private static Coordinate[] randomWalk(int nPts, long seed) {
+    Random rnd = new Random(seed);
+    Coordinate[] pts = new Coordinate[nPts];
+    double x = 0;
+    double y = 0;
+    for (int i = 0; i < nPts; i++) {
+      x += rnd.nextDouble();
+      y += 2 * rnd.nextDouble() - 1;
+      pts[i] = new Coordinate(x, y);
+    }
+    return pts;
+  }
+}
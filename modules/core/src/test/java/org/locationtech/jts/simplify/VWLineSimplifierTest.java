@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Triangle;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests that {@link VWLineSimplifier} produces the same result
+ * as the basic Visvalingam-Whyatt algorithm,
+ * which scans the line for the smallest area vertex at each step.
+ */
+public class VWLineSimplifierTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(VWLineSimplifierTest.class);
+  }
+
+  public VWLineSimplifierTest(String name) {
+    super(name);
+  }
+
+  public void testSinglePoint() {
+    Coordinate[] result = VWLineSimplifier.simplify(
+        new Coordinate[] { new Coordinate(1, 1) }, 10);
+    assertEquals(2, result.length);
+  }
+
+  public void testCollinear() {
+    checkSimplify(new Coordinate[] {
+        new Coordinate(0, 0), new Coordinate(1, 0), new Coordinate(2, 0),
+        new Coordinate(3, 0), new Coordinate(4, 0) }, 1);
+  }
+
+  public void testRepeatedPoints() {
+    checkSimplify(new Coordinate[] {
+        new Coordinate(0, 0), new Coordinate(1, 1), new Coordinate(1, 1),
+        new Coordinate(2, 0), new Coordinate(2, 0), new Coordinate(3, 1) }, 0.1);
+  }
+
+  public void testRing() {
+    checkSimplify(new Coordinate[] {
+        new Coordinate(0, 0), new Coordinate(0, 10), new Coordinate(5, 11),
+        new Coordinate(10, 10), new Coordinate(10, 0), new Coordinate(0, 0) }, 100);
+  }
+
+  public void testRandomLines() {
+    Random rnd = new Random(7);
+    for (int n = 0; n < 50; n++) {
+      Coordinate[] pts = new Coordinate[300];
+      double x = 0;
+      double y = 0;
+      for (int i = 0; i < pts.length; i++) {
+        // snap to a grid to produce equal areas
+        x += Math.round(rnd.nextDouble() * 4);
+        y += Math.round(rnd.nextDouble() * 8 - 4);
+        pts[i] = new Coordinate(x, y);
+      }
+      double[] tols = new double[] { 0, 0.5, 1, 2, 3, 5, 10, 1000 };
+      for (int i = 0; i < tols.length; i++) {
+        checkSimplify(pts, tols[i]);
+      }
+    }
+  }
+
+  private void checkSimplify(Coordinate[] pts, double tolerance) {
+    Coordinate[] expected = simplifyByScan(pts, tolerance);
+    Coordinate[] actual = VWLineSimplifier.simplify(pts, tolerance);
+    assertTrue(CoordinateArrays.equals(expected, actual));
+  }
+
+  /**
+   * Simplifies by repeatedly scanning for the vertex with smallest area
+   * (the earliest, if several have the same area).
+   */
+  private static Coordinate[] simplifyByScan(Coordinate[] pts, double distanceTolerance) {
+    double tolerance = distanceTolerance * distanceTolerance;
+    List line = new ArrayList();
+    for (int i = 0; i < pts.length; i++) {
+      line.add(pts[i]);
+    }
+    while (true) {
+      int minIndex = -1;
+      double minArea = Double.MAX_VALUE;
+      for (int i = 1; i < line.size() - 1; i++) {
+        double area = Math.abs(Triangle.area((Coordinate) line.get(i - 1),
+            (Coordinate) line.get(i), (Coordinate) line.get(i + 1)));
+        if (area < minArea) {
+          minArea = area;
+          minIndex = i;
+        }
+      }
+      if (minIndex < 0 || minArea >= tolerance) break;
+      line.remove(minIndex);
+    }
+    CoordinateList coords = new CoordinateList();
+    for (int i = 0; i < line.size(); i++) {
+      coords.add((Coordinate) line.get(i), false);
+    }
+    // a collapsed ring is returned as a valid line
+    if (coords.size() == 1) {
+      coords.add(coords.getCoordinate(0), true);
+    }
+    return coords.toCoordinateArray();
+  }
+}
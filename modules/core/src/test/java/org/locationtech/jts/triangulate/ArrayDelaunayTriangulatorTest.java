@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.triangulate.quadedge.TrianglePredicate;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests {@link ArrayDelaunayTriangulator}.
+ *
+ */
+public class ArrayDelaunayTriangulatorTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(ArrayDelaunayTriangulatorTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private WKTReader reader = new WKTReader();
+
+  public ArrayDelaunayTriangulatorTest(String name) { super(name); }
+
+  public void testTriangle()
+  throws ParseException
+  {
+    checkEdges("MULTIPOINT ((10 10), (10 20), (20 20))",
+        "MULTILINESTRING ((10 20, 20 20), (10 10, 10 20), (10 10, 20 20))");
+  }
+
+  public void testRandom()
+  throws ParseException
+  {
+    checkEdges("MULTIPOINT ((50 40), (140 70), (80 100), (130 140), (30 150), (70 180), (190 110), (120 20))",
+        "MULTILINESTRING ((70 180, 190 110), (30 150, 70 180), (30 150, 50 40), (50 40, 120 20), (190 110, 120 20), (120 20, 140 70), (190 110, 140 70), (130 140, 140 70), (130 140, 190 110), (70 180, 130 140), (80 100, 130 140), (70 180, 80 100), (30 150, 80 100), (50 40, 80 100), (80 100, 120 20), (80 100, 140 70))");
+  }
+
+  public void testDuplicatePoints()
+  throws ParseException
+  {
+    checkEdges("MULTIPOINT ((10 10), (10 20), (20 20), (10 20), (10 10))",
+        "MULTILINESTRING ((10 20, 20 20), (10 10, 10 20), (10 10, 20 20))");
+  }
+
+  public void testDuplicatePointsVertexMap()
+  throws ParseException
+  {
+    ArrayTriangulation tri = triangulate("MULTIPOINT ((0 0), (1 0), (1 1), (0 1), (0 0), (1.0E-17 1.0E-17), (0.5 0.5))");
+    assertEquals(4, tri.getNumTriangles());
+    for (int v = 0; v < tri.getNumVertices(); v++) {
+      int tv = tri.getTriangulationVertex(v);
+      assertTrue(tri.getCoordinate(v).distance(tri.getCoordinate(tv)) < 1e-15);
+      assertTrue(isUsed(tri, tv));
+    }
+  }
+
+  private static boolean isUsed(ArrayTriangulation tri, int v)
+  {
+    int[] triangles = tri.getTriangleArray();
+    for (int e = 0; e < 3 * tri.getNumTriangles(); e++) {
+      if (triangles[e] == v) return true;
+    }
+    return false;
+  }
+
+  public void testCollinear()
+  throws ParseException
+  {
+    ArrayTriangulation tri = triangulate("MULTIPOINT ((10 10), (20 20), (30 30), (40 40))");
+    assertEquals(0, tri.getNumTriangles());
+  }
+
+  public void testTooFewPoints()
+  throws ParseException
+  {
+    ArrayTriangulation tri = triangulate("MULTIPOINT ((10 10), (20 20))");
+    assertEquals(0, tri.getNumTriangles());
+  }
+
+  public void testGrid()
+  {
+    int n = 20;
+    double[] coords = new double[2 * n * n];
+    int k = 0;
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        coords[k++] = i;
+        coords[k++] = j;
+      }
+    }
+    ArrayTriangulation tri = ArrayDelaunayTriangulator.triangulate(coords);
+    assertEquals(2 * (n - 1) * (n - 1), tri.getNumTriangles());
+    checkDelaunay(tri);
+    checkNeighbours(tri);
+  }
+
+  public void testRandomPoints()
+  {
+    Random rnd = new Random(1);
+    Coordinate[] pts = new Coordinate[1000];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(rnd.nextDouble() * 100, rnd.nextDouble() * 100);
+    }
+    ArrayTriangulation tri = ArrayDelaunayTriangulator.triangulate(pts);
+    checkDelaunay(tri);
+    checkNeighbours(tri);
+
+    /**
+     * The QuadEdge triangulation may omit some thin triangles
+     * on the convex hull (since it uses a finite frame),
+     * so check that its edges are a subset of the computed ones.
+     */
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(geomFact.createMultiPointFromCoords(pts));
+    Set edges = edgeSet(tri.getEdges(geomFact));
+    Set quadEdges = edgeSet(builder.getEdges(geomFact));
+    assertTrue(edges.containsAll(quadEdges));
+    assertTrue(edges.size() - quadEdges.size() < 10);
+  }
+  
+  private static Set edgeSet(Geometry lines)
+  {
+    Set edges = new HashSet();
+    for (int i = 0; i < lines.getNumGeometries(); i++) {
+      Coordinate[] pts = lines.getGeometryN(i).getCoordinates();
+      LineSegment seg = new LineSegment(pts[0], pts[1]);
+      seg.normalize();
+      edges.add(seg);
+    }
+    return edges;
+  }
+
+  public void testBuilder()
+  throws ParseException
+  {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(reader.read("MULTIPOINT ((10 10), (10 20), (20 20), (20 10))"));
+    ArrayTriangulation tri = builder.getArrayTriangulation();
+    assertEquals(2, tri.getNumTriangles());
+    assertEquals(2, tri.getTriangles(geomFact).getNumGeometries());
+  }
+
+  /**
+   * Checks that each triangle is counter-clockwise
+   * and has no vertex in its circumcircle.
+   */
+  private void checkDelaunay(ArrayTriangulation tri)
+  {
+    int nv = tri.getNumVertices();
+    for (int t = 0; t < tri.getNumTriangles(); t++) {
+      Coordinate a = tri.getCoordinate(tri.getVertex(t, 0));
+      Coordinate b = tri.getCoordinate(tri.getVertex(t, 1));
+      Coordinate c = tri.getCoordinate(tri.getVertex(t, 2));
+      double area2 = (b.x - a.x) * (c.y - a.y) - (b.y - a.y) * (c.x - a.x);
+      assertTrue(area2 > 0);
+      for (int v = 0; v < nv; v++) {
+        assertTrue(! TrianglePredicate.isInCircleDDSlow(a, b, c, tri.getCoordinate(v)));
+      }
+    }
+  }
+
+  /**
+   * Checks that neighbouring triangles share an edge in opposite directions.
+   */
+  private void checkNeighbours(ArrayTriangulation tri)
+  {
+    for (int t = 0; t < tri.getNumTriangles(); t++) {
+      for (int i = 0; i < 3; i++) {
+        int adj = tri.getNeighbour(t, i);
+        if (adj < 0) continue;
+        int v0 = tri.getVertex(t, i);
+        int v1 = tri.getVertex(t, (i + 1) % 3);
+        boolean isFound = false;
+        for (int j = 0; j < 3; j++) {
+          if (tri.getVertex(adj, j) == v1 && tri.getVertex(adj, (j + 1) % 3) == v0) {
+            assertEquals(t, tri.getNeighbour(adj, j));
+            isFound = true;
+          }
+        }
+        assertTrue(isFound);
+      }
+    }
+  }
+
+  private ArrayTriangulation triangulate(String wkt)
+  throws ParseException
+  {
+    Geometry sites = reader.read(wkt);
+    return ArrayDelaunayTriangulator.triangulate(sites.getCoordinates());
+  }
+
+  private void checkEdges(String sitesWKT, String expectedWKT)
+  throws ParseException
+  {
+    Geometry result = triangulate(sitesWKT).getEdges(geomFact);
+    Geometry expected = reader.read(expectedWKT);
+    result.normalize();
+    expected.normalize();
+    assertTrue(expected.equalsExact(result));
+  }
+}
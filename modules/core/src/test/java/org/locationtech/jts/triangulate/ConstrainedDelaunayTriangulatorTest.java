@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.Triangle;
+import org.locationtech.jts.geom.util.LinearComponentExtracter;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests {@link ConstrainedDelaunayTriangulator}.
+ *
+ */
+public class ConstrainedDelaunayTriangulatorTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(ConstrainedDelaunayTriangulatorTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private WKTReader reader = new WKTReader();
+
+  public ConstrainedDelaunayTriangulatorTest(String name) { super(name); }
+
+  public void testSquare()
+  throws ParseException
+  {
+    checkPolygon("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+  }
+
+  public void testConcave()
+  throws ParseException
+  {
+    checkPolygon("POLYGON ((0 0, 0 100, 10 100, 10 10, 20 10, 20 100, 30 100, 30 10, 40 10, 40 100, 50 100, 50 0, 0 0))");
+  }
+
+  public void testThinSpike()
+  throws ParseException
+  {
+    checkPolygon("POLYGON ((0 0, 0 10, 50 10.1, 100 10, 100 0, 50 9.9, 0 0))");
+  }
+
+  public void testHoles()
+  throws ParseException
+  {
+    checkPolygon("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (10 10, 10 40, 40 40, 40 10, 10 10), (60 60, 50 90, 90 90, 60 60))");
+  }
+
+  public void testHoleTouchingShell()
+  throws ParseException
+  {
+    checkPolygon("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (0 50, 50 80, 50 20, 0 50))");
+  }
+
+  public void testMultiPolygon()
+  throws ParseException
+  {
+    checkPolygon("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 0, 15 5, 20 10, 30 5, 20 0)), ((10 10, 15 20, 20 10, 15 15, 10 10)))");
+  }
+
+  public void testCollinearVertices()
+  throws ParseException
+  {
+    checkPolygon("POLYGON ((0 0, 0 10, 0 20, 10 20, 20 20, 20 10, 20 0, 10 0, 0 0), (5 5, 5 10, 5 15, 10 15, 15 15, 10 10, 15 5, 10 5, 5 5))");
+  }
+
+  public void testCircleWithHoles()
+  throws ParseException
+  {
+    Geometry circle = reader.read("POINT (0 0)").buffer(100, 32);
+    Geometry holes = reader.read("MULTIPOINT ((-40 0), (40 0), (0 50))").buffer(20, 8);
+    checkPolygon(circle.difference(holes));
+  }
+
+  public void testLineThroughVertex()
+  throws ParseException
+  {
+    Geometry input = reader.read("GEOMETRYCOLLECTION (LINESTRING (0 0, 10 0), POINT (5 0), POINT (5 5), POINT (5 -5))");
+    ConstrainedDelaunayTriangulator cdt = new ConstrainedDelaunayTriangulator(input);
+    ArrayTriangulation tri = cdt.getTriangulation();
+    assertEquals(4, tri.getNumTriangles());
+    int numConstrained = 0;
+    for (int e = 0; e < 3 * tri.getNumTriangles(); e++) {
+      if (cdt.isConstrained(e)) numConstrained++;
+    }
+    assertEquals(4, numConstrained);
+  }
+
+  public void testBreaklines()
+  throws ParseException
+  {
+    Geometry input = reader.read("GEOMETRYCOLLECTION (MULTIPOINT ((0 0), (100 0), (100 100), (0 100), (50 45), (50 55), (45 50), (55 50)), LINESTRING (10 50, 90 50), LINESTRING (50 10, 50 40))");
+    ConstrainedDelaunayTriangulator cdt = new ConstrainedDelaunayTriangulator(input);
+    checkConstraintsPresent(cdt, input);
+    checkConstrainedDelaunay(cdt);
+  }
+
+  /**
+   * A constraint vertex which nearly duplicates another vertex
+   * is not in the triangulation, so the constraint uses that vertex instead.
+   */
+  public void testNearDuplicateVertex()
+  throws ParseException
+  {
+    Geometry input = reader.read("GEOMETRYCOLLECTION (POLYGON ((0 0, 10 0, 10 7, 3 10, 0 0)), POINT (6 4), LINESTRING (1.0E-17 1.0E-17, 10 7))");
+    ConstrainedDelaunayTriangulator cdt = new ConstrainedDelaunayTriangulator(input);
+    ArrayTriangulation tri = cdt.getTriangulation();
+    assertEquals(4, tri.getNumTriangles());
+    checkConstraintsPresent(cdt, input);
+  }
+
+  public void testCollinearInput()
+  throws ParseException
+  {
+    checkEmpty("LINESTRING (0 0, 1 1, 2 2)");
+    checkEmpty("POLYGON ((0 0, 2 2, 1 1, 0 0))");
+    checkEmpty("MULTILINESTRING ((0 0, 1 0), (2 0, 5 0))");
+  }
+
+  public void testCrossingConstraints()
+  throws ParseException
+  {
+    Geometry input = reader.read("MULTILINESTRING ((0 0, 10 10), (0 10, 10 0))");
+    ConstrainedDelaunayTriangulator cdt = new ConstrainedDelaunayTriangulator(input);
+    try {
+      cdt.getTriangulation();
+      fail("crossing constraints not detected");
+    }
+    catch (ConstraintEnforcementException ex) {
+      // expected
+    }
+  }
+
+  private void checkEmpty(String wkt)
+  throws ParseException
+  {
+    ConstrainedDelaunayTriangulator cdt = new ConstrainedDelaunayTriangulator(reader.read(wkt));
+    assertEquals(0, cdt.getTriangulation().getNumTriangles());
+    assertTrue(cdt.getTriangles(geomFact).isEmpty());
+    assertTrue(cdt.getPolygonTriangles(geomFact).isEmpty());
+  }
+
+  private void checkPolygon(String wkt)
+  throws ParseException
+  {
+    checkPolygon(reader.read(wkt));
+  }
+
+  private void checkPolygon(Geometry poly)
+  {
+    ConstrainedDelaunayTriangulator cdt = new ConstrainedDelaunayTriangulator(poly);
+    Geometry tris = cdt.getPolygonTriangles(geomFact);
+
+    // a polygon with V vertices and H holes has V + 2H - 2 triangles
+    int numVertices = 0;
+    int numHoles = 0;
+    for (int i = 0; i < poly.getNumGeometries(); i++) {
+      Polygon p = (Polygon) poly.getGeometryN(i);
+      numHoles += p.getNumInteriorRing();
+      numVertices += p.getNumPoints() - 1 - p.getNumInteriorRing();
+    }
+    // (this does not hold if rings touch)
+    if (poly.getNumGeometries() == 1 && poly.getBoundary().isSimple()) {
+      assertEquals(numVertices + 2 * numHoles - 2, tris.getNumGeometries());
+    }
+
+    assertEquals(poly.getArea(), tris.getArea(), 1e-9 * poly.getArea());
+    Geometry union = UnaryUnionOp.union(tris);
+    assertEquals(0.0, union.symDifference(poly).getArea(), 1e-9 * poly.getArea());
+
+    checkConstraintsPresent(cdt, poly);
+    checkConstrainedDelaunay(cdt);
+  }
+
+  /**
+   * Checks that every input segment is covered by constrained edges.
+   * Segments may be split at vertices lying on them,
+   * so the lengths of the constrained edges lying on the segment are summed.
+   */
+  private void checkConstraintsPresent(ConstrainedDelaunayTriangulator cdt, Geometry input)
+  {
+    ArrayTriangulation tri = cdt.getTriangulation();
+    int[] triangles = tri.getTriangleArray();
+    List lines = LinearComponentExtracter.getLines(input);
+    for (int i = 0; i < lines.size(); i++) {
+      Coordinate[] pts = ((Geometry) lines.get(i)).getCoordinates();
+      for (int j = 0; j < pts.length - 1; j++) {
+        LineSegment seg = new LineSegment(pts[j], pts[j + 1]);
+        double len = 0;
+        for (int e = 0; e < 3 * tri.getNumTriangles(); e++) {
+          if (! cdt.isConstrained(e)) continue;
+          Coordinate p0 = tri.getCoordinate(triangles[e]);
+          Coordinate p1 = tri.getCoordinate(triangles[ArrayTriangulation.next(e)]);
+          if (seg.distance(p0) < 1e-9 && seg.distance(p1) < 1e-9) {
+            len += p0.distance(p1);
+          }
+        }
+        // each constrained edge may be present as two half-edges
+        assertTrue(len >= seg.getLength() * (1 - 1e-9));
+      }
+    }
+  }
+
+  /**
+   * Checks that every unconstrained edge is locally Delaunay.
+   * A small tolerance is allowed, since the rounded vertices
+   * of arcs are only approximately cocircular.
+   */
+  private void checkConstrainedDelaunay(ConstrainedDelaunayTriangulator cdt)
+  {
+    ArrayTriangulation tri = cdt.getTriangulation();
+    int[] triangles = tri.getTriangleArray();
+    int[] halfedges = tri.getHalfEdgeArray();
+    for (int e = 0; e < 3 * tri.getNumTriangles(); e++) {
+      int opp = halfedges[e];
+      if (opp == -1 || cdt.isConstrained(e)) continue;
+      Coordinate a = tri.getCoordinate(triangles[e]);
+      Coordinate b = tri.getCoordinate(triangles[ArrayTriangulation.next(e)]);
+      Coordinate c = tri.getCoordinate(triangles[ArrayTriangulation.prev(e)]);
+      Coordinate p = tri.getCoordinate(triangles[ArrayTriangulation.prev(opp)]);
+      Coordinate cc = Triangle.circumcentre(a, b, c);
+      double radius = cc.distance(a);
+      assertTrue(cc.distance(p) > radius * (1 - 1e-9));
+    }
+  }
+}
@@ -11,6 +11,11 @@
  */
 package org.locationtech.jts.triangulate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.io.ParseException;
@@ -80,6 +85,36 @@ public class DelaunayTest extends TestCase {
     runDelaunayEdges(wkt, expected);
   }
   
+  public void testRandomSpatialOrder()
+  throws ParseException
+  {
+    String wkt = "MULTIPOINT ((50 40), (140 70), (80 100), (130 140), (30 150), (70 180), (190 110), (120 20))";
+    String expected = "MULTILINESTRING ((70 180, 190 110), (30 150, 70 180), (30 150, 50 40), (50 40, 120 20), (190 110, 120 20), (120 20, 140 70), (190 110, 140 70), (130 140, 140 70), (130 140, 190 110), (70 180, 130 140), (80 100, 130 140), (70 180, 80 100), (30 150, 80 100), (50 40, 80 100), (80 100, 120 20), (80 100, 140 70))";
+    runDelaunay(wkt, false, true, expected);
+  }
+  
+  public void testManyPointsSpatialOrder()
+  {
+    Random rnd = new Random(1);
+    List pts = new ArrayList();
+    for (int i = 0; i < 2000; i++) {
+      pts.add(new Coordinate(1000 * rnd.nextDouble(), 1000 * rnd.nextDouble()));
+    }
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(pts);
+    Geometry expected = builder.getEdges(geomFact);
+    
+    DelaunayTriangulationBuilder sortedBuilder = new DelaunayTriangulationBuilder();
+    sortedBuilder.setSites(pts);
+    sortedBuilder.setSpatialOrder(true);
+    sortedBuilder.setJumpWalkLocate(true);
+    Geometry result = sortedBuilder.getEdges(geomFact);
+    
+    result.normalize();
+    expected.normalize();
+    assertTrue(expected.equalsExact(result));
+  }
+  
 	static final double COMPARISON_TOLERANCE = 1.0e-7;
 	
   void runDelaunayEdges(String sitesWKT, String expectedWKT)
@@ -90,10 +125,17 @@ public class DelaunayTest extends TestCase {
   	
   void runDelaunay(String sitesWKT, boolean computeTriangles, String expectedWKT)
   throws ParseException
+  {
+    runDelaunay(sitesWKT, computeTriangles, false, expectedWKT);
+  }
+  
+  void runDelaunay(String sitesWKT, boolean computeTriangles, boolean isSpatialOrder, String expectedWKT)
+  throws ParseException
   {
   	Geometry sites = reader.read(sitesWKT);
   	DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
   	builder.setSites(sites);
+  	builder.setSpatialOrder(isSpatialOrder);
   	
   	Geometry result = null;
   	if (computeTriangles) {
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.shape.fractal.HilbertCode;
+import org.locationtech.jts.triangulate.quadedge.Vertex;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests {@link HilbertVertexSorter}.
+ *
+ */
+public class HilbertVertexSorterTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(HilbertVertexSorterTest.class);
+  }
+
+  /**
+   * Vertices have integer ordinates over the full Hilbert curve extent,
+   * so their Hilbert codes can be computed directly.
+   */
+  private static final int MAX_ORD = HilbertCode.maxOrdinate(HilbertCode.MAX_LEVEL);
+
+  public HilbertVertexSorterTest(String name) { super(name); }
+
+  public void testSortMonotone() {
+    List verts = randomVertices(1000);
+    List sorted = HilbertVertexSorter.sort(verts, envelope());
+    assertEquals(verts.size(), sorted.size());
+    checkMonotone(sorted, 0, sorted.size());
+  }
+
+  /**
+   * Codes in the upper half of the range have the high bit set,
+   * and must sort after those in the lower half.
+   */
+  public void testSortHighCodes() {
+    List verts = new ArrayList();
+    verts.add(new Vertex(MAX_ORD, 0));
+    verts.add(new Vertex(0, 0));
+    verts.add(new Vertex(MAX_ORD, MAX_ORD));
+    verts.add(new Vertex(0, MAX_ORD));
+    List sorted = HilbertVertexSorter.sort(verts, envelope());
+    checkMonotone(sorted, 0, sorted.size());
+    assertTrue(code((Vertex) sorted.get(3)) > 0x80000000L);
+  }
+
+  public void testBrioRoundsMonotone() {
+    List verts = randomVertices(1000);
+    List ordered = HilbertVertexSorter.brio(verts, envelope());
+    assertEquals(verts.size(), ordered.size());
+    // the last round holds the second half of the vertices
+    checkMonotone(ordered, ordered.size() / 2, ordered.size());
+  }
+
+  private static void checkMonotone(List verts, int start, int end) {
+    for (int i = start + 1; i < end; i++) {
+      assertTrue(code((Vertex) verts.get(i - 1)) <= code((Vertex) verts.get(i)));
+    }
+  }
+
+  private static long code(Vertex v) {
+    Coordinate p = v.getCoordinate();
+    return HilbertCode.encode(HilbertCode.MAX_LEVEL, (int) p.x, (int) p.y) & 0xFFFFFFFFL;
+  }
+
+  private static Envelope envelope() {
+    return new Envelope(0, MAX_ORD, 0, MAX_ORD);
+  }
+
+  private static List randomVertices(int n) {
+    Random rnd = new Random(1);
+    List verts = new ArrayList();
+    for (int i = 0; i < n; i++) {
+      verts.add(new Vertex(rnd.nextInt(MAX_ORD + 1), rnd.nextInt(MAX_ORD + 1)));
+    }
+    return verts;
+  }
+}
@@ -11,11 +11,21 @@
  */
 package org.locationtech.jts.triangulate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+import org.locationtech.jts.triangulate.quadedge.VoronoiCellVisitor;
 
 import junit.framework.TestCase;
 import junit.textui.TestRunner;
@@ -27,6 +37,7 @@ import junit.textui.TestRunner;
 public class VoronoiTest extends TestCase {
 
   private WKTReader reader = new WKTReader();
+  private GeometryFactory geomFact = new GeometryFactory();
 
   public static void main(String args[]) {
     TestRunner.run(VoronoiTest.class);
@@ -42,6 +53,116 @@ public class VoronoiTest extends TestCase {
     runVoronoi(wkt, true, expected);
   }
     
+  public void testVisitCells()
+  throws ParseException
+  {
+    Geometry sites = reader.read("MULTIPOINT ((10 10), (20 70), (60 30), (80 70), (50 50), (30 40))");
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSites(sites);
+    builder.setClipEnvelope(new Envelope(0, 100, 0, 100));
+    Geometry expected = builder.getDiagram(geomFact);
+    checkEqual(expected, visitCells(builder));
+  }
+
+  public void testAddSites()
+  {
+    List pts = randomPoints(200, 1);
+    List pts2 = randomPoints(200, 2);
+    
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSites(pts);
+    builder.getDiagram(geomFact);
+    // include a duplicate site
+    pts2.add(pts.get(0));
+    builder.addSites(pts2);
+    
+    List allPts = new ArrayList(pts);
+    allPts.addAll(pts2);
+    VoronoiDiagramBuilder builderAll = new VoronoiDiagramBuilder();
+    builderAll.setSites(allPts);
+    // the clip envelope is determined by the sites, so it is the same for both
+    checkEqual(builderAll.getDiagram(geomFact), builder.getDiagram(geomFact));
+    checkEqual(builderAll.getDiagram(geomFact), visitCells(builder));
+  }
+
+  public void testSpatialOrderJumpWalk()
+  {
+    List pts = randomPoints(200, 1);
+    List pts2 = randomPoints(200, 2);
+    
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSpatialOrder(true);
+    builder.setJumpWalkLocate(true);
+    builder.setSites(pts);
+    builder.getDiagram(geomFact);
+    builder.addSites(pts2);
+    
+    List allPts = new ArrayList(pts);
+    allPts.addAll(pts2);
+    VoronoiDiagramBuilder builderAll = new VoronoiDiagramBuilder();
+    builderAll.setSites(allPts);
+    checkEqual(builderAll.getDiagram(geomFact), builder.getDiagram(geomFact));
+  }
+
+  public void testAddSitesOutsideFrame()
+  {
+    List pts = randomPoints(100, 1);
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSites(pts);
+    builder.getDiagram(geomFact);
+    
+    List farPts = new ArrayList();
+    farPts.add(new Coordinate(10000, 10000));
+    builder.addSites(farPts);
+    
+    List allPts = new ArrayList(pts);
+    allPts.addAll(farPts);
+    VoronoiDiagramBuilder builderAll = new VoronoiDiagramBuilder();
+    builderAll.setSites(allPts);
+    checkEqual(builderAll.getDiagram(geomFact), builder.getDiagram(geomFact));
+  }
+
+  private Geometry visitCells(VoronoiDiagramBuilder builder)
+  {
+    final List cells = new ArrayList();
+    builder.visitCells(new VoronoiCellVisitor() {
+      public void visit(Polygon cell) {
+        assertTrue(cell.getUserData() instanceof Coordinate);
+        assertTrue(cell.contains(geomFact.createPoint((Coordinate) cell.getUserData())));
+        cells.add(cell);
+      }
+    }, geomFact);
+    return geomFact.buildGeometry(cells);
+  }
+
+  private void checkEqual(Geometry expected, Geometry actual)
+  {
+    assertEquals(expected.getNumGeometries(), actual.getNumGeometries());
+    assertEquals(expected.getArea(), actual.getArea(), 1e-6 * expected.getArea());
+    // match cells by site
+    Map expectedCells = new HashMap();
+    for (int i = 0; i < expected.getNumGeometries(); i++) {
+      Geometry cell = expected.getGeometryN(i);
+      expectedCells.put(cell.getUserData(), cell);
+    }
+    for (int i = 0; i < actual.getNumGeometries(); i++) {
+      Geometry cell = actual.getGeometryN(i);
+      Geometry expectedCell = (Geometry) expectedCells.get(cell.getUserData());
+      assertNotNull(expectedCell);
+      assertEquals(expectedCell.getArea(), cell.getArea(), 1e-6 * expectedCell.getArea());
+    }
+  }
+
+  private static List randomPoints(int n, long seed)
+  {
+    Random rnd = new Random(seed);
+    List pts = new ArrayList();
+    for (int i = 0; i < n; i++) {
+      pts.add(new Coordinate(100 * rnd.nextDouble(), 100 * rnd.nextDouble()));
+    }
+    return pts;
+  }
+    
 	static final double COMPARISON_TOLERANCE = 1.0e-7;
 	
   void runVoronoi(String sitesWKT, boolean computeTriangles, String expectedWKT)
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate.quadedge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.triangulate.IncrementalDelaunayTriangulator;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests {@link JumpWalkQuadEdgeLocator}.
+ *
+ */
+public class JumpWalkQuadEdgeLocatorTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(JumpWalkQuadEdgeLocatorTest.class);
+  }
+
+  public JumpWalkQuadEdgeLocatorTest(String name) { super(name); }
+
+  public void testTriangulateRandomOrder()
+  {
+    QuadEdgeSubdivision subdiv = triangulate(2000, true);
+    QuadEdgeSubdivision expected = triangulate(2000, false);
+    assertEquals(expected.getEdges().size(), subdiv.getEdges().size());
+  }
+
+  /**
+   * With every edge sampled, many samples are merged 
+   * with stale edges at the same location.
+   */
+  public void testTriangulateRandomOrderDenseSample()
+  {
+    QuadEdgeSubdivision subdiv = triangulate(2000, 1);
+    QuadEdgeSubdivision expected = triangulate(2000, false);
+    assertEquals(expected.getEdges().size(), subdiv.getEdges().size());
+  }
+
+  public void testLocate()
+  {
+    QuadEdgeSubdivision subdiv = triangulate(2000, false);
+    subdiv.setLocator(new JumpWalkQuadEdgeLocator(subdiv, 4));
+    Random rnd = new Random(2);
+    for (int i = 0; i < 1000; i++) {
+      Coordinate p = new Coordinate(100 * rnd.nextDouble(), 100 * rnd.nextDouble());
+      QuadEdge e = subdiv.locate(p);
+      checkLocated(e, new Vertex(p));
+    }
+  }
+
+  public void testLocateVertex()
+  {
+    QuadEdgeSubdivision subdiv = triangulate(500, false);
+    subdiv.setLocator(new JumpWalkQuadEdgeLocator(subdiv));
+    List verts = new ArrayList(subdiv.getVertices(false));
+    for (int i = 0; i < verts.size(); i++) {
+      Vertex v = (Vertex) verts.get(i);
+      QuadEdge e = subdiv.locate(v);
+      assertTrue(v.equals(e.orig()) || v.equals(e.dest()));
+    }
+  }
+
+  /**
+   * Checks that a point lies on an edge or in the triangle to its left.
+   */
+  private static void checkLocated(QuadEdge e, Vertex v)
+  {
+    if (v.equals(e.orig()) || v.equals(e.dest())) return;
+    assertTrue(! v.rightOf(e));
+    assertTrue(! v.rightOf(e.lNext()));
+    assertTrue(! v.rightOf(e.lPrev()));
+  }
+
+  private static QuadEdgeSubdivision triangulate(int n, boolean isJumpWalk)
+  {
+    return triangulate(n, isJumpWalk ? JumpWalkQuadEdgeLocator.DEFAULT_SAMPLE_INTERVAL : 0);
+  }
+
+  private static QuadEdgeSubdivision triangulate(int n, int sampleInterval)
+  {
+    Random rnd = new Random(1);
+    List verts = new ArrayList();
+    Envelope env = new Envelope();
+    for (int i = 0; i < n; i++) {
+      Coordinate p = new Coordinate(100 * rnd.nextDouble(), 100 * rnd.nextDouble());
+      verts.add(new Vertex(p));
+      env.expandToInclude(p);
+    }
+    Collections.shuffle(verts, rnd);
+    QuadEdgeSubdivision subdiv = new QuadEdgeSubdivision(env, 0.0);
+    if (sampleInterval > 0) {
+      subdiv.setLocator(new JumpWalkQuadEdgeLocator(subdiv, sampleInterval));
+    }
+    IncrementalDelaunayTriangulator triangulator = new IncrementalDelaunayTriangulator(subdiv);
+    triangulator.insertSites(verts);
+    return subdiv;
+  }
+}
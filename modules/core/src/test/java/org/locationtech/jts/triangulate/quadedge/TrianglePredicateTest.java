@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate.quadedge;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests the in-circle predicates of {@link TrianglePredicate}.
+ *
+ */
+public class TrianglePredicateTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(TrianglePredicateTest.class);
+  }
+
+  public TrianglePredicateTest(String name) { super(name); }
+
+  public void testFilteredSimple() {
+    assertTrue(TrianglePredicate.isInCircleFiltered(0, 0, 10, 0, 0, 10, 1, 1));
+    assertTrue(! TrianglePredicate.isInCircleFiltered(0, 0, 10, 0, 0, 10, 20, 20));
+    // cocircular point is not inside
+    assertTrue(! TrianglePredicate.isInCircleFiltered(0, 0, 10, 0, 0, 10, 10, 10));
+  }
+
+  /**
+   * The points lie on a circle with integer coordinates,
+   * and are translated by an offset which is not exactly representable,
+   * so after rounding they are very nearly cocircular.
+   * The double-precision determinant often has the wrong sign for these.
+   * The filtered predicate must agree with the exact determinant.
+   */
+  public void testFilteredNearlyCocircular() {
+    // the lattice points on the circle of radius 5, in counter-clockwise order
+    int[][] circle = new int[][] { 
+      { 5, 0 }, { 4, 3 }, { 3, 4 }, { 0, 5 }, { -3, 4 }, { -4, 3 },
+      { -5, 0 }, { -4, -3 }, { -3, -4 }, { 0, -5 }, { 3, -4 }, { 4, -3 } };
+    Random rnd = new Random(13);
+    int numDoubleWrong = 0;
+    for (int i = 0; i < 10000; i++) {
+      double tx = 10 * rnd.nextDouble();
+      double ty = 10 * rnd.nextDouble();
+      int i0 = rnd.nextInt(circle.length);
+      double[] p = new double[8];
+      int k = i0;
+      for (int j = 0; j < 4; j++) {
+        k = (k + 1 + rnd.nextInt(2)) % circle.length;
+        p[2 * j] = circle[k][0] + tx;
+        p[2 * j + 1] = circle[k][1] + ty;
+      }
+      int exact = inCircleExact(p);
+      if (exact == 0) continue;
+      boolean expected = exact > 0;
+      assertEquals(expected, TrianglePredicate.isInCircleFiltered(
+          p[0], p[1], p[2], p[3], p[4], p[5], p[6], p[7]));
+      if (isInCircleDouble(p) != expected) numDoubleWrong++;
+    }
+    // check that the test cases exercise the exact fallback
+    assertTrue(numDoubleWrong > 0);
+  }
+
+  private static boolean isInCircleDouble(double[] p) {
+    double adx = p[0] - p[6];
+    double ady = p[1] - p[7];
+    double bdx = p[2] - p[6];
+    double bdy = p[3] - p[7];
+    double cdx = p[4] - p[6];
+    double cdy = p[5] - p[7];
+    double disc = (adx * adx + ady * ady) * (bdx * cdy - cdx * bdy)
+        + (bdx * bdx + bdy * bdy) * (cdx * ady - adx * cdy)
+        + (cdx * cdx + cdy * cdy) * (adx * bdy - bdx * ady);
+    return disc > 0;
+  }
+
+  private static int inCircleExact(double[] p) {
+    BigDecimal px = new BigDecimal(p[6]);
+    BigDecimal py = new BigDecimal(p[7]);
+    BigDecimal[] dx = new BigDecimal[3];
+    BigDecimal[] dy = new BigDecimal[3];
+    for (int i = 0; i < 3; i++) {
+      dx[i] = new BigDecimal(p[2 * i]).subtract(px);
+      dy[i] = new BigDecimal(p[2 * i + 1]).subtract(py);
+    }
+    BigDecimal sum = BigDecimal.ZERO;
+    for (int i = 0; i < 3; i++) {
+      int j = (i + 1) % 3;
+      int k = (i + 2) % 3;
+      BigDecimal lift = dx[i].multiply(dx[i]).add(dy[i].multiply(dy[i]));
+      BigDecimal det = dx[j].multiply(dy[k]).subtract(dx[k].multiply(dy[j]));
+      sum = sum.add(lift.multiply(det));
+    }
+    return sum.signum();
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link TaskUtil}.
+ */
+public class TaskUtilTest
+    extends TestCase
+{
+  public TaskUtilTest(String name) {
+    super(name);
+  }
+
+  public static void main(String[] args) {
+    junit.textui.TestRunner.run(TaskUtilTest.class);
+  }
+
+  public void testResultOrder() {
+    checkResultOrder(null);
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      checkResultOrder(executor);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testCheckedExceptionCause() {
+    checkCheckedExceptionCause(null);
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      checkCheckedExceptionCause(executor);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testRuntimeExceptionRethrown() {
+    final IllegalStateException failure = new IllegalStateException("failed");
+    List tasks = new ArrayList();
+    tasks.add(new Callable() {
+      public Object call() {
+        throw failure;
+      }
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      TaskUtil.execute(executor, tasks);
+      fail("Exception expected");
+    }
+    catch (IllegalStateException ex) {
+      assertSame(failure, ex);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  private void checkResultOrder(ExecutorService executor) {
+    List tasks = new ArrayList();
+    for (int i = 0; i < 20; i++) {
+      final int value = i;
+      tasks.add(new Callable() {
+        public Object call() {
+          return Integer.valueOf(value);
+        }
+      });
+    }
+    List results = TaskUtil.execute(executor, tasks);
+    assertEquals(20, results.size());
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(Integer.valueOf(i), results.get(i));
+    }
+  }
+
+  private void checkCheckedExceptionCause(ExecutorService executor) {
+    final IOException failure = new IOException("failed");
+    List tasks = new ArrayList();
+    tasks.add(new Callable() {
+      public Object call() throws IOException {
+        throw failure;
+      }
+    });
+    try {
+      TaskUtil.execute(executor, tasks);
+      fail("Exception expected");
+    }
+    catch (RuntimeException ex) {
+      assertSame(failure, ex.getCause());
+    }
+  }
+}
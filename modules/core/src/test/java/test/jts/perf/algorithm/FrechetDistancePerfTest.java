@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.algorithm;
+
+import java.util.Random;
+
+import org.locationtech.jts.algorithm.distance.DiscreteFrechetDistance;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares computing the {@link DiscreteFrechetDistance}
+ * for many pairs of trajectories
+ * with testing whether it is within a threshold.
+ */
+public class FrechetDistancePerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(FrechetDistancePerfTest.class);
+  }
+
+  private static final int NUM_LINES = 100;
+  private static final double THRESHOLD = 10.0;
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private Geometry[] lines;
+
+  public FrechetDistancePerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 100, 500 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int nPts)
+  {
+    Random rnd = new Random(1);
+    lines = new Geometry[NUM_LINES];
+    for (int i = 0; i < NUM_LINES; i++) {
+      lines[i] = randomTrajectory(rnd, nPts);
+    }
+    System.out.println("\nRunning with # lines: " + NUM_LINES + "  # pts: " + nPts);
+  }
+
+  private Geometry randomTrajectory(Random rnd, int nPts)
+  {
+    Coordinate[] pts = new Coordinate[nPts];
+    double x = rnd.nextDouble() * 50;
+    double y = rnd.nextDouble() * 50;
+    for (int i = 0; i < nPts; i++) {
+      x += rnd.nextDouble();
+      y += rnd.nextDouble() - 0.5;
+      pts[i] = new Coordinate(x, y);
+    }
+    return geomFact.createLineString(pts);
+  }
+
+  public void runDistance()
+  {
+    int count = 0;
+    for (int i = 0; i < NUM_LINES; i++) {
+      for (int j = i + 1; j < NUM_LINES; j++) {
+        if (DiscreteFrechetDistance.distance(lines[i], lines[j]) <= THRESHOLD)
+          count++;
+      }
+    }
+    System.out.println("Pairs within distance (distance): " + count);
+  }
+
+  public void runIsWithinDistance()
+  {
+    int count = 0;
+    for (int i = 0; i < NUM_LINES; i++) {
+      for (int j = i + 1; j < NUM_LINES; j++) {
+        if (DiscreteFrechetDistance.isWithinDistance(lines[i], lines[j], THRESHOLD))
+          count++;
+      }
+    }
+    System.out.println("Pairs within distance (isWithinDistance): " + count);
+  }
+}
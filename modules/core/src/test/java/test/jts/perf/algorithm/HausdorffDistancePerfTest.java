@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.algorithm;
+
+import org.locationtech.jts.algorithm.distance.DiscreteHausdorffDistance;
+import org.locationtech.jts.algorithm.distance.IndexedHausdorffDistance;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares the performance of {@link DiscreteHausdorffDistance}
+ * and {@link IndexedHausdorffDistance}.
+ */
+public class HausdorffDistancePerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(HausdorffDistancePerfTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private Geometry geom0;
+  private Geometry geom1;
+  private int iter;
+
+  public HausdorffDistancePerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 100, 1000, 10000, 50000 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int nPts)
+  {
+    SineStarFactory gsf = new SineStarFactory(geomFact);
+    gsf.setSize(1000);
+    gsf.setNumPoints(nPts);
+    gsf.setNumArms(20);
+    geom0 = gsf.createSineStar().getBoundary();
+    gsf.setCentre(new Coordinate(20, 10));
+    gsf.setNumArms(21);
+    geom1 = gsf.createSineStar().getBoundary();
+    // keep the total work roughly constant
+    iter = Math.max(1, 1000000 / (nPts * nPts) * 10);
+    System.out.println("\nRunning with # pts: " + nPts + "  # iterations: " + iter);
+  }
+
+  public void runDiscrete()
+  {
+    // too slow for large inputs
+    if (geom0.getNumPoints() > 20000) return;
+    double dist = 0;
+    for (int i = 0; i < iter; i++) {
+      dist = DiscreteHausdorffDistance.distance(geom0, geom1);
+    }
+    System.out.println("DiscreteHausdorffDistance: " + dist);
+  }
+
+  public void runIndexed()
+  {
+    double dist = 0;
+    for (int i = 0; i < iter; i++) {
+      dist = IndexedHausdorffDistance.distance(geom0, geom1);
+    }
+    System.out.println("IndexedHausdorffDistance: " + dist);
+  }
+
+  public void runIndexedDensified()
+  {
+    double dist = 0;
+    for (int i = 0; i < iter; i++) {
+      dist = IndexedHausdorffDistance.distance(geom0, geom1, 0.1);
+    }
+    System.out.println("IndexedHausdorffDistance densified: " + dist);
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package test.jts.perf.geom.prep;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.util.Stopwatch;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Measures the throughput of predicates evaluated concurrently
+ * against a single shared {@link PreparedGeometry}.
+ * Each run uses the given number of threads to evaluate a fixed number
+ * of <tt>intersects</tt> and <tt>contains</tt> tests.
+ * With no contention on the prepared geometry,
+ * throughput should scale with the number of available cores.
+ */
+public class PreparedPolygonThreadPerfTest
+extends PerformanceTestCase
+{
+  private static final int N_POLY_PTS = 10000;
+  private static final int N_TEST_GEOMS = 10000;
+  private static final int N_TEST_PTS = 20;
+  private static final int N_TESTS_PER_RUN = 1000000;
+
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(PreparedPolygonThreadPerfTest.class);
+  }
+
+  private PreparedGeometry prepGeom;
+  private Geometry[] testGeoms;
+  private int nThreads;
+
+  public PreparedPolygonThreadPerfTest(String name)
+  {
+    super(name);
+    int nCores = Runtime.getRuntime().availableProcessors();
+    List sizes = new ArrayList();
+    for (int n = 1; n < nCores; n *= 2) {
+      sizes.add(n);
+    }
+    sizes.add(nCores);
+    int[] runSize = new int[sizes.size()];
+    for (int i = 0; i < runSize.length; i++) {
+      runSize[i] = (Integer) sizes.get(i);
+    }
+    setRunSize(runSize);
+    setRunIterations(1);
+  }
+
+  public void setUp()
+  {
+    Geometry poly = SineStarFactory.create(new Coordinate(0, 0), 100, N_POLY_PTS, 50, 0.1);
+    prepGeom = PreparedGeometryFactory.prepare(poly);
+    testGeoms = createTestGeoms(poly.getEnvelopeInternal(), N_TEST_GEOMS);
+
+    System.out.println("Prepared polygon thread perf test");
+    System.out.println("Polygon # pts: " + poly.getNumPoints()
+        + "   # test geoms: " + N_TEST_GEOMS
+        + "   # tests per run: " + N_TESTS_PER_RUN);
+  }
+
+  private Geometry[] createTestGeoms(Envelope env, int nItems)
+  {
+    int nCells = (int) Math.sqrt(nItems);
+    double xInc = env.getWidth() / nCells;
+    double yInc = env.getHeight() / nCells;
+    Geometry[] geoms = new Geometry[nCells * nCells];
+    int index = 0;
+    for (int i = 0; i < nCells; i++) {
+      for (int j = 0; j < nCells; j++) {
+        Coordinate base = new Coordinate(
+            env.getMinX() + i * xInc,
+            env.getMinY() + j * yInc);
+        geoms[index++] = SineStarFactory.create(base, xInc, N_TEST_PTS, 5, 0.3);
+      }
+    }
+    return geoms;
+  }
+
+  public void startRun(int nThreads)
+  {
+    this.nThreads = nThreads;
+    System.out.println("\nRunning with # threads: " + nThreads);
+  }
+
+  public void runIntersects()
+  throws Exception
+  {
+    evalPredicate(false);
+  }
+
+  public void runContains()
+  throws Exception
+  {
+    evalPredicate(true);
+  }
+
+  private void evalPredicate(final boolean isContains)
+  throws Exception
+  {
+    final AtomicInteger count = new AtomicInteger();
+    final int testsPerThread = N_TESTS_PER_RUN / nThreads;
+    ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+    Stopwatch sw = new Stopwatch();
+    List futures = new ArrayList();
+    for (int t = 0; t < nThreads; t++) {
+      final int offset = t * testsPerThread;
+      futures.add(executor.submit(new Runnable() {
+        public void run() {
+          int localCount = 0;
+          for (int i = 0; i < testsPerThread; i++) {
+            Geometry g = testGeoms[(offset + i) % testGeoms.length];
+            boolean result = isContains ? prepGeom.contains(g) : prepGeom.intersects(g);
+            if (result) localCount++;
+          }
+          count.addAndGet(localCount);
+        }
+      }));
+    }
+    for (int i = 0; i < futures.size(); i++) {
+      ((Future) futures.get(i)).get();
+    }
+    long time = sw.getTime();
+    executor.shutdown();
+
+    long nTests = (long) testsPerThread * nThreads;
+    long throughput = time > 0 ? 1000 * nTests / time : 0;
+    System.out.println("  " + (isContains ? "contains" : "intersects")
+        + " - # true: " + count.get()
+        + "   tests/sec: " + throughput);
+  }
+}
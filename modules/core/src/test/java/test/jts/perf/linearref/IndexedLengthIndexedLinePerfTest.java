@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.linearref;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.linearref.IndexedLengthIndexedLine;
+import org.locationtech.jts.linearref.LengthIndexedLine;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares projecting points onto a long line and extracting points and sublines
+ * with {@link LengthIndexedLine} and {@link IndexedLengthIndexedLine}.
+ */
+public class IndexedLengthIndexedLinePerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(IndexedLengthIndexedLinePerfTest.class);
+  }
+
+  private static final int NUM_QUERY = 2000;
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private Geometry line;
+  private Coordinate[] queryPts;
+
+  public IndexedLengthIndexedLinePerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 1000, 10000, 100000 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int nPts)
+  {
+    // a random walk, similar to a GPS track or a railway line
+    Random rnd = new Random(1);
+    Coordinate[] pts = new Coordinate[nPts];
+    double x = 0;
+    double y = 0;
+    double angle = 0;
+    for (int i = 0; i < nPts; i++) {
+      angle += rnd.nextDouble() - 0.5;
+      x += 10 * Math.cos(angle);
+      y += 10 * Math.sin(angle);
+      pts[i] = new Coordinate(x, y);
+    }
+    line = geomFact.createLineString(pts);
+
+    queryPts = new Coordinate[NUM_QUERY];
+    for (int i = 0; i < NUM_QUERY; i++) {
+      Coordinate p = pts[rnd.nextInt(nPts)];
+      queryPts[i] = new Coordinate(p.x + rnd.nextDouble() * 40 - 20, p.y + rnd.nextDouble() * 40 - 20);
+    }
+    System.out.println("\nRunning with line # pts: " + nPts + "  # query pts: " + NUM_QUERY);
+  }
+
+  public void runLengthIndexedLine()
+  {
+    checkQueries(new LengthIndexedLine(line), "LengthIndexedLine");
+  }
+
+  public void runIndexedLengthIndexedLine()
+  {
+    checkQueries(new IndexedLengthIndexedLine(line), "IndexedLengthIndexedLine");
+  }
+
+  private void checkQueries(LengthIndexedLine indexedLine, String name)
+  {
+    double sum = 0;
+    for (int i = 0; i < queryPts.length; i++) {
+      double index = indexedLine.project(queryPts[i]);
+      sum += indexedLine.extractPoint(index).x;
+      sum += indexedLine.extractLine(index, index + 100).getLength();
+    }
+    System.out.println(name + " sum: " + sum);
+  }
+}
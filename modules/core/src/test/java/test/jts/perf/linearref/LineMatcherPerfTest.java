@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.linearref;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.linearref.LineMatch;
+import org.locationtech.jts.linearref.LineMatcher;
+import org.locationtech.jts.linearref.LocationIndexedLine;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares matching points to a network of lines
+ * by querying an {@link STRtree} and projecting onto each candidate line
+ * with matching using a {@link LineMatcher}.
+ */
+public class LineMatcherPerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(LineMatcherPerfTest.class);
+  }
+
+  private static final int NUM_PTS = 100000;
+  private static final double MAX_DISTANCE = 50;
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private Geometry[] lines;
+  private Coordinate[] pts;
+  private CoordinateSequence ptSeq;
+
+  public LineMatcherPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 10, 100 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int lineSize)
+  {
+    // a grid of lines, each with lineSize vertices
+    Random rnd = new Random(1);
+    int numLines = 200;
+    lines = new Geometry[2 * numLines];
+    double step = 10000.0 / numLines;
+    for (int i = 0; i < numLines; i++) {
+      Coordinate[] horiz = new Coordinate[lineSize];
+      Coordinate[] vert = new Coordinate[lineSize];
+      for (int j = 0; j < lineSize; j++) {
+        double along = j * 10000.0 / (lineSize - 1);
+        horiz[j] = new Coordinate(along, i * step + rnd.nextDouble() * 5);
+        vert[j] = new Coordinate(i * step + rnd.nextDouble() * 5, along);
+      }
+      lines[2 * i] = geomFact.createLineString(horiz);
+      lines[2 * i + 1] = geomFact.createLineString(vert);
+    }
+
+    pts = new Coordinate[NUM_PTS];
+    for (int i = 0; i < NUM_PTS; i++) {
+      pts[i] = new Coordinate(rnd.nextDouble() * 10000, rnd.nextDouble() * 10000);
+    }
+    ptSeq = geomFact.getCoordinateSequenceFactory().create(pts);
+    System.out.println("\nRunning with # lines: " + lines.length
+        + "  line size: " + lineSize + "  # pts: " + NUM_PTS);
+  }
+
+  public void runTreeAndProject()
+  {
+    STRtree tree = new STRtree();
+    for (int i = 0; i < lines.length; i++) {
+      tree.insert(lines[i].getEnvelopeInternal(), Integer.valueOf(i));
+    }
+    double sum = 0;
+    for (int k = 0; k < pts.length; k++) {
+      Coordinate pt = pts[k];
+      Envelope env = new Envelope(pt);
+      env.expandBy(MAX_DISTANCE);
+      List candidates = tree.query(env);
+      double minDist = Double.MAX_VALUE;
+      for (int j = 0; j < candidates.size(); j++) {
+        Geometry line = lines[((Integer) candidates.get(j)).intValue()];
+        Coordinate closest = new LocationIndexedLine(line).project(pt).getCoordinate(line);
+        double dist = pt.distance(closest);
+        if (dist < minDist) minDist = dist;
+      }
+      if (minDist <= MAX_DISTANCE) sum += minDist;
+    }
+    System.out.println("STRtree + project sum: " + sum);
+  }
+
+  public void runLineMatcher()
+  {
+    LineMatch[] matches = new LineMatcher(lines).match(ptSeq, MAX_DISTANCE);
+    System.out.println("LineMatcher sum: " + sum(matches));
+  }
+
+  public void runLineMatcherParallel()
+  {
+    ExecutorService executor = Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors());
+    try {
+      LineMatcher matcher = new LineMatcher(lines);
+      matcher.setExecutor(executor);
+      System.out.println("LineMatcher parallel sum: " + sum(matcher.match(ptSeq, MAX_DISTANCE)));
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  private static double sum(LineMatch[] matches)
+  {
+    double sum = 0;
+    for (int i = 0; i < matches.length; i++) {
+      if (matches[i] != null) sum += matches[i].getDistance();
+    }
+    return sum;
+  }
+}
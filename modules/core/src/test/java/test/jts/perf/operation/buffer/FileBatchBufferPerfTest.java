@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package test.jts.perf.operation.buffer;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.WKTFileReader;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.operation.buffer.BatchBufferOp;
+import org.locationtech.jts.operation.buffer.BufferOp;
+import org.locationtech.jts.operation.buffer.BufferParameters;
+import org.locationtech.jts.util.Stopwatch;
+
+import test.jts.TestFiles;
+
+/**
+ * Compares the throughput of buffering the geometries in a file
+ * one at a time using {@link BufferOp}
+ * with using {@link BatchBufferOp} with varying numbers of threads.
+ * The same data and distances as {@link FileBufferPerfTest} are used.
+ */
+public class FileBatchBufferPerfTest
+{
+  static PrecisionModel pm = new PrecisionModel();
+  static GeometryFactory fact = new GeometryFactory(pm, 0);
+  static WKTReader wktRdr = new WKTReader(fact);
+
+  public static void main(String[] args) {
+    FileBatchBufferPerfTest test = new FileBatchBufferPerfTest();
+    try {
+      test.test();
+    }
+    catch (Exception ex) {
+      ex.printStackTrace();
+    }
+  }
+
+  private BufferParameters params = new BufferParameters();
+  
+  public FileBatchBufferPerfTest() {
+  }
+
+  public void test()
+  throws Exception
+  {
+    test(TestFiles.getResourceFilePath("africa.wkt"));
+  }
+
+  public void test(String filename)
+    throws Exception
+  {
+    WKTFileReader fileRdr = new WKTFileReader(filename, wktRdr);
+    List polys = fileRdr.read();
+
+    runAll(polys, 0.01);
+    runAll(polys, 0.1);
+    runAll(polys, 1.0);
+    runAll(polys, 10.0);
+  }
+
+  void runAll(List polys, double distance)
+  throws Exception
+  {
+    System.out.println("Geom count = " + polys.size() + "   distance = " + distance);
+    
+    Stopwatch sw = new Stopwatch();
+    for (Iterator i = polys.iterator(); i.hasNext(); ) {
+      Geometry g = (Geometry) i.next();
+      BufferOp.bufferOp(g, distance, params);
+    }
+    report("BufferOp", polys.size(), sw.getTime());
+    
+    int nCores = Runtime.getRuntime().availableProcessors();
+    for (int nThreads = 1; ; nThreads *= 2) {
+      if (nThreads > nCores) nThreads = nCores;
+      runBatch(polys, distance, nThreads);
+      if (nThreads == nCores) break;
+    }
+  }
+
+  void runBatch(List polys, double distance, int nThreads)
+  {
+    ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+    BatchBufferOp op = new BatchBufferOp(params);
+    op.setExecutor(executor);
+    op.setBatchSize(4);
+    
+    Stopwatch sw = new Stopwatch();
+    op.buffer(polys, distance);
+    report("BatchBufferOp - threads: " + nThreads, polys.size(), sw.getTime());
+    
+    sw.reset();
+    op.bufferUnion(polys, distance);
+    report("BatchBufferOp union - threads: " + nThreads, polys.size(), sw.getTime());
+    executor.shutdown();
+  }
+  
+  private static void report(String name, int nGeoms, long time)
+  {
+    long throughput = time > 0 ? 1000 * (long) nGeoms / time : 0;
+    System.out.println("   " + name + "   Time = " + time + " ms   geoms/sec: " + throughput);
+  }
+}
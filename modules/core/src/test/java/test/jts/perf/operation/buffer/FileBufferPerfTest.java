@@ -20,6 +20,8 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.io.WKTFileReader;
 import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.operation.buffer.BufferOp;
+import org.locationtech.jts.operation.buffer.BufferParameters;
 import org.locationtech.jts.util.Stopwatch;
 
 import test.jts.TestFiles;
@@ -70,18 +72,42 @@ public class FileBufferPerfTest
     runAll(polys, 10.0);
     runAll(polys, 100.0);
     runAll(polys, 1000.0);
+    
+    runAllSnapRounding(polys, 1.0);
+    runAllSnapRounding(polys, 100.0);
   }
 
   void runAll(List polys, double distance)
   {
     System.out.println("Geom count = " + polys.size() + "   distance = " + distance);
+    runAll(polys, distance, new BufferParameters());
+  }
+
+  void runAllSnapRounding(List polys, double distance)
+  {
+    System.out.println("Snap-rounding - Geom count = " + polys.size() + "   distance = " + distance);
+    BufferParameters params = new BufferParameters();
+    params.setSnapRounding(true);
+    runAll(polys, distance, params);
+  }
+
+  void runAll(List polys, double distance, BufferParameters params)
+  {
+    int retryCount = 0;
+    int passCount = 0;
     Stopwatch sw = new Stopwatch();
     for (Iterator i = polys.iterator(); i.hasNext(); ) {
       Geometry g = (Geometry) i.next();
-      g.buffer(distance);
+      BufferOp op = new BufferOp(g, params);
+      op.getResultGeometry(distance);
+      passCount += op.getPassCount();
+      if (op.getPassCount() > 1) retryCount++;
       System.out.print(".");
     }
     System.out.println();
     System.out.println("   Time = " + sw.getTimeString());
+    System.out.println("   Buffers = " + polys.size()
+        + "   Retried = " + retryCount
+        + "   Passes = " + passCount);
   }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package test.jts.perf.operation.buffer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.operation.buffer.BufferOp;
+import org.locationtech.jts.operation.buffer.BufferParameters;
+import org.locationtech.jts.operation.buffer.PartitionedBufferOp;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares the performance of buffering a large polygon
+ * using {@link BufferOp} and {@link PartitionedBufferOp}.
+ * The partitioned buffer is run both in the calling thread
+ * and using a thread for each available core.
+ */
+public class PartitionedBufferPerfTest
+extends PerformanceTestCase
+{
+  private static final double DISTANCE = 1.0;
+
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(PartitionedBufferPerfTest.class);
+  }
+
+  private Geometry poly;
+  private BufferParameters params = new BufferParameters();
+  private ExecutorService executor;
+  
+  public PartitionedBufferPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 10000, 100000, 500000 });
+    setRunIterations(1);
+  }
+
+  public void setUp()
+  {
+    int nCores = Runtime.getRuntime().availableProcessors();
+    executor = Executors.newFixedThreadPool(nCores);
+    System.out.println("Partitioned buffer perf test - # threads: " + nCores
+        + "   distance = " + DISTANCE);
+  }
+  
+  public void tearDown()
+  {
+    executor.shutdown();
+  }
+  
+  public void startRun(int npts)
+  {
+    poly = SineStarFactory.create(new Coordinate(0, 0), 100, npts, 100, 0.3);
+    System.out.println("\nRunning with # pts: " + poly.getNumPoints());
+  }
+  
+  public void runBufferOp()
+  {
+    BufferOp.bufferOp(poly, DISTANCE, params);
+  }
+  
+  public void runPartitioned()
+  {
+    PartitionedBufferOp.buffer(poly, DISTANCE, params, null);
+  }
+  
+  public void runPartitionedParallel()
+  {
+    PartitionedBufferOp.buffer(poly, DISTANCE, params, executor);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package test.jts.perf.operation.buffer;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.operation.buffer.VariableBufferOp;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Measures the performance of {@link VariableBufferOp}
+ * on random-walk tracks of increasing size,
+ * compared to a constant-distance buffer.
+ */
+public class VariableBufferPerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(VariableBufferPerfTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private LineString line;
+  private double[] distance;
+  
+  public VariableBufferPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 1000, 10000, 100000 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int npts)
+  {
+    Random rnd = new Random(1);
+    Coordinate[] pts = new Coordinate[npts];
+    distance = new double[npts];
+    double x = 0;
+    double y = 0;
+    double heading = 0;
+    for (int i = 0; i < npts; i++) {
+      heading += 0.3 * rnd.nextGaussian();
+      x += Math.cos(heading);
+      y += Math.sin(heading);
+      pts[i] = new Coordinate(x, y);
+      distance[i] = 0.5 + 0.4 * Math.sin(i / 50.0);
+    }
+    line = geomFact.createLineString(pts);
+    System.out.println("\nRunning with # pts: " + npts);
+  }
+  
+  public void runVariable()
+  {
+    VariableBufferOp.buffer(line, distance);
+  }
+  
+  public void runConstant()
+  {
+    line.buffer(0.5);
+  }
+}
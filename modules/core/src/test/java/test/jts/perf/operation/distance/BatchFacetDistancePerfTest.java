@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.operation.distance;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.operation.distance.BatchFacetDistance;
+import org.locationtech.jts.operation.distance.IndexedFacetDistance;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares computing the distances from many points to a geometry
+ * with {@link IndexedFacetDistance} and with {@link BatchFacetDistance}.
+ */
+public class BatchFacetDistancePerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(BatchFacetDistancePerfTest.class);
+  }
+
+  private static final int NUM_PTS = 200000;
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private Geometry target;
+  private Geometry[] pts;
+  private CoordinateSequence ptSeq;
+
+  public BatchFacetDistancePerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 1000, 100000 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int nPts)
+  {
+    SineStarFactory gsf = new SineStarFactory(geomFact);
+    gsf.setSize(1000);
+    gsf.setNumPoints(nPts);
+    gsf.setNumArms(20);
+    target = gsf.createSineStar();
+
+    Random rnd = new Random(1);
+    Coordinate[] coords = new Coordinate[NUM_PTS];
+    pts = new Geometry[NUM_PTS];
+    for (int i = 0; i < NUM_PTS; i++) {
+      coords[i] = new Coordinate(rnd.nextDouble() * 2000 - 500, rnd.nextDouble() * 2000 - 500);
+      pts[i] = geomFact.createPoint(coords[i]);
+    }
+    ptSeq = geomFact.getCoordinateSequenceFactory().create(coords);
+    System.out.println("\nRunning with target # pts: " + nPts + "  # query pts: " + NUM_PTS);
+  }
+
+  public void runIndexedFacetDistance()
+  {
+    IndexedFacetDistance ifd = new IndexedFacetDistance(target);
+    double sum = 0;
+    for (int i = 0; i < pts.length; i++) {
+      sum += ifd.distance(pts[i]);
+    }
+    System.out.println("IndexedFacetDistance sum: " + sum);
+  }
+
+  public void runBatch()
+  {
+    double[] dist = BatchFacetDistance.distance(target, ptSeq);
+    System.out.println("BatchFacetDistance sum: " + sum(dist));
+  }
+
+  public void runBatchParallel()
+  {
+    ExecutorService executor = Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors());
+    try {
+      BatchFacetDistance batch = new BatchFacetDistance(target);
+      batch.setExecutor(executor);
+      System.out.println("BatchFacetDistance parallel sum: " + sum(batch.distance(ptSeq)));
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  private static double sum(double[] values)
+  {
+    double sum = 0;
+    for (int i = 0; i < values.length; i++) {
+      sum += values[i];
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.operation.polygonize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.operation.polygonize.FastPolygonizer;
+import org.locationtech.jts.operation.polygonize.Polygonizer;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares the performance of {@link Polygonizer} and {@link FastPolygonizer}
+ * on a grid of lines with a hole in each cell,
+ * with a surrounding shell containing all the holes.
+ */
+public class PolygonizerPerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(PolygonizerPerfTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private List lines;
+
+  public PolygonizerPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 50, 100, 200 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int gridSize)
+  {
+    lines = new ArrayList();
+    // the grid edges, split at every node
+    for (int i = 0; i <= gridSize; i++) {
+      for (int j = 0; j < gridSize; j++) {
+        lines.add(line(new Coordinate(j * 10, i * 10), new Coordinate((j + 1) * 10, i * 10)));
+        lines.add(line(new Coordinate(i * 10, j * 10), new Coordinate(i * 10, (j + 1) * 10)));
+      }
+    }
+    // a hole in every cell
+    for (int i = 0; i < gridSize; i++) {
+      for (int j = 0; j < gridSize; j++) {
+        double x = i * 10 + 2;
+        double y = j * 10 + 2;
+        lines.add(geomFact.createLineString(new Coordinate[] {
+            new Coordinate(x, y), new Coordinate(x + 6, y), new Coordinate(x + 6, y + 6),
+            new Coordinate(x, y + 6), new Coordinate(x, y) }));
+      }
+    }
+    // a disjoint shell around the grid
+    double max = gridSize * 10;
+    lines.add(geomFact.createLineString(new Coordinate[] {
+        new Coordinate(-10, -10), new Coordinate(max + 10, -10), new Coordinate(max + 10, max + 10),
+        new Coordinate(-10, max + 10), new Coordinate(-10, -10) }));
+    System.out.println("\nRunning with # lines: " + lines.size());
+  }
+
+  public void runPolygonizer()
+  {
+    Polygonizer polygonizer = new Polygonizer();
+    polygonizer.add(lines);
+    report("Polygonizer", polygonizer.getPolygons());
+  }
+
+  public void runFastPolygonizer()
+  {
+    FastPolygonizer polygonizer = new FastPolygonizer();
+    polygonizer.add(lines);
+    report("FastPolygonizer", polygonizer.getPolygons());
+  }
+
+  private static void report(String name, Collection polys)
+  {
+    System.out.println(name + " # polygons: " + polys.size());
+  }
+
+  private LineString line(Coordinate p0, Coordinate p1)
+  {
+    return geomFact.createLineString(new Coordinate[] { p0, p1 });
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package test.jts.perf.operation.valid;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.operation.valid.IsValidOp;
+import org.locationtech.jts.operation.valid.ParallelIsValidOp;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Measures the performance of {@link IsValidOp} and {@link ParallelIsValidOp}
+ * on a MultiPolygon containing a grid of star polygons with holes.
+ */
+public class ParallelIsValidPerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(ParallelIsValidPerfTest.class);
+  }
+
+  private static final int NUM_PTS = 200;
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private ExecutorService executor;
+  private Geometry geom;
+
+  public ParallelIsValidPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 10, 30, 100 });
+    setRunIterations(1);
+  }
+
+  public void setUp()
+  {
+    executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  public void startRun(int nSide)
+  {
+    Polygon[] polys = new Polygon[nSide * nSide];
+    int k = 0;
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        polys[k++] = createStar(new Coordinate(10 * i, 10 * j));
+      }
+    }
+    geom = geomFact.createMultiPolygon(polys);
+    System.out.println("\nRunning with # polygons: " + polys.length
+        + "  # pts: " + geom.getNumPoints());
+  }
+
+  private Polygon createStar(Coordinate base)
+  {
+    SineStarFactory gsf = new SineStarFactory(geomFact);
+    gsf.setBase(base);
+    gsf.setSize(9);
+    gsf.setNumPoints(NUM_PTS);
+    Polygon star = (Polygon) gsf.createSineStar();
+    Geometry hole = geomFact.createPoint(new Coordinate(base.x + 4.5, base.y + 4.5))
+        .buffer(1);
+    return geomFact.createPolygon(star.getExteriorRing(),
+        new LinearRing[] { ((Polygon) hole).getExteriorRing() });
+  }
+
+  public void runIsValidOp()
+  {
+    System.out.println("IsValidOp: " + new IsValidOp(geom).isValid());
+  }
+
+  public void runParallel()
+  {
+    System.out.println("ParallelIsValidOp: " + ParallelIsValidOp.isValid(geom, executor));
+  }
+
+  public void tearDown()
+  {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package test.jts.perf.simplify;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+import org.locationtech.jts.simplify.MultiResolutionSimplifier;
+import org.locationtech.jts.simplify.VWSimplifier;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares simplifying a geometry at each level of a tile pyramid
+ * with {@link DouglasPeuckerSimplifier} and {@link VWSimplifier}
+ * against extracting the levels from a {@link MultiResolutionSimplifier}.
+ */
+public class MultiResolutionSimplifierPerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(MultiResolutionSimplifierPerfTest.class);
+  }
+
+  private static final int NUM_LEVELS = 15;
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private Geometry geom;
+  private double[] tolerances;
+
+  public MultiResolutionSimplifierPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 10000, 50000 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int nPts)
+  {
+    SineStarFactory gsf = new SineStarFactory(geomFact);
+    gsf.setSize(1000);
+    gsf.setNumPoints(nPts);
+    gsf.setNumArms(nPts / 20);
+    gsf.setArmLengthRatio(0.1);
+    geom = gsf.createSineStar();
+
+    // tolerances halve at each level, as for map zoom levels
+    tolerances = new double[NUM_LEVELS];
+    double tol = 10;
+    for (int i = 0; i < NUM_LEVELS; i++) {
+      tolerances[i] = tol;
+      tol /= 2;
+    }
+    System.out.println("\nRunning with # pts: " + geom.getNumPoints()
+        + "  # levels: " + NUM_LEVELS);
+  }
+
+  public void runDouglasPeuckerPerLevel()
+  {
+    int nPts = 0;
+    for (int i = 0; i < tolerances.length; i++) {
+      nPts += DouglasPeuckerSimplifier.simplify(geom, tolerances[i]).getNumPoints();
+    }
+    System.out.println("DouglasPeuckerSimplifier total # pts: " + nPts);
+  }
+
+  public void runDouglasPeuckerMultiResolution()
+  {
+    MultiResolutionSimplifier simp = new MultiResolutionSimplifier(geom,
+        MultiResolutionSimplifier.DOUGLAS_PEUCKER);
+    int nPts = 0;
+    for (int i = 0; i < tolerances.length; i++) {
+      nPts += simp.getResultGeometry(tolerances[i]).getNumPoints();
+    }
+    System.out.println("MultiResolutionSimplifier (DP) total # pts: " + nPts);
+  }
+
+  public void runVWPerLevel()
+  {
+    int nPts = 0;
+    for (int i = 0; i < tolerances.length; i++) {
+      nPts += VWSimplifier.simplify(geom, tolerances[i]).getNumPoints();
+    }
+    System.out.println("VWSimplifier total # pts: " + nPts);
+  }
+
+  public void runVWMultiResolution()
+  {
+    MultiResolutionSimplifier simp = new MultiResolutionSimplifier(geom,
+        MultiResolutionSimplifier.VISVALINGAM_WHYATT);
+    int nPts = 0;
+    for (int i = 0; i < tolerances.length; i++) {
+      nPts += simp.getResultGeometry(tolerances[i]).getNumPoints();
+    }
+    System.out.println("MultiResolutionSimplifier (VW) total # pts: " + nPts);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package test.jts.perf.simplify;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.simplify.ParallelCoverageSimplifier;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Measures the performance of {@link ParallelCoverageSimplifier}
+ * against {@link TopologyPreservingSimplifier}
+ * on a coverage of grid cells with wiggly shared edges.
+ */
+public class ParallelCoverageSimplifierPerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(ParallelCoverageSimplifierPerfTest.class);
+  }
+
+  private static final int NUM_EDGE_PTS = 200;
+  private static final double TOLERANCE = 0.05;
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private ExecutorService executor;
+  private Geometry[] coverage;
+
+  public ParallelCoverageSimplifierPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 10, 30, 100 });
+    setRunIterations(1);
+  }
+
+  public void setUp()
+  {
+    executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  public void startRun(int nSide)
+  {
+    coverage = createGrid(nSide);
+    System.out.println("\nRunning with # polygons: " + coverage.length
+        + "  # pts: " + geomFact.createGeometryCollection(coverage).getNumPoints());
+  }
+
+  public void runTopologyPreserving()
+  {
+    Geometry result = TopologyPreservingSimplifier.simplify(
+        geomFact.createGeometryCollection(coverage), TOLERANCE);
+    System.out.println("TopologyPreservingSimplifier # pts: " + result.getNumPoints());
+  }
+
+  public void runCoverageSequential()
+  {
+    Geometry[] result = ParallelCoverageSimplifier.simplify(coverage, TOLERANCE, null);
+    System.out.println("ParallelCoverageSimplifier (sequential) # pts: "
+        + geomFact.createGeometryCollection(result).getNumPoints());
+  }
+
+  public void runCoverageParallel()
+  {
+    Geometry[] result = ParallelCoverageSimplifier.simplify(coverage, TOLERANCE, executor);
+    System.out.println("ParallelCoverageSimplifier (parallel) # pts: "
+        + geomFact.createGeometryCollection(result).getNumPoints());
+  }
+
+  public void tearDown()
+  {
+    executor.shutdown();
+  }
+
+  private Geometry[] createGrid(int nSide)
+  {
+    Random rnd = new Random(13);
+    Coordinate[][][] hEdges = new Coordinate[nSide][nSide + 1][];
+    Coordinate[][][] vEdges = new Coordinate[nSide + 1][nSide][];
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j <= nSide; j++) {
+        hEdges[i][j] = createEdge(new Coordinate(10 * i, 10 * j), 10, 0, rnd);
+        vEdges[j][i] = createEdge(new Coordinate(10 * j, 10 * i), 0, 10, rnd);
+      }
+    }
+    Geometry[] cells = new Geometry[nSide * nSide];
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        CoordinateList pts = new CoordinateList();
+        pts.add(hEdges[i][j], false);
+        pts.add(vEdges[i + 1][j], false);
+        pts.add(hEdges[i][j + 1], false, false);
+        pts.add(vEdges[i][j], false, false);
+        cells[i * nSide + j] = geomFact.createPolygon(pts.toCoordinateArray());
+      }
+    }
+    return cells;
+  }
+
+  private static Coordinate[] createEdge(Coordinate start, double dx, double dy, Random rnd)
+  {
+    Coordinate[] pts = new Coordinate[NUM_EDGE_PTS];
+    for (int i = 0; i < NUM_EDGE_PTS; i++) {
+      double frac = i / (double) (NUM_EDGE_PTS - 1);
+      double offset = (i == 0 || i == NUM_EDGE_PTS - 1) ? 0 : Math.sin(20 * frac) + 0.1 * rnd.nextDouble();
+      pts[i] = new Coordinate(start.x + frac * dx + offset * dy / 40,
+          start.y + frac * dy + offset * dx / 40);
+    }
+    return pts;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package test.jts.perf.simplify;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+import org.locationtech.jts.simplify.VWSimplifier;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Measures the performance of {@link VWSimplifier}
+ * on long random-walk lines (similar to GPS tracks),
+ * with {@link DouglasPeuckerSimplifier} for comparison.
+ */
+public class VWSimplifierPerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(VWSimplifierPerfTest.class);
+  }
+
+  private static final double TOLERANCE = 2;
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private Geometry line;
+
+  public VWSimplifierPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 10000, 100000, 1000000 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int nPts)
+  {
+    Random rnd = new Random(13);
+    Coordinate[] pts = new Coordinate[nPts];
+    double x = 0;
+    double y = 0;
+    for (int i = 0; i < nPts; i++) {
+      x += rnd.nextDouble();
+      y += rnd.nextDouble() - 0.5;
+      pts[i] = new Coordinate(x, y);
+    }
+    line = geomFact.createLineString(pts);
+    System.out.println("\nRunning with # pts: " + nPts);
+  }
+
+  public void runVW()
+  {
+    Geometry result = VWSimplifier.simplify(line, TOLERANCE);
+    System.out.println("VWSimplifier # pts: " + result.getNumPoints());
+  }
+
+  public void runDouglasPeucker()
+  {
+    Geometry result = DouglasPeuckerSimplifier.simplify(line, TOLERANCE);
+    System.out.println("DouglasPeuckerSimplifier # pts: " + result.getNumPoints());
+  }
+}
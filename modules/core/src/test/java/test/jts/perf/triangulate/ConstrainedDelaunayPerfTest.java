@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package test.jts.perf.triangulate;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.triangulate.ConformingDelaunayTriangulationBuilder;
+import org.locationtech.jts.triangulate.ConstrainedDelaunayTriangulator;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Measures the performance of {@link ConstrainedDelaunayTriangulator}
+ * on polygons with a grid of holes,
+ * compared to a conforming Delaunay triangulation.
+ */
+public class ConstrainedDelaunayPerfTest
+extends PerformanceTestCase
+{
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(ConstrainedDelaunayPerfTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  private Geometry poly;
+
+  public ConstrainedDelaunayPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 10, 30, 100 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int nHolesSide)
+  {
+    double size = 10.0 * nHolesSide;
+    Geometry shell = geomFact.createPoint(new Coordinate(size / 2, size / 2))
+        .buffer(size, 4 * nHolesSide);
+    LinearRing[] holes = new LinearRing[nHolesSide * nHolesSide];
+    int k = 0;
+    for (int i = 0; i < nHolesSide; i++) {
+      for (int j = 0; j < nHolesSide; j++) {
+        double x = 10 * i + 2;
+        double y = 10 * j + 2;
+        // offset alternate holes to avoid cocircular vertices
+        double dx = (j % 2) * 1.5;
+        holes[k++] = geomFact.createLinearRing(new Coordinate[] {
+            new Coordinate(x + dx, y), new Coordinate(x + 3, y + 5),
+            new Coordinate(x + 6, y + 2), new Coordinate(x + 4 + dx, y),
+            new Coordinate(x + dx, y) });
+      }
+    }
+    poly = geomFact.createPolygon(
+        geomFact.createLinearRing(shell.getCoordinates()), holes);
+    System.out.println("\nRunning with # pts: " + poly.getNumPoints());
+  }
+
+  public void runConstrained()
+  {
+    Geometry tris = ConstrainedDelaunayTriangulator.triangulate(poly);
+    System.out.println("Constrained: # triangles = " + tris.getNumGeometries());
+  }
+
+  public void runConforming()
+  {
+    ConformingDelaunayTriangulationBuilder builder = new ConformingDelaunayTriangulationBuilder();
+    builder.setSites(poly);
+    builder.setConstraints(poly);
+    Geometry tris = builder.getTriangles(geomFact);
+    System.out.println("Conforming: # triangles = " + tris.getNumGeometries());
+  }
+}
@@ -53,15 +53,35 @@ public class DelaunayPerfTest
 	{
 		List pts = randomPoints(nPts);
 		System.out.println("# pts: " + pts.size());
+		run(pts, false);
+		run(pts, true);
+		runArray(pts);
+	}
+	
+	public void runArray(List pts)
+	{
+		Stopwatch sw = new Stopwatch();
+		DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+		builder.setSites(pts);
+		builder.getArrayTriangulation();
+		
+		System.out.println("  --  Array  Time: " + sw.getTimeString()
+				+ "  Mem: " + Memory.usedTotalString());
+	}
+	
+	public void run(List pts, boolean isSpatialOrder)
+	{
 		Stopwatch sw = new Stopwatch();
 		DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
 		builder.setSites(pts);
+		builder.setSpatialOrder(isSpatialOrder);
 		
 //		Geometry g = builder.getEdges(geomFact);
 		// don't actually form output geometry, to save time and memory
 		builder.getSubdivision();
 		
-		System.out.println("  --  Time: " + sw.getTimeString()
+		System.out.println("  --  " + (isSpatialOrder ? "Spatial order" : "Sorted order")
+				+ "  Time: " + sw.getTimeString()
 				+ "  Mem: " + Memory.usedTotalString());
 //		System.out.println(g);
 	}
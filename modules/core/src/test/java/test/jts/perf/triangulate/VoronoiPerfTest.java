@@ -18,7 +18,10 @@ import java.util.List;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.triangulate.DelaunayTriangulationBuilder;
+import org.locationtech.jts.triangulate.VoronoiDiagramBuilder;
+import org.locationtech.jts.triangulate.quadedge.VoronoiCellVisitor;
 import org.locationtech.jts.util.Stopwatch;
 
 public class VoronoiPerfTest 
@@ -52,6 +55,18 @@ public class VoronoiPerfTest
 		Geometry g = builder.getEdges(geomFact);
 		System.out.println("# pts: " + pts.size() + "  --  " + sw.getTimeString());
 //		System.out.println(g);
+		
+		sw.reset();
+		VoronoiDiagramBuilder vorBuilder = new VoronoiDiagramBuilder();
+		vorBuilder.setSpatialOrder(true);
+		vorBuilder.setSites(pts);
+		final double[] area = new double[1];
+		vorBuilder.visitCells(new VoronoiCellVisitor() {
+			public void visit(Polygon cell) {
+				area[0] += cell.getArea();
+			}
+		}, geomFact);
+		System.out.println("  Voronoi cells visited  --  " + sw.getTimeString());
 	}
 	
 	List randomPoints(int nPts)